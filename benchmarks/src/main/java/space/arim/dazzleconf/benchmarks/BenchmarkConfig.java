@@ -0,0 +1,68 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.benchmarks;
+
+import space.arim.dazzleconf.annote.ConfComments;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.annote.SubSection;
+
+import java.util.List;
+import java.util.Map;
+
+public interface BenchmarkConfig {
+
+	@ConfComments("The server name")
+	@ConfDefault.DefaultString("server")
+	String name();
+
+	@ConfDefault.DefaultLong(9_007_199_254_740_993L)
+	long identifier();
+
+	@ConfDefault.DefaultDouble(0.75)
+	double ratio();
+
+	@ConfDefault.DefaultBoolean(true)
+	boolean enabled();
+
+	@ConfDefault.DefaultStrings({})
+	List<String> messages();
+
+	@ConfDefault.DefaultMap({})
+	Map<String, Integer> limits();
+
+	@SubSection
+	Database database();
+
+	interface Database {
+
+		@ConfComments("The database host")
+		@ConfDefault.DefaultString("localhost")
+		String host();
+
+		@ConfDefault.DefaultInteger(3306)
+		int port();
+
+		@ConfDefault.DefaultStrings({"useSSL=false", "characterEncoding=UTF-8"})
+		List<String> connectionProperties();
+
+	}
+
+}
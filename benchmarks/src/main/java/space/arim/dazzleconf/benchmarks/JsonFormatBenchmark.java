@@ -0,0 +1,116 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.ext.gson.GsonConfigurationFactory;
+import space.arim.dazzleconf.ext.json.JsonConfigurationFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the gson and json extensions on the same document. Run with <br>
+ * {@code mvn -Pbenchmarks package -pl core,gson,json,benchmarks && java -jar benchmarks/target/benchmarks.jar}
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonFormatBenchmark {
+
+	@Param({"gson", "json"})
+	public String format;
+
+	@Param({"10", "1000"})
+	public int entries;
+
+	private ConfigurationFactory<BenchmarkConfig> factory;
+	private BenchmarkConfig config;
+	private byte[] document;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException, InvalidConfigException {
+		ConfigurationOptions options = ConfigurationOptions.defaults();
+		switch (format) {
+		case "gson":
+			factory = GsonConfigurationFactory.create(BenchmarkConfig.class, options);
+			break;
+		case "json":
+			factory = JsonConfigurationFactory.create(BenchmarkConfig.class, options);
+			break;
+		default:
+			throw new IllegalArgumentException(format);
+		}
+		document = buildDocument(entries).getBytes("UTF-8");
+		config = factory.load(new ByteArrayInputStream(document));
+	}
+
+	private static String buildDocument(int entries) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\n  \"name\": \"server \\\"main\\\"\",\n  \"identifier\": 9007199254740993,\n")
+				.append("  \"ratio\": 0.75,\n  \"enabled\": true,\n  \"messages\": [");
+		for (int n = 0; n < entries; n++) {
+			builder.append((n == 0) ? "\n" : ",\n")
+					.append("    \"Message number ").append(n).append(" with\\ttabs and ünïcode\"");
+		}
+		builder.append("\n  ],\n  \"limits\": {");
+		for (int n = 0; n < entries; n++) {
+			builder.append((n == 0) ? "\n" : ",\n")
+					.append("    \"limit-").append(n).append("\": ").append(n * 31);
+		}
+		builder.append("\n  },\n  \"database\": {\n    \"host\": \"localhost\",\n    \"port\": 3306,\n")
+				.append("    \"connectionProperties\": [\"useSSL=false\", \"characterEncoding=UTF-8\"]\n  }\n}\n");
+		return builder.toString();
+	}
+
+	@Benchmark
+	public BenchmarkConfig load() throws IOException, InvalidConfigException {
+		return factory.load(new ByteArrayInputStream(document));
+	}
+
+	@Benchmark
+	public byte[] write() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(document.length);
+		factory.write(config, output);
+		return output.toByteArray();
+	}
+
+}
@@ -0,0 +1,5 @@
+module space.arim.dazzleconf.ext.binary {
+	exports space.arim.dazzleconf.ext.binary;
+
+	requires transitive space.arim.dazzleconf;
+}
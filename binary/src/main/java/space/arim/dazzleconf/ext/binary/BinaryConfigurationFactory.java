@@ -0,0 +1,59 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.IllDefinedConfigException;
+
+/**
+ * Allows creating a {@link ConfigurationFactory} implementation using a compact binary format. <br>
+ * <br>
+ * The format is meant for configuration generated by tooling rather than edited by hand. Documents are
+ * read straight from bytes without charset decoding, keys and strings are stored once in a string table,
+ * and numbers keep their types. Comments are not written. <br>
+ * <br>
+ * Any configuration interface usable with the text formats may be used with this format. A configuration
+ * loaded from one format can be written to another.
+ *
+ * @author A248
+ *
+ */
+public final class BinaryConfigurationFactory {
+
+	private BinaryConfigurationFactory() {}
+
+	/**
+	 * Creates from a config class and config options
+	 *
+	 * @param <C> the configuration type
+	 * @param configClass the config class
+	 * @param options configuration options
+	 * @return the configuration factory
+	 * @throws NullPointerException if either parameter is null
+	 * @throws IllegalArgumentException if {@code configClass} is not an interface
+	 * @throws IllDefinedConfigException if a configuration entry in {@code configClass} is not defined properly
+	 */
+	public static <C> ConfigurationFactory<C> create(Class<C> configClass, ConfigurationOptions options) {
+		return new BinaryConfigurationFactoryImpl<>(configClass, options);
+	}
+
+}
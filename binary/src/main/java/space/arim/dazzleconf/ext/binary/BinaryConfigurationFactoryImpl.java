@@ -0,0 +1,118 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.ConfigurationFormatFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+final class BinaryConfigurationFactoryImpl<C> extends ConfigurationFormatFactory<C> {
+
+	BinaryConfigurationFactoryImpl(Class<C> configClass, ConfigurationOptions options) {
+		super(configClass, options);
+	}
+
+	@Override
+	protected String snapshotFormatKey() {
+		// The format has no options
+		return "";
+	}
+
+	@Override
+	public Map<String, Object> loadMap(ReadableByteChannel readChannel) throws IOException, InvalidConfigException {
+		ByteBuffer buffer;
+		try (ReadableByteChannel channel = readChannel) {
+			buffer = readFully(channel, ByteBuffer.allocate(8192));
+		}
+		return BinaryDecoder.decode(buffer);
+	}
+
+	@Override
+	public Map<String, Object> loadMap(InputStream inputStream) throws IOException, InvalidConfigException {
+		byte[] bytes = new byte[8192];
+		int size = 0;
+		try (InputStream stream = inputStream) {
+			int read;
+			while ((read = stream.read(bytes, size, bytes.length - size)) != -1) {
+				size += read;
+				if (size == bytes.length) {
+					bytes = Arrays.copyOf(bytes, bytes.length * 2);
+				}
+			}
+		}
+		return BinaryDecoder.decode(ByteBuffer.wrap(bytes, 0, size));
+	}
+
+	@Override
+	public Map<String, Object> loadMap(Path path) throws IOException, InvalidConfigException {
+		ByteBuffer buffer;
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = fileChannel.size();
+			// Not mapped, since a mapped file cannot be truncated or replaced on some platforms
+			if (size >= Integer.MAX_VALUE) {
+				throw new IOException("File too large to load: " + size + " bytes");
+			}
+			// The size may be inaccurate, for example if the file is being written
+			buffer = readFully(fileChannel, ByteBuffer.allocate((int) size + 1));
+		}
+		return BinaryDecoder.decode(buffer);
+	}
+
+	private static ByteBuffer readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+		while (channel.read(buffer) != -1) {
+			if (!buffer.hasRemaining()) {
+				ByteBuffer enlarged = ByteBuffer.allocate(buffer.capacity() * 2);
+				buffer.flip();
+				enlarged.put(buffer);
+				buffer = enlarged;
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	@Override
+	public void writeMap(Map<String, Object> config, WritableByteChannel writeChannel) throws IOException {
+		try (WritableByteChannel channel = writeChannel) {
+			BinaryEncoder.encode(config, channel);
+		}
+	}
+
+	@Override
+	public void writeMap(Map<String, Object> config, OutputStream outputStream) throws IOException {
+		try (OutputStream stream = outputStream) {
+			BinaryEncoder.encode(config, stream);
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static space.arim.dazzleconf.ext.binary.BinaryFormat.*;
+
+/**
+ * Decodes a document directly from a byte buffer. Strings are created straight from their UTF-8 bytes,
+ * once each, from the string table.
+ *
+ */
+final class BinaryDecoder {
+
+	private final ByteBuffer buffer;
+	private String[] strings;
+
+	private BinaryDecoder(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	static Map<String, Object> decode(ByteBuffer buffer) throws ConfigFormatSyntaxException {
+		if (!buffer.hasRemaining()) {
+			return Collections.emptyMap();
+		}
+		try {
+			return new BinaryDecoder(buffer).decodeDocument();
+		} catch (BufferUnderflowException ex) {
+			throw new ConfigFormatSyntaxException("Unexpected end of binary data", ex);
+		}
+	}
+
+	private Map<String, Object> decodeDocument() throws ConfigFormatSyntaxException {
+		for (byte magicByte : MAGIC) {
+			if (buffer.get() != magicByte) {
+				throw new ConfigFormatSyntaxException("Not a binary configuration document");
+			}
+		}
+		int version = buffer.get() & 0xFF;
+		if (version != VERSION) {
+			throw new ConfigFormatSyntaxException("Unsupported binary format version " + version);
+		}
+		readStringTable();
+		if ((buffer.get() & 0xFF) != TAG_MAP) {
+			throw new ConfigFormatSyntaxException("The document root must be a map");
+		}
+		Map<String, Object> root = readMap(0);
+		if (buffer.hasRemaining()) {
+			throw new ConfigFormatSyntaxException(buffer.remaining() + " trailing bytes after the document");
+		}
+		return root;
+	}
+
+	private void readStringTable() throws ConfigFormatSyntaxException {
+		String[] strings = new String[readCount(1)];
+		for (int n = 0; n < strings.length; n++) {
+			int length = readCount(1);
+			if (buffer.hasArray()) {
+				int position = buffer.position();
+				strings[n] = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+				buffer.position(position + length);
+			} else {
+				byte[] utf8 = new byte[length];
+				buffer.get(utf8);
+				strings[n] = new String(utf8, StandardCharsets.UTF_8);
+			}
+		}
+		this.strings = strings;
+	}
+
+	private Object readValue(int depth) throws ConfigFormatSyntaxException {
+		int tag = buffer.get() & 0xFF;
+		switch (tag) {
+		case TAG_NULL:
+			return null;
+		case TAG_FALSE:
+			return Boolean.FALSE;
+		case TAG_TRUE:
+			return Boolean.TRUE;
+		case TAG_INT:
+			long value = unzigzag(readVarlong());
+			if (value != (int) value) {
+				throw new ConfigFormatSyntaxException("Integer out of range: " + value);
+			}
+			return (int) value;
+		case TAG_LONG:
+			return unzigzag(readVarlong());
+		case TAG_FLOAT:
+			return Float.intBitsToFloat(buffer.getInt());
+		case TAG_DOUBLE:
+			return Double.longBitsToDouble(buffer.getLong());
+		case TAG_STRING:
+			return readString();
+		case TAG_LIST:
+			return readList(depth + 1);
+		case TAG_MAP:
+			return readMap(depth + 1);
+		case TAG_BIG_INTEGER:
+			return readBigInteger();
+		case TAG_BIG_DECIMAL:
+			long scale = unzigzag(readVarlong());
+			if (scale != (int) scale) {
+				throw new ConfigFormatSyntaxException("Decimal scale out of range: " + scale);
+			}
+			return new BigDecimal(readBigInteger(), (int) scale);
+		default:
+			throw new ConfigFormatSyntaxException("Unknown value tag " + tag);
+		}
+	}
+
+	private Map<String, Object> readMap(int depth) throws ConfigFormatSyntaxException {
+		checkDepth(depth);
+		// Each entry has at least a key and a tag
+		int size = readCount(2);
+		Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+		for (int n = 0; n < size; n++) {
+			String key = readString();
+			map.put(key, readValue(depth));
+		}
+		return map;
+	}
+
+	private List<Object> readList(int depth) throws ConfigFormatSyntaxException {
+		checkDepth(depth);
+		int size = readCount(1);
+		List<Object> list = new ArrayList<>(size);
+		for (int n = 0; n < size; n++) {
+			list.add(readValue(depth));
+		}
+		return list;
+	}
+
+	private static void checkDepth(int depth) throws ConfigFormatSyntaxException {
+		if (depth > MAX_DEPTH) {
+			throw new ConfigFormatSyntaxException("Maps and lists nested deeper than " + MAX_DEPTH);
+		}
+	}
+
+	private String readString() throws ConfigFormatSyntaxException {
+		long index = readVarlong();
+		// Also rejects indices beyond the signed range
+		if (index < 0 || index >= strings.length) {
+			throw new ConfigFormatSyntaxException("String index " + index + " outside table of " + strings.length);
+		}
+		return strings[(int) index];
+	}
+
+	private BigInteger readBigInteger() throws ConfigFormatSyntaxException {
+		int length = readCount(1);
+		if (length == 0) {
+			throw new ConfigFormatSyntaxException("Empty big integer");
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new BigInteger(bytes);
+	}
+
+	/**
+	 * Reads a count of elements, each of which must take up at least the given number of bytes
+	 */
+	private int readCount(int minBytesPerElement) throws ConfigFormatSyntaxException {
+		long count = readVarlong();
+		// Also rejects counts beyond the signed range
+		if (count < 0 || count > buffer.remaining() / minBytesPerElement) {
+			throw new ConfigFormatSyntaxException("Count " + count + " exceeds the remaining data");
+		}
+		return (int) count;
+	}
+
+	private long readVarlong() throws ConfigFormatSyntaxException {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte next = buffer.get();
+			result |= (long) (next & 0x7F) << shift;
+			if (next >= 0) {
+				return result;
+			}
+		}
+		throw new ConfigFormatSyntaxException("Malformed varint");
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static space.arim.dazzleconf.ext.binary.BinaryFormat.*;
+
+/**
+ * Encodes a hierarchical map. The body is encoded first while the string table is collected,
+ * then the header and table are written before it.
+ *
+ */
+final class BinaryEncoder {
+
+	private final Map<String, Integer> stringIndexes = new HashMap<>();
+	private final Output table = new Output(64);
+	private final Output body = new Output(256);
+
+	private BinaryEncoder() {}
+
+	static void encode(Map<String, Object> config, OutputStream outputStream) throws IOException {
+		BinaryEncoder encoder = encodeToBuffers(config);
+		outputStream.write(encoder.table.bytes, 0, encoder.table.size);
+		outputStream.write(encoder.body.bytes, 0, encoder.body.size);
+	}
+
+	static void encode(Map<String, Object> config, WritableByteChannel channel) throws IOException {
+		BinaryEncoder encoder = encodeToBuffers(config);
+		writeFully(channel, ByteBuffer.wrap(encoder.table.bytes, 0, encoder.table.size));
+		writeFully(channel, ByteBuffer.wrap(encoder.body.bytes, 0, encoder.body.size));
+	}
+
+	private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static BinaryEncoder encodeToBuffers(Map<String, Object> config) {
+		BinaryEncoder encoder = new BinaryEncoder();
+		encoder.writeMap(config);
+		// The table is prefixed by the header and the string count
+		Output prefixed = new Output(encoder.table.size + 10);
+		prefixed.writeBytes(MAGIC, 0, MAGIC.length);
+		prefixed.writeByte(VERSION);
+		prefixed.writeVarint(encoder.stringIndexes.size());
+		prefixed.writeBytes(encoder.table.bytes, 0, encoder.table.size);
+		encoder.table.bytes = prefixed.bytes;
+		encoder.table.size = prefixed.size;
+		return encoder;
+	}
+
+	private void writeMap(Map<?, ?> map) {
+		body.writeByte(TAG_MAP);
+		body.writeVarint(map.size());
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			Object key = entry.getKey();
+			if (!(key instanceof String)) {
+				throw new IllegalArgumentException("Map keys must be strings, found " + key);
+			}
+			body.writeVarint(stringIndex((String) key));
+			writeValue(entry.getValue());
+		}
+	}
+
+	private void writeValue(Object value) {
+		if (value == null) {
+			body.writeByte(TAG_NULL);
+		} else if (value instanceof String) {
+			body.writeByte(TAG_STRING);
+			body.writeVarint(stringIndex((String) value));
+		} else if (value instanceof Boolean) {
+			body.writeByte(((Boolean) value) ? TAG_TRUE : TAG_FALSE);
+		} else if (value instanceof Number) {
+			writeNumber((Number) value);
+		} else if (value instanceof Map) {
+			writeMap((Map<?, ?>) value);
+		} else if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			body.writeByte(TAG_LIST);
+			body.writeVarint(collection.size());
+			for (Object element : collection) {
+				writeValue(element);
+			}
+		} else {
+			throw new IllegalArgumentException("Cannot encode value of " + value.getClass() + " in binary format");
+		}
+	}
+
+	private void writeNumber(Number number) {
+		if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+			body.writeByte(TAG_INT);
+			body.writeVarlong(zigzag(number.intValue()));
+		} else if (number instanceof Long) {
+			body.writeByte(TAG_LONG);
+			body.writeVarlong(zigzag(number.longValue()));
+		} else if (number instanceof Double) {
+			body.writeByte(TAG_DOUBLE);
+			body.writeLong(Double.doubleToRawLongBits(number.doubleValue()));
+		} else if (number instanceof Float) {
+			body.writeByte(TAG_FLOAT);
+			body.writeInt(Float.floatToRawIntBits(number.floatValue()));
+		} else if (number instanceof BigInteger) {
+			body.writeByte(TAG_BIG_INTEGER);
+			writeBigInteger((BigInteger) number);
+		} else {
+			BigDecimal decimal = (number instanceof BigDecimal) ? (BigDecimal) number : new BigDecimal(number.toString());
+			body.writeByte(TAG_BIG_DECIMAL);
+			body.writeVarlong(zigzag(decimal.scale()));
+			writeBigInteger(decimal.unscaledValue());
+		}
+	}
+
+	private void writeBigInteger(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		body.writeVarint(bytes.length);
+		body.writeBytes(bytes, 0, bytes.length);
+	}
+
+	private int stringIndex(String value) {
+		Integer existing = stringIndexes.get(value);
+		if (existing != null) {
+			return existing;
+		}
+		int index = stringIndexes.size();
+		stringIndexes.put(value, index);
+		byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+		table.writeVarint(utf8.length);
+		table.writeBytes(utf8, 0, utf8.length);
+		return index;
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static final class Output {
+
+		byte[] bytes;
+		int size;
+
+		Output(int initialCapacity) {
+			bytes = new byte[initialCapacity];
+		}
+
+		private void ensureCapacity(int additional) {
+			int required = size + additional;
+			if (required > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity(1);
+			bytes[size++] = (byte) value;
+		}
+
+		void writeBytes(byte[] source, int offset, int length) {
+			ensureCapacity(length);
+			System.arraycopy(source, offset, bytes, size, length);
+			size += length;
+		}
+
+		void writeVarint(int value) {
+			writeVarlong(value & 0xFFFFFFFFL);
+		}
+
+		void writeVarlong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			bytes[size++] = (byte) value;
+		}
+
+		void writeInt(int value) {
+			ensureCapacity(4);
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				bytes[size++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				bytes[size++] = (byte) (value >>> shift);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+/**
+ * Layout of the binary format. <br>
+ * <br>
+ * A document begins with the {@link #MAGIC} bytes and the {@link #VERSION}. Next comes the string table,
+ * a varint count followed by each string as a varint byte length and its UTF-8 bytes. The root map follows.
+ * <br><br>
+ * Every value starts with a one byte tag. Keys and string values are varint indexes into the string table,
+ * so repeated strings are stored once. Integers and longs are zigzag varints, floating point numbers are
+ * big endian IEEE 754, and maps and lists are a varint count followed by their elements. <br>
+ * <br>
+ * An empty document is read as an empty map.
+ *
+ */
+final class BinaryFormat {
+
+	static final byte[] MAGIC = {'D', 'Z', 'C', 'B'};
+	static final int VERSION = 1;
+
+	static final int TAG_NULL = 0;
+	static final int TAG_FALSE = 1;
+	static final int TAG_TRUE = 2;
+	static final int TAG_INT = 3;
+	static final int TAG_LONG = 4;
+	static final int TAG_FLOAT = 5;
+	static final int TAG_DOUBLE = 6;
+	static final int TAG_STRING = 7;
+	static final int TAG_LIST = 8;
+	static final int TAG_MAP = 9;
+	static final int TAG_BIG_INTEGER = 10;
+	static final int TAG_BIG_DECIMAL = 11;
+
+	/** Maximum nesting of maps and lists, to bound recursion on untrusted input */
+	static final int MAX_DEPTH = 512;
+
+	private BinaryFormat() {}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryCodecTest {
+
+	private static byte[] encode(Map<String, Object> config) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		BinaryEncoder.encode(config, output);
+		return output.toByteArray();
+	}
+
+	private static Map<String, Object> sampleMap() {
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("null", null);
+		nested.put("list", Arrays.asList(1, "two", null, List.of(), List.of(Map.of("deep", true))));
+		nested.put("empty", Map.of());
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("string", "value");
+		map.put("unicode", "ünïcode 😀");
+		map.put("empty-string", "");
+		map.put("repeated", "value");
+		map.put("int", Integer.MIN_VALUE);
+		map.put("long", Long.MAX_VALUE);
+		map.put("negative-long", -1L);
+		map.put("float", 0.1f);
+		map.put("double", Double.NaN);
+		map.put("big-integer", new BigInteger("-123456789012345678901234567890"));
+		map.put("big-decimal", new BigDecimal("1234.5678E-20"));
+		map.put("false", false);
+		map.put("nested", nested);
+		return map;
+	}
+
+	@Test
+	public void roundTrip() throws IOException, ConfigFormatSyntaxException {
+		Map<String, Object> map = sampleMap();
+		Map<String, Object> decoded = BinaryDecoder.decode(ByteBuffer.wrap(encode(map)));
+		assertEquals(map, decoded);
+		assertEquals(List.copyOf(map.keySet()), List.copyOf(decoded.keySet()));
+	}
+
+	@Test
+	public void roundTripDirectBuffer() throws IOException, ConfigFormatSyntaxException {
+		byte[] encoded = encode(sampleMap());
+		ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length);
+		direct.put(encoded).flip();
+		assertEquals(sampleMap(), BinaryDecoder.decode(direct));
+	}
+
+	@Test
+	public void narrowNumbersAndCollections() throws IOException, ConfigFormatSyntaxException {
+		Map<String, Object> decoded = BinaryDecoder.decode(ByteBuffer.wrap(encode(
+				Map.of("short", (short) 3, "byte", (byte) -4, "set", Set.of("only")))));
+		assertEquals(Map.of("short", 3, "byte", -4, "set", List.of("only")), decoded);
+	}
+
+	@Test
+	public void unsupportedValue() {
+		assertThrows(IllegalArgumentException.class, () -> encode(Map.of("key", new Object())));
+	}
+
+	@Test
+	public void truncatedInput() throws IOException {
+		byte[] encoded = encode(sampleMap());
+		for (int length = 1; length < encoded.length; length++) {
+			ByteBuffer truncated = ByteBuffer.wrap(encoded, 0, length);
+			assertThrows(ConfigFormatSyntaxException.class, () -> BinaryDecoder.decode(truncated), "Length " + length);
+		}
+	}
+
+	@Test
+	public void trailingBytes() throws IOException {
+		byte[] encoded = encode(Map.of("key", "value"));
+		byte[] extended = Arrays.copyOf(encoded, encoded.length + 1);
+		assertThrows(ConfigFormatSyntaxException.class, () -> BinaryDecoder.decode(ByteBuffer.wrap(extended)));
+	}
+
+	@Test
+	public void hugeCount() {
+		// Header, empty string table, then a root map claiming far more entries than there are bytes
+		byte[] malicious = {'D', 'Z', 'C', 'B', 1, 0, BinaryFormat.TAG_MAP, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F};
+		assertThrows(ConfigFormatSyntaxException.class, () -> BinaryDecoder.decode(ByteBuffer.wrap(malicious)));
+	}
+
+	@Test
+	public void negativeStringIndex() {
+		// Header, empty string table, then a root map with one entry whose key index decodes to -1
+		byte[] malicious = {'D', 'Z', 'C', 'B', 1, 0, BinaryFormat.TAG_MAP, 1,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+		assertThrows(ConfigFormatSyntaxException.class, () -> BinaryDecoder.decode(ByteBuffer.wrap(malicious)));
+	}
+
+	@Test
+	public void overlongStringIndex() {
+		byte[] malicious = {'D', 'Z', 'C', 'B', 1, 0, BinaryFormat.TAG_MAP, 1,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+		assertThrows(ConfigFormatSyntaxException.class, () -> BinaryDecoder.decode(ByteBuffer.wrap(malicious)));
+	}
+
+	@Test
+	public void excessiveNesting() throws IOException {
+		Object value = List.of();
+		for (int n = 0; n < BinaryFormat.MAX_DEPTH + 1; n++) {
+			List<Object> wrapper = new ArrayList<>();
+			wrapper.add(value);
+			value = wrapper;
+		}
+		byte[] encoded = encode(Map.of("key", value));
+		assertThrows(ConfigFormatSyntaxException.class, () -> BinaryDecoder.decode(ByteBuffer.wrap(encoded)));
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.error.MissingKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryConfigurationFactoryTest {
+
+	private ConfigurationFactory<Config> factory;
+	private Config defaults;
+	private byte[] defaultsBytes;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		factory = BinaryConfigurationFactory.create(Config.class, ConfigurationOptions.defaults());
+		defaults = factory.loadDefaults();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		factory.write(defaults, output);
+		defaultsBytes = output.toByteArray();
+	}
+
+	private static void assertSameConfig(Config expected, Config actual) {
+		assertEquals(expected.someOption(), actual.someOption());
+		assertEquals(expected.someNumber(), actual.someNumber());
+		assertEquals(expected.someLong(), actual.someLong());
+		assertEquals(expected.someDecimal(), actual.someDecimal());
+		assertEquals(expected.someDay(), actual.someDay());
+		assertEquals(expected.someList(), actual.someList());
+		assertEquals(expected.sectionOne().someFlag(), actual.sectionOne().someFlag());
+		assertEquals(expected.sectionOne().someOption(), actual.sectionOne().someOption());
+	}
+
+	@Test
+	public void reloadFromStream() throws IOException, InvalidConfigException {
+		assertSameConfig(defaults, factory.load(new ByteArrayInputStream(defaultsBytes)));
+	}
+
+	@Test
+	public void reloadFromChannel() throws IOException, InvalidConfigException {
+		Config reloaded = factory.load(Channels.newChannel(new ByteArrayInputStream(defaultsBytes)));
+		assertSameConfig(defaults, reloaded);
+	}
+
+	@Test
+	public void writeAndReloadPath(@TempDir Path tempDir) throws IOException, InvalidConfigException {
+		Path file = tempDir.resolve("config.bin");
+		factory.write(defaults, file);
+		assertSameConfig(defaults, factory.load(file));
+	}
+
+	@Test
+	public void repeatedStringsStoredOnce() {
+		String content = new String(defaultsBytes, StandardCharsets.UTF_8);
+		assertEquals(content.indexOf("option-value"), content.lastIndexOf("option-value"));
+		assertEquals(content.indexOf("some-option"), content.lastIndexOf("some-option"));
+	}
+
+	@Test
+	public void loadEmptyDocument() {
+		assertThrows(MissingKeyException.class, () -> factory.load(new ByteArrayInputStream(new byte[0])));
+	}
+
+	@Test
+	public void loadTextDocument() {
+		byte[] yaml = "some-option: value\n".getBytes(StandardCharsets.UTF_8);
+		assertThrows(ConfigFormatSyntaxException.class, () -> factory.load(new ByteArrayInputStream(yaml)));
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.binary;
+
+import space.arim.dazzleconf.annote.ConfDefault.DefaultBoolean;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultDouble;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultInteger;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultLong;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultString;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultStrings;
+import space.arim.dazzleconf.annote.ConfKey;
+import space.arim.dazzleconf.annote.SubSection;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+public interface Config {
+
+	@ConfKey("some-option")
+	@DefaultString("option-value")
+	String someOption();
+
+	@ConfKey("some-number")
+	@DefaultInteger(-42)
+	int someNumber();
+
+	@ConfKey("some-long")
+	@DefaultLong(Long.MAX_VALUE)
+	long someLong();
+
+	@ConfKey("some-decimal")
+	@DefaultDouble(2.5)
+	double someDecimal();
+
+	@ConfKey("some-day")
+	@DefaultString("MONDAY")
+	DayOfWeek someDay();
+
+	@ConfKey("some-list")
+	@DefaultStrings({"option-value", "ünïcode", "option-value"})
+	List<String> someList();
+
+	@ConfKey("section-one")
+	@SubSection
+	ConfigSection sectionOne();
+
+	interface ConfigSection {
+
+		@ConfKey("some-flag")
+		@DefaultBoolean(true)
+		boolean someFlag();
+
+		@ConfKey("some-option")
+		@DefaultString("nested-value")
+		String someOption();
+
+	}
+
+}
@@ -22,11 +22,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import space.arim.dazzleconf.annote.ConfDefault;
 import space.arim.dazzleconf.error.IllDefinedConfigException;
 import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.util.AsyncTasks;
 
 /**
  * Loader and writer of configuration data
@@ -104,7 +111,137 @@ public interface ConfigurationFactory<C> {
 	 * @throws NullPointerException if {@code inputStream} is null
 	 */
 	C load(InputStream inputStream, C auxiliaryEntries) throws IOException, InvalidConfigException;
+
+	/**
+	 * Reads configuration data from a file. <br>
+	 * <br>
+	 * Implementations may read the file more efficiently than through a channel or stream,
+	 * such as by mapping it into memory.
+	 *
+	 * @param path the path of the file from which to read the data
+	 * @return the read config data
+	 * @throws IOException if an I/O error occurs, including if the file does not exist
+	 * @throws InvalidConfigException if the configuration is invalid. Where possible, more specific subclasses are thrown
+	 * @throws NullPointerException if {@code path} is null
+	 */
+	default C load(Path path) throws IOException, InvalidConfigException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return load(fileChannel);
+		}
+	}
+
+	/**
+	 * Reads configuration data from a file with the given auxiliary configuration instance. Any keys
+	 * missing in the loaded config data will be supplanted by the config instance's corresponding entry. <br>
+	 * <br>
+	 * By checking if the returned configuration implements {@link AuxiliaryKeys}, the caller can determine
+	 * whether any of the auxiliary entries were used.
+	 *
+	 * @param path the path of the file from which to read the data
+	 * @param auxiliaryEntries the auxiliary configuration instance
+	 * @return the read config data
+	 * @throws IOException if an I/O error occurs, including if the file does not exist
+	 * @throws InvalidConfigException if the configuration is invalid. Where possible, more specific subclasses are thrown
+	 * @throws NullPointerException if {@code path} is null
+	 */
+	default C load(Path path, C auxiliaryEntries) throws IOException, InvalidConfigException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return load(fileChannel, auxiliaryEntries);
+		}
+	}
+
+	/**
+	 * Reads configuration data from a readable byte channel, reusing the values of a previously loaded
+	 * configuration where the data for them is unchanged. <br>
+	 * <br>
+	 * Implementations may compare the data for each entry against the data from which the previous
+	 * configuration was loaded, and reuse the previous value, or previous sub-section, where the data is
+	 * the same. The previous configuration itself is returned if nothing changed. Only changed entries are
+	 * then deserialised and validated again, and unchanged values keep their identity. The previous
+	 * configuration should have been loaded by this factory. <br>
+	 * <br>
+	 * The default implementation ignores {@code previous} and calls {@link #load(ReadableByteChannel, Object)},
+	 * or {@link #load(ReadableByteChannel)} if {@code auxiliaryEntries} is null.
+	 *
+	 * @param readChannel the channel from which to read the data
+	 * @param auxiliaryEntries the auxiliary configuration instance, or null for none
+	 * @param previous the previously loaded configuration, or null for none
+	 * @return the read config data
+	 * @throws IOException if an I/O error occurs
+	 * @throws InvalidConfigException if the configuration is invalid. Where possible, more specific subclasses are thrown
+	 */
+	default C reload(ReadableByteChannel readChannel, C auxiliaryEntries, C previous)
+			throws IOException, InvalidConfigException {
+		return (auxiliaryEntries == null) ? load(readChannel) : load(readChannel, auxiliaryEntries);
+	}
+
+	/**
+	 * Reads configuration data from a file, reusing the values of a previously loaded configuration where
+	 * the data for them is unchanged. See {@link #reload(ReadableByteChannel, Object, Object)}. <br>
+	 * <br>
+	 * The default implementation opens a {@code FileChannel} and delegates to
+	 * {@link #reload(ReadableByteChannel, Object, Object)}.
+	 *
+	 * @param path the path of the file from which to read the data
+	 * @param auxiliaryEntries the auxiliary configuration instance, or null for none
+	 * @param previous the previously loaded configuration, or null for none
+	 * @return the read config data
+	 * @throws IOException if an I/O error occurs, including if the file does not exist
+	 * @throws InvalidConfigException if the configuration is invalid. Where possible, more specific subclasses are thrown
+	 * @throws NullPointerException if {@code path} is null
+	 */
+	default C reload(Path path, C auxiliaryEntries, C previous) throws IOException, InvalidConfigException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return reload(fileChannel, auxiliaryEntries, previous);
+		}
+	}
 	
+	/**
+	 * Reads configuration data from a file on the default executor. See {@link #loadAsync(Path, Executor)}. <br>
+	 * <br>
+	 * The default executor uses a virtual thread per task on runtimes supporting virtual threads,
+	 * and a small pool of daemon threads otherwise.
+	 *
+	 * @param path the path of the file from which to read the data
+	 * @return a future completed with the read config data
+	 * @throws NullPointerException if {@code path} is null
+	 */
+	default CompletableFuture<C> loadAsync(Path path) {
+		return loadAsync(path, AsyncTasks.defaultExecutor());
+	}
+
+	/**
+	 * Reads configuration data from a file on the given executor. Reading, parsing and processing
+	 * all happen on the executor; the caller is not blocked. <br>
+	 * <br>
+	 * The future completes with the fully loaded config data, or exceptionally with the exception
+	 * {@link #load(Path)} would have thrown, such as {@code IOException} or {@code InvalidConfigException}.
+	 *
+	 * @param path the path of the file from which to read the data
+	 * @param executor the executor on which to load
+	 * @return a future completed with the read config data
+	 * @throws NullPointerException if {@code path} or {@code executor} is null
+	 */
+	default CompletableFuture<C> loadAsync(Path path, Executor executor) {
+		Objects.requireNonNull(path, "path");
+		return AsyncTasks.supply(() -> load(path), executor);
+	}
+
+	/**
+	 * Reads configuration data from a file with the given auxiliary configuration instance, on the given
+	 * executor. See {@link #load(Path, Object)} and {@link #loadAsync(Path, Executor)}.
+	 *
+	 * @param path the path of the file from which to read the data
+	 * @param auxiliaryEntries the auxiliary configuration instance
+	 * @param executor the executor on which to load
+	 * @return a future completed with the read config data
+	 * @throws NullPointerException if {@code path} or {@code executor} is null
+	 */
+	default CompletableFuture<C> loadAsync(Path path, C auxiliaryEntries, Executor executor) {
+		Objects.requireNonNull(path, "path");
+		return AsyncTasks.supply(() -> load(path, auxiliaryEntries), executor);
+	}
+
 	/**
 	 * Reads the default configuration data from annotations in {@link ConfDefault} <br>
 	 * <br>
@@ -135,5 +272,111 @@ public interface ConfigurationFactory<C> {
 	 * @throws NullPointerException if either parameter is null
 	 */
 	void write(C configData, OutputStream outputStream) throws IOException;
+
+	/**
+	 * Writes configuration data to a file, creating the file if it does not exist and
+	 * replacing its contents otherwise
+	 *
+	 * @param configData the configuration data
+	 * @param path the path of the file to which to write the data
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if either parameter is null
+	 */
+	default void write(C configData, Path path) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			write(configData, fileChannel);
+		}
+	}
+
+	/**
+	 * Writes configuration data to a file on the default executor. See {@link #writeAsync(Object, Path, Executor)}
+	 * and {@link #loadAsync(Path)}.
+	 *
+	 * @param configData the configuration data
+	 * @param path the path of the file to which to write the data
+	 * @return a future completed once the data is written
+	 * @throws NullPointerException if either parameter is null
+	 */
+	default CompletableFuture<Void> writeAsync(C configData, Path path) {
+		return writeAsync(configData, path, AsyncTasks.defaultExecutor());
+	}
+
+	/**
+	 * Writes configuration data to a file on the given executor. Serialising and writing both happen
+	 * on the executor; the caller is not blocked. <br>
+	 * <br>
+	 * The future completes exceptionally with the exception {@link #write(Object, Path)} would have thrown.
+	 *
+	 * @param configData the configuration data
+	 * @param path the path of the file to which to write the data
+	 * @param executor the executor on which to write
+	 * @return a future completed once the data is written
+	 * @throws NullPointerException if any parameter is null
+	 */
+	default CompletableFuture<Void> writeAsync(C configData, Path path, Executor executor) {
+		Objects.requireNonNull(configData, "configData");
+		Objects.requireNonNull(path, "path");
+		return AsyncTasks.supply(() -> {
+			write(configData, path);
+			return null;
+		}, executor);
+	}
+
+	/**
+	 * Writes the default configuration data to a writable byte channel. This produces the same output
+	 * as writing the result of {@link #loadDefaults()}. <br>
+	 * <br>
+	 * Since the default configuration never changes, implementations may render it once and reuse
+	 * the encoded bytes on subsequent calls. The default implementation does not.
+	 *
+	 * @param writableChannel the channel to which to write the data
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllDefinedConfigException if the defaults are not defined or ill defined
+	 * @throws NullPointerException if {@code writableChannel} is null
+	 */
+	default void writeDefaults(WritableByteChannel writableChannel) throws IOException {
+		write(loadDefaults(), writableChannel);
+	}
+
+	/**
+	 * Writes the default configuration data to an output stream. This produces the same output
+	 * as writing the result of {@link #loadDefaults()}. <br>
+	 * <br>
+	 * Since the default configuration never changes, implementations may render it once and reuse
+	 * the encoded bytes on subsequent calls. The default implementation does not.
+	 *
+	 * @param outputStream the stream to which to write the data
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllDefinedConfigException if the defaults are not defined or ill defined
+	 * @throws NullPointerException if {@code outputStream} is null
+	 */
+	default void writeDefaults(OutputStream outputStream) throws IOException {
+		write(loadDefaults(), outputStream);
+	}
+
+	/**
+	 * Attempts to update an existing configuration file by appending the entries which were missing from it. <br>
+	 * <br>
+	 * {@code configData} should be the result of loading the file with auxiliary entries, and implement
+	 * {@link AuxiliaryKeys}. If every auxiliary entry used corresponds to a top level key which was absent from
+	 * the file, and the configuration format permits it, only those entries are appended to the file. This leaves
+	 * the existing data, including any formatting of it, untouched. Entries are appended only if the file, so
+	 * extended, still parses and contains the entries of both; not every valid document permits appending. Nor are
+	 * entries appended if the file no longer has the top level keys from which {@code configData} was loaded. <br>
+	 * <br>
+	 * Otherwise, nothing is written and {@code false} is returned, in which case the caller should rewrite the
+	 * full configuration data using {@link #write(Object, Path)}. The default implementation always returns
+	 * {@code false}.
+	 *
+	 * @param configData the configuration data, loaded with auxiliary entries
+	 * @param path the path of the existing file
+	 * @return true if the missing entries were appended, false if nothing was written
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if either parameter is null
+	 */
+	default boolean appendAuxiliaryEntries(C configData, Path path) throws IOException {
+		return false;
+	}
 	
 }
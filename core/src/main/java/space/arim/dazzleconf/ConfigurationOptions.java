@@ -47,18 +47,21 @@ public final class ConfigurationOptions {
 	private final boolean strictParseEnums;
 	private final boolean createSingleElementCollections;
 	private final boolean dottedPathInConfKey;
+	private final boolean shareDefaultValues;
 	
 	private static final ConfigurationOptions DEFAULTS = new ConfigurationOptions.Builder().build();
 
 	ConfigurationOptions(ValueSerialiserMap serialisers, Map<String, ValueValidator> validators,
                          ConfigurationSorter sorter, boolean strictParseEnums,
-                         boolean createSingleElementCollections, boolean dottedPathInConfKey) {
+                         boolean createSingleElementCollections, boolean dottedPathInConfKey,
+                         boolean shareDefaultValues) {
 		this.serialisers = serialisers;
 		this.validators = validators;
 		this.sorter = sorter;
 		this.strictParseEnums = strictParseEnums;
 		this.createSingleElementCollections = createSingleElementCollections;
         this.dottedPathInConfKey = dottedPathInConfKey;
+        this.shareDefaultValues = shareDefaultValues;
     }
 	
 	/**
@@ -141,6 +144,16 @@ public final class ConfigurationOptions {
 		return dottedPathInConfKey;
 	}
 
+	/**
+	 * Whether loaded configurations store only the values which differ from the defaults.
+	 * See {@link Builder#setShareDefaultValues(boolean)}
+	 *
+	 * @return true if default values are shared, false otherwise
+	 */
+	public boolean shareDefaultValues() {
+		return shareDefaultValues;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -151,6 +164,7 @@ public final class ConfigurationOptions {
 		result = prime * result + validators.hashCode();
 		result = prime * result + (createSingleElementCollections ? 1231 : 1237);
 		result = prime * result + (dottedPathInConfKey ? 1231 : 1237);
+		result = prime * result + (shareDefaultValues ? 1231 : 1237);
 		return result;
 	}
 
@@ -168,14 +182,16 @@ public final class ConfigurationOptions {
 				&& serialisers.equals(other.serialisers)
 				&& validators.equals(other.validators)
 				&& createSingleElementCollections == other.createSingleElementCollections
-				&& dottedPathInConfKey == other.dottedPathInConfKey;
+				&& dottedPathInConfKey == other.dottedPathInConfKey
+				&& shareDefaultValues == other.shareDefaultValues;
 	}
 
 	@Override
 	public String toString() {
 		return "ConfigurationOptions [serialisers=" + serialisers + ", validators=" + validators + ", sorter=" + sorter
 				+ ", strictParseEnums=" + strictParseEnums + ", createSingleElementCollections="
-				+ createSingleElementCollections + ", dottedPathInConfKey=" + dottedPathInConfKey+  "]";
+				+ createSingleElementCollections + ", dottedPathInConfKey=" + dottedPathInConfKey
+				+ ", shareDefaultValues=" + shareDefaultValues + "]";
 	}
 
 	/**
@@ -192,6 +208,7 @@ public final class ConfigurationOptions {
 		private boolean strictParseEnums;
 		private boolean createSingleElementCollections;
 		private boolean dottedPathInConfKey;
+		private boolean shareDefaultValues;
 
 		/**
 		 * Creates the builder. <br>
@@ -358,6 +375,25 @@ public final class ConfigurationOptions {
 			return this;
 		}
 
+		/**
+		 * Specifies whether loaded configurations should store only the values which differ from the
+		 * defaults. By default this is {@code false}. <br>
+		 * <br>
+		 * When {@code true}, the defaults are loaded once and shared. Each loaded configuration keeps
+		 * the values differing from the defaults, and falls through to the defaults for all other entries.
+		 * A configuration or sub-section equal to the defaults is the defaults instance itself. This saves
+		 * memory when many configurations of the same type, mostly set to the defaults, are kept at once. <br>
+		 * <br>
+		 * Has no effect if the defaults are not defined.
+		 *
+		 * @param shareDefaultValues whether to share default values
+		 * @return this builder
+		 */
+		public Builder setShareDefaultValues(boolean shareDefaultValues) {
+			this.shareDefaultValues = shareDefaultValues;
+			return this;
+		}
+
 		/**
 		 * Builds a {@code ValidationOptions} from the contents of this builder. <br>
 		 * <br>
@@ -368,7 +404,8 @@ public final class ConfigurationOptions {
 		public ConfigurationOptions build() {
 			return new ConfigurationOptions(
 					ValueSerialiserMap.of(serialisers), ImmutableCollections.mapOf(validators),
-					sorter, strictParseEnums, createSingleElementCollections, dottedPathInConfKey
+					sorter, strictParseEnums, createSingleElementCollections, dottedPathInConfKey,
+					shareDefaultValues
 			);
 		}
 
@@ -378,6 +415,7 @@ public final class ConfigurationOptions {
 					+ ", sorter=" + sorter + ", strictParseEnums=" + strictParseEnums
 					+ ", createSingleElementCollections="+ createSingleElementCollections
 					+ ", dottedPathInConfKey=" + dottedPathInConfKey
+					+ ", shareDefaultValues=" + shareDefaultValues
 					+ "]";
 		}
 		
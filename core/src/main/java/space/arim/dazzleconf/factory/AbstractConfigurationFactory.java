@@ -64,6 +64,17 @@ public abstract class AbstractConfigurationFactory<C> extends DelegatingConfigur
 	 */
 	protected abstract Charset charset();
 	
+	/**
+	 * The strategy for reusing buffers and charset codecs across loads and writes. <br>
+	 * <br>
+	 * The default implementation returns {@link BufferStrategy#threadLocal()}
+	 * 
+	 * @return the buffer strategy
+	 */
+	protected BufferStrategy bufferStrategy() {
+		return BufferStrategy.threadLocal();
+	}
+	
 	/**
 	 * Loads a raw map of nested values from the specified reader. The map returned is a hierarchical
 	 * map of nested maps.
@@ -118,6 +129,29 @@ public abstract class AbstractConfigurationFactory<C> extends DelegatingConfigur
 		return "";
 	}
 	
+	/**
+	 * Whether this implementation can append entries to existing data, using {@link #appendMapToWriter(Map, Writer)}
+	 *
+	 * @return true if appending is supported, false otherwise
+	 */
+	protected boolean supportsAppendingMap() {
+		return false;
+	}
+
+	/**
+	 * Appends a raw map of nested values to the specified writer, which is positioned at the end of existing data.
+	 * The map contains only top level keys absent from the existing data. Called only if
+	 * {@link #supportsAppendingMap()} returns true. The default implementation throws
+	 * {@code UnsupportedOperationException}.
+	 *
+	 * @param config the raw map of nested values (and possibly comments) to append
+	 * @param writer the writer
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void appendMapToWriter(Map<String, Object> config, Writer writer) throws IOException {
+		throw new UnsupportedOperationException("Appending is not supported by " + getClass().getName());
+	}
+	
 	/**
 	 * Gets the comment header on the top level configuration
 	 * 
@@ -143,6 +177,11 @@ public abstract class AbstractConfigurationFactory<C> extends DelegatingConfigur
 			return AbstractConfigurationFactory.this.charset();
 		}
 
+		@Override
+		public BufferStrategy bufferStrategy() {
+			return AbstractConfigurationFactory.this.bufferStrategy();
+		}
+
 		@Override
 		public Map<String, Object> loadMap(Reader reader) throws IOException, ConfigFormatSyntaxException {
 			return AbstractConfigurationFactory.this.loadMapFromReader(reader);
@@ -163,6 +202,16 @@ public abstract class AbstractConfigurationFactory<C> extends DelegatingConfigur
 			return AbstractConfigurationFactory.this.pseudoCommentsSuffix();
 		}
 
+		@Override
+		public boolean supportsAppendingMap() {
+			return AbstractConfigurationFactory.this.supportsAppendingMap();
+		}
+
+		@Override
+		public void appendMap(Map<String, Object> config, Writer writer) throws IOException {
+			AbstractConfigurationFactory.this.appendMapToWriter(config, writer);
+		}
+
 	}
 	
 }
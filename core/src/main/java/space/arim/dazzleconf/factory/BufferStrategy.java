@@ -0,0 +1,94 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.factory;
+
+import space.arim.dazzleconf.internal.util.CodecBuffers;
+
+/**
+ * Determines how the buffers and charset codecs used by {@link HumanReadableConfigurationFactory}
+ * are reused across loads and writes. <br>
+ * <br>
+ * By default, each thread keeps its own buffers. This suits a modest number of long-lived threads.
+ * Where configurations are loaded and written from many short-lived or virtual threads, a bounded
+ * pool shares a fixed number of buffers instead. Reuse can also be disabled entirely. <br>
+ * <br>
+ * All strategies are thread safe. If pooled buffers are unavailable, for example because they are
+ * in use by a load which is itself loading another configuration, fresh buffers are used.
+ *
+ */
+public final class BufferStrategy {
+
+	private final InstancePool<CodecBuffers> pool;
+
+	private static final BufferStrategy THREAD_LOCAL = new BufferStrategy(InstancePool.threadLocal(CodecBuffers::new));
+	private static final BufferStrategy NONE = new BufferStrategy(InstancePool.none(CodecBuffers::new));
+
+	private BufferStrategy(InstancePool<CodecBuffers> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Gets the strategy which keeps buffers per thread. This is the default. <br>
+	 * <br>
+	 * On virtual threads, buffers are instead shared through a bounded pool. See {@link InstancePool#threadLocal(java.util.function.Supplier)}
+	 *
+	 * @return the thread local buffer strategy
+	 */
+	public static BufferStrategy threadLocal() {
+		return THREAD_LOCAL;
+	}
+
+	/**
+	 * Creates a strategy which shares up to the given number of buffers between all threads.
+	 * Suitable for use with virtual threads. <br>
+	 * <br>
+	 * Each call creates a distinct pool, so the returned strategy should be kept and reused.
+	 *
+	 * @param capacity the maximum number of idle buffers to retain
+	 * @return a bounded pool buffer strategy
+	 * @throws IllegalArgumentException if {@code capacity} is not positive
+	 */
+	public static BufferStrategy boundedPool(int capacity) {
+		return new BufferStrategy(InstancePool.boundedPool(CodecBuffers::new, capacity));
+	}
+
+	/**
+	 * Gets the strategy which never reuses buffers
+	 *
+	 * @return the buffer strategy which does not reuse
+	 */
+	public static BufferStrategy none() {
+		return NONE;
+	}
+
+	CodecBuffers acquire() {
+		return pool.acquire();
+	}
+
+	void release(CodecBuffers buffers) {
+		pool.release(buffers);
+	}
+
+	@Override
+	public String toString() {
+		return "BufferStrategy{" + pool + '}';
+	}
+
+}
@@ -0,0 +1,349 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.factory;
+
+import space.arim.dazzleconf.internal.ConfEntry;
+import space.arim.dazzleconf.internal.ConfigurationDefinition;
+import space.arim.dazzleconf.internal.type.ReturnTypeWithConfigDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary snapshot of a loaded hierarchical map. <br>
+ * <br>
+ * The snapshot begins with a key identifying what it was loaded from: the format factory and its
+ * options, the shape of the configuration definition, and a digest of the source bytes. A snapshot is only
+ * used if its key matches exactly. The values are stored with their exact types, so that a map
+ * read from a snapshot is processed identically to the map originally loaded.
+ *
+ */
+final class ConfigSnapshot {
+
+	private static final int MAGIC = 0x445A5353; // "DZSS"
+	private static final byte VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte FALSE = 1;
+	private static final byte TRUE = 2;
+	private static final byte STRING = 3;
+	private static final byte INTEGER = 4;
+	private static final byte LONG = 5;
+	private static final byte DOUBLE = 6;
+	private static final byte FLOAT = 7;
+	private static final byte SHORT = 8;
+	private static final byte BYTE = 9;
+	private static final byte BIG_INTEGER = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte CHARACTER = 12;
+	private static final byte MAP = 13;
+	private static final byte LIST = 14;
+	private static final byte SET = 15;
+
+	private ConfigSnapshot() {}
+
+	/**
+	 * Computes the key of a snapshot
+	 *
+	 * @param formatFactory the format factory loading the source
+	 * @param formatKey the format factory's {@link ConfigurationFormatFactory#snapshotFormatKey()}
+	 * @param definition the configuration definition
+	 * @param source the source bytes
+	 * @return the snapshot key
+	 */
+	static byte[] key(ConfigurationFormatFactory<?> formatFactory, String formatKey,
+					  ConfigurationDefinition<?> definition, byte[] source) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(ex);
+		}
+		updateString(digest, formatFactory.getClass().getName());
+		updateString(digest, formatKey);
+		updateShape(digest, definition);
+		digest.update(source);
+		return digest.digest();
+	}
+
+	private static void updateShape(MessageDigest digest, ConfigurationDefinition<?> definition) {
+		updateString(digest, definition.getConfigClass().getName());
+		for (ConfEntry entry : definition.getEntries()) {
+			updateString(digest, entry.getKey());
+			updateString(digest, entry.getMethod().toGenericString());
+			if (entry.returnType() instanceof ReturnTypeWithConfigDefinition) {
+				updateShape(digest, ((ReturnTypeWithConfigDefinition<?, ?>) entry.returnType()).configDefinition());
+			}
+		}
+	}
+
+	private static void updateString(MessageDigest digest, String string) {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+		digest.update(bytes);
+	}
+
+	/*
+	 * Reading
+	 */
+
+	/**
+	 * Reads a snapshot, if it exists and matches the given key
+	 *
+	 * @param snapshotPath the snapshot file
+	 * @param key the expected key
+	 * @return the snapshotted map, or null if there is no usable snapshot
+	 * @throws IOException if an I/O error occurs
+	 */
+	static Map<String, Object> read(Path snapshotPath, byte[] key) throws IOException {
+		byte[] snapshot;
+		try {
+			snapshot = Files.readAllBytes(snapshotPath);
+		} catch (NoSuchFileException ex) {
+			return null;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+		try {
+			if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+				return null;
+			}
+			byte[] snapshotKey = new byte[key.length];
+			buffer.get(snapshotKey);
+			if (!Arrays.equals(key, snapshotKey)) {
+				return null;
+			}
+			Object value = readValue(buffer);
+			if (!(value instanceof Map) || buffer.hasRemaining()) {
+				return null;
+			}
+			@SuppressWarnings("unchecked")
+			Map<String, Object> map = (Map<String, Object>) value;
+			return map;
+		} catch (BufferUnderflowException | CorruptSnapshotException ex) {
+			// A truncated or corrupt snapshot is simply not used
+			return null;
+		}
+	}
+
+	private static Object readValue(ByteBuffer buffer) throws CorruptSnapshotException {
+		byte tag = buffer.get();
+		switch (tag) {
+		case NULL:
+			return null;
+		case FALSE:
+			return Boolean.FALSE;
+		case TRUE:
+			return Boolean.TRUE;
+		case STRING:
+			return readString(buffer);
+		case INTEGER:
+			return buffer.getInt();
+		case LONG:
+			return buffer.getLong();
+		case DOUBLE:
+			return buffer.getDouble();
+		case FLOAT:
+			return buffer.getFloat();
+		case SHORT:
+			return buffer.getShort();
+		case BYTE:
+			return buffer.get();
+		case BIG_INTEGER:
+			return new BigInteger(readString(buffer));
+		case BIG_DECIMAL:
+			return new BigDecimal(readString(buffer));
+		case CHARACTER:
+			return buffer.getChar();
+		case MAP:
+			int size = readCount(buffer);
+			Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+			for (int n = 0; n < size; n++) {
+				map.put(readValue(buffer), readValue(buffer));
+			}
+			return map;
+		case LIST:
+		case SET:
+			int elements = readCount(buffer);
+			Collection<Object> collection = (tag == LIST) ? new ArrayList<>(elements) : new LinkedHashSet<>(elements * 2);
+			for (int n = 0; n < elements; n++) {
+				collection.add(readValue(buffer));
+			}
+			return collection;
+		default:
+			throw new CorruptSnapshotException();
+		}
+	}
+
+	private static int readCount(ByteBuffer buffer) throws CorruptSnapshotException {
+		int count = buffer.getInt();
+		// Every element occupies at least one byte
+		if (count < 0 || count > buffer.remaining()) {
+			throw new CorruptSnapshotException();
+		}
+		return count;
+	}
+
+	private static String readString(ByteBuffer buffer) throws CorruptSnapshotException {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining() / Character.BYTES) {
+			throw new CorruptSnapshotException();
+		}
+		char[] chars = new char[length];
+		buffer.asCharBuffer().get(chars);
+		buffer.position(buffer.position() + length * Character.BYTES);
+		return new String(chars);
+	}
+
+	private static final class CorruptSnapshotException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		CorruptSnapshotException() {
+			super(null, null, false, false);
+		}
+	}
+
+	/*
+	 * Writing
+	 */
+
+	/**
+	 * Writes a snapshot, replacing any existing snapshot. If the map contains a value which
+	 * cannot be snapshotted, no snapshot is written and the existing snapshot is deleted.
+	 *
+	 * @param snapshotPath the snapshot file
+	 * @param key the snapshot key
+	 * @param map the loaded map
+	 * @throws IOException if an I/O error occurs
+	 */
+	static void write(Path snapshotPath, byte[] key, Map<String, Object> map) throws IOException {
+		ByteArrayOutputStream byteOutput = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(byteOutput)) {
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.write(key);
+			if (!writeValue(output, map)) {
+				Files.deleteIfExists(snapshotPath);
+				return;
+			}
+		}
+		// Write to a temporary file first, so that a snapshot is never observed half written
+		Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+		try (OutputStream temporaryOutput = Files.newOutputStream(temporaryPath)) {
+			byteOutput.writeTo(temporaryOutput);
+		}
+		try {
+			Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static boolean writeValue(DataOutputStream output, Object value) throws IOException {
+		if (value == null) {
+			output.writeByte(NULL);
+		} else if (value instanceof String) {
+			output.writeByte(STRING);
+			writeString(output, (String) value);
+		} else if (value instanceof Boolean) {
+			output.writeByte((Boolean) value ? TRUE : FALSE);
+		} else if (value instanceof Integer) {
+			output.writeByte(INTEGER);
+			output.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			output.writeByte(LONG);
+			output.writeLong((Long) value);
+		} else if (value instanceof Double) {
+			output.writeByte(DOUBLE);
+			output.writeDouble((Double) value);
+		} else if (value instanceof Float) {
+			output.writeByte(FLOAT);
+			output.writeFloat((Float) value);
+		} else if (value instanceof Short) {
+			output.writeByte(SHORT);
+			output.writeShort((Short) value);
+		} else if (value instanceof Byte) {
+			output.writeByte(BYTE);
+			output.writeByte((Byte) value);
+		} else if (value instanceof BigInteger) {
+			output.writeByte(BIG_INTEGER);
+			writeString(output, value.toString());
+		} else if (value instanceof BigDecimal) {
+			output.writeByte(BIG_DECIMAL);
+			writeString(output, value.toString());
+		} else if (value instanceof Character) {
+			output.writeByte(CHARACTER);
+			output.writeChar((Character) value);
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			output.writeByte(MAP);
+			output.writeInt(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (!writeValue(output, entry.getKey()) || !writeValue(output, entry.getValue())) {
+					return false;
+				}
+			}
+		} else if (value instanceof List || value instanceof Set) {
+			Collection<?> collection = (Collection<?>) value;
+			output.writeByte((value instanceof List) ? LIST : SET);
+			output.writeInt(collection.size());
+			for (Object element : collection) {
+				if (!writeValue(output, element)) {
+					return false;
+				}
+			}
+		} else {
+			// Some other type produced by the format library, whose exact type cannot be reproduced
+			return false;
+		}
+		return true;
+	}
+
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		// UTF-16 code units, so that even unpaired surrogates are reproduced exactly
+		output.writeInt(string.length());
+		output.writeChars(string);
+	}
+
+}
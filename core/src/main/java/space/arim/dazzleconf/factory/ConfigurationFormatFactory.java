@@ -24,23 +24,37 @@ import space.arim.dazzleconf.ConfigurationOptions;
 import space.arim.dazzleconf.error.IllDefinedConfigException;
 import space.arim.dazzleconf.error.InvalidConfigException;
 import space.arim.dazzleconf.internal.ConfigurationDefinition;
+import space.arim.dazzleconf.internal.DefinitionCache;
 import space.arim.dazzleconf.internal.DefinitionReader;
 import space.arim.dazzleconf.internal.deprocessor.AddCommentStringBeforeDeprocessor;
 import space.arim.dazzleconf.internal.deprocessor.CommentedDeprocessor;
 import space.arim.dazzleconf.internal.deprocessor.DeprocessorBase;
 import space.arim.dazzleconf.internal.deprocessor.SimpleDeprocessor;
+import space.arim.dazzleconf.internal.deprocessor.WritePlan;
+import space.arim.dazzleconf.internal.processor.AppendableKeys;
 import space.arim.dazzleconf.internal.processor.DefaultsProcessor;
 import space.arim.dazzleconf.internal.processor.MapProcessor;
 import space.arim.dazzleconf.internal.processor.ProcessorBase;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Abstract implementation of {@link ConfigurationFactory} which takes care of configuration loading
@@ -66,8 +80,19 @@ import java.util.Objects;
  */
 public abstract class ConfigurationFormatFactory<C> implements ConfigurationFactory<C> {
 
+	static {
+		// Let helpers reuse the definitions compiled by factories
+		DefinitionCache.setCompiledDefinitions(ConfigurationFormatFactory::compiledDefinition);
+	}
+
 	private final ConfigurationOptions options;
 	private final ConfigurationDefinition<C> definition;
+	private final WritePlan<C> writePlan;
+
+	private volatile byte[] defaultsTemplate;
+	private volatile Object sharedDefaults;
+	/** Marks {@code sharedDefaults} when the defaults are not defined */
+	private static final Object NO_SHARED_DEFAULTS = new Object();
 
 	/**
 	 * Creates from a config class and config options
@@ -84,6 +109,7 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 		}
 		this.options = Objects.requireNonNull(options, "options");
 		definition = new DefinitionReader<>(configClass, options).read();
+		writePlan = WritePlan.compile(definition);
 	}
 
 	@Override
@@ -96,6 +122,20 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 		return options;
 	}
 
+	ConfigurationDefinition<C> definition() {
+		return definition;
+	}
+
+	private static ConfigurationDefinition<?> compiledDefinition(ConfigurationFactory<?> factory) {
+		while (factory instanceof DelegatingConfigurationFactory) {
+			factory = ((DelegatingConfigurationFactory<?>) factory).delegate();
+		}
+		if (factory instanceof ConfigurationFormatFactory) {
+			return ((ConfigurationFormatFactory<?>) factory).definition;
+		}
+		return null;
+	}
+
 	/**
 	 * Gets the comment header on the top level configuration. This is the
 	 * document wide comment header, at the top of the file.
@@ -132,6 +172,50 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 		return fromRawMap(loadMap(inputStream), auxiliaryEntries);
 	}
 
+	@Override
+	public final C load(Path path) throws IOException, InvalidConfigException {
+		return fromRawMap(loadMap(path));
+	}
+
+	@Override
+	public final C load(Path path, C auxiliaryEntries) throws IOException, InvalidConfigException {
+		Objects.requireNonNull(getConfigClass().cast(auxiliaryEntries), "auxiliaryEntries");
+		return fromRawMap(loadMap(path), auxiliaryEntries);
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The map loaded from the channel is compared against the map from which the previous configuration
+	 * was loaded, entry by entry. Unchanged entries and sub-sections are reused from the previous configuration. <br>
+	 * <br>
+	 * The reloaded configuration remembers copies of the data for each entry, so that it may in turn serve
+	 * as the previous configuration. Configurations from {@code load} remember nothing, so as not to use
+	 * more memory, and reloading against them reuses only unchanged sub-sections.
+	 *
+	 */
+	@Override
+	public final C reload(ReadableByteChannel readChannel, C auxiliaryEntries, C previous)
+			throws IOException, InvalidConfigException {
+		return fromRawMap(loadMap(readChannel), auxiliaryEntries, previous, true);
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The map loaded from the file is compared against the map from which the previous configuration
+	 * was loaded, entry by entry. Unchanged entries and sub-sections are reused from the previous configuration. <br>
+	 * <br>
+	 * The reloaded configuration remembers copies of the data for each entry, so that it may in turn serve
+	 * as the previous configuration. Configurations from {@code load} remember nothing, so as not to use
+	 * more memory, and reloading against them reuses only unchanged sub-sections.
+	 *
+	 */
+	@Override
+	public final C reload(Path path, C auxiliaryEntries, C previous) throws IOException, InvalidConfigException {
+		return fromRawMap(loadMap(path), auxiliaryEntries, previous, true);
+	}
+
 	@Override
 	public final C loadDefaults() {
 		ProcessorBase<C> processor = new DefaultsProcessor<>(options, definition);
@@ -142,6 +226,45 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 		}
 	}
 
+	/**
+	 * Returns a configuration factory which keeps a binary snapshot of each file it loads, so that
+	 * an unchanged file need not be parsed again, even after a restart. <br>
+	 * <br>
+	 * After a file is successfully loaded from a path, the loaded map is written to a snapshot file
+	 * beside it, named after the file with the suffix {@literal .snapshot}. The snapshot is keyed by
+	 * a digest of the file's bytes, the shape of the configuration interface, the class of this factory,
+	 * and its {@link #snapshotFormatKey()}. When the file is next loaded and the key matches, the map is
+	 * read from the snapshot instead of the file being parsed; otherwise, the file is loaded normally and
+	 * the snapshot replaced. <br>
+	 * <br>
+	 * Values are still processed as usual, so that serialisers and validators run on every load.
+	 * Snapshots are not used at all if this factory does not identify its format options. A snapshot
+	 * is not written if the format produces values other than strings, booleans, numbers, characters,
+	 * maps, lists and sets. <br>
+	 * <br>
+	 * Only loading from a {@code Path} uses snapshots. All other methods behave as they would on this factory.
+	 *
+	 * @return a configuration factory which uses snapshots
+	 */
+	public final ConfigurationFactory<C> withSnapshots() {
+		return new SnapshotConfigurationFactory<>(this);
+	}
+
+	/**
+	 * Identifies the options of this format which affect the map loaded from given bytes, such as the
+	 * charset, for use in the keys of snapshots. See {@link #withSnapshots()} <br>
+	 * <br>
+	 * Returns null if the loaded map may depend on more than the bytes and these options, for example
+	 * on included files, or on options which cannot be identified. Snapshots are then not used. <br>
+	 * <br>
+	 * The default implementation returns null.
+	 *
+	 * @return the identity of the format options, or null if snapshots are unsupported
+	 */
+	protected String snapshotFormatKey() {
+		return null;
+	}
+
 	/**
 	 * Loads a map of config values from an input channel.
 	 *
@@ -166,12 +289,54 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 	public abstract Map<String, Object> loadMap(InputStream inputStream)
 			throws IOException, InvalidConfigException;
 
+	/**
+	 * Loads a map of config values from a file. <br>
+	 * <br>
+	 * The default implementation opens a {@code FileChannel} and delegates to
+	 * {@link #loadMap(ReadableByteChannel)}.
+	 *
+	 * @param path the path of the file from which to read
+	 * @return the hierarchical configuration map
+	 * @throws IOException            if an I/O error occurs
+	 * @throws InvalidConfigException if the configuration format dictates the data is not valid syntax.
+	 *                                Usually {@code ConfigFormatSyntaxException}
+	 */
+	public Map<String, Object> loadMap(Path path) throws IOException, InvalidConfigException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return loadMap(fileChannel);
+		}
+	}
+
 	private C fromRawMap(Map<String, Object> rawMap) throws InvalidConfigException {
 		return fromRawMap(rawMap, null);
 	}
 
-	private C fromRawMap(Map<String, Object> rawMap, C auxiliaryValues) throws InvalidConfigException {
-		return new MapProcessor<>(getOptions(), definition, rawMap, auxiliaryValues).createConfig();
+	C fromRawMap(Map<String, Object> rawMap, C auxiliaryValues) throws InvalidConfigException {
+		return fromRawMap(rawMap, auxiliaryValues, null, false);
+	}
+
+	C fromRawMap(Map<String, Object> rawMap, C auxiliaryValues, C previous, boolean retainSources)
+			throws InvalidConfigException {
+		return new MapProcessor<>(
+				getOptions(), definition, rawMap, auxiliaryValues, previous, sharedDefaults(), retainSources
+		).createConfig();
+	}
+
+	private Object sharedDefaults() {
+		if (!options.shareDefaultValues()) {
+			return null;
+		}
+		Object defaults = sharedDefaults;
+		if (defaults == null) {
+			try {
+				defaults = loadDefaults();
+			} catch (IllDefinedConfigException ex) {
+				defaults = NO_SHARED_DEFAULTS;
+			}
+			// Racing threads may load the defaults twice, which is harmless
+			sharedDefaults = defaults;
+		}
+		return (defaults == NO_SHARED_DEFAULTS) ? null : defaults;
 	}
 
 	/*
@@ -190,6 +355,12 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 		writeMap(toRawMap(configData), outputStream);
 	}
 
+	@Override
+	public final void write(C configData, Path path) throws IOException {
+		Objects.requireNonNull(getConfigClass().cast(configData), "configData");
+		writeMap(toRawMap(configData), path);
+	}
+
 	/**
 	 * Writes a map of config values to an output channel
 	 *
@@ -210,19 +381,162 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 	public abstract void writeMap(Map<String, Object> config, OutputStream outputStream)
 			throws IOException;
 
+	/**
+	 * Writes a map of config values to a file, creating the file if it does not exist and
+	 * replacing its contents otherwise. <br>
+	 * <br>
+	 * The default implementation opens a {@code FileChannel} and delegates to
+	 * {@link #writeMap(Map, WritableByteChannel)}.
+	 *
+	 * @param config the hierarchical configuration map
+	 * @param path the path of the file to which to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeMap(Map<String, Object> config, Path path) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeMap(config, fileChannel);
+		}
+	}
+
+	/**
+	 * Writes the default configuration data to an output channel. <br>
+	 * <br>
+	 * The defaults are rendered once, upon the first call to either {@code writeDefaults} method,
+	 * and the resulting bytes are reused thereafter.
+	 *
+	 * @param writeChannel the channel to which to write
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllDefinedConfigException if the defaults are not defined or ill defined
+	 */
+	@Override
+	public final void writeDefaults(WritableByteChannel writeChannel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(defaultsTemplate());
+		try (WritableByteChannel channel = writeChannel) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Writes the default configuration data to an output stream. <br>
+	 * <br>
+	 * The defaults are rendered once, upon the first call to either {@code writeDefaults} method,
+	 * and the resulting bytes are reused thereafter.
+	 *
+	 * @param outputStream the stream to which to write
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllDefinedConfigException if the defaults are not defined or ill defined
+	 */
+	@Override
+	public final void writeDefaults(OutputStream outputStream) throws IOException {
+		byte[] template = defaultsTemplate();
+		try (OutputStream stream = outputStream) {
+			stream.write(template);
+		}
+	}
+
+	private byte[] defaultsTemplate() throws IOException {
+		byte[] template = defaultsTemplate;
+		if (template == null) {
+			// Racing threads render identical bytes, so there is no harm in a duplicate render
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			writeMap(toRawMap(loadDefaults()), output);
+			defaultsTemplate = template = output.toByteArray();
+		}
+		return template;
+	}
+
+	@Override
+	public final boolean appendAuxiliaryEntries(C configData, Path path) throws IOException {
+		Objects.requireNonNull(getConfigClass().cast(configData), "configData");
+		Objects.requireNonNull(path, "path");
+		if (!supportsAppendingMap()) {
+			return false;
+		}
+		AppendableKeys appendableKeys = AppendableKeys.of(configData);
+		if (appendableKeys.keys().isEmpty()) {
+			return false;
+		}
+		ByteArrayOutputStream appendOutput = new ByteArrayOutputStream();
+		appendMap(createDeprocessor(configData).deprocessOnly(appendableKeys.keys()), Channels.newChannel(appendOutput));
+		byte[] appended = appendOutput.toByteArray();
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			long size = fileChannel.size();
+			if (!permitsAppending(path, appended, appendableKeys)) {
+				return false;
+			}
+			// Another writer may have changed the file since it was parsed
+			if (fileChannel.size() != size) {
+				return false;
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(appended);
+			long position = size;
+			while (buffer.hasRemaining()) {
+				position += fileChannel.write(buffer, position);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determines whether appending to existing data yields a document with the entries of both. Not every
+	 * document permits appending, such as one whose root is enclosed in braces, or which ends with a
+	 * document end marker. These are detected by parsing the combined document, whose keys should be
+	 * those of the loaded source data together with the appended keys.
+	 *
+	 * @param path the path of the existing data
+	 * @param appended the data to append
+	 * @param appendableKeys the keys of the loaded source data and of the appended data
+	 * @return true if appending is possible
+	 */
+	private boolean permitsAppending(Path path, byte[] appended, AppendableKeys appendableKeys) {
+		Map<String, Object> combinedMap;
+		try {
+			combinedMap = loadMap(new SequenceInputStream(
+					Files.newInputStream(path), new ByteArrayInputStream(appended)));
+		} catch (IOException | InvalidConfigException | RuntimeException ex) {
+			// Either the combined document is malformed or the file cannot be read. Rewriting it
+			// will replace a malformed document, or report the I/O error
+			return false;
+		}
+		Set<String> expectedKeys = new HashSet<>(appendableKeys.sourceKeys());
+		expectedKeys.addAll(appendableKeys.keys());
+		return combinedMap.keySet().equals(expectedKeys);
+	}
+
+	/**
+	 * Writes a map of config values to an output channel, to be appended to existing data, such that
+	 * the existing data combined with the appended data forms a valid document containing the entries
+	 * of both. Existing documents which cannot be so extended need not be considered, since the combined
+	 * document is parsed before any file is changed. <br>
+	 * <br>
+	 * The map contains only top level keys which are absent from the existing data. This method is
+	 * called only if {@link #supportsAppendingMap()} returns true. The default implementation throws
+	 * {@code UnsupportedOperationException}.
+	 *
+	 * @param config the hierarchical configuration map of entries to append
+	 * @param appendChannel the channel to which to append
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void appendMap(Map<String, Object> config, WritableByteChannel appendChannel) throws IOException {
+		throw new UnsupportedOperationException("Appending is not supported by " + getClass().getName());
+	}
+
 	private Map<String, Object> toRawMap(C configData) {
 		return createDeprocessor(configData).deprocess();
 	}
 
 	private DeprocessorBase<C> createDeprocessor(C configData) {
 		if (supportsCommentsThroughWrapper()) {
-			return new CommentedDeprocessor<>(definition, configData);
+			return new CommentedDeprocessor<>(writePlan, configData);
 		}
 		String pseudoCommentsSuffix = pseudoCommentsSuffix();
 		if (!pseudoCommentsSuffix.isEmpty()) {
-			return new AddCommentStringBeforeDeprocessor<>(definition, configData, pseudoCommentsSuffix);
+			return new AddCommentStringBeforeDeprocessor<>(writePlan, configData, pseudoCommentsSuffix);
 		}
-		return new SimpleDeprocessor<>(definition, configData);
+		return new SimpleDeprocessor<>(writePlan, configData);
 	}
 
 	/*
@@ -257,4 +571,14 @@ public abstract class ConfigurationFormatFactory<C> implements ConfigurationFact
 		return "";
 	}
 
+	/**
+	 * Whether this implementation can append entries to existing data of its format, as described by
+	 * {@link #appendMap(Map, WritableByteChannel)}. If true, {@code appendMap} must be implemented.
+	 *
+	 * @return true if appending is supported, false otherwise
+	 */
+	public boolean supportsAppendingMap() {
+		return false;
+	}
+
 }
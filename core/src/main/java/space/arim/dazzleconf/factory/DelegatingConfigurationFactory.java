@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 
 import space.arim.dazzleconf.ConfigurationFactory;
 import space.arim.dazzleconf.ConfigurationOptions;
@@ -62,6 +63,27 @@ abstract class DelegatingConfigurationFactory<C> implements ConfigurationFactory
 		return delegate().load(inputStream, auxiliaryEntries);
 	}
 
+	@Override
+	public C load(Path path) throws IOException, InvalidConfigException {
+		return delegate().load(path);
+	}
+
+	@Override
+	public C load(Path path, C auxiliaryEntries) throws IOException, InvalidConfigException {
+		return delegate().load(path, auxiliaryEntries);
+	}
+
+	@Override
+	public C reload(ReadableByteChannel readChannel, C auxiliaryEntries, C previous)
+			throws IOException, InvalidConfigException {
+		return delegate().reload(readChannel, auxiliaryEntries, previous);
+	}
+
+	@Override
+	public C reload(Path path, C auxiliaryEntries, C previous) throws IOException, InvalidConfigException {
+		return delegate().reload(path, auxiliaryEntries, previous);
+	}
+
 	@Override
 	public C loadDefaults() {
 		return delegate().loadDefaults();
@@ -76,5 +98,25 @@ abstract class DelegatingConfigurationFactory<C> implements ConfigurationFactory
 	public void write(C configData, OutputStream outputStream) throws IOException {
 		delegate().write(configData, outputStream);
 	}
+
+	@Override
+	public void write(C configData, Path path) throws IOException {
+		delegate().write(configData, path);
+	}
+
+	@Override
+	public void writeDefaults(WritableByteChannel writableChannel) throws IOException {
+		delegate().writeDefaults(writableChannel);
+	}
+
+	@Override
+	public void writeDefaults(OutputStream outputStream) throws IOException {
+		delegate().writeDefaults(outputStream);
+	}
+
+	@Override
+	public boolean appendAuxiliaryEntries(C configData, Path path) throws IOException {
+		return delegate().appendAuxiliaryEntries(configData, path);
+	}
 	
 }
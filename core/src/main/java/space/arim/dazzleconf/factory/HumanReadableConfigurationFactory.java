@@ -22,27 +22,39 @@ package space.arim.dazzleconf.factory;
 import space.arim.dazzleconf.ConfigurationOptions;
 import space.arim.dazzleconf.error.IllDefinedConfigException;
 import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.util.CharBufferReader;
+import space.arim.dazzleconf.internal.util.CodecBuffers;
+import space.arim.dazzleconf.internal.util.DecodingReader;
+import space.arim.dazzleconf.internal.util.EncodingWriter;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
-import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * Extension of {@link ConfigurationFormatFactory} which turns {@code ReadableByteChannel} and
  * {@code InputStream} into {@code Reader} and {@code WritableByteChannel} and {@code OutputStream}
- * into {@code Writer}. Performs buffering as well.
+ * into {@code Writer}. Performs buffering as well. <br>
+ * <br>
+ * Files are read in bulk, then decoded at once. <br>
+ * <br>
+ * Buffers and charset codecs are reused according to the {@link #bufferStrategy()}.
  *
  * @param <C> the type of the configuration
  */
@@ -68,6 +80,17 @@ public abstract class HumanReadableConfigurationFactory<C> extends Configuration
 	 */
 	public abstract Charset charset();
 
+	/**
+	 * Gets the strategy for reusing buffers and charset codecs across loads and writes. <br>
+	 * <br>
+	 * The default implementation returns {@link BufferStrategy#threadLocal()}
+	 *
+	 * @return the buffer strategy
+	 */
+	public BufferStrategy bufferStrategy() {
+		return BufferStrategy.threadLocal();
+	}
+
 	/*
 	 * Reading
 	 */
@@ -75,19 +98,98 @@ public abstract class HumanReadableConfigurationFactory<C> extends Configuration
 	@Override
 	public final Map<String, Object> loadMap(ReadableByteChannel readChannel)
 			throws IOException, InvalidConfigException {
-		return bufferedLoadMap(Channels.newReader(readChannel, charset().newDecoder(), -1));
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		try {
+			// Reports malformed input, as does a reader from Channels.newReader
+			return loadMapFrom(DecodingReader.fromChannel(
+					readChannel, buffers.decoder(charset(), CodingErrorAction.REPORT),
+					buffers.byteBuffer(), buffers.charBuffer()));
+		} finally {
+			bufferStrategy.release(buffers);
+		}
 	}
 
 	@Override
 	public final Map<String, Object> loadMap(InputStream inputStream)
 			throws IOException, InvalidConfigException {
-		return bufferedLoadMap(new InputStreamReader(inputStream, charset()));
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		try {
+			// Replaces malformed input, as does InputStreamReader
+			return loadMapFrom(DecodingReader.fromStream(
+					inputStream, buffers.decoder(charset(), CodingErrorAction.REPLACE),
+					buffers.byteBuffer(), buffers.charBuffer()));
+		} finally {
+			bufferStrategy.release(buffers);
+		}
+	}
+
+	@Override
+	public final Map<String, Object> loadMap(Path path) throws IOException, InvalidConfigException {
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		try {
+			CharBuffer content;
+			try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+				content = decodeFully(readFully(fileChannel, buffers.byteBuffer()), buffers);
+			}
+			return loadMapFrom(new CharBufferReader(content));
+		} finally {
+			bufferStrategy.release(buffers);
+		}
+	}
+
+	/**
+	 * Reads the whole file, using the pooled buffer if the file fits. Visible for testing
+	 */
+	static ByteBuffer readFully(SeekableByteChannel channel, ByteBuffer pooled) throws IOException {
+		long size = channel.size();
+		// Never mapped: a file with a live mapping cannot be truncated or replaced on some platforms,
+		// yet the same file is often rewritten soon after
+		if (size >= Integer.MAX_VALUE) {
+			throw new IOException("File too large to load: " + size + " bytes");
+		}
+		// The size may be inaccurate, for example if the file is being written
+		ByteBuffer buffer = (size < pooled.capacity()) ? pooled : ByteBuffer.allocate((int) size + 1);
+		while (channel.read(buffer) != -1) {
+			if (!buffer.hasRemaining()) {
+				ByteBuffer enlarged = ByteBuffer.allocate(buffer.capacity() * 2);
+				buffer.flip();
+				enlarged.put(buffer);
+				buffer = enlarged;
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Decodes all bytes, into the pooled character buffer if the result is sure to fit. Visible for testing
+	 */
+	CharBuffer decodeFully(ByteBuffer bytes, CodecBuffers buffers) throws IOException {
+		// Reports malformed input, as does a reader from Channels.newReader
+		CharsetDecoder decoder = buffers.decoder(charset(), CodingErrorAction.REPORT);
+		double maxChars = (double) bytes.remaining() * decoder.maxCharsPerByte();
+		CharBuffer pooled = buffers.charBuffer();
+		if (maxChars > pooled.capacity()) {
+			return decoder.decode(bytes);
+		}
+		CoderResult result = decoder.decode(bytes, pooled, true);
+		if (!result.isError()) {
+			result = decoder.flush(pooled);
+		}
+		if (!result.isUnderflow()) {
+			result.throwException();
+		}
+		pooled.flip();
+		return pooled;
 	}
 
-	private Map<String, Object> bufferedLoadMap(Reader reader) throws IOException, InvalidConfigException {
+	private Map<String, Object> loadMapFrom(Reader reader) throws IOException, InvalidConfigException {
 		Map<String, Object> map;
-		try (Reader unbuffered = reader; BufferedReader buffered = new BufferedReader(unbuffered)) {
-			map = loadMap(buffered);
+		try (Reader toClose = reader) {
+			map = loadMap(toClose);
 		}
 		return Objects.requireNonNull(map, "Subclass returned null map from #loadMap");
 	}
@@ -111,18 +213,45 @@ public abstract class HumanReadableConfigurationFactory<C> extends Configuration
 	@Override
 	public final void writeMap(Map<String, Object> config, WritableByteChannel writeChannel)
 			throws IOException {
-		bufferedWriteMap(config, Channels.newWriter(writeChannel, charset().newEncoder(), -1));
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		try (Writer writer = new EncodingWriter(
+				writeChannel, buffers.encoder(charset(), CodingErrorAction.REPORT),
+				buffers.charBuffer(), buffers.byteBuffer())) {
+			writeMap(config, writer);
+		} finally {
+			bufferStrategy.release(buffers);
+		}
 	}
 
 	@Override
 	public final void writeMap(Map<String, Object> config, OutputStream outputStream)
 			throws IOException {
-		bufferedWriteMap(config, new OutputStreamWriter(outputStream, charset()));
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		// Replaces unmappable characters, as does OutputStreamWriter
+		try (Writer writer = new EncodingWriter(
+				outputStream, buffers.encoder(charset(), CodingErrorAction.REPLACE),
+				buffers.charBuffer(), buffers.byteBuffer())) {
+			writeMap(config, writer);
+		} finally {
+			bufferStrategy.release(buffers);
+		}
 	}
 
-	private void bufferedWriteMap(Map<String, Object> config, Writer writer) throws IOException {
-		try (Writer unbuffered = writer; BufferedWriter buffered = new BufferedWriter(unbuffered)) {
-			writeMap(config, buffered);
+	@Override
+	public final void writeMap(Map<String, Object> config, Path path) throws IOException {
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		// A direct buffer is written to the file without an intermediate copy
+		try (FileChannel fileChannel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			 Writer writer = new EncodingWriter(
+					 fileChannel, buffers.encoder(charset(), CodingErrorAction.REPORT),
+					 buffers.charBuffer(), buffers.directByteBuffer())) {
+			writeMap(config, writer);
+		} finally {
+			bufferStrategy.release(buffers);
 		}
 	}
 
@@ -135,4 +264,32 @@ public abstract class HumanReadableConfigurationFactory<C> extends Configuration
 	 */
 	public abstract void writeMap(Map<String, Object> config, Writer writer) throws IOException;
 
+	@Override
+	public final void appendMap(Map<String, Object> config, WritableByteChannel appendChannel) throws IOException {
+		BufferStrategy bufferStrategy = bufferStrategy();
+		CodecBuffers buffers = bufferStrategy.acquire();
+		try (Writer writer = new EncodingWriter(
+				appendChannel, buffers.encoder(charset(), CodingErrorAction.REPORT),
+				buffers.charBuffer(), buffers.byteBuffer())) {
+			appendMap(config, writer);
+		} finally {
+			bufferStrategy.release(buffers);
+		}
+	}
+
+	/**
+	 * Appends a map of config values to a writer positioned at the end of existing data. See
+	 * {@link #appendMap(Map, WritableByteChannel)} for the requirements of the written output. <br>
+	 * <br>
+	 * Called only if {@link #supportsAppendingMap()} returns true. The default implementation throws
+	 * {@code UnsupportedOperationException}.
+	 *
+	 * @param config the hierarchical configuration map of entries to append
+	 * @param writer the writer
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void appendMap(Map<String, Object> config, Writer writer) throws IOException {
+		throw new UnsupportedOperationException("Appending is not supported by " + getClass().getName());
+	}
+
 }
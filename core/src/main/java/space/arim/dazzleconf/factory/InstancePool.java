@@ -0,0 +1,207 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.factory;
+
+import space.arim.dazzleconf.internal.util.AsyncTasks;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A pool of instances which are expensive to create, but which may only be used by one thread
+ * at a time. Backs the {@link BufferStrategy}, and may be used by format implementations for
+ * their own reusable objects. <br>
+ * <br>
+ * An instance is taken for exclusive use with {@link #acquire()} and given back with
+ * {@link #release(Object)}. If no idle instance is available, for example because all are in use,
+ * a fresh instance is created. All pools are thread safe.
+ *
+ * @param <T> the type of pooled instance
+ */
+public abstract class InstancePool<T> {
+
+	final Supplier<T> factory;
+
+	InstancePool(Supplier<T> factory) {
+		this.factory = Objects.requireNonNull(factory, "factory");
+	}
+
+	/**
+	 * Creates a pool which keeps an instance per thread. This suits a modest number of long-lived threads. <br>
+	 * <br>
+	 * Virtual threads, such as those of the default async executor, are typically created per task. On them,
+	 * instances are instead shared through a bounded pool of one instance per processor.
+	 *
+	 * @param factory creates new instances
+	 * @param <T> the type of pooled instance
+	 * @return the thread local pool
+	 */
+	public static <T> InstancePool<T> threadLocal(Supplier<T> factory) {
+		return threadLocal(factory, AsyncTasks::isVirtualThread);
+	}
+
+	static <T> InstancePool<T> threadLocal(Supplier<T> factory, BooleanSupplier onVirtualThread) {
+		return new ThreadLocalPool<>(factory, onVirtualThread);
+	}
+
+	/**
+	 * Creates a pool which shares up to the given number of idle instances between all threads.
+	 * Suitable for use with virtual threads.
+	 *
+	 * @param factory creates new instances
+	 * @param capacity the maximum number of idle instances to retain
+	 * @param <T> the type of pooled instance
+	 * @return the bounded pool
+	 * @throws IllegalArgumentException if {@code capacity} is not positive
+	 */
+	public static <T> InstancePool<T> boundedPool(Supplier<T> factory, int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		return new BoundedPool<>(factory, capacity);
+	}
+
+	/**
+	 * Creates a pool which never reuses instances
+	 *
+	 * @param factory creates new instances
+	 * @param <T> the type of pooled instance
+	 * @return the pool which does not reuse
+	 */
+	public static <T> InstancePool<T> none(Supplier<T> factory) {
+		return new NoPool<>(factory);
+	}
+
+	/**
+	 * Takes an instance for exclusive use until released
+	 *
+	 * @return the instance
+	 */
+	public abstract T acquire();
+
+	/**
+	 * Gives back an instance obtained from {@link #acquire()}
+	 *
+	 * @param instance the instance
+	 */
+	public abstract void release(T instance);
+
+	private static final class ThreadLocalPool<T> extends InstancePool<T> {
+
+		private final ThreadLocal<Slot<T>> slot = ThreadLocal.withInitial(Slot::new);
+		private final BooleanSupplier onVirtualThread;
+		/** Used instead of thread locals on virtual threads */
+		private final BoundedPool<T> virtualThreadPool;
+
+		ThreadLocalPool(Supplier<T> factory, BooleanSupplier onVirtualThread) {
+			super(factory);
+			this.onVirtualThread = onVirtualThread;
+			virtualThreadPool = new BoundedPool<>(factory, Runtime.getRuntime().availableProcessors());
+		}
+
+		@Override
+		public T acquire() {
+			if (onVirtualThread.getAsBoolean()) {
+				return virtualThreadPool.acquire();
+			}
+			Slot<T> slot = this.slot.get();
+			T instance = slot.instance;
+			if (instance == null) {
+				return factory.get();
+			}
+			slot.instance = null;
+			return instance;
+		}
+
+		@Override
+		public void release(T instance) {
+			if (onVirtualThread.getAsBoolean()) {
+				virtualThreadPool.release(instance);
+				return;
+			}
+			Slot<T> slot = this.slot.get();
+			if (slot.instance == null) {
+				slot.instance = instance;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "threadLocal";
+		}
+
+		private static final class Slot<T> {
+			T instance;
+		}
+	}
+
+	private static final class BoundedPool<T> extends InstancePool<T> {
+
+		private final BlockingQueue<T> idle;
+		private final int capacity;
+
+		BoundedPool(Supplier<T> factory, int capacity) {
+			super(factory);
+			idle = new ArrayBlockingQueue<>(capacity);
+			this.capacity = capacity;
+		}
+
+		@Override
+		public T acquire() {
+			T instance = idle.poll();
+			return (instance == null) ? factory.get() : instance;
+		}
+
+		@Override
+		public void release(T instance) {
+			idle.offer(instance);
+		}
+
+		@Override
+		public String toString() {
+			return "boundedPool(" + capacity + ')';
+		}
+	}
+
+	private static final class NoPool<T> extends InstancePool<T> {
+
+		NoPool(Supplier<T> factory) {
+			super(factory);
+		}
+
+		@Override
+		public T acquire() {
+			return factory.get();
+		}
+
+		@Override
+		public void release(T instance) {
+		}
+
+		@Override
+		public String toString() {
+			return "none";
+		}
+	}
+
+}
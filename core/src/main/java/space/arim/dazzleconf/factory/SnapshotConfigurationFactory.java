@@ -0,0 +1,107 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.factory;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.error.InvalidConfigException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuration factory which snapshots the maps it loads from files. See
+ * {@link ConfigurationFormatFactory#withSnapshots()}
+ *
+ * @param <C> the type of the configuration
+ */
+final class SnapshotConfigurationFactory<C> extends DelegatingConfigurationFactory<C> {
+
+	private final ConfigurationFormatFactory<C> formatFactory;
+
+	SnapshotConfigurationFactory(ConfigurationFormatFactory<C> formatFactory) {
+		this.formatFactory = formatFactory;
+	}
+
+	@Override
+	ConfigurationFactory<C> delegate() {
+		return formatFactory;
+	}
+
+	@Override
+	public C load(Path path) throws IOException, InvalidConfigException {
+		return load(path, null, null, false);
+	}
+
+	@Override
+	public C load(Path path, C auxiliaryEntries) throws IOException, InvalidConfigException {
+		Objects.requireNonNull(getConfigClass().cast(auxiliaryEntries), "auxiliaryEntries");
+		return load(path, auxiliaryEntries, null, false);
+	}
+
+	@Override
+	public C reload(Path path, C auxiliaryEntries, C previous) throws IOException, InvalidConfigException {
+		return load(path, auxiliaryEntries, previous, true);
+	}
+
+	private C load(Path path, C auxiliaryEntries, C previous, boolean retainSources)
+			throws IOException, InvalidConfigException {
+		String formatKey = formatFactory.snapshotFormatKey();
+		if (formatKey == null) {
+			// The loaded map may depend on more than the file, so it cannot be snapshotted
+			return formatFactory.fromRawMap(formatFactory.loadMap(path), auxiliaryEntries, previous, retainSources);
+		}
+		byte[] source = Files.readAllBytes(path);
+		byte[] key = ConfigSnapshot.key(formatFactory, formatKey, formatFactory.definition(), source);
+		Path snapshotPath = snapshotPath(path);
+
+		Map<String, Object> snapshotMap = ConfigSnapshot.read(snapshotPath, key);
+		if (snapshotMap != null) {
+			return formatFactory.fromRawMap(snapshotMap, auxiliaryEntries, previous, retainSources);
+		}
+		// Parse the same bytes which were fingerprinted, in case the file has since changed
+		// Through a channel, which reports malformed input as loading the file does
+		Map<String, Object> rawMap = formatFactory.loadMap(Channels.newChannel(new ByteArrayInputStream(source)));
+		C configData = formatFactory.fromRawMap(rawMap, auxiliaryEntries, previous, retainSources);
+		try {
+			ConfigSnapshot.write(snapshotPath, key, rawMap);
+		} catch (IOException ignored) {
+			// The snapshot is only a cache. The next load will parse the file and try again
+		}
+		return configData;
+	}
+
+	static Path snapshotPath(Path path) {
+		return path.resolveSibling(path.getFileName() + ".snapshot");
+	}
+
+	@Override
+	public String toString() {
+		return "SnapshotConfigurationFactory{" +
+				"formatFactory=" + formatFactory +
+				'}';
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.helper;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.internal.ConfEntry;
+import space.arim.dazzleconf.internal.ConfigurationDefinition;
+import space.arim.dazzleconf.internal.DefinitionCache;
+import space.arim.dazzleconf.internal.type.ReturnType;
+import space.arim.dazzleconf.internal.type.SimpleSubSectionReturnType;
+import space.arim.dazzleconf.internal.type.SubSectionCollectionReturnType;
+import space.arim.dazzleconf.internal.type.SubSectionMapReturnType;
+import space.arim.dazzleconf.internal.util.ConfigurationInvoker;
+import space.arim.dazzleconf.internal.util.ImmutableCollections;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The entries which differ between two configurations. <br>
+ * <br>
+ * Entries are identified by their key path: the keys of the enclosing sub-sections and the key of
+ * the entry itself, joined with {@literal '.'}. Changes within a sub-section are reported for each
+ * changed entry of the sub-section. A change within a collection or map of sub-sections is reported
+ * for the collection or map as a whole. <br>
+ * <br>
+ * Values are compared with {@code equals}, except that values which are the same instance are
+ * not compared further. This makes comparing configurations which reuse unchanged values cheap.
+ *
+ * @param <C> the type of the configuration
+ */
+public final class ConfigDiff<C> {
+
+	private final C previous;
+	private final C current;
+	private final Set<String> changedPaths;
+
+	private ConfigDiff(C previous, C current, Set<String> changedPaths) {
+		this.previous = previous;
+		this.current = current;
+		this.changedPaths = changedPaths;
+	}
+
+	/**
+	 * Determines the entries which differ between two configurations
+	 *
+	 * @param factory the configuration factory, whose options define the configuration entries
+	 * @param previous the previous configuration
+	 * @param current the current configuration
+	 * @param <C> the type of the configuration
+	 * @return the differences between the configurations
+	 * @throws NullPointerException if any argument is null
+	 */
+	public static <C> ConfigDiff<C> between(ConfigurationFactory<C> factory, C previous, C current) {
+		return between(DefinitionCache.definitionFor(factory), previous, current);
+	}
+
+	private static <C> ConfigDiff<C> between(ConfigurationDefinition<C> definition, C previous, C current) {
+		Objects.requireNonNull(previous, "previous");
+		Objects.requireNonNull(current, "current");
+		Set<String> changedPaths = new LinkedHashSet<>();
+		if (previous != current) {
+			collectChanges(definition, previous, current, "", changedPaths);
+		}
+		return new ConfigDiff<>(previous, current, Collections.unmodifiableSet(changedPaths));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <C> void collectChanges(ConfigurationDefinition<C> definition, Object previous, Object current,
+										   String pathPrefix, Set<String> changedPaths) {
+		ConfigurationInvoker<C> previousInvoker = new ConfigurationInvoker<>((C) previous);
+		ConfigurationInvoker<C> currentInvoker = new ConfigurationInvoker<>((C) current);
+		for (ConfEntry entry : definition.getEntries()) {
+			Object previousValue = previousInvoker.getEntryValue(entry);
+			Object currentValue = currentInvoker.getEntryValue(entry);
+			if (previousValue == currentValue) {
+				continue;
+			}
+			String path = pathPrefix + entry.getKey();
+			ReturnType<?> returnType = entry.returnType();
+			if (returnType instanceof SimpleSubSectionReturnType) {
+				collectChanges(((SimpleSubSectionReturnType<?>) returnType).configDefinition(),
+						previousValue, currentValue, path + '.', changedPaths);
+			} else if (!valuesEqual(returnType, previousValue, currentValue)) {
+				changedPaths.add(path);
+			}
+		}
+	}
+
+	private static boolean valuesEqual(ReturnType<?> returnType, Object previousValue, Object currentValue) {
+		if (returnType instanceof SubSectionCollectionReturnType) {
+			ConfigurationDefinition<?> definition = ((SubSectionCollectionReturnType<?, ?>) returnType).configDefinition();
+			Collection<?> previousCollection = (Collection<?>) previousValue;
+			Collection<?> currentCollection = (Collection<?>) currentValue;
+			if (previousCollection.size() != currentCollection.size()) {
+				return false;
+			}
+			Iterator<?> previousIterator = previousCollection.iterator();
+			Iterator<?> currentIterator = currentCollection.iterator();
+			while (previousIterator.hasNext()) {
+				if (!sectionsEqual(definition, previousIterator.next(), currentIterator.next())) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (returnType instanceof SubSectionMapReturnType) {
+			ConfigurationDefinition<?> definition = ((SubSectionMapReturnType<?, ?>) returnType).configDefinition();
+			Map<?, ?> previousMap = (Map<?, ?>) previousValue;
+			Map<?, ?> currentMap = (Map<?, ?>) currentValue;
+			if (!previousMap.keySet().equals(currentMap.keySet())) {
+				return false;
+			}
+			for (Map.Entry<?, ?> previousEntry : previousMap.entrySet()) {
+				if (!sectionsEqual(definition, previousEntry.getValue(), currentMap.get(previousEntry.getKey()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return previousValue.equals(currentValue);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <C> boolean sectionsEqual(ConfigurationDefinition<C> definition, Object previous, Object current) {
+		if (previous == current) {
+			return true;
+		}
+		ConfigurationInvoker<C> previousInvoker = new ConfigurationInvoker<>((C) previous);
+		ConfigurationInvoker<C> currentInvoker = new ConfigurationInvoker<>((C) current);
+		for (ConfEntry entry : definition.getEntries()) {
+			Object previousValue = previousInvoker.getEntryValue(entry);
+			Object currentValue = currentInvoker.getEntryValue(entry);
+			if (previousValue == currentValue) {
+				continue;
+			}
+			ReturnType<?> returnType = entry.returnType();
+			boolean equal = (returnType instanceof SimpleSubSectionReturnType)
+					? sectionsEqual(((SimpleSubSectionReturnType<?>) returnType).configDefinition(), previousValue, currentValue)
+					: valuesEqual(returnType, previousValue, currentValue);
+			if (!equal) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a listener for a {@link ConfigHolder} which is notified only if any of the given key paths
+	 * changed. A key path changes if the entry at the path changed, or, if the path is of a sub-section,
+	 * if any entry within the sub-section changed. <br>
+	 * <br>
+	 * This allows each subsystem to reinitialise only when its own configuration changed.
+	 *
+	 * @param factory the configuration factory, whose options define the configuration entries
+	 * @param paths the key paths of interest
+	 * @param listener the listener, receiving the differences between the configurations
+	 * @param <C> the type of the configuration
+	 * @return a listener which may be added to a config holder
+	 * @throws NullPointerException if any argument is null
+	 */
+	public static <C> ConfigHolder.Listener<C> listener(ConfigurationFactory<C> factory, Collection<String> paths,
+														Consumer<? super ConfigDiff<C>> listener) {
+		ConfigurationDefinition<C> definition = DefinitionCache.definitionFor(factory);
+		List<String> pathsCopy = ImmutableCollections.listOf(paths);
+		Objects.requireNonNull(listener, "listener");
+		return (previous, current, version) -> {
+			ConfigDiff<C> diff = between(definition, previous, current);
+			if (diff.hasChangedAny(pathsCopy)) {
+				listener.accept(diff);
+			}
+		};
+	}
+
+	/**
+	 * Gets the previous configuration
+	 *
+	 * @return the previous configuration
+	 */
+	public C previous() {
+		return previous;
+	}
+
+	/**
+	 * Gets the current configuration
+	 *
+	 * @return the current configuration
+	 */
+	public C current() {
+		return current;
+	}
+
+	/**
+	 * Gets the key paths of all changed entries, in definition order
+	 *
+	 * @return the changed key paths, immutable
+	 */
+	public Set<String> changedPaths() {
+		return changedPaths;
+	}
+
+	/**
+	 * Whether no entries changed
+	 *
+	 * @return true if the configurations have the same values
+	 */
+	public boolean isEmpty() {
+		return changedPaths.isEmpty();
+	}
+
+	/**
+	 * Whether the entry at the given key path changed, or, if the path is of a sub-section,
+	 * whether any entry within the sub-section changed
+	 *
+	 * @param path the key path
+	 * @return true if changed
+	 */
+	public boolean hasChanged(String path) {
+		if (changedPaths.contains(path)) {
+			return true;
+		}
+		String sectionPrefix = path + '.';
+		for (String changedPath : changedPaths) {
+			if (changedPath.startsWith(sectionPrefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether any of the given key paths changed. See {@link #hasChanged(String)}
+	 *
+	 * @param paths the key paths
+	 * @return true if any changed
+	 */
+	public boolean hasChangedAny(Collection<String> paths) {
+		for (String path : paths) {
+			if (hasChanged(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "ConfigDiff{" +
+				"changedPaths=" + changedPaths +
+				'}';
+	}
+
+}
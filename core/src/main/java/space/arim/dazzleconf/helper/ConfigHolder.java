@@ -0,0 +1,300 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.helper;
+
+import space.arim.dazzleconf.internal.util.AsyncTasks;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current configuration for sharing across threads, and publishes new configurations
+ * as they are reloaded. <br>
+ * <br>
+ * Reading the configuration through {@link #current()} is a single volatile read, and never blocks,
+ * even while a reload publishes a new configuration. Each publication increments the version, so
+ * that readers may tell whether the configuration changed between two reads, and reloads may
+ * publish conditionally through {@link #compareAndPublish(long, Object)}. <br>
+ * <br>
+ * Listeners are notified of publications on the listener executor, never on the publishing
+ * thread. Notifications are delivered one at a time, in order of version. If configurations are
+ * published faster than listeners are notified, intermediate versions are skipped: listeners are
+ * then notified of the change from the last configuration they saw to the latest one.
+ *
+ * @param <C> the type of the configuration
+ */
+public final class ConfigHolder<C> {
+
+	private final AtomicReference<Published<C>> published;
+	private final Executor listenerExecutor;
+	private final CopyOnWriteArrayList<Listener<? super C>> listeners = new CopyOnWriteArrayList<>();
+
+	private final AtomicBoolean notifying = new AtomicBoolean();
+	// Only accessed by the thread delivering notifications
+	private Published<C> lastNotified;
+
+	/**
+	 * Creates from an initial configuration, notifying listeners on the default executor. See
+	 * {@link space.arim.dazzleconf.ConfigurationFactory#loadAsync(java.nio.file.Path)} for the default executor.
+	 *
+	 * @param initial the initial configuration, which becomes version 1
+	 * @throws NullPointerException if {@code initial} is null
+	 */
+	public ConfigHolder(C initial) {
+		this(initial, AsyncTasks.defaultExecutor());
+	}
+
+	/**
+	 * Creates from an initial configuration and the executor on which to notify listeners
+	 *
+	 * @param initial the initial configuration, which becomes version 1
+	 * @param listenerExecutor the executor on which to notify listeners
+	 * @throws NullPointerException if {@code initial} or {@code listenerExecutor} is null
+	 */
+	public ConfigHolder(C initial, Executor listenerExecutor) {
+		this(new Published<>(Objects.requireNonNull(initial, "initial"), 1L), listenerExecutor);
+	}
+
+	/**
+	 * Creates a holder to which nothing is yet published, for use by helpers which publish
+	 * their initial configuration before exposing the holder
+	 *
+	 * @param listenerExecutor the executor on which to notify listeners
+	 */
+	ConfigHolder(Executor listenerExecutor) {
+		this(new Published<>(null, 0L), listenerExecutor);
+	}
+
+	private ConfigHolder(Published<C> initial, Executor listenerExecutor) {
+		this.published = new AtomicReference<>(initial);
+		this.lastNotified = initial;
+		this.listenerExecutor = Objects.requireNonNull(listenerExecutor, "listenerExecutor");
+	}
+
+	/**
+	 * Gets the current configuration
+	 *
+	 * @return the most recently published configuration
+	 */
+	public C current() {
+		return published.get().configData;
+	}
+
+	/**
+	 * Gets the version of the current configuration. The version starts at 1 and increases by 1
+	 * with each publication
+	 *
+	 * @return the current version
+	 */
+	public long version() {
+		return published.get().version;
+	}
+
+	/**
+	 * Gets the current configuration together with its version, read atomically
+	 *
+	 * @return the current configuration and version
+	 */
+	public Published<C> published() {
+		return published.get();
+	}
+
+	/**
+	 * Publishes a new configuration. If the configuration is the same instance as the current
+	 * configuration, nothing is published and the version is unchanged.
+	 *
+	 * @param configData the configuration to publish
+	 * @return the version of the published configuration
+	 * @throws NullPointerException if {@code configData} is null
+	 */
+	public long publish(C configData) {
+		Objects.requireNonNull(configData, "configData");
+		while (true) {
+			Published<C> previous = published.get();
+			if (previous.configData == configData) {
+				return previous.version;
+			}
+			Published<C> next = new Published<>(configData, previous.version + 1L);
+			if (published.compareAndSet(previous, next)) {
+				scheduleNotification();
+				return next.version;
+			}
+		}
+	}
+
+	/**
+	 * Publishes a new configuration, provided the current version is the expected version. This
+	 * prevents a slow reload from overwriting a configuration published since the reload began.
+	 *
+	 * @param expectedVersion the expected current version
+	 * @param configData the configuration to publish
+	 * @return true if published, false if the current version was not the expected version
+	 * @throws NullPointerException if {@code configData} is null
+	 */
+	public boolean compareAndPublish(long expectedVersion, C configData) {
+		Objects.requireNonNull(configData, "configData");
+		Published<C> previous = published.get();
+		if (previous.version != expectedVersion) {
+			return false;
+		}
+		if (previous.configData == configData) {
+			return true;
+		}
+		Published<C> next = new Published<>(configData, expectedVersion + 1L);
+		if (!published.compareAndSet(previous, next)) {
+			return false;
+		}
+		scheduleNotification();
+		return true;
+	}
+
+	/**
+	 * Adds a listener, which will be notified of subsequent publications
+	 *
+	 * @param listener the listener
+	 * @throws NullPointerException if {@code listener} is null
+	 */
+	public void addListener(Listener<? super C> listener) {
+		listeners.add(Objects.requireNonNull(listener, "listener"));
+	}
+
+	/**
+	 * Removes a listener
+	 *
+	 * @param listener the listener
+	 * @return true if the listener was removed, false if it was not added
+	 */
+	public boolean removeListener(Listener<? super C> listener) {
+		return listeners.remove(listener);
+	}
+
+	private void scheduleNotification() {
+		if (notifying.compareAndSet(false, true)) {
+			try {
+				listenerExecutor.execute(this::deliverNotifications);
+			} catch (RuntimeException ex) {
+				notifying.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private void deliverNotifications() {
+		Published<C> latest;
+		try {
+			while ((latest = published.get()) != lastNotified) {
+				Published<C> previous = lastNotified;
+				lastNotified = latest;
+				if (previous.configData == null) {
+					// The initial publication is not a change
+					continue;
+				}
+				for (Listener<? super C> listener : listeners) {
+					try {
+						listener.configChanged(previous.configData, latest.configData, latest.version);
+					} catch (RuntimeException ex) {
+						Thread thread = Thread.currentThread();
+						thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+					}
+				}
+			}
+		} finally {
+			notifying.set(false);
+		}
+		// Another publication may have happened after the last check, but before the flag was reset
+		if (published.get() != latest) {
+			scheduleNotification();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConfigHolder{" +
+				"published=" + published.get() +
+				", listeners=" + listeners +
+				'}';
+	}
+
+	/**
+	 * A published configuration together with its version
+	 *
+	 * @param <C> the type of the configuration
+	 */
+	public static final class Published<C> {
+
+		private final C configData;
+		private final long version;
+
+		Published(C configData, long version) {
+			this.configData = configData;
+			this.version = version;
+		}
+
+		/**
+		 * Gets the configuration
+		 *
+		 * @return the configuration
+		 */
+		public C configData() {
+			return configData;
+		}
+
+		/**
+		 * Gets the version
+		 *
+		 * @return the version
+		 */
+		public long version() {
+			return version;
+		}
+
+		@Override
+		public String toString() {
+			return "Published{" +
+					"configData=" + configData +
+					", version=" + version +
+					'}';
+		}
+	}
+
+	/**
+	 * Listener for publications of new configurations
+	 *
+	 * @param <C> the type of the configuration
+	 */
+	@FunctionalInterface
+	public interface Listener<C> {
+
+		/**
+		 * Called after a new configuration is published
+		 *
+		 * @param previous the previously published configuration
+		 * @param current the newly published configuration
+		 * @param version the version of the newly published configuration
+		 */
+		void configChanged(C previous, C current, long version);
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.helper;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.util.AsyncTasks;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Helper for loading many configuration files of the same type from a single directory,
+ * such as one file per tenant or world. <br>
+ * <br>
+ * Files are selected by a glob pattern and loaded in parallel on an executor, all using the same
+ * {@code ConfigurationFactory}. A file which fails to load does not prevent the others from loading;
+ * its failure is reported in the {@link Result}. <br>
+ * <br>
+ * The directory remembers the files it last loaded successfully. {@link #refresh()} loads only files
+ * which changed since, judging by their size, modification time and a checksum of their contents.
+ * Unlike {@link ConfigurationHelper}, files are neither created nor updated with missing keys.
+ *
+ * @param <C> the type of the configuration
+ */
+public final class ConfigurationDirectory<C> {
+
+	private final Path directory;
+	private final String glob;
+	private final ConfigurationFactory<C> factory;
+	private final Executor executor;
+
+	private volatile Map<String, LoadedFile<C>> lastLoaded = Collections.emptyMap();
+
+	/**
+	 * Creates from a directory, glob pattern, {@code ConfigurationFactory} and executor
+	 *
+	 * @param directory the directory containing the configuration files
+	 * @param glob the glob pattern matching file names within the directory, such as {@literal "*.yml"}
+	 * @param factory the configuration factory
+	 * @param executor the executor on which to load files
+	 */
+	public ConfigurationDirectory(Path directory, String glob, ConfigurationFactory<C> factory, Executor executor) {
+		this.directory = Objects.requireNonNull(directory, "directory");
+		this.glob = Objects.requireNonNull(glob, "glob");
+		this.factory = Objects.requireNonNull(factory, "factory");
+		this.executor = Objects.requireNonNull(executor, "executor");
+	}
+
+	/**
+	 * Gets the configuration factory
+	 *
+	 * @return the configuration factory
+	 */
+	public ConfigurationFactory<C> getFactory() {
+		return factory;
+	}
+
+	/**
+	 * Loads all matching files, regardless of whether they changed since last loaded. Blocks until
+	 * every file is loaded or has failed.
+	 *
+	 * @return the result
+	 * @throws IOException if an I/O error occurs listing the directory
+	 */
+	public Result<C> loadAll() throws IOException {
+		return load(Collections.emptyMap());
+	}
+
+	/**
+	 * Loads matching files which changed since they were last loaded successfully, and reuses the
+	 * previously loaded configuration for the others. Blocks until every changed file is loaded or has failed.
+	 *
+	 * @return the result, including both reloaded and reused configurations
+	 * @throws IOException if an I/O error occurs listing the directory
+	 */
+	public Result<C> refresh() throws IOException {
+		return load(lastLoaded);
+	}
+
+	private Result<C> load(Map<String, LoadedFile<C>> previous) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+			for (Path file : stream) {
+				if (Files.isRegularFile(file)) {
+					files.add(file);
+				}
+			}
+		}
+		Map<String, CompletableFuture<LoadedFile<C>>> futures = new HashMap<>();
+		for (Path file : files) {
+			String fileName = file.getFileName().toString();
+			LoadedFile<C> previousFile = previous.get(fileName);
+			futures.put(fileName, AsyncTasks.supply(() -> loadFile(file, previousFile), executor));
+		}
+		Map<String, LoadedFile<C>> loaded = new HashMap<>();
+		Map<String, C> configs = new TreeMap<>();
+		Map<String, Exception> failures = new TreeMap<>();
+		for (Map.Entry<String, CompletableFuture<LoadedFile<C>>> future : futures.entrySet()) {
+			String fileName = future.getKey();
+			LoadedFile<C> loadedFile;
+			try {
+				loadedFile = future.getValue().join();
+			} catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof Exception) {
+					failures.put(fileName, (Exception) cause);
+					continue;
+				}
+				throw ex;
+			}
+			loaded.put(fileName, loadedFile);
+			configs.put(fileName, loadedFile.configData);
+		}
+		lastLoaded = loaded;
+		return new Result<>(configs, failures);
+	}
+
+	private LoadedFile<C> loadFile(Path file, LoadedFile<C> previousFile)
+			throws IOException, InvalidConfigException {
+		if (previousFile != null && previousFile.fingerprint.isUnchanged(file)) {
+			return previousFile;
+		}
+		FileFingerprint fingerprint = FileFingerprint.read(file);
+		return new LoadedFile<>(fingerprint, factory.load(file));
+	}
+
+	private static final class LoadedFile<C> {
+
+		final FileFingerprint fingerprint;
+		final C configData;
+
+		LoadedFile(FileFingerprint fingerprint, C configData) {
+			this.fingerprint = fingerprint;
+			this.configData = configData;
+		}
+	}
+
+	/**
+	 * The outcome of loading a directory. Immutable
+	 *
+	 * @param <C> the type of the configuration
+	 */
+	public static final class Result<C> {
+
+		private final Map<String, C> configs;
+		private final Map<String, Exception> failures;
+
+		Result(Map<String, C> configs, Map<String, Exception> failures) {
+			this.configs = Collections.unmodifiableMap(configs);
+			this.failures = Collections.unmodifiableMap(failures);
+		}
+
+		/**
+		 * Gets the successfully loaded configurations, keyed and ordered by file name
+		 *
+		 * @return the immutable map of configurations
+		 */
+		public Map<String, C> configs() {
+			return configs;
+		}
+
+		/**
+		 * Gets the exceptions thrown by files which failed to load, keyed and ordered by file name.
+		 * Typically {@code IOException} or {@code InvalidConfigException}
+		 *
+		 * @return the immutable map of failures
+		 */
+		public Map<String, Exception> failures() {
+			return failures;
+		}
+
+		/**
+		 * Whether every file loaded successfully
+		 *
+		 * @return true if there were no failures
+		 */
+		public boolean isSuccessful() {
+			return failures.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "ConfigurationDirectory.Result{" +
+					"configs=" + configs +
+					", failures=" + failures +
+					'}';
+		}
+	}
+
+}
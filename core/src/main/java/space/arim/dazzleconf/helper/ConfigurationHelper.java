@@ -23,13 +23,22 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import space.arim.dazzleconf.AuxiliaryKeys;
 import space.arim.dazzleconf.ConfigurationFactory;
 import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.util.AsyncTasks;
 
 /**
- * Simple helper class designed to assist in reloading a configuration
+ * Simple helper class designed to assist in reloading a configuration. <br>
+ * <br>
+ * The helper remembers the fingerprint of the file it last loaded: its size, modification time,
+ * and a checksum of its contents. Reloading an unchanged file returns the previously loaded
+ * configuration without parsing it again. When the file has changed, the values of the previously
+ * loaded configuration are reused for the unchanged parts of the file, see
+ * {@link ConfigurationFactory#reload(Path, Object, Object)}.
  * 
  * @author A248
  *
@@ -41,6 +50,8 @@ public class ConfigurationHelper<C> {
 	private final String fileName;
 	private final ConfigurationFactory<C> factory;
 
+	private volatile LoadedState<C> lastLoaded;
+
 	/**
 	 * Creates from an enclosing directory, filename within that directory, and {@code ConfigurationFactory}. <br>
 	 * <br>
@@ -67,42 +78,107 @@ public class ConfigurationHelper<C> {
 
 	/**
 	 * Loads/reloads the configuration data. If necessary, updates the config on the
-	 * filesystem with the latest keys
+	 * filesystem with the latest keys. <br>
+	 * <br>
+	 * If the file is unchanged since it was last loaded by this helper, the previously loaded
+	 * config data is returned. Equivalent to {@code reloadConfigData(false)}
 	 * 
 	 * @throws IOException if an I/O exception occurred
 	 * @throws InvalidConfigException if the loaded configuration was not valid (user error)
 	 * @return the loaded config data
 	 */
 	public C reloadConfigData() throws IOException, InvalidConfigException {
+		return reloadConfigData(false);
+	}
+
+	/**
+	 * Loads/reloads the configuration data. If necessary, updates the config on the
+	 * filesystem with the latest keys. <br>
+	 * <br>
+	 * Unless {@code force} is true, if the file is unchanged since it was last loaded by this helper,
+	 * the previously loaded config data is returned without parsing the file again.
+	 *
+	 * @param force whether to load the file even if it is unchanged
+	 * @throws IOException if an I/O exception occurred
+	 * @throws InvalidConfigException if the loaded configuration was not valid (user error)
+	 * @return the loaded config data
+	 */
+	public C reloadConfigData(boolean force) throws IOException, InvalidConfigException {
 
 		// Create parent directory if it does not exist
 		Files.createDirectories(configFolder);
 
-		C defaults = factory.loadDefaults();
-
 		Path configPath = configFolder.resolve(fileName);
 		if (!Files.exists(configPath)) {
 
 			// Copy default config data
 			try (FileChannel fileChannel = FileChannel.open(configPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-				factory.write(defaults, fileChannel);
+				factory.writeDefaults(fileChannel);
 			}
 			// We just wrote the default values; loading them again would be pointless
+			C defaults = factory.loadDefaults();
+			this.lastLoaded = new LoadedState<>(FileFingerprint.read(configPath), defaults);
 			return defaults;
 		}
 
-		C loadedData;
-		try (FileChannel fileChannel = FileChannel.open(configPath, StandardOpenOption.READ)) {
-			loadedData = factory.load(fileChannel, defaults);
+		LoadedState<C> lastLoaded = this.lastLoaded;
+		if (!force && lastLoaded != null && lastLoaded.fingerprint.isUnchanged(configPath)) {
+			return lastLoaded.configData;
 		}
+		// Read before loading, so that a modification made meanwhile is detected by the next reload
+		FileFingerprint fingerprint = FileFingerprint.read(configPath);
+
+		C defaults = factory.loadDefaults();
+		// Reuse the values of the previous config for the unchanged parts of the file
+		C loadedData = factory.reload(configPath, defaults, (lastLoaded == null) ? null : lastLoaded.configData);
 		if (loadedData instanceof AuxiliaryKeys) {
-			// Update config with latest keys
-			try (FileChannel fileChannel = FileChannel.open(configPath,
-					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
-				factory.write(loadedData, fileChannel);
+			// Update config with latest keys, preferably by appending only the missing keys
+			if (!factory.appendAuxiliaryEntries(loadedData, configPath)) {
+				factory.write(loadedData, configPath);
 			}
+			// The loaded data still reports the auxiliary keys, which the file no longer lacks.
+			// Forget it, so that the next reload loads the updated file
+			this.lastLoaded = null;
+			return loadedData;
 		}
+		this.lastLoaded = new LoadedState<>(fingerprint, loadedData);
 		return loadedData;
 	}
 
+	private static final class LoadedState<C> {
+
+		final FileFingerprint fingerprint;
+		final C configData;
+
+		LoadedState(FileFingerprint fingerprint, C configData) {
+			this.fingerprint = fingerprint;
+			this.configData = configData;
+		}
+	}
+
+	/**
+	 * Loads/reloads the configuration data on the default executor. See {@link #reloadAsync(Executor)}
+	 * and {@link ConfigurationFactory#loadAsync(Path)} for the default executor.
+	 *
+	 * @return a future completed with the loaded config data
+	 */
+	public CompletableFuture<C> reloadAsync() {
+		return reloadAsync(AsyncTasks.defaultExecutor());
+	}
+
+	/**
+	 * Loads/reloads the configuration data on the given executor. All I/O, parsing and processing
+	 * happen on the executor, and the future completes only with the fully loaded config data. <br>
+	 * <br>
+	 * The future completes exceptionally with the exception {@link #reloadConfigData()} would have thrown,
+	 * such as {@code IOException} or {@code InvalidConfigException}.
+	 *
+	 * @param executor the executor on which to reload
+	 * @return a future completed with the loaded config data
+	 * @throws NullPointerException if {@code executor} is null
+	 */
+	public CompletableFuture<C> reloadAsync(Executor executor) {
+		return AsyncTasks.supply(this::reloadConfigData, executor);
+	}
+
 }
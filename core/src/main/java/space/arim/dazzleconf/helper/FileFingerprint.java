@@ -0,0 +1,105 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.helper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Identifies the contents of a file by its size and modification time, so that an unchanged
+ * file need not be parsed again. <br>
+ * <br>
+ * A file modified shortly before its fingerprint is read could be modified again without
+ * its modification time changing, due to the granularity of file timestamps. Only for such
+ * recently modified files is a checksum of the contents also kept, and compared.
+ *
+ */
+final class FileFingerprint {
+
+	private final long size;
+	private final FileTime lastModified;
+	/** The checksum, or {@code NO_CHECKSUM} if the file was not recently modified when read */
+	private final long checksum;
+
+	private static final long NO_CHECKSUM = -1L;
+	/** Covers the coarsest common timestamp granularity, the 2 seconds of FAT file systems */
+	private static final long RECENT_MODIFICATION_MILLIS = 3_000L;
+
+	private FileFingerprint(long size, FileTime lastModified, long checksum) {
+		this.size = size;
+		this.lastModified = lastModified;
+		this.checksum = checksum;
+	}
+
+	/**
+	 * Reads the fingerprint of a file. The contents are read only if the file was recently modified
+	 *
+	 * @param path the file
+	 * @return the fingerprint
+	 * @throws IOException if an I/O error occurs
+	 */
+	static FileFingerprint read(Path path) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		FileTime lastModified = attributes.lastModifiedTime();
+		long sinceModified = System.currentTimeMillis() - lastModified.to(TimeUnit.MILLISECONDS);
+		// A modification time in the future, due to clock differences, also counts as recent
+		long checksum = (sinceModified < RECENT_MODIFICATION_MILLIS) ? checksum(path) : NO_CHECKSUM;
+		return new FileFingerprint(attributes.size(), lastModified, checksum);
+	}
+
+	/**
+	 * Determines whether a file is unchanged since this fingerprint was read. The size and modification
+	 * time are compared first; the contents are read only if these match and a checksum was kept
+	 *
+	 * @param path the file
+	 * @return true if unchanged
+	 * @throws IOException if an I/O error occurs
+	 */
+	boolean isUnchanged(Path path) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		if (attributes.size() != size || !attributes.lastModifiedTime().equals(lastModified)) {
+			return false;
+		}
+		return checksum == NO_CHECKSUM || checksum == checksum(path);
+	}
+
+	private static long checksum(Path path) throws IOException {
+		CRC32 checksum = new CRC32();
+		// Plain reads rather than mapping, since a mapped file cannot be truncated or replaced on some platforms
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			while (fileChannel.read(buffer) != -1) {
+				buffer.flip();
+				checksum.update(buffer);
+				buffer.clear();
+			}
+		}
+		return checksum.getValue();
+	}
+
+}
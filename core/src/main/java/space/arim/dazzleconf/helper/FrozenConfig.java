@@ -0,0 +1,219 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.helper;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.internal.ConfEntry;
+import space.arim.dazzleconf.internal.ConfigurationDefinition;
+import space.arim.dazzleconf.internal.DefinitionCache;
+import space.arim.dazzleconf.internal.type.ReturnType;
+import space.arim.dazzleconf.internal.type.SimpleSubSectionReturnType;
+import space.arim.dazzleconf.internal.util.ConfigurationInvoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Exposes the entries of a configuration as method handles which the JIT compiler may treat as
+ * constants. <br>
+ * <br>
+ * Each entry, identified by its key path as in {@link ConfigDiff}, is bound to a {@link MutableCallSite}
+ * whose target returns the current value. The handle returned by {@link #accessor(String)} should be
+ * stored in a {@code static final} field and called with {@code invokeExact}, for example: <br>
+ * <pre>
+ *   static final MethodHandle MAX_CONNECTIONS = frozenConfig.accessor("max-connections");
+ *   // ...
+ *   int maxConnections = (int) MAX_CONNECTIONS.invokeExact();
+ * </pre>
+ * Compiled code may then fold the value into itself, as if it were a constant. When a new configuration
+ * is frozen through {@link #update(Object)}, the call sites of changed entries are rebound, and compiled
+ * code which depended on them is discarded. Updating is therefore expensive, and this is intended for
+ * values which are read very often and change rarely. <br>
+ * <br>
+ * Accessor handles have a return type equal to the return type of the entry's method, so that primitive
+ * values need not be boxed.
+ *
+ * @param <C> the type of the configuration
+ */
+public final class FrozenConfig<C> {
+
+	private final Map<String, Binding> bindings;
+	private C configData;
+
+	private FrozenConfig(Map<String, Binding> bindings) {
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Creates from an initial configuration
+	 *
+	 * @param factory the configuration factory, whose options define the configuration entries
+	 * @param initial the initial configuration
+	 * @param <C> the type of the configuration
+	 * @return the frozen config
+	 * @throws NullPointerException if any argument is null
+	 */
+	public static <C> FrozenConfig<C> create(ConfigurationFactory<C> factory, C initial) {
+		Objects.requireNonNull(initial, "initial");
+		ConfigurationDefinition<C> definition = DefinitionCache.definitionFor(factory);
+		Map<String, Binding> bindings = new LinkedHashMap<>();
+		addBindings(definition, "", Collections.emptyList(), bindings);
+		FrozenConfig<C> frozenConfig = new FrozenConfig<>(Collections.unmodifiableMap(bindings));
+		frozenConfig.update(initial);
+		return frozenConfig;
+	}
+
+	private static void addBindings(ConfigurationDefinition<?> definition, String pathPrefix,
+									List<ConfEntry> sectionEntries, Map<String, Binding> bindings) {
+		for (ConfEntry entry : definition.getEntries()) {
+			String path = pathPrefix + entry.getKey();
+			List<ConfEntry> entries = new ArrayList<>(sectionEntries);
+			entries.add(entry);
+			bindings.put(path, new Binding(entries));
+
+			ReturnType<?> returnType = entry.returnType();
+			if (returnType instanceof SimpleSubSectionReturnType) {
+				addBindings(((SimpleSubSectionReturnType<?>) returnType).configDefinition(),
+						path + '.', entries, bindings);
+			}
+		}
+	}
+
+	/**
+	 * Gets the method handle for an entry. The handle takes no arguments and returns the
+	 * current value of the entry.
+	 *
+	 * @param path the key path of the entry
+	 * @return the accessor handle
+	 * @throws IllegalArgumentException if there is no entry at the path
+	 */
+	public MethodHandle accessor(String path) {
+		Binding binding = bindings.get(path);
+		if (binding == null) {
+			throw new IllegalArgumentException("No entry at " + path + ". Available entries are " + bindings.keySet());
+		}
+		return binding.invoker;
+	}
+
+	/**
+	 * Gets the key paths of all entries
+	 *
+	 * @return the key paths, immutable
+	 */
+	public Set<String> paths() {
+		return bindings.keySet();
+	}
+
+	/**
+	 * Gets the most recently frozen configuration
+	 *
+	 * @return the current configuration
+	 */
+	public synchronized C current() {
+		return configData;
+	}
+
+	/**
+	 * Freezes a new configuration. The call sites of entries whose values changed are rebound
+	 * to the new values; entries with equal values are left untouched.
+	 *
+	 * @param configData the new configuration
+	 * @throws NullPointerException if {@code configData} is null
+	 */
+	public synchronized void update(C configData) {
+		Objects.requireNonNull(configData, "configData");
+		if (configData == this.configData) {
+			return;
+		}
+		List<MutableCallSite> changed = new ArrayList<>();
+		for (Binding binding : bindings.values()) {
+			if (binding.bind(configData)) {
+				changed.add(binding.callSite);
+			}
+		}
+		if (!changed.isEmpty()) {
+			MutableCallSite.syncAll(changed.toArray(new MutableCallSite[0]));
+		}
+		this.configData = configData;
+	}
+
+	/**
+	 * Creates a listener for a {@link ConfigHolder} which freezes each newly published configuration
+	 *
+	 * @return a listener which may be added to a config holder
+	 */
+	public ConfigHolder.Listener<C> listener() {
+		return (previous, current, version) -> update(current);
+	}
+
+	@Override
+	public String toString() {
+		return "FrozenConfig{" +
+				"paths=" + bindings.keySet() +
+				'}';
+	}
+
+	private static final class Binding {
+
+		/** The entries leading to this entry, starting at the top level */
+		private final List<ConfEntry> entries;
+		private final Class<?> type;
+		private final MutableCallSite callSite;
+		private final MethodHandle invoker;
+		private Object value;
+
+		Binding(List<ConfEntry> entries) {
+			this.entries = entries;
+			type = entries.get(entries.size() - 1).getMethod().getReturnType();
+			callSite = new MutableCallSite(MethodType.methodType(type));
+			invoker = callSite.dynamicInvoker();
+		}
+
+		/**
+		 * Binds the value from the given configuration
+		 *
+		 * @param configData the configuration
+		 * @return true if the value changed
+		 */
+		boolean bind(Object configData) {
+			Object value = configData;
+			for (ConfEntry entry : entries) {
+				value = new ConfigurationInvoker<>(value).getEntryValue(entry);
+			}
+			if (this.value != null && (this.value == value || this.value.equals(value))) {
+				return false;
+			}
+			this.value = value;
+			callSite.setTarget(MethodHandles.constant(type, value));
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.helper;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.util.AsyncTasks;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ConfigurationHelper} which watches the configuration file for changes and reloads it
+ * automatically. <br>
+ * <br>
+ * The configuration folder is registered with a {@link WatchService}. A single background thread
+ * waits for changes to the configuration file, then waits until changes to it have stopped arriving for
+ * the debounce duration, so that a burst of modifications from an editor causes only one reload. <br>
+ * <br>
+ * The latest configuration is obtained through {@link #current()}, which is a plain volatile read
+ * suitable for frequent use. Reloaded configurations are published to the {@link #holder()}, through
+ * which listeners may be notified of changes. If a reload fails, the previous configuration is kept and
+ * the failure is passed to the failure callback. <br>
+ * <br>
+ * Must be closed to stop watching.
+ *
+ * @param <C> the type of the configuration
+ */
+public final class WatchingConfigurationHelper<C> extends ConfigurationHelper<C> implements AutoCloseable {
+
+	private final Path configFolder;
+	private final String fileName;
+	private final Duration debounce;
+	private final Consumer<? super Exception> failureCallback;
+
+	private final ConfigHolder<C> holder = new ConfigHolder<>(AsyncTasks.defaultExecutor());
+	private final Object reloadLock = new Object();
+	private WatchService watchService;
+	private Thread watcherThread;
+
+	private WatchingConfigurationHelper(Path configFolder, String fileName, ConfigurationFactory<C> factory,
+										Duration debounce, Consumer<? super Exception> failureCallback) {
+		super(configFolder, fileName, factory);
+		this.configFolder = configFolder;
+		this.fileName = fileName;
+		this.debounce = debounce;
+		this.failureCallback = failureCallback;
+	}
+
+	/**
+	 * Loads the configuration, then starts watching it for changes. <br>
+	 * <br>
+	 * The configuration path will be located at <code>configFolder.resolve(fileName)</code>
+	 *
+	 * @param configFolder the enclosing directory
+	 * @param fileName the filename within the directory
+	 * @param factory the configuration factory
+	 * @param debounce how long to wait after the last change before reloading
+	 * @param failureCallback receives exceptions thrown by background reloads
+	 * @param <C> the type of the configuration
+	 * @return the watching helper, which must be closed when no longer used
+	 * @throws IOException if an I/O exception occurred during the initial load or registering the watcher
+	 * @throws InvalidConfigException if the initially loaded configuration was not valid (user error)
+	 * @throws IllegalArgumentException if {@code debounce} is negative
+	 */
+	public static <C> WatchingConfigurationHelper<C> start(Path configFolder, String fileName,
+														  ConfigurationFactory<C> factory, Duration debounce,
+														  Consumer<? super Exception> failureCallback)
+			throws IOException, InvalidConfigException {
+		if (debounce.isNegative()) {
+			throw new IllegalArgumentException("Debounce must not be negative");
+		}
+		WatchingConfigurationHelper<C> helper = new WatchingConfigurationHelper<>(
+				configFolder, fileName, factory, debounce,
+				Objects.requireNonNull(failureCallback, "failureCallback"));
+		// Creates the folder, so it can be registered
+		helper.reloadConfigData();
+		helper.startWatching();
+		return helper;
+	}
+
+	private void startWatching() throws IOException {
+		WatchService watchService = configFolder.getFileSystem().newWatchService();
+		try {
+			configFolder.register(watchService,
+					StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException | RuntimeException ex) {
+			watchService.close();
+			throw ex;
+		}
+		this.watchService = watchService;
+		Thread watcherThread = new Thread(this::watch, "dazzleconf-watcher-" + fileName);
+		watcherThread.setDaemon(true);
+		this.watcherThread = watcherThread;
+		watcherThread.start();
+	}
+
+	/**
+	 * Gets the current configuration
+	 *
+	 * @return the latest successfully loaded configuration
+	 */
+	public C current() {
+		return holder.current();
+	}
+
+	/**
+	 * Gets the holder to which reloaded configurations are published. Listeners added to the holder
+	 * are notified on the default executor, see {@link ConfigHolder#ConfigHolder(Object)}
+	 *
+	 * @return the config holder
+	 */
+	public ConfigHolder<C> holder() {
+		return holder;
+	}
+
+	/**
+	 * Loads/reloads the configuration data and publishes it to the {@link #holder()}.
+	 * Called automatically when the file changes, but may also be called directly. <br>
+	 * <br>
+	 * Reloads are serialised, so the published configuration is always the most recently loaded.
+	 *
+	 * @param force whether to load the file even if it is unchanged
+	 * @throws IOException if an I/O exception occurred
+	 * @throws InvalidConfigException if the loaded configuration was not valid (user error)
+	 * @return the loaded config data
+	 */
+	@Override
+	public C reloadConfigData(boolean force) throws IOException, InvalidConfigException {
+		synchronized (reloadLock) {
+			C configData = super.reloadConfigData(force);
+			holder.publish(configData);
+			return configData;
+		}
+	}
+
+	private void watch() {
+		try {
+			long debounceNanos = debounce.toNanos();
+			while (true) {
+				if (!isConfigChanged(watchService.take())) {
+					continue;
+				}
+				// Wait until no change to the configuration file arrived for the debounce duration
+				// Changes to other files in the folder are ignored, so that they cannot postpone the reload
+				long lastChange = System.nanoTime();
+				long remaining;
+				while ((remaining = lastChange + debounceNanos - System.nanoTime()) > 0L) {
+					WatchKey key = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+					if (key != null && isConfigChanged(key)) {
+						lastChange = System.nanoTime();
+					}
+				}
+				reloadInBackground();
+			}
+		} catch (ClosedWatchServiceException ignored) {
+			// Closed
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean isConfigChanged(WatchKey key) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW
+					|| fileName.equals(String.valueOf(event.context()))) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	private void reloadInBackground() {
+		try {
+			reloadConfigData();
+		} catch (IOException | InvalidConfigException | RuntimeException ex) {
+			failureCallback.accept(ex);
+		}
+	}
+
+	/**
+	 * Stops watching the configuration file. The current configuration remains available
+	 *
+	 * @throws IOException if an I/O error occurs closing the watch service
+	 */
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		if (watcherThread != Thread.currentThread()) {
+			try {
+				watcherThread.join();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Provides configuration definitions per factory, so that helpers working with a factory's
+ * configurations need not repeat the reflective definition scan. <br>
+ * <br>
+ * Factories which already hold a compiled definition supply it themselves, without locking.
+ * The definitions of other factories are cached, weakly held by factory, and are removed once
+ * the factory is no longer used.
+ */
+public final class DefinitionCache {
+
+	private static final Map<ConfigurationFactory<?>, ConfigurationDefinition<?>> definitions = new WeakHashMap<>();
+	private static volatile Function<ConfigurationFactory<?>, ConfigurationDefinition<?>> compiledDefinitions;
+
+	private DefinitionCache() {}
+
+	/**
+	 * Sets the function supplying the definitions already compiled by factories. Called once,
+	 * when the factory implementation holding compiled definitions is initialised
+	 *
+	 * @param compiledDefinitions gets the compiled definition of a factory, or null if it has none
+	 */
+	public static void setCompiledDefinitions(
+			Function<ConfigurationFactory<?>, ConfigurationDefinition<?>> compiledDefinitions) {
+		DefinitionCache.compiledDefinitions = compiledDefinitions;
+	}
+
+	/**
+	 * Gets the definition of the factory's config class, reading it if not already cached
+	 *
+	 * @param factory the configuration factory
+	 * @param <C> the type of the configuration
+	 * @return the configuration definition
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C> ConfigurationDefinition<C> definitionFor(ConfigurationFactory<C> factory) {
+		Function<ConfigurationFactory<?>, ConfigurationDefinition<?>> compiledDefinitions = DefinitionCache.compiledDefinitions;
+		if (compiledDefinitions != null) {
+			ConfigurationDefinition<?> compiled = compiledDefinitions.apply(factory);
+			if (compiled != null) {
+				return (ConfigurationDefinition<C>) compiled;
+			}
+		}
+		synchronized (definitions) {
+			ConfigurationDefinition<?> cached = definitions.get(factory);
+			if (cached != null) {
+				return (ConfigurationDefinition<C>) cached;
+			}
+		}
+		// Read outside the lock; a concurrent read of the same definition is harmless
+		ConfigurationDefinition<C> definition = new DefinitionReader<>(
+				factory.getConfigClass(), factory.getOptions()).read();
+		synchronized (definitions) {
+			ConfigurationDefinition<?> existing = definitions.putIfAbsent(factory, definition);
+			return (existing != null) ? (ConfigurationDefinition<C>) existing : definition;
+		}
+	}
+
+}
@@ -21,14 +21,13 @@ package space.arim.dazzleconf.internal.deprocessor;
 import java.util.List;
 
 import space.arim.dazzleconf.internal.ConfEntry;
-import space.arim.dazzleconf.internal.ConfigurationDefinition;
 
 public class AddCommentStringBeforeDeprocessor<C> extends DeprocessorBase<C> {
 
 	private final String suffix;
 
-	public AddCommentStringBeforeDeprocessor(ConfigurationDefinition<C> definition, C configData, String suffix) {
-		super(definition, configData);
+	public AddCommentStringBeforeDeprocessor(WritePlan<C> writePlan, C configData, String suffix) {
+		super(writePlan, configData);
 		this.suffix = suffix;
 	}
 	
@@ -42,8 +41,8 @@ public class AddCommentStringBeforeDeprocessor<C> extends DeprocessorBase<C> {
 	}
 	
 	@Override
-	<N> DeprocessorBase<N> createChildDeprocessor(ConfigurationDefinition<N> childDefinition, N childConf) {
-		return new AddCommentStringBeforeDeprocessor<>(childDefinition, childConf, suffix);
+	<N> DeprocessorBase<N> createChildDeprocessor(WritePlan<N> childWritePlan, N childConf) {
+		return new AddCommentStringBeforeDeprocessor<>(childWritePlan, childConf, suffix);
 	}
 
 }
@@ -22,12 +22,11 @@ import java.util.List;
 
 import space.arim.dazzleconf.factory.CommentedWrapper;
 import space.arim.dazzleconf.internal.ConfEntry;
-import space.arim.dazzleconf.internal.ConfigurationDefinition;
 
 public class CommentedDeprocessor<C> extends DeprocessorBase<C> {
 
-	public CommentedDeprocessor(ConfigurationDefinition<C> definition, C configData) {
-		super(definition, configData);
+	public CommentedDeprocessor(WritePlan<C> writePlan, C configData) {
+		super(writePlan, configData);
 	}
 	
 	@Override
@@ -40,8 +39,8 @@ public class CommentedDeprocessor<C> extends DeprocessorBase<C> {
 	}
 	
 	@Override
-	<N> DeprocessorBase<N> createChildDeprocessor(ConfigurationDefinition<N> childDefinition, N childConf) {
-		return new CommentedDeprocessor<>(childDefinition, childConf);
+	<N> DeprocessorBase<N> createChildDeprocessor(WritePlan<N> childWritePlan, N childConf) {
+		return new CommentedDeprocessor<>(childWritePlan, childConf);
 	}
 
 }
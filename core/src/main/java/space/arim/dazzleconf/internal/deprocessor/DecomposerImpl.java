@@ -41,6 +41,14 @@ class DecomposerImpl implements Decomposer {
 		this.key = key;
 		this.serialisers = serialisers;
 	}
+
+	String key() {
+		return key;
+	}
+
+	ValueSerialiserMap serialisers() {
+		return serialisers;
+	}
 	
 	@Override
 	public <T> Object decompose(Class<T> clazz, T value) {
@@ -81,7 +89,7 @@ class DecomposerImpl implements Decomposer {
 		return serialiser;
 	}
 
-	private <T> Object fromSerialiser(ValueSerialiser<T> serialiser, T value) {
+	<T> Object fromSerialiser(ValueSerialiser<T> serialiser, T value) {
 		Object serialised = serialiser.serialise(value, this);
 		if (serialised == null) {
 			throw DeveloperError.serializerReturnedNull(Errors.When.WRITE_CONFIG, key, serialiser)
@@ -19,53 +19,67 @@
 package space.arim.dazzleconf.internal.deprocessor;
 
 import space.arim.dazzleconf.internal.ConfEntry;
-import space.arim.dazzleconf.internal.ConfigurationDefinition;
 import space.arim.dazzleconf.internal.NestedMapHelper;
 import space.arim.dazzleconf.internal.util.ConfigurationInvoker;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class DeprocessorBase<C> {
 
-	private final ConfigurationDefinition<C> definition;
+	private final WritePlan<C> writePlan;
 	private final ConfigurationInvoker<C> configDataInvoker;
 
 	final NestedMapHelper mapHelper = new NestedMapHelper(new LinkedHashMap<>());
 	
-	DeprocessorBase(ConfigurationDefinition<C> definition, C configData) {
-		this.definition = definition;
+	DeprocessorBase(WritePlan<C> writePlan, C configData) {
+		this.writePlan = writePlan;
 		this.configDataInvoker = new ConfigurationInvoker<>(configData);
 	}
 
 	abstract Object wrapValue(ConfEntry entry, Object value);
 
-	abstract <N> DeprocessorBase<N> createChildDeprocessor(ConfigurationDefinition<N> childDefinition, N childConfig);
+	abstract <N> DeprocessorBase<N> createChildDeprocessor(WritePlan<N> childWritePlan, N childConfig);
 
 	public Map<String, Object> deprocess() {
-		for (ConfEntry entry : definition.getEntries()) {
-			String key = entry.getKey();
-			Object deprocessedValue = getDeprocessedValue(entry, configDataInvoker.getEntryValue(entry));
-			Object wrappedValue = wrapValue(entry, deprocessedValue);
-			if (deprocessedValue instanceof Map) {
-				// Must combine this map with any existing nested maps
-				// This is particularly necessary when users mix qualified keys and nested sub-sections
-				mapHelper.combine(key, wrappedValue);
-			} else {
-				mapHelper.put(key, wrappedValue);
+		for (WritePlan.PlannedEntry plannedEntry : writePlan.entries()) {
+			deprocessEntry(plannedEntry);
+		}
+		return mapHelper.getTopLevelMap();
+	}
+
+	/**
+	 * Deprocesses only the entries with the given keys, in the order of the definition
+	 *
+	 * @param keys the keys of the entries to deprocess
+	 * @return the hierarchical map of the selected entries
+	 */
+	public Map<String, Object> deprocessOnly(Set<String> keys) {
+		for (WritePlan.PlannedEntry plannedEntry : writePlan.entries()) {
+			if (keys.contains(plannedEntry.entry().getKey())) {
+				deprocessEntry(plannedEntry);
 			}
 		}
 		return mapHelper.getTopLevelMap();
 	}
 
-	private Object getDeprocessedValue(ConfEntry entry, Object value) {
-		DecomposerImpl decomposer = new DecomposerImpl(entry.getKey(), definition.getSerialisers());
-		Decomposition decomposition = new Decomposition(this, entry, value, decomposer);
-		return decomposition.deprocessObject();
+	private void deprocessEntry(WritePlan.PlannedEntry plannedEntry) {
+		ConfEntry entry = plannedEntry.entry();
+		String key = entry.getKey();
+		Object deprocessedValue = plannedEntry.encoder().encode(configDataInvoker.getEntryValue(entry), this);
+		Object wrappedValue = wrapValue(entry, deprocessedValue);
+		if (deprocessedValue instanceof Map) {
+			// Must combine this map with any existing nested maps
+			// This is particularly necessary when users mix qualified keys and nested sub-sections
+			mapHelper.combine(key, wrappedValue);
+		} else {
+			mapHelper.put(key, wrappedValue);
+		}
 	}
 
-	<N> Map<String, Object> deprocessNested(ConfigurationDefinition<N> childDefinition, N childConfig) {
-		return createChildDeprocessor(childDefinition, childConfig).deprocess();
+	<N> Map<String, Object> deprocessNested(WritePlan<N> childWritePlan, N childConfig) {
+		return createChildDeprocessor(childWritePlan, childConfig).deprocess();
 	}
 	
 }
@@ -20,12 +20,11 @@
 package space.arim.dazzleconf.internal.deprocessor;
 
 import space.arim.dazzleconf.internal.ConfEntry;
-import space.arim.dazzleconf.internal.ConfigurationDefinition;
 
 public class SimpleDeprocessor<C> extends DeprocessorBase<C> {
 
-	public SimpleDeprocessor(ConfigurationDefinition<C> definition, C configData) {
-		super(definition, configData);
+	public SimpleDeprocessor(WritePlan<C> writePlan, C configData) {
+		super(writePlan, configData);
 	}
 
 	@Override
@@ -34,7 +33,7 @@ public class SimpleDeprocessor<C> extends DeprocessorBase<C> {
 	}
 
 	@Override
-	<N> DeprocessorBase<N> createChildDeprocessor(ConfigurationDefinition<N> childDefinition, N childConfig) {
-		return new SimpleDeprocessor<>(childDefinition, childConfig);
+	<N> DeprocessorBase<N> createChildDeprocessor(WritePlan<N> childWritePlan, N childConfig) {
+		return new SimpleDeprocessor<>(childWritePlan, childConfig);
 	}
 }
@@ -0,0 +1,38 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.deprocessor;
+
+/**
+ * Turns a config value of a known type into its deprocessed form. Encoders are resolved
+ * once, when a {@link WritePlan} is compiled, and reused for every write.
+ *
+ */
+interface ValueEncoder {
+
+	/**
+	 * Encodes a config value
+	 *
+	 * @param value the config value
+	 * @param deprocessor the deprocessor, used for nested configuration sections
+	 * @return the deprocessed value
+	 */
+	Object encode(Object value, DeprocessorBase<?> deprocessor);
+
+}
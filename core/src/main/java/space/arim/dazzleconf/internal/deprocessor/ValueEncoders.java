@@ -0,0 +1,242 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.deprocessor;
+
+import space.arim.dazzleconf.internal.error.DeveloperError;
+import space.arim.dazzleconf.internal.error.Errors;
+import space.arim.dazzleconf.serialiser.ValueSerialiser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The value encoders used by {@link WritePlan}. Each mirrors a branch of {@link DecomposerImpl},
+ * with the branch chosen ahead of time.
+ *
+ */
+final class ValueEncoders {
+
+	private ValueEncoders() {}
+
+	/**
+	 * Resolves the encoder for a single (non collection, non section) type
+	 *
+	 * @param clazz the type
+	 * @param decomposer the decomposer for the entry, supplied to serialisers
+	 * @param <T> the type
+	 * @return the encoder
+	 */
+	static <T> ValueEncoder forType(Class<T> clazz, DecomposerImpl decomposer) {
+		if (clazz == Collection.class || clazz == List.class || clazz == Set.class || clazz == Map.class) {
+			// Let the decomposer report the error, should there be any value to encode
+			return new Dynamic<>(clazz, decomposer);
+		}
+		if (clazz == char.class || clazz == Character.class) {
+			return ToStringEncoder.INSTANCE;
+		}
+		if (clazz.isPrimitive() || clazz == String.class || clazz == Boolean.class
+				|| Number.class.isAssignableFrom(clazz)) {
+			return Passthrough.INSTANCE;
+		}
+		if (clazz.isEnum()) {
+			return EnumName.INSTANCE;
+		}
+		return new Serialised<>(clazz, decomposer);
+	}
+
+	private enum Passthrough implements ValueEncoder {
+		INSTANCE;
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			return value;
+		}
+	}
+
+	private enum ToStringEncoder implements ValueEncoder {
+		INSTANCE;
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			return value.toString();
+		}
+	}
+
+	private enum EnumName implements ValueEncoder {
+		INSTANCE;
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			return ((Enum<?>) value).name();
+		}
+	}
+
+	private static final class Dynamic<T> implements ValueEncoder {
+
+		private final Class<T> clazz;
+		private final DecomposerImpl decomposer;
+
+		Dynamic(Class<T> clazz, DecomposerImpl decomposer) {
+			this.clazz = clazz;
+			this.decomposer = decomposer;
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			return decomposer.decompose(clazz, clazz.cast(value));
+		}
+	}
+
+	private static final class Serialised<T> implements ValueEncoder {
+
+		private final Class<T> clazz;
+		private final DecomposerImpl decomposer;
+		/** Null if there is no serialiser, in which case an error is thrown upon encoding */
+		private final ValueSerialiser<T> serialiser;
+
+		Serialised(Class<T> clazz, DecomposerImpl decomposer) {
+			this.clazz = clazz;
+			this.decomposer = decomposer;
+			serialiser = decomposer.serialisers().getSerialiserFor(clazz).orElse(null);
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			T castValue = clazz.cast(value);
+			// The type may be a supertype of these, such as Object or Comparable
+			if (value instanceof String || value instanceof Boolean || value instanceof Number) {
+				return value;
+			}
+			if (value instanceof Character) {
+				return value.toString();
+			}
+			if (serialiser == null) {
+				throw DeveloperError.noSerializerFound(Errors.When.WRITE_CONFIG, decomposer.key(), clazz)
+						.toConfigException();
+			}
+			return decomposer.fromSerialiser(serialiser, castValue);
+		}
+	}
+
+	static final class CollectionOf implements ValueEncoder {
+
+		private final ValueEncoder elementEncoder;
+
+		CollectionOf(ValueEncoder elementEncoder) {
+			this.elementEncoder = elementEncoder;
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			Collection<?> collection = (Collection<?>) value;
+			List<Object> encoded = new ArrayList<>(collection.size());
+			for (Object element : collection) {
+				encoded.add(elementEncoder.encode(element, deprocessor));
+			}
+			return encoded;
+		}
+	}
+
+	static final class MapOf implements ValueEncoder {
+
+		private final ValueEncoder keyEncoder;
+		private final ValueEncoder valueEncoder;
+
+		MapOf(ValueEncoder keyEncoder, ValueEncoder valueEncoder) {
+			this.keyEncoder = keyEncoder;
+			this.valueEncoder = valueEncoder;
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<Object, Object> encoded = new LinkedHashMap<>((int) (map.size() / 0.74f));
+			for (Map.Entry<?, ?> mapEntry : map.entrySet()) {
+				encoded.put(
+						keyEncoder.encode(mapEntry.getKey(), deprocessor),
+						valueEncoder.encode(mapEntry.getValue(), deprocessor));
+			}
+			return encoded;
+		}
+	}
+
+	static final class SubSection<N> implements ValueEncoder {
+
+		private final WritePlan<N> nestedPlan;
+
+		SubSection(WritePlan<N> nestedPlan) {
+			this.nestedPlan = nestedPlan;
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			return deprocessor.deprocessNested(nestedPlan, nestedPlan.definition().getConfigClass().cast(value));
+		}
+	}
+
+	static final class SubSectionCollection<N> implements ValueEncoder {
+
+		private final WritePlan<N> nestedPlan;
+
+		SubSectionCollection(WritePlan<N> nestedPlan) {
+			this.nestedPlan = nestedPlan;
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			Collection<?> collection = (Collection<?>) value;
+			Class<N> nestedClass = nestedPlan.definition().getConfigClass();
+			List<Object> encoded = new ArrayList<>(collection.size());
+			for (Object element : collection) {
+				encoded.add(deprocessor.deprocessNested(nestedPlan, nestedClass.cast(element)));
+			}
+			return encoded;
+		}
+	}
+
+	static final class SubSectionMap<N> implements ValueEncoder {
+
+		private final ValueEncoder keyEncoder;
+		private final WritePlan<N> nestedPlan;
+
+		SubSectionMap(ValueEncoder keyEncoder, WritePlan<N> nestedPlan) {
+			this.keyEncoder = keyEncoder;
+			this.nestedPlan = nestedPlan;
+		}
+
+		@Override
+		public Object encode(Object value, DeprocessorBase<?> deprocessor) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Class<N> nestedClass = nestedPlan.definition().getConfigClass();
+			Map<Object, Object> encoded = new LinkedHashMap<>((int) (map.size() / 0.74f));
+			for (Map.Entry<?, ?> mapEntry : map.entrySet()) {
+				encoded.put(
+						keyEncoder.encode(mapEntry.getKey(), deprocessor),
+						deprocessor.deprocessNested(nestedPlan, nestedClass.cast(mapEntry.getValue())));
+			}
+			return encoded;
+		}
+	}
+
+}
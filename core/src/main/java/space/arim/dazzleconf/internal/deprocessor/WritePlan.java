@@ -0,0 +1,146 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.deprocessor;
+
+import space.arim.dazzleconf.internal.ConfEntry;
+import space.arim.dazzleconf.internal.ConfigurationDefinition;
+import space.arim.dazzleconf.internal.type.CollectionReturnType;
+import space.arim.dazzleconf.internal.type.MapReturnType;
+import space.arim.dazzleconf.internal.type.ReturnType;
+import space.arim.dazzleconf.internal.type.SimpleCollectionReturnType;
+import space.arim.dazzleconf.internal.type.SimpleMapReturnType;
+import space.arim.dazzleconf.internal.type.SimpleSubSectionReturnType;
+import space.arim.dazzleconf.internal.type.SubSectionCollectionReturnType;
+import space.arim.dazzleconf.internal.type.SubSectionMapReturnType;
+import space.arim.dazzleconf.serialiser.ValueSerialiserMap;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The compiled form of a configuration definition used for writing. Each entry is paired
+ * with an encoder for its return type, so that writing a configuration requires neither
+ * type dispatch nor serialiser lookups. <br>
+ * <br>
+ * A write plan is immutable and thread safe.
+ *
+ * @param <C> the configuration type
+ */
+public final class WritePlan<C> {
+
+	private final ConfigurationDefinition<C> definition;
+	private final PlannedEntry[] entries;
+
+	private WritePlan(ConfigurationDefinition<C> definition, PlannedEntry[] entries) {
+		this.definition = definition;
+		this.entries = entries;
+	}
+
+	/**
+	 * Compiles a write plan for the given definition, including nested definitions
+	 *
+	 * @param definition the configuration definition
+	 * @param <C> the configuration type
+	 * @return the write plan
+	 */
+	public static <C> WritePlan<C> compile(ConfigurationDefinition<C> definition) {
+		return new Compiler().compile(definition);
+	}
+
+	ConfigurationDefinition<C> definition() {
+		return definition;
+	}
+
+	PlannedEntry[] entries() {
+		return entries;
+	}
+
+	static final class PlannedEntry {
+
+		private final ConfEntry entry;
+		private final ValueEncoder encoder;
+
+		PlannedEntry(ConfEntry entry, ValueEncoder encoder) {
+			this.entry = entry;
+			this.encoder = encoder;
+		}
+
+		ConfEntry entry() {
+			return entry;
+		}
+
+		ValueEncoder encoder() {
+			return encoder;
+		}
+
+	}
+
+	private static final class Compiler {
+
+		/** Nested definitions used in several places are compiled once */
+		private final Map<ConfigurationDefinition<?>, WritePlan<?>> compiled = new IdentityHashMap<>();
+
+		<C> WritePlan<C> compile(ConfigurationDefinition<C> definition) {
+			@SuppressWarnings("unchecked")
+			WritePlan<C> existing = (WritePlan<C>) compiled.get(definition);
+			if (existing != null) {
+				return existing;
+			}
+			PlannedEntry[] entries = new PlannedEntry[definition.getEntries().size()];
+			int index = 0;
+			for (ConfEntry entry : definition.getEntries()) {
+				ValueEncoder encoder = encoderFor(entry.returnType(), entry.getKey(), definition.getSerialisers());
+				entries[index++] = new PlannedEntry(entry, encoder);
+			}
+			WritePlan<C> writePlan = new WritePlan<>(definition, entries);
+			compiled.put(definition, writePlan);
+			return writePlan;
+		}
+
+		private ValueEncoder encoderFor(ReturnType<?> returnType, String key, ValueSerialiserMap serialisers) {
+			if (returnType instanceof SimpleSubSectionReturnType) {
+				return new ValueEncoders.SubSection<>(
+						compile(((SimpleSubSectionReturnType<?>) returnType).configDefinition()));
+			}
+			DecomposerImpl decomposer = new DecomposerImpl(key, serialisers);
+			if (returnType instanceof CollectionReturnType) {
+				if (returnType instanceof SimpleCollectionReturnType) {
+					return new ValueEncoders.CollectionOf(ValueEncoders.forType(
+							((CollectionReturnType<?, ?>) returnType).elementTypeInfo().rawType(), decomposer));
+				}
+				return new ValueEncoders.SubSectionCollection<>(
+						compile(((SubSectionCollectionReturnType<?, ?>) returnType).configDefinition()));
+			}
+			if (returnType instanceof MapReturnType) {
+				MapReturnType<?, ?> mapReturnType = (MapReturnType<?, ?>) returnType;
+				ValueEncoder keyEncoder = ValueEncoders.forType(mapReturnType.keyTypeInfo().rawType(), decomposer);
+				if (returnType instanceof SimpleMapReturnType) {
+					return new ValueEncoders.MapOf(
+							keyEncoder, ValueEncoders.forType(mapReturnType.valueTypeInfo().rawType(), decomposer));
+				}
+				return new ValueEncoders.SubSectionMap<>(
+						keyEncoder, compile(((SubSectionMapReturnType<?, ?>) returnType).configDefinition()));
+			}
+			return ValueEncoders.forType(returnType.typeInfo().rawType(), decomposer);
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.processor;
+
+import space.arim.dazzleconf.internal.util.ImmutableCollections;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+/**
+ * Access to the keys of a loaded configuration which were absent from the source data
+ * and filled in using auxiliary entries.
+ *
+ */
+public final class AppendableKeys {
+
+	private final Set<String> keys;
+	private final Set<String> sourceKeys;
+
+	private static final AppendableKeys NONE = new AppendableKeys(
+			ImmutableCollections.emptySet(), ImmutableCollections.emptySet());
+
+	AppendableKeys(Set<String> keys, Set<String> sourceKeys) {
+		this.keys = keys;
+		this.sourceKeys = sourceKeys;
+	}
+
+	static AppendableKeys none() {
+		return NONE;
+	}
+
+	/**
+	 * Gets the appendable keys of a configuration instance. If it was not loaded with auxiliary entries,
+	 * or cannot be updated by appending to the source, the result has no keys
+	 *
+	 * @param configData the configuration instance
+	 * @return the appendable keys
+	 */
+	public static AppendableKeys of(Object configData) {
+		if (Proxy.isProxyClass(configData.getClass())) {
+			InvocationHandler handler = Proxy.getInvocationHandler(configData);
+			if (handler instanceof ConfigInvocationHandler) {
+				return ((ConfigInvocationHandler) handler).appendableKeys();
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Gets the top level keys which were absent from the source data and filled in using auxiliary
+	 * entries. <br>
+	 * <br>
+	 * This is non-empty only if <i>every</i> auxiliary entry used corresponds to such a key. If an auxiliary
+	 * entry was used for a key nested within an existing section, or for an entry whose key was present but
+	 * whose value was unusable, the configuration cannot be updated by appending to the source, and an empty
+	 * set is returned.
+	 *
+	 * @return the appendable keys, or an empty set if none or if the config cannot be updated by appending
+	 */
+	public Set<String> keys() {
+		return keys;
+	}
+
+	/**
+	 * Gets the top level keys of the source data. These are known only if {@link #keys()} is non-empty,
+	 * and are otherwise an empty set
+	 *
+	 * @return the top level keys present in the source data
+	 */
+	public Set<String> sourceKeys() {
+		return sourceKeys;
+	}
+
+}
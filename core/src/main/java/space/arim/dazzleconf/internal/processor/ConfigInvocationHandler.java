@@ -29,9 +29,52 @@ import space.arim.dazzleconf.internal.util.ImmutableCollections;
 class ConfigInvocationHandler implements InvocationHandler {
 
 	private final Map<String, Object> configMap;
+	private final AppendableKeys appendableKeys;
+	private final Map<String, Object> sourceValues;
+	/** Null unless entries absent from the config map fall through to shared defaults */
+	private final ConfigInvocationHandler defaults;
 	
-	ConfigInvocationHandler(Map<String, Object> configMap) {
+	ConfigInvocationHandler(Map<String, Object> configMap, AppendableKeys appendableKeys,
+							Map<String, Object> sourceValues, ConfigInvocationHandler defaults) {
 		this.configMap = ImmutableCollections.mapOf(configMap);
+		this.appendableKeys = appendableKeys;
+		this.sourceValues = (sourceValues.isEmpty()) ?
+				ImmutableCollections.emptyMap() : ImmutableCollections.mapOf(sourceValues);
+		this.defaults = defaults;
+	}
+
+	/**
+	 * Gets the value of an entry. See {@link SharedDefaults}
+	 *
+	 * @param methodName the method name of the entry
+	 * @return the value
+	 */
+	Object value(String methodName) {
+		Object value = configMap.get(methodName);
+		if (value == null && defaults != null) {
+			return defaults.value(methodName);
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the source value from which an entry was processed. See {@link PreviousConfig}
+	 *
+	 * @param methodName the method name of the entry
+	 * @return the source value, or null if the entry was not processed from source data
+	 */
+	Object sourceValue(String methodName) {
+		return sourceValues.get(methodName);
+	}
+
+	/**
+	 * Gets the keys filled in from auxiliary entries which may be appended to the source. See
+	 * {@link AppendableKeys#of(Object)}
+	 *
+	 * @return the appendable keys, without keys if none or if unsuitable for appending
+	 */
+	AppendableKeys appendableKeys() {
+		return appendableKeys;
 	}
 	
 	@Override
@@ -43,7 +86,7 @@ class ConfigInvocationHandler implements InvocationHandler {
 			return invokeMethodOnSelf(method, args);
 		}
 		assert args == null : Arrays.deepToString(args);
-		return configMap.get(method.getName());
+		return value(method.getName());
 	}
 	
 	private Object invokeMethodOnSelf(Method method, Object[] args) throws Throwable {
@@ -97,7 +140,7 @@ class ConfigInvocationHandler implements InvocationHandler {
 	
 	@Override
 	public String toString() {
-		return "ConfigInvocationHandler [configMap=" + configMap + "]";
+		return "ConfigInvocationHandler [configMap=" + configMap + ", defaults=" + defaults + "]";
 	}
 	
 }
@@ -31,8 +31,9 @@ class DefaultMethodConfigInvocationHandler extends ConfigInvocationHandler {
 
 	private Map<Method, MethodHandle> defaultMethodsMap;
 	
-	DefaultMethodConfigInvocationHandler(Map<String, Object> configMap) {
-		super(configMap);
+	DefaultMethodConfigInvocationHandler(Map<String, Object> configMap, AppendableKeys appendableKeys,
+										 Map<String, Object> sourceValues, ConfigInvocationHandler defaults) {
+		super(configMap, appendableKeys, sourceValues, defaults);
 	}
 	
 	void initDefaultMethods(Object proxy, Set<Method> defaultMethods) {
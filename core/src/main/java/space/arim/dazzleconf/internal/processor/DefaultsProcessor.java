@@ -46,7 +46,9 @@ public class DefaultsProcessor<C> extends ProcessorBase<C> {
 
 	@Override
 	<N> N createChildConfig(ConfigurationOptions options, ConfigurationDefinition<N> childDefinition,
-							String key, Object preValue, N nestedAuxiliaryValues) throws InvalidConfigException {
+							String key, Object preValue, N nestedAuxiliaryValues, Object nestedPrevious,
+							Object nestedDefaults)
+			throws InvalidConfigException {
 		if (nestedAuxiliaryValues != null) {
 			throw new AssertionError("Internal error: DefaultsProcessor does not handle auxiliary entries");
 		}
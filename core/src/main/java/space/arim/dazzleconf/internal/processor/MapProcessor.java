@@ -30,25 +30,64 @@ import space.arim.dazzleconf.internal.error.ElementaryType;
 import space.arim.dazzleconf.internal.error.UserError;
 
 import java.util.Map;
+import java.util.Set;
 
 public class MapProcessor<C> extends ProcessorBase<C> {
 
 	private final NestedMapHelper mapHelper;
+	private final PreviousConfig previous;
+	private final SharedDefaults defaults;
+	private final boolean retainSources;
 
 	public MapProcessor(ConfigurationOptions options, ConfigurationDefinition<C> definition,
 			Map<String, Object> sourceMap, C auxiliaryValues) {
-		this(options, definition, new NestedMapHelper(sourceMap), auxiliaryValues);
+		this(options, definition, sourceMap, auxiliaryValues, null);
 	}
 
-	private MapProcessor(ConfigurationOptions options, ConfigurationDefinition<C> definition,
-			NestedMapHelper mapHelper, C auxiliaryValues) {
+	/**
+	 * Creates a processor which reuses values of a previous configuration where the source data
+	 * is unchanged. See {@link PreviousConfig}
+	 *
+	 * @param options the config options
+	 * @param definition the config definition
+	 * @param sourceMap the source data
+	 * @param auxiliaryValues the auxiliary config, null for none
+	 * @param previous the previous config, null for none
+	 */
+	public MapProcessor(ConfigurationOptions options, ConfigurationDefinition<C> definition,
+			Map<String, Object> sourceMap, C auxiliaryValues, Object previous) {
+		this(options, definition, sourceMap, auxiliaryValues, previous, null, false);
+	}
+
+	/**
+	 * Creates a processor which reuses values of a previous configuration where the source data
+	 * is unchanged, and which stores only the values differing from shared defaults. See
+	 * {@link PreviousConfig} and {@link SharedDefaults}
+	 *
+	 * @param options the config options
+	 * @param definition the config definition
+	 * @param sourceMap the source data
+	 * @param auxiliaryValues the auxiliary config, null for none
+	 * @param previous the previous config, null for none
+	 * @param defaults the default config to share, null for none
+	 * @param retainSources whether to remember the source values, so that the created config may be
+	 *                      reloaded against cheaply. See {@link RetainedSource}
+	 */
+	public MapProcessor(ConfigurationOptions options, ConfigurationDefinition<C> definition,
+			Map<String, Object> sourceMap, C auxiliaryValues, Object previous, Object defaults,
+			boolean retainSources) {
 		super(options, definition, auxiliaryValues);
-		this.mapHelper = mapHelper;
+		this.mapHelper = new NestedMapHelper(sourceMap);
+		this.previous = PreviousConfig.of(previous, definition.getConfigClass());
+		this.defaults = SharedDefaults.of(defaults, definition.getConfigClass());
+		this.retainSources = retainSources;
 	}
 	
 	@Override
 	<N> N createChildConfig(ConfigurationOptions options, ConfigurationDefinition<N> childDefinition,
-							String key, Object preValue, N nestedAuxiliaryValues) throws InvalidConfigException {
+							String key, Object preValue, N nestedAuxiliaryValues, Object nestedPrevious,
+							Object nestedDefaults)
+			throws InvalidConfigException {
 		if (!(preValue instanceof Map)) {
 			throw new BadValueException.Builder()
 					.key(key)
@@ -58,7 +97,29 @@ public class MapProcessor<C> extends ProcessorBase<C> {
 		@SuppressWarnings("unchecked")
 		Map<String, Object> childMap = (Map<String, Object>) preValue;
 		return createFromProcessor(
-				new MapProcessor<>(options, childDefinition, childMap, nestedAuxiliaryValues));
+				new MapProcessor<>(
+				options, childDefinition, childMap, nestedAuxiliaryValues, nestedPrevious, nestedDefaults,
+				retainSources));
+	}
+
+	@Override
+	PreviousConfig previousConfig() {
+		return previous;
+	}
+
+	@Override
+	SharedDefaults sharedDefaults() {
+		return defaults;
+	}
+
+	@Override
+	Set<String> sourceKeys() {
+		return mapHelper.getTopLevelMap().keySet();
+	}
+
+	@Override
+	Object retainedSourceValue(Object preValue) {
+		return (retainSources) ? RetainedSource.of(preValue) : null;
 	}
 
 	@Override
@@ -0,0 +1,135 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.internal.processor;
+
+import space.arim.dazzleconf.AuxiliaryKeys;
+import space.arim.dazzleconf.internal.ConfEntry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * A previously loaded configuration, whose processed values may be reused when the source data
+ * for them is unchanged. <br>
+ * <br>
+ * Configurations reloaded from source data remember a compact copy of the source value of each entry,
+ * see {@link RetainedSource}. An entry whose source value equals the previous source value is not
+ * processed again; the previous processed value is reused as is. Values which were filled in from
+ * auxiliary entries, or whose source value was not remembered, are never reused.
+ *
+ */
+final class PreviousConfig {
+
+	private final Object configData;
+	private final ConfigInvocationHandler handler;
+
+	private PreviousConfig(Object configData, ConfigInvocationHandler handler) {
+		this.configData = configData;
+		this.handler = handler;
+	}
+
+	/**
+	 * Gets the previous configuration, if it is suitable for reuse
+	 *
+	 * @param configData the previous configuration, may be null
+	 * @param configClass the config class being loaded
+	 * @return the previous configuration, or null if none or unsuitable
+	 */
+	static PreviousConfig of(Object configData, Class<?> configClass) {
+		if (configData == null || !configClass.isInstance(configData) || !Proxy.isProxyClass(configData.getClass())) {
+			return null;
+		}
+		InvocationHandler handler = Proxy.getInvocationHandler(configData);
+		if (handler instanceof ConfigInvocationHandler) {
+			return new PreviousConfig(configData, (ConfigInvocationHandler) handler);
+		}
+		return null;
+	}
+
+	Object configData() {
+		return configData;
+	}
+
+	/**
+	 * Gets the previous value of an entry
+	 *
+	 * @param entry the entry
+	 * @return the previous value
+	 */
+	Object value(ConfEntry entry) {
+		return handler.value(entry.getMethod().getName());
+	}
+
+	/**
+	 * Gets the remembered source value of an entry
+	 *
+	 * @param entry the entry
+	 * @return the remembered source value, or null if none
+	 */
+	Object sourceValue(ConfEntry entry) {
+		return handler.sourceValue(entry.getMethod().getName());
+	}
+
+	/**
+	 * Determines whether the previous configuration has the given values and was not filled in
+	 * from auxiliary entries
+	 *
+	 * @param values the values, keyed by method name
+	 * @return true if every value equals the previous value
+	 */
+	boolean hasValues(Map<String, Object> values) {
+		if (configData instanceof AuxiliaryKeys) {
+			return false;
+		}
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			Object value = entry.getValue();
+			Object previousValue = handler.value(entry.getKey());
+			if (previousValue != value && !value.equals(previousValue)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the previous value of an entry, if it was processed from an equal source value
+	 *
+	 * @param entry the entry
+	 * @param sourceValue the current source value
+	 * @return the previous value if reusable, otherwise null
+	 */
+	Object reusableValue(ConfEntry entry, Object sourceValue) {
+		String methodName = entry.getMethod().getName();
+		Object previousSourceValue = handler.sourceValue(methodName);
+		if (previousSourceValue == null
+				|| (previousSourceValue != sourceValue && !previousSourceValue.equals(sourceValue))) {
+			return null;
+		}
+		Object value = handler.value(methodName);
+		if (value instanceof AuxiliaryKeys) {
+			// A sub-section which was partly filled in from auxiliary entries
+			return null;
+		}
+		return value;
+	}
+
+}
@@ -21,7 +21,9 @@ package space.arim.dazzleconf.internal.processor;
 
 import java.lang.reflect.Proxy;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import space.arim.dazzleconf.AuxiliaryKeys;
 import space.arim.dazzleconf.ConfigurationOptions;
@@ -34,6 +36,7 @@ import space.arim.dazzleconf.internal.ConfigurationDefinition;
 import space.arim.dazzleconf.internal.type.ReturnTypeWithConfigDefinition;
 import space.arim.dazzleconf.internal.type.SimpleSubSectionReturnType;
 import space.arim.dazzleconf.internal.util.ConfigurationInvoker;
+import space.arim.dazzleconf.internal.util.ImmutableCollections;
 import space.arim.dazzleconf.serialiser.FlexibleType;
 import space.arim.dazzleconf.validator.ValueValidator;
 
@@ -46,7 +49,16 @@ public abstract class ProcessorBase<C> {
 	private final ConfigurationInvoker<C> auxiliaryValues;
 	
 	private final Map<String, Object> result = new HashMap<>();
+	/** Retained source values of the entries processed from source data, by method name */
+	private final Map<String, Object> sourceValues = new HashMap<>();
+	/** Whether every value was reused from the previous configuration */
+	private boolean reusedAll = true;
 	private boolean usedAuxiliary;
+	/**
+	 * Keys absent from the source for which auxiliary values were used. Null if auxiliary values
+	 * were used in a manner which precludes appending these keys to the source
+	 */
+	private Set<String> appendableKeys = new LinkedHashSet<>();
 	
 	/**
 	 * Creates from options, definition, and auxiliary config values
@@ -71,20 +83,61 @@ public abstract class ProcessorBase<C> {
 		process();
 
 		Class<C> configClass = definition.getConfigClass();
+		PreviousConfig previous = previousConfig();
+		if (previous != null && reusedAll && !usedAuxiliary) {
+			// Nothing changed; keep the previous instance, so that identity reveals the lack of change
+			return configClass.cast(previous.configData());
+		}
+		Map<String, Object> values = result;
+		Map<String, Object> sourceValues = this.sourceValues;
+		ConfigInvocationHandler defaultsHandler = null;
+		SharedDefaults defaults = sharedDefaults();
+		if (defaults != null) {
+			// Keep only the values which differ from the defaults
+			values = new HashMap<>();
+			sourceValues = new HashMap<>();
+			for (Map.Entry<String, Object> entry : result.entrySet()) {
+				String methodName = entry.getKey();
+				Object value = entry.getValue();
+				if (defaults.isDefault(methodName, value)) {
+					continue;
+				}
+				values.put(methodName, value);
+				Object sourceValue = this.sourceValues.get(methodName);
+				if (sourceValue != null) {
+					sourceValues.put(methodName, sourceValue);
+				}
+			}
+			if (!usedAuxiliary) {
+				if (values.isEmpty()) {
+					return configClass.cast(defaults.configData());
+				}
+				if (previous != null && previous.hasValues(result)) {
+					// Entries equal to the defaults have no source values, so they are never reused
+					return configClass.cast(previous.configData());
+				}
+			}
+			defaultsHandler = defaults.handler();
+		}
 		Class<?>[] intf;
 		if (usedAuxiliary) {
 			intf = new Class<?>[] {configClass, AuxiliaryKeys.class};
 		} else {
 			intf = new Class<?>[] {configClass};
 		}
+		AppendableKeys appendableKeys = (usedAuxiliary && this.appendableKeys != null) ?
+				new AppendableKeys(ImmutableCollections.setOf(this.appendableKeys),
+						ImmutableCollections.setOf(sourceKeys())) : AppendableKeys.none();
 		ClassLoader classLoader = configClass.getClassLoader();
 		Object proxy;
 		if (definition.hasDefaultMethods()) {
-			DefaultMethodConfigInvocationHandler handler = new DefaultMethodConfigInvocationHandler(result);
+			DefaultMethodConfigInvocationHandler handler = new DefaultMethodConfigInvocationHandler(
+					values, appendableKeys, sourceValues, defaultsHandler);
 			proxy = Proxy.newProxyInstance(classLoader, intf, handler);
 			handler.initDefaultMethods(proxy, definition.getDefaultMethods());
 		} else {
-			proxy = Proxy.newProxyInstance(classLoader, intf, new ConfigInvocationHandler(result));
+			proxy = Proxy.newProxyInstance(classLoader, intf,
+					new ConfigInvocationHandler(values, appendableKeys, sourceValues, defaultsHandler));
 		}
 		return configClass.cast(proxy);
 	}
@@ -93,15 +146,25 @@ public abstract class ProcessorBase<C> {
 		for (ConfEntry entry : definition.getEntries()) {
 			String methodName = entry.getMethod().getName();
 			Object value;
+			boolean absent = false;
 			try {
-				value = getProcessedValue(entry, getPreValue(entry));
+				Object preValue;
+				try {
+					preValue = getPreValue(entry);
+				} catch (MissingKeyException mke) {
+					absent = true;
+					throw mke;
+				}
+				value = getValue(entry, preValue);
 			} catch (MissingKeyException mke) {
 				// If missing and auxiliary entries are provided, use auxiliary value
 				if (auxiliaryValues == null) {
 					throw mke;
 				}
 				value = getAuxiliaryValue(entry);
+				reusedAll = false;
 				usedAuxiliary = true;
+				recordAuxiliaryKey(entry.getKey(), absent);
 			}
 			Object formerValue = result.put(methodName, value);
 			if (formerValue != null) {
@@ -110,6 +173,18 @@ public abstract class ProcessorBase<C> {
 		}
 	}
 
+	private void recordAuxiliaryKey(String key, boolean absent) {
+		if (appendableKeys == null) {
+			return;
+		}
+		if (absent && key.indexOf('.') == -1) {
+			appendableKeys.add(key);
+		} else {
+			// The key is present in some form, or lies within a section which may be present
+			appendableKeys = null;
+		}
+	}
+
 	private Object getPreValue(ConfEntry entry) throws InvalidConfigException {
 		Object preValue = getValueFromSources(entry);
 		if (preValue == null) {
@@ -118,6 +193,25 @@ public abstract class ProcessorBase<C> {
 		return preValue;
 	}
 	
+	private Object getValue(ConfEntry entry, Object preValue) throws InvalidConfigException {
+		PreviousConfig previous = previousConfig();
+		if (previous != null) {
+			Object reusableValue = previous.reusableValue(entry, preValue);
+			if (reusableValue != null) {
+				// The previous retained source value is equal, and already compact
+				sourceValues.put(entry.getMethod().getName(), previous.sourceValue(entry));
+				return reusableValue;
+			}
+		}
+		reusedAll = false;
+		Object value = getProcessedValue(entry, preValue);
+		Object retainedSourceValue = retainedSourceValue(preValue);
+		if (retainedSourceValue != null) {
+			sourceValues.put(entry.getMethod().getName(), retainedSourceValue);
+		}
+		return value;
+	}
+
 	private Object getProcessedValue(ConfEntry entry, Object preValue) throws InvalidConfigException {
 		String key = entry.getKey();
 
@@ -149,17 +243,33 @@ public abstract class ProcessorBase<C> {
 			throws InvalidConfigException {
 		ConfigurationDefinition<N> nestedDefinition = returnType.configDefinition();
 		N nestedAuxiliary = null;
-		if (auxiliaryValues != null && returnType instanceof SimpleSubSectionReturnType) {
-			Object auxiliaryValue = getAuxiliaryValue(nestedEntry);
-			nestedAuxiliary = nestedDefinition.getConfigClass().cast(auxiliaryValue);
+		Object nestedPrevious = null;
+		Object nestedDefaults = null;
+		if (returnType instanceof SimpleSubSectionReturnType) {
+			if (auxiliaryValues != null) {
+				Object auxiliaryValue = getAuxiliaryValue(nestedEntry);
+				nestedAuxiliary = nestedDefinition.getConfigClass().cast(auxiliaryValue);
+			}
+			PreviousConfig previous = previousConfig();
+			if (previous != null) {
+				// The sub-section changed, but some of its entries may be reused
+				nestedPrevious = previous.value(nestedEntry);
+			}
+			SharedDefaults defaults = sharedDefaults();
+			if (defaults != null) {
+				nestedDefaults = defaults.value(nestedEntry);
+			}
 		}
-		return createChildConfig(options, nestedDefinition, nestedEntry.getKey(), preValue, nestedAuxiliary);
+		return createChildConfig(
+				options, nestedDefinition, nestedEntry.getKey(), preValue,
+				nestedAuxiliary, nestedPrevious, nestedDefaults);
 	}
 
 	<N> N createFromProcessor(ProcessorBase<N> childProcessor) throws InvalidConfigException {
 		N childConfig = childProcessor.createConfig();
 		if (childProcessor.usedAuxiliary) {
 			usedAuxiliary = true; // propagate auxiliary usage flag upward
+			appendableKeys = null; // the missing keys are nested within an existing section
 		}
 		return childConfig;
 	}
@@ -172,6 +282,8 @@ public abstract class ProcessorBase<C> {
 	 * @param key the key, purely informative
 	 * @param preValue the pre processing value
 	 * @param nestedAuxiliaryValues any auxiliary values
+	 * @param nestedPrevious the previous child config, null if none
+	 * @param nestedDefaults the shared default child config, null if none
 	 * @param <N> the nested config type
 	 * @return the child config
 	 * @throws InvalidConfigException if something went wrong
@@ -179,7 +291,48 @@ public abstract class ProcessorBase<C> {
 	abstract <N> N createChildConfig(ConfigurationOptions options,
 									 ConfigurationDefinition<N> childDefinition,
 									 String key, Object preValue,
-									 N nestedAuxiliaryValues) throws InvalidConfigException;
+									 N nestedAuxiliaryValues, Object nestedPrevious,
+									 Object nestedDefaults) throws InvalidConfigException;
+
+	/**
+	 * Gets the keys present in the source data, at the level of this processor. Needed only
+	 * if auxiliary entries are used
+	 *
+	 * @return the source keys
+	 */
+	Set<String> sourceKeys() {
+		return ImmutableCollections.emptySet();
+	}
+
+	/**
+	 * Gets the previous configuration whose values may be reused
+	 *
+	 * @return the previous configuration, or null for none
+	 */
+	PreviousConfig previousConfig() {
+		return null;
+	}
+
+	/**
+	 * Gets the defaults to which entries of the created config fall through, so that only values
+	 * which differ from the defaults need be stored
+	 *
+	 * @return the shared defaults, or null for none
+	 */
+	SharedDefaults sharedDefaults() {
+		return null;
+	}
+
+	/**
+	 * Gets the value to remember in place of the source value of an entry, so that the created config
+	 * may later be used as a {@link PreviousConfig}. See {@link RetainedSource}
+	 *
+	 * @param preValue the source value
+	 * @return the value to remember, or null to remember nothing
+	 */
+	Object retainedSourceValue(Object preValue) {
+		return null;
+	}
 	
 	/**
 	 * Retrieves the pre processing value for a config entry
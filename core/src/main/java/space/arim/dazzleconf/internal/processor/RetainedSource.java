@@ -0,0 +1,87 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact copies of source values, remembered by loaded configurations for {@link PreviousConfig}. <br>
+ * <br>
+ * Source values are remembered only if the load opted into retaining sources. The source objects
+ * themselves are never remembered, as they may be views pinning the format library's entire parsed
+ * document. Scalars are immutable and are remembered as they are. Sections and lists are remembered
+ * as equal copies made of plain collections.
+ *
+ */
+final class RetainedSource {
+
+	private RetainedSource() {}
+
+	/**
+	 * Gets the value to remember in place of a source value
+	 *
+	 * @param sourceValue the source value
+	 * @return a value equal to the source value, or null to remember nothing
+	 */
+	static Object of(Object sourceValue) {
+		return copy(sourceValue);
+	}
+
+	private static boolean isScalar(Object value) {
+		return value instanceof String || value instanceof Number || value instanceof Boolean
+				|| value instanceof Character || value instanceof Enum;
+	}
+
+	private static Object copy(Object value) {
+		if (isScalar(value)) {
+			return value;
+		}
+		if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				Object element = copy(entry.getValue());
+				if (element == null) {
+					return null;
+				}
+				copy.put(entry.getKey(), element);
+			}
+			return copy;
+		}
+		if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			List<Object> copy = new ArrayList<>(list.size());
+			for (Object element : list) {
+				Object elementCopy = copy(element);
+				if (elementCopy == null) {
+					return null;
+				}
+				copy.add(elementCopy);
+			}
+			return copy;
+		}
+		// Unknown types may be mutable or pin other objects
+		return null;
+	}
+
+}
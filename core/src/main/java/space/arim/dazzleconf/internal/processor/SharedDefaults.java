@@ -0,0 +1,93 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.processor;
+
+import space.arim.dazzleconf.internal.ConfEntry;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * A default configuration shared by many loaded configurations. <br>
+ * <br>
+ * A configuration loaded with shared defaults stores only the values of entries which differ
+ * from the defaults. Lookups of the other entries fall through to the defaults. A configuration,
+ * or sub-section, equal in every entry to the defaults is the defaults instance itself.
+ *
+ */
+final class SharedDefaults {
+
+	private final Object configData;
+	private final ConfigInvocationHandler handler;
+
+	private SharedDefaults(Object configData, ConfigInvocationHandler handler) {
+		this.configData = configData;
+		this.handler = handler;
+	}
+
+	/**
+	 * Gets the shared defaults, if suitable for sharing
+	 *
+	 * @param configData the default configuration, may be null
+	 * @param configClass the config class being loaded
+	 * @return the shared defaults, or null if none or unsuitable
+	 */
+	static SharedDefaults of(Object configData, Class<?> configClass) {
+		if (configData == null || !configClass.isInstance(configData) || !Proxy.isProxyClass(configData.getClass())) {
+			return null;
+		}
+		InvocationHandler handler = Proxy.getInvocationHandler(configData);
+		if (handler instanceof ConfigInvocationHandler) {
+			return new SharedDefaults(configData, (ConfigInvocationHandler) handler);
+		}
+		return null;
+	}
+
+	Object configData() {
+		return configData;
+	}
+
+	ConfigInvocationHandler handler() {
+		return handler;
+	}
+
+	/**
+	 * Gets the default value of an entry
+	 *
+	 * @param entry the entry
+	 * @return the default value
+	 */
+	Object value(ConfEntry entry) {
+		return handler.value(entry.getMethod().getName());
+	}
+
+	/**
+	 * Determines whether a value equals the default value of an entry
+	 *
+	 * @param methodName the method name of the entry
+	 * @param value the value
+	 * @return true if equal to the default value
+	 */
+	boolean isDefault(String methodName, Object value) {
+		Object defaultValue = handler.value(methodName);
+		return defaultValue == value || value.equals(defaultValue);
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking configuration tasks on an executor
+ *
+ */
+public final class AsyncTasks {
+
+	private AsyncTasks() {}
+
+	/**
+	 * Runs a task on the given executor. The returned future completes with the task's result,
+	 * or exceptionally with the exception thrown by the task, unwrapped
+	 *
+	 * @param task the task
+	 * @param executor the executor
+	 * @param <T> the result type
+	 * @return a future completed once the task finishes
+	 */
+	public static <T> CompletableFuture<T> supply(Callable<T> task, Executor executor) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		executor.execute(() -> {
+			T result;
+			try {
+				result = task.call();
+			} catch (Throwable ex) {
+				future.completeExceptionally(ex);
+				return;
+			}
+			future.complete(result);
+		});
+		return future;
+	}
+
+	/**
+	 * Gets the default executor. Uses a virtual thread per task if the runtime supports virtual
+	 * threads, otherwise a small pool of daemon threads
+	 *
+	 * @return the default executor
+	 */
+	public static Executor defaultExecutor() {
+		return DefaultExecutor.INSTANCE;
+	}
+
+	/**
+	 * Whether the current thread is a virtual thread. Virtual threads are typically created per task,
+	 * so thread local caches are not reused on them
+	 *
+	 * @return true if the current thread is virtual, false if not or if unsupported by the runtime
+	 */
+	public static boolean isVirtualThread() {
+		MethodHandle isVirtual = VirtualThreads.IS_VIRTUAL;
+		if (isVirtual == null) {
+			return false;
+		}
+		try {
+			return (boolean) isVirtual.invokeExact(Thread.currentThread());
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static final class VirtualThreads {
+
+		/** Null if the runtime does not support virtual threads */
+		static final MethodHandle IS_VIRTUAL = find();
+
+		private static MethodHandle find() {
+			try {
+				return MethodHandles.publicLookup().findVirtual(
+						Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+			} catch (NoSuchMethodException | IllegalAccessException ex) {
+				return null;
+			}
+		}
+	}
+
+	private static final class DefaultExecutor {
+
+		static final Executor INSTANCE = create();
+
+		private static Executor create() {
+			MethodHandle virtualThreadExecutor;
+			try {
+				virtualThreadExecutor = MethodHandles.publicLookup().findStatic(
+						Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+			} catch (NoSuchMethodException | IllegalAccessException ex) {
+				return createPool();
+			}
+			try {
+				return (Executor) virtualThreadExecutor.invoke();
+			} catch (RuntimeException | Error ex) {
+				throw ex;
+			} catch (Throwable ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		private static Executor createPool() {
+			int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+			AtomicInteger threadCount = new AtomicInteger();
+			ThreadFactory threadFactory = (runnable) -> {
+				Thread thread = new Thread(runnable, "dazzleconf-async-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(
+					threads, threads, 30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+			pool.allowCoreThreadTimeOut(true);
+			return pool;
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.InvalidMarkException;
+
+/**
+ * A reader over already decoded content. Unlike {@code CharArrayReader} or {@code StringReader},
+ * the content need not be copied. Supports marking without limit, as the content is held anyway.
+ * Not thread safe.
+ *
+ */
+public final class CharBufferReader extends Reader {
+
+	private final CharBuffer content;
+
+	public CharBufferReader(CharBuffer content) {
+		this.content = content;
+	}
+
+	@Override
+	public int read() {
+		return content.hasRemaining() ? content.get() : -1;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) {
+		if (len == 0) {
+			return 0;
+		}
+		int remaining = content.remaining();
+		if (remaining == 0) {
+			return -1;
+		}
+		int count = Math.min(len, remaining);
+		content.get(cbuf, off, count);
+		return count;
+	}
+
+	@Override
+	public int read(CharBuffer target) {
+		int remaining = content.remaining();
+		if (remaining == 0) {
+			return -1;
+		}
+		int count = Math.min(target.remaining(), remaining);
+		int limit = content.limit();
+		content.limit(content.position() + count);
+		target.put(content);
+		content.limit(limit);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		int count = (int) Math.min(Math.max(n, 0L), content.remaining());
+		content.position(content.position() + count);
+		return count;
+	}
+
+	@Override
+	public boolean ready() {
+		return true;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) {
+		content.mark();
+	}
+
+	@Override
+	public void reset() throws IOException {
+		try {
+			content.reset();
+		} catch (InvalidMarkException ex) {
+			throw new IOException("Reader not marked", ex);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		// Nothing to release
+	}
+
+}
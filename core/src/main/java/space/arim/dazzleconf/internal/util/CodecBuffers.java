@@ -0,0 +1,113 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Buffers and codecs used to read and write configurations, which may be reused across
+ * loads and writes by a single user at a time. Not thread safe.
+ *
+ */
+public final class CodecBuffers {
+
+	/** The capacity of each buffer */
+	public static final int BUFFER_SIZE = 8192;
+
+	private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+	private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private ByteBuffer directByteBuffer;
+	private CharsetDecoder decoder;
+	private CharsetEncoder encoder;
+
+	/**
+	 * Gets the character buffer, cleared
+	 *
+	 * @return the character buffer
+	 */
+	public CharBuffer charBuffer() {
+		charBuffer.clear();
+		return charBuffer;
+	}
+
+	/**
+	 * Gets the heap byte buffer, cleared
+	 *
+	 * @return the heap byte buffer
+	 */
+	public ByteBuffer byteBuffer() {
+		byteBuffer.clear();
+		return byteBuffer;
+	}
+
+	/**
+	 * Gets the direct byte buffer, cleared. It is allocated upon first use
+	 *
+	 * @return the direct byte buffer
+	 */
+	public ByteBuffer directByteBuffer() {
+		ByteBuffer directByteBuffer = this.directByteBuffer;
+		if (directByteBuffer == null) {
+			this.directByteBuffer = directByteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		}
+		directByteBuffer.clear();
+		return directByteBuffer;
+	}
+
+	/**
+	 * Gets a decoder for the given charset, reset and with the given error action
+	 *
+	 * @param charset the charset
+	 * @param errorAction the action for malformed input and unmappable characters
+	 * @return the decoder
+	 */
+	public CharsetDecoder decoder(Charset charset, CodingErrorAction errorAction) {
+		CharsetDecoder decoder = this.decoder;
+		if (decoder == null || !decoder.charset().equals(charset)) {
+			this.decoder = decoder = charset.newDecoder();
+		} else {
+			decoder.reset();
+		}
+		return decoder.onMalformedInput(errorAction).onUnmappableCharacter(errorAction);
+	}
+
+	/**
+	 * Gets an encoder for the given charset, reset and with the given error action
+	 *
+	 * @param charset the charset
+	 * @param errorAction the action for malformed input and unmappable characters
+	 * @return the encoder
+	 */
+	public CharsetEncoder encoder(Charset charset, CodingErrorAction errorAction) {
+		CharsetEncoder encoder = this.encoder;
+		if (encoder == null || !encoder.charset().equals(charset)) {
+			this.encoder = encoder = charset.newEncoder();
+		} else {
+			encoder.reset();
+		}
+		return encoder.onMalformedInput(errorAction).onUnmappableCharacter(errorAction);
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * A reader which decodes bytes from a channel or stream using supplied buffers. Replaces
+ * the combination of {@code Channels.newReader} or {@code InputStreamReader} with
+ * {@code BufferedReader}, which buffers characters twice. <br>
+ * <br>
+ * Closing the reader closes the channel or stream. Not thread safe.
+ *
+ */
+public final class DecodingReader extends Reader {
+
+	private final ReadableByteChannel channel;
+	private final InputStream inputStream;
+	private final CharsetDecoder decoder;
+	/** Filled from the source, and drained by decoding */
+	private final ByteBuffer bytes;
+	/** Filled by decoding, and drained by reading. Kept flipped for draining */
+	private final CharBuffer chars;
+	private boolean endOfInput;
+	private boolean flushed;
+	private boolean closed;
+
+	private DecodingReader(ReadableByteChannel channel, InputStream inputStream,
+						   CharsetDecoder decoder, ByteBuffer bytes, CharBuffer chars) {
+		if (chars.capacity() < 2) {
+			throw new IllegalArgumentException("Character buffer capacity too small");
+		}
+		this.channel = channel;
+		this.inputStream = inputStream;
+		this.decoder = decoder;
+		this.bytes = bytes;
+		this.chars = chars;
+		chars.limit(0);
+	}
+
+	/**
+	 * Creates a reader from a channel
+	 *
+	 * @param channel the channel from which to read, which must be blocking
+	 * @param decoder the charset decoder, which must be in its initial state
+	 * @param bytes the buffer for bytes yet to be decoded, which must be empty
+	 * @param chars the buffer for decoded characters, which must be empty and have a capacity of at least 2
+	 * @return the reader
+	 */
+	public static DecodingReader fromChannel(ReadableByteChannel channel, CharsetDecoder decoder,
+											 ByteBuffer bytes, CharBuffer chars) {
+		return new DecodingReader(channel, null, decoder, bytes, chars);
+	}
+
+	/**
+	 * Creates a reader from an input stream
+	 *
+	 * @param inputStream the stream from which to read
+	 * @param decoder the charset decoder, which must be in its initial state
+	 * @param bytes the buffer for bytes yet to be decoded, which must be empty and array backed
+	 * @param chars the buffer for decoded characters, which must be empty and have a capacity of at least 2
+	 * @return the reader
+	 */
+	public static DecodingReader fromStream(InputStream inputStream, CharsetDecoder decoder,
+											ByteBuffer bytes, CharBuffer chars) {
+		return new DecodingReader(null, inputStream, decoder, bytes, chars);
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Reader closed");
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		ensureOpen();
+		if (!chars.hasRemaining() && !fill()) {
+			return -1;
+		}
+		return chars.get();
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		ensureOpen();
+		if (len == 0) {
+			return 0;
+		}
+		if (!chars.hasRemaining() && !fill()) {
+			return -1;
+		}
+		int count = Math.min(len, chars.remaining());
+		chars.get(cbuf, off, count);
+		return count;
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		ensureOpen();
+		return chars.hasRemaining();
+	}
+
+	/**
+	 * Decodes more characters. Called only once all decoded characters have been read
+	 *
+	 * @return false if the end of input has been reached
+	 */
+	private boolean fill() throws IOException {
+		if (flushed) {
+			return false;
+		}
+		chars.clear();
+		try {
+			while (true) {
+				bytes.flip();
+				CoderResult result = decoder.decode(bytes, chars, endOfInput);
+				bytes.compact();
+				if (result.isError()) {
+					result.throwException();
+				}
+				if (chars.position() > 0) {
+					return true;
+				}
+				if (endOfInput) {
+					decoder.flush(chars);
+					flushed = true;
+					return chars.position() > 0;
+				}
+				endOfInput = readBytes() == -1;
+			}
+		} finally {
+			chars.flip();
+		}
+	}
+
+	private int readBytes() throws IOException {
+		if (channel != null) {
+			return channel.read(bytes);
+		}
+		int position = bytes.position();
+		int count = inputStream.read(bytes.array(), bytes.arrayOffset() + position, bytes.remaining());
+		if (count > 0) {
+			bytes.position(position + count);
+		}
+		return count;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (channel != null) {
+			channel.close();
+		} else {
+			inputStream.close();
+		}
+	}
+
+}
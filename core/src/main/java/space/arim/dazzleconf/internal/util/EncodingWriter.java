@@ -0,0 +1,205 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * A writer which encodes characters directly into a byte buffer and writes it to a channel
+ * or stream. Replaces the combination of {@code Channels.newWriter} or {@code OutputStreamWriter}
+ * with {@code BufferedWriter}, which buffers characters twice. <br>
+ * <br>
+ * Closing the writer closes the channel or stream. Not thread safe.
+ *
+ */
+public final class EncodingWriter extends Writer {
+
+	private final WritableByteChannel channel;
+	private final OutputStream outputStream;
+	private final CharsetEncoder encoder;
+	private final CharBuffer chars;
+	private final ByteBuffer bytes;
+	private boolean closed;
+
+	/**
+	 * Creates from a channel, encoder, and buffers
+	 *
+	 * @param channel the channel to which to write
+	 * @param encoder the charset encoder, which must be in its initial state
+	 * @param chars the buffer for pending characters, which must be empty, array backed, and
+	 *              have a capacity of at least 2 so that a surrogate pair always fits
+	 * @param bytes the buffer for encoded bytes, which must be empty
+	 */
+	public EncodingWriter(WritableByteChannel channel, CharsetEncoder encoder, CharBuffer chars, ByteBuffer bytes) {
+		this(channel, null, encoder, chars, bytes);
+	}
+
+	/**
+	 * Creates from an output stream, encoder, and buffers
+	 *
+	 * @param outputStream the stream to which to write
+	 * @param encoder the charset encoder, which must be in its initial state
+	 * @param chars the buffer for pending characters, which must be empty, array backed, and
+	 *              have a capacity of at least 2 so that a surrogate pair always fits
+	 * @param bytes the buffer for encoded bytes, which must be empty and array backed
+	 */
+	public EncodingWriter(OutputStream outputStream, CharsetEncoder encoder, CharBuffer chars, ByteBuffer bytes) {
+		this(null, outputStream, encoder, chars, bytes);
+	}
+
+	private EncodingWriter(WritableByteChannel channel, OutputStream outputStream,
+						   CharsetEncoder encoder, CharBuffer chars, ByteBuffer bytes) {
+		if (chars.capacity() < 2) {
+			throw new IllegalArgumentException("Character buffer capacity too small");
+		}
+		this.channel = channel;
+		this.outputStream = outputStream;
+		this.encoder = encoder;
+		this.chars = chars;
+		this.bytes = bytes;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Writer closed");
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		if (!chars.hasRemaining()) {
+			encodePendingChars(false);
+		}
+		chars.put((char) c);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		ensureOpen();
+		if (len > chars.remaining()) {
+			putChars(CharBuffer.wrap(cbuf, off, len));
+			return;
+		}
+		chars.put(cbuf, off, len);
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		ensureOpen();
+		if (len > chars.remaining()) {
+			putChars(CharBuffer.wrap(str, off, off + len));
+			return;
+		}
+		int position = chars.position();
+		str.getChars(off, off + len, chars.array(), chars.arrayOffset() + position);
+		chars.position(position + len);
+	}
+
+	@Override
+	public Writer append(CharSequence csq) throws IOException {
+		String str = String.valueOf(csq);
+		write(str, 0, str.length());
+		return this;
+	}
+
+	/**
+	 * Puts input which may not fit in the pending characters, encoding them as they fill
+	 */
+	private void putChars(CharBuffer input) throws IOException {
+		while (input.hasRemaining()) {
+			if (!chars.hasRemaining()) {
+				encodePendingChars(false);
+			}
+			int count = Math.min(chars.remaining(), input.remaining());
+			int limit = input.limit();
+			input.limit(input.position() + count);
+			chars.put(input);
+			input.limit(limit);
+		}
+	}
+
+	private void encodePendingChars(boolean endOfInput) throws IOException {
+		chars.flip();
+		encodeInto(chars, endOfInput);
+		chars.compact();
+	}
+
+	private void encodeInto(CharBuffer input, boolean endOfInput) throws IOException {
+		while (true) {
+			CoderResult result = encoder.encode(input, bytes, endOfInput);
+			if (result.isUnderflow()) {
+				return;
+			}
+			if (result.isOverflow()) {
+				writeBytes();
+				continue;
+			}
+			result.throwException();
+		}
+	}
+
+	private void writeBytes() throws IOException {
+		bytes.flip();
+		if (channel != null) {
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+		} else if (bytes.hasRemaining()) {
+			outputStream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+		}
+		bytes.clear();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		encodePendingChars(false);
+		writeBytes();
+		if (outputStream != null) {
+			outputStream.flush();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try (Closeable target = (channel != null) ? channel : outputStream) {
+			encodePendingChars(true);
+			while (encoder.flush(bytes).isOverflow()) {
+				writeBytes();
+			}
+			writeBytes();
+		} finally {
+			closed = true;
+		}
+	}
+
+}
@@ -18,6 +18,7 @@
  */
 package space.arim.dazzleconf;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
@@ -58,5 +59,20 @@ public class WriteDefaultsTest {
 		}
 		new DummyConfigDefaults().assertDefaultValues(reloaded);
 	}
+
+	@Test
+	public void testWriteDefaultsTemplate() throws IOException, InvalidConfigException {
+		var expected = new ByteArrayOutputStream();
+		factory.write(factory.loadDefaults(), expected);
+
+		for (int n = 0; n < 2; n++) {
+			var baos = new ByteArrayOutputStream();
+			factory.writeDefaults(baos);
+			assertArrayEquals(expected.toByteArray(), baos.toByteArray());
+
+			DummyConfig reloaded = factory.load(new ByteArrayInputStream(baos.toByteArray()));
+			new DummyConfigDefaults().assertDefaultValues(reloaded);
+		}
+	}
 	
 }
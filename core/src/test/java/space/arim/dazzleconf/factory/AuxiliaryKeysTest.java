@@ -25,10 +25,12 @@ import space.arim.dazzleconf.ConfigurationFactory;
 import space.arim.dazzleconf.ConfigurationOptions;
 import space.arim.dazzleconf.annote.SubSection;
 import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.processor.AppendableKeys;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -53,6 +55,7 @@ public class AuxiliaryKeysTest {
 		assertEquals(valueTwo, loaded.valueTwo());
 		assertEquals(nestedValue, loaded.subConfig().nestedValue());
 		assertFalse(loaded instanceof AuxiliaryKeys, "loaded config must not have auxiliary keys marker");
+		assertEquals(Set.of(), AppendableKeys.of(loaded).keys());
 	}
 
 	// Top-level option's auxiliary value is used
@@ -68,6 +71,8 @@ public class AuxiliaryKeysTest {
 		assertEquals(valueTwoAux, loaded.valueTwo());
 		assertEquals(nestedValue, loaded.subConfig().nestedValue());
 		assertTrue(loaded instanceof AuxiliaryKeys, "loaded config must have auxiliary keys marker");
+		assertEquals(Set.of("valueTwo"), AppendableKeys.of(loaded).keys());
+		assertEquals(Set.of("valueOne", "subConfig"), AppendableKeys.of(loaded).sourceKeys());
 	}
 
 	// Nested option's auxiliary value is used
@@ -83,6 +88,8 @@ public class AuxiliaryKeysTest {
 		assertEquals(valueTwoAux, loaded.valueTwo());
 		assertEquals(nestedValueAux, loaded.subConfig().nestedValue());
 		assertTrue(loaded instanceof AuxiliaryKeys, "loaded config must have auxiliary keys marker interface");
+		// The missing nested key lies within the existing section
+		assertEquals(Set.of(), AppendableKeys.of(loaded).keys());
 	}
 
 	// Top-level config section's auxiliary value is used
@@ -98,6 +105,8 @@ public class AuxiliaryKeysTest {
 		assertEquals(valueTwoAux, loaded.valueTwo());
 		assertEquals(nestedValueAux, loaded.subConfig().nestedValue());
 		assertTrue(loaded instanceof AuxiliaryKeys, "loaded config must have auxiliary keys marker interface");
+		assertEquals(Set.of("valueTwo", "subConfig"), AppendableKeys.of(loaded).keys());
+		assertEquals(Set.of("valueOne"), AppendableKeys.of(loaded).sourceKeys());
 	}
 
 	public interface Config {
@@ -0,0 +1,118 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.factory;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.internal.util.CodecBuffers;
+
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BufferStrategyTest {
+
+	@Test
+	public void threadLocalReuses() {
+		BufferStrategy strategy = BufferStrategy.threadLocal();
+		CodecBuffers buffers = strategy.acquire();
+		strategy.release(buffers);
+		assertSame(buffers, strategy.acquire());
+		strategy.release(buffers);
+	}
+
+	@Test
+	public void threadLocalReentrant() {
+		BufferStrategy strategy = BufferStrategy.threadLocal();
+		CodecBuffers outer = strategy.acquire();
+		CodecBuffers inner = strategy.acquire();
+		assertNotSame(outer, inner);
+		strategy.release(inner);
+		strategy.release(outer);
+	}
+
+	@Test
+	public void threadLocalPerThread() throws InterruptedException {
+		BufferStrategy strategy = BufferStrategy.threadLocal();
+		CodecBuffers buffers = strategy.acquire();
+		strategy.release(buffers);
+		CodecBuffers[] otherBuffers = new CodecBuffers[1];
+		Thread thread = new Thread(() -> {
+			otherBuffers[0] = strategy.acquire();
+			strategy.release(otherBuffers[0]);
+		});
+		thread.start();
+		thread.join();
+		assertNotSame(buffers, otherBuffers[0]);
+	}
+
+	@Test
+	public void threadLocalSharedOnVirtualThreads() throws InterruptedException {
+		InstancePool<CodecBuffers> pool = InstancePool.threadLocal(CodecBuffers::new, () -> true);
+		CodecBuffers buffers = pool.acquire();
+		pool.release(buffers);
+		CodecBuffers[] otherBuffers = new CodecBuffers[1];
+		Thread thread = new Thread(() -> {
+			otherBuffers[0] = pool.acquire();
+			pool.release(otherBuffers[0]);
+		});
+		thread.start();
+		thread.join();
+		assertSame(buffers, otherBuffers[0], "Buffers released by a finished task should be reused by the next");
+	}
+
+	@Test
+	public void boundedPoolRetainsUpToCapacity() {
+		BufferStrategy strategy = BufferStrategy.boundedPool(1);
+		CodecBuffers first = strategy.acquire();
+		CodecBuffers second = strategy.acquire();
+		assertNotSame(first, second);
+		strategy.release(first);
+		strategy.release(second);
+		assertSame(first, strategy.acquire());
+		assertNotSame(second, strategy.acquire());
+	}
+
+	@Test
+	public void boundedPoolCapacityPositive() {
+		assertThrows(IllegalArgumentException.class, () -> BufferStrategy.boundedPool(0));
+	}
+
+	@Test
+	public void noneNeverReuses() {
+		BufferStrategy strategy = BufferStrategy.none();
+		CodecBuffers buffers = strategy.acquire();
+		strategy.release(buffers);
+		assertNotSame(buffers, strategy.acquire());
+	}
+
+	@Test
+	public void codecsReusedPerCharset() {
+		CodecBuffers buffers = new CodecBuffers();
+		CharsetDecoder decoder = buffers.decoder(StandardCharsets.UTF_8, CodingErrorAction.REPORT);
+		assertSame(decoder, buffers.decoder(StandardCharsets.UTF_8, CodingErrorAction.REPLACE));
+		assertSame(CodingErrorAction.REPLACE, decoder.malformedInputAction());
+		assertNotSame(decoder, buffers.decoder(StandardCharsets.UTF_16, CodingErrorAction.REPORT));
+	}
+
+}
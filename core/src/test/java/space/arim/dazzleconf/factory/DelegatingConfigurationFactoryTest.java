@@ -0,0 +1,235 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.factory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.AuxiliaryKeys;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+import space.arim.dazzleconf.error.InvalidConfigException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("deprecation")
+public class DelegatingConfigurationFactoryTest {
+
+	@TempDir
+	public Path tempDir;
+
+	private final ConfigurationOptions options = ConfigurationOptions.defaults();
+	private final Factory factory = new Factory(options);
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("1")
+		String one();
+
+		@ConfDefault.DefaultString("2")
+		String two();
+
+	}
+
+	/**
+	 * Implements the deprecated factory using the methods of {@link KeyValueFactory}
+	 */
+	private static final class Factory extends AbstractConfigurationFactory<Config> {
+
+		private final KeyValueFactory<Config> format = new KeyValueFactory<>(
+				Config.class, StandardCharsets.UTF_8, BufferStrategy.none());
+
+		Factory(ConfigurationOptions options) {
+			super(Config.class, options);
+		}
+
+		@Override
+		protected Charset charset() {
+			return StandardCharsets.UTF_8;
+		}
+
+		@Override
+		protected BufferStrategy bufferStrategy() {
+			return BufferStrategy.none();
+		}
+
+		@Override
+		protected Map<String, Object> loadMapFromReader(Reader reader) throws IOException, ConfigFormatSyntaxException {
+			return format.loadMap(reader);
+		}
+
+		@Override
+		protected void writeMapToWriter(Map<String, Object> config, Writer writer) throws IOException {
+			format.writeMap(config, writer);
+		}
+
+		@Override
+		protected boolean supportsAppendingMap() {
+			return true;
+		}
+
+		@Override
+		protected void appendMapToWriter(Map<String, Object> config, Writer writer) throws IOException {
+			format.writeMap(config, writer);
+		}
+	}
+
+	private static byte[] bytes(String content) {
+		return content.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private Path writeFile(String content) throws IOException {
+		Path path = tempDir.resolve("config.properties");
+		Files.write(path, bytes(content));
+		return path;
+	}
+
+	@Test
+	public void delegateDefinition() {
+		assertEquals(Config.class, factory.getConfigClass());
+		assertSame(options, factory.getOptions());
+		assertEquals(Collections.emptyList(), factory.getHeader());
+	}
+
+	@Test
+	public void loadChannelAndStream() throws IOException, InvalidConfigException {
+		String content = "one=a\ntwo=b\n";
+		Config fromChannel = factory.load(Channels.newChannel(new ByteArrayInputStream(bytes(content))));
+		assertEquals("a", fromChannel.one());
+		assertEquals("b", fromChannel.two());
+		Config fromStream = factory.load(new ByteArrayInputStream(bytes(content)));
+		assertEquals("a", fromStream.one());
+		assertEquals("b", fromStream.two());
+	}
+
+	@Test
+	public void loadChannelAndStreamWithAuxiliary() throws IOException, InvalidConfigException {
+		Config defaults = factory.loadDefaults();
+		assertEquals("1", defaults.one());
+		assertEquals("2", defaults.two());
+		String content = "one=a\n";
+		Config fromChannel = factory.load(Channels.newChannel(new ByteArrayInputStream(bytes(content))), defaults);
+		assertInstanceOf(AuxiliaryKeys.class, fromChannel);
+		assertEquals("a", fromChannel.one());
+		assertEquals("2", fromChannel.two());
+		Config fromStream = factory.load(new ByteArrayInputStream(bytes(content)), defaults);
+		assertInstanceOf(AuxiliaryKeys.class, fromStream);
+		assertEquals("a", fromStream.one());
+		assertEquals("2", fromStream.two());
+	}
+
+	@Test
+	public void loadPath() throws IOException, InvalidConfigException {
+		Path path = writeFile("one=a\n");
+		Config withAuxiliary = factory.load(path, factory.loadDefaults());
+		assertEquals("a", withAuxiliary.one());
+		assertEquals("2", withAuxiliary.two());
+
+		writeFile("one=a\ntwo=b\n");
+		Config loaded = factory.load(path);
+		assertEquals("a", loaded.one());
+		assertEquals("b", loaded.two());
+	}
+
+	@Test
+	public void loadPathAsync() throws IOException, ExecutionException, InterruptedException {
+		Path path = writeFile("one=a\ntwo=b\n");
+		Config loaded = factory.loadAsync(path).get();
+		assertEquals("a", loaded.one());
+		assertEquals("b", loaded.two());
+	}
+
+	@Test
+	public void reloadPath() throws IOException, InvalidConfigException {
+		Path path = writeFile("one=a\ntwo=b\n");
+		Config previous = factory.reload(path, null, null);
+		assertSame(previous, factory.reload(path, null, previous));
+
+		writeFile("one=a\ntwo=c\n");
+		Config changed = factory.reload(path, null, previous);
+		assertNotSame(previous, changed);
+		assertEquals("a", changed.one());
+		assertEquals("c", changed.two());
+	}
+
+	@Test
+	public void reloadChannel() throws IOException, InvalidConfigException {
+		byte[] content = bytes("one=a\ntwo=b\n");
+		Config previous = factory.reload(Channels.newChannel(new ByteArrayInputStream(content)), null, null);
+		assertSame(previous, factory.reload(Channels.newChannel(new ByteArrayInputStream(content)), null, previous));
+	}
+
+	@Test
+	public void write() throws IOException, InvalidConfigException {
+		Config config = factory.load(new ByteArrayInputStream(bytes("one=a\ntwo=b\n")));
+		ByteArrayOutputStream toChannel = new ByteArrayOutputStream();
+		factory.write(config, Channels.newChannel(toChannel));
+		assertEquals("one=a\ntwo=b\n", toChannel.toString(StandardCharsets.UTF_8));
+		ByteArrayOutputStream toStream = new ByteArrayOutputStream();
+		factory.write(config, toStream);
+		assertEquals("one=a\ntwo=b\n", toStream.toString(StandardCharsets.UTF_8));
+		Path path = tempDir.resolve("config.properties");
+		factory.write(config, path);
+		assertEquals("one=a\ntwo=b\n", Files.readString(path));
+	}
+
+	@Test
+	public void writeDefaults() throws IOException {
+		ByteArrayOutputStream toChannel = new ByteArrayOutputStream();
+		factory.writeDefaults(Channels.newChannel(toChannel));
+		assertEquals("one=1\ntwo=2\n", toChannel.toString(StandardCharsets.UTF_8));
+		ByteArrayOutputStream toStream = new ByteArrayOutputStream();
+		factory.writeDefaults(toStream);
+		assertEquals("one=1\ntwo=2\n", toStream.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void appendAuxiliaryEntries() throws IOException, InvalidConfigException {
+		Path path = writeFile("one=a\n");
+		Config loaded = factory.load(path, factory.loadDefaults());
+		assertTrue(factory.appendAuxiliaryEntries(loaded, path));
+		assertEquals("one=a\ntwo=2\n", Files.readString(path));
+
+		Config reloaded = factory.load(path, factory.loadDefaults());
+		assertFalse(reloaded instanceof AuxiliaryKeys);
+		assertFalse(factory.appendAuxiliaryEntries(reloaded, path));
+	}
+
+}
@@ -21,7 +21,9 @@ package space.arim.dazzleconf.factory;
 
 import org.junit.jupiter.api.Assertions;
 import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.InvalidConfigException;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.ReadableByteChannel;
@@ -45,6 +47,24 @@ public class FixedLoaderFactory<C> extends ConfigurationFormatFactory<C> {
 		this.map = Map.copyOf(map);
 	}
 
+	/**
+	 * Loads a configuration from the given data, using default options
+	 *
+	 * @param configClass the config class
+	 * @param map the data
+	 * @param <C> the config class
+	 * @return the loaded configuration
+	 * @throws InvalidConfigException if the data is invalid
+	 */
+	public static <C> C load(Class<C> configClass, Map<String, Object> map) throws InvalidConfigException {
+		try {
+			return new FixedLoaderFactory<>(configClass, ConfigurationOptions.defaults(), map)
+					.load(InputStream.nullInputStream());
+		} catch (IOException ex) {
+			throw Assertions.<RuntimeException>fail(ex);
+		}
+	}
+
 	@Override
 	public Map<String, Object> loadMap(ReadableByteChannel readChannel) {
 		return map;
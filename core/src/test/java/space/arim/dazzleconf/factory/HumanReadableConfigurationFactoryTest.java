@@ -0,0 +1,313 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.factory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.internal.util.CodecBuffers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HumanReadableConfigurationFactoryTest {
+
+	@TempDir
+	public Path tempDir;
+
+	private final KeyValueFactory<Config> factory = new KeyValueFactory<>(
+			Config.class, StandardCharsets.UTF_8, BufferStrategy.none());
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("default")
+		String value();
+
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		Arrays.fill(bytes, (byte) 'a');
+		return bytes;
+	}
+
+	private static byte[] remaining(ByteBuffer buffer) {
+		byte[] remaining = new byte[buffer.remaining()];
+		buffer.get(remaining);
+		return remaining;
+	}
+
+	@Test
+	public void readIntoPooledBuffer() throws IOException {
+		ByteBuffer pooled = ByteBuffer.allocate(16);
+		ByteBuffer read = HumanReadableConfigurationFactory.readFully(new ReportedSizeChannel(bytes(15), 15), pooled);
+		assertSame(pooled, read);
+		assertArrayEquals(bytes(15), remaining(read));
+	}
+
+	@Test
+	public void readIntoHeapBufferOfReportedSize() throws IOException {
+		ByteBuffer pooled = ByteBuffer.allocate(16);
+		ByteBuffer read = HumanReadableConfigurationFactory.readFully(new ReportedSizeChannel(bytes(16), 16), pooled);
+		assertNotSame(pooled, read);
+		// Room for one more byte, so that reaching the end needs no enlargement
+		assertEquals(17, read.capacity());
+		assertArrayEquals(bytes(16), remaining(read));
+	}
+
+	@Test
+	public void readGrowingFile() throws IOException {
+		ByteBuffer pooled = ByteBuffer.allocate(16);
+		ByteBuffer read = HumanReadableConfigurationFactory.readFully(new ReportedSizeChannel(bytes(100), 4), pooled);
+		assertArrayEquals(bytes(100), remaining(read));
+	}
+
+	@Test
+	public void readGrowingLargeFile() throws IOException {
+		ByteBuffer pooled = ByteBuffer.allocate(16);
+		ByteBuffer read = HumanReadableConfigurationFactory.readFully(new ReportedSizeChannel(bytes(100), 20), pooled);
+		assertArrayEquals(bytes(100), remaining(read));
+	}
+
+	@Test
+	public void readEmptyFile() throws IOException {
+		ByteBuffer pooled = ByteBuffer.allocate(16);
+		ByteBuffer read = HumanReadableConfigurationFactory.readFully(new ReportedSizeChannel(new byte[0], 0), pooled);
+		assertSame(pooled, read);
+		assertEquals(0, read.remaining());
+	}
+
+	@Test
+	public void rejectTooLargeFile() {
+		assertThrows(IOException.class, () -> HumanReadableConfigurationFactory.readFully(
+				new ReportedSizeChannel(new byte[0], Integer.MAX_VALUE), ByteBuffer.allocate(16)));
+	}
+
+	@Test
+	public void decodeIntoPooledBuffer() throws IOException {
+		CodecBuffers buffers = new CodecBuffers();
+		byte[] content = bytes(CodecBuffers.BUFFER_SIZE);
+		CharBuffer decoded = factory.decodeFully(ByteBuffer.wrap(content), buffers);
+		assertSame(buffers.charBuffer(), decoded);
+		assertEquals(new String(content, StandardCharsets.UTF_8), decoded.toString());
+	}
+
+	@Test
+	public void decodeIntoHeapBuffer() throws IOException {
+		CodecBuffers buffers = new CodecBuffers();
+		byte[] content = bytes(CodecBuffers.BUFFER_SIZE + 1);
+		CharBuffer decoded = factory.decodeFully(ByteBuffer.wrap(content), buffers);
+		assertNotSame(buffers.charBuffer(), decoded);
+		assertEquals(new String(content, StandardCharsets.UTF_8), decoded.toString());
+	}
+
+	@Test
+	public void decodeReportsMalformedInput() {
+		byte[] small = {'a', '=', (byte) 0xFF};
+		assertThrows(CharacterCodingException.class,
+				() -> factory.decodeFully(ByteBuffer.wrap(small), new CodecBuffers()));
+		byte[] large = bytes(CodecBuffers.BUFFER_SIZE + 1);
+		large[large.length - 1] = (byte) 0xFF;
+		assertThrows(CharacterCodingException.class,
+				() -> factory.decodeFully(ByteBuffer.wrap(large), new CodecBuffers()));
+	}
+
+	@Test
+	public void decodeReportsTruncatedInput() {
+		// The first two bytes of a three byte sequence, detected only at the end of input
+		byte[] truncated = {'a', '=', (byte) 0xE2, (byte) 0x82};
+		assertThrows(CharacterCodingException.class,
+				() -> factory.decodeFully(ByteBuffer.wrap(truncated), new CodecBuffers()));
+	}
+
+	private static Map<String, Object> largeMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (int n = 0; n < 1000; n++) {
+			map.put("key" + n, "value é€ " + n);
+		}
+		return map;
+	}
+
+	@Test
+	public void writeAndLoadFile() throws IOException, InvalidConfigException {
+		Path path = tempDir.resolve("config.properties");
+		Map<String, Object> small = Map.of("key", "value é€");
+		factory.writeMap(small, path);
+		assertEquals(small, factory.loadMap(path));
+
+		Map<String, Object> large = largeMap();
+		factory.writeMap(large, path);
+		assertEquals(large, factory.loadMap(path));
+		// Truncated, not overwritten in place
+		factory.writeMap(small, path);
+		assertEquals(small, factory.loadMap(path));
+	}
+
+	@Test
+	public void writeAndLoadChannel() throws IOException, InvalidConfigException {
+		Map<String, Object> large = largeMap();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		factory.writeMap(large, Channels.newChannel(output));
+		assertEquals(large, factory.loadMap(Channels.newChannel(new ByteArrayInputStream(output.toByteArray()))));
+	}
+
+	@Test
+	public void writeAndLoadStream() throws IOException, InvalidConfigException {
+		Map<String, Object> large = largeMap();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		factory.writeMap(large, output);
+		assertEquals(large, factory.loadMap(new ByteArrayInputStream(output.toByteArray())));
+	}
+
+	@Test
+	public void loadFileReportsMalformedInput() throws IOException {
+		Path path = tempDir.resolve("config.properties");
+		Files.write(path, new byte[] {'k', '=', (byte) 0xFF});
+		assertThrows(CharacterCodingException.class, () -> factory.loadMap(path));
+	}
+
+	@Test
+	public void loadChannelReportsMalformedInput() {
+		byte[] malformed = {'k', '=', (byte) 0xFF};
+		assertThrows(CharacterCodingException.class,
+				() -> factory.loadMap(Channels.newChannel(new ByteArrayInputStream(malformed))));
+	}
+
+	@Test
+	public void loadStreamReplacesMalformedInput() throws IOException, InvalidConfigException {
+		byte[] malformed = {'k', '=', (byte) 0xFF};
+		assertEquals(Map.of("k", "�"), factory.loadMap(new ByteArrayInputStream(malformed)));
+	}
+
+	@Test
+	public void writeReportsUnmappableCharacters() {
+		KeyValueFactory<Config> ascii = new KeyValueFactory<>(
+				Config.class, StandardCharsets.US_ASCII, BufferStrategy.none());
+		Map<String, Object> unmappable = Map.of("k", "€");
+		assertThrows(CharacterCodingException.class,
+				() -> ascii.writeMap(unmappable, Channels.newChannel(new ByteArrayOutputStream())));
+		assertThrows(CharacterCodingException.class,
+				() -> ascii.writeMap(unmappable, tempDir.resolve("config.properties")));
+	}
+
+	@Test
+	public void writeStreamReplacesUnmappableCharacters() throws IOException {
+		KeyValueFactory<Config> ascii = new KeyValueFactory<>(
+				Config.class, StandardCharsets.US_ASCII, BufferStrategy.none());
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ascii.writeMap(Map.of("k", "€"), output);
+		assertEquals("k=?\n", output.toString(StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void reusePooledBuffers() throws IOException, InvalidConfigException {
+		KeyValueFactory<Config> pooled = new KeyValueFactory<>(
+				Config.class, StandardCharsets.UTF_8, BufferStrategy.boundedPool(1));
+		Path path = tempDir.resolve("config.properties");
+		for (int n = 0; n < 3; n++) {
+			Map<String, Object> map = Map.of("key", "value " + n);
+			pooled.writeMap(map, path);
+			assertEquals(map, pooled.loadMap(path));
+		}
+	}
+
+	/**
+	 * A channel whose reported size may differ from its content, as is the case for a file being written
+	 */
+	private static final class ReportedSizeChannel implements SeekableByteChannel {
+
+		private final ByteBuffer content;
+		private final long reportedSize;
+
+		ReportedSizeChannel(byte[] content, long reportedSize) {
+			this.content = ByteBuffer.wrap(content);
+			this.reportedSize = reportedSize;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) {
+			if (!content.hasRemaining()) {
+				return -1;
+			}
+			// Read in small pieces, as a channel may
+			int length = Math.min(Math.min(dst.remaining(), content.remaining()), 7);
+			ByteBuffer slice = content.slice();
+			slice.limit(length);
+			dst.put(slice);
+			content.position(content.position() + length);
+			return length;
+		}
+
+		@Override
+		public long size() {
+			return reportedSize;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public long position() {
+			return content.position();
+		}
+
+		@Override
+		public SeekableByteChannel position(long newPosition) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SeekableByteChannel truncate(long size) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.factory;
+
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A human readable factory for test purposes, of one {@code key=value} line per top level entry.
+ * Values are always strings. Counts the documents it loads
+ *
+ * @param <C> the config class
+ */
+public class KeyValueFactory<C> extends HumanReadableConfigurationFactory<C> {
+
+	private final Charset charset;
+	private final BufferStrategy bufferStrategy;
+	final AtomicInteger loads = new AtomicInteger();
+
+	public KeyValueFactory(Class<C> configClass, Charset charset, BufferStrategy bufferStrategy) {
+		super(configClass, ConfigurationOptions.defaults());
+		this.charset = charset;
+		this.bufferStrategy = bufferStrategy;
+	}
+
+	@Override
+	public Charset charset() {
+		return charset;
+	}
+
+	@Override
+	public BufferStrategy bufferStrategy() {
+		return bufferStrategy;
+	}
+
+	@Override
+	protected String snapshotFormatKey() {
+		return "charset=" + charset.name();
+	}
+
+	@Override
+	public Map<String, Object> loadMap(Reader reader) throws IOException, ConfigFormatSyntaxException {
+		loads.incrementAndGet();
+		Map<String, Object> map = new LinkedHashMap<>();
+		BufferedReader bufferedReader = new BufferedReader(reader);
+		String line;
+		while ((line = bufferedReader.readLine()) != null) {
+			int separator = line.indexOf('=');
+			if (separator == -1) {
+				throw new ConfigFormatSyntaxException("Expected key=value, but found " + line);
+			}
+			map.put(line.substring(0, separator), line.substring(separator + 1));
+		}
+		return map;
+	}
+
+	@Override
+	public void writeMap(Map<String, Object> config, Writer writer) throws IOException {
+		for (Map.Entry<String, Object> entry : config.entrySet()) {
+			writer.write(entry.getKey() + '=' + entry.getValue() + '\n');
+		}
+	}
+
+}
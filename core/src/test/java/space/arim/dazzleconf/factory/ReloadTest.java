@@ -0,0 +1,218 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.factory;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.AuxiliaryKeys;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.NumericPair;
+import space.arim.dazzleconf.NumericPairSerialiser;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.BadValueException;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.serialiser.FlexibleType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReloadTest {
+
+	private final AtomicInteger deserialisations = new AtomicInteger();
+	private final ConfigurationOptions options = new ConfigurationOptions.Builder()
+			.addSerialiser(new NumericPairSerialiser() {
+				@Override
+				public NumericPair deserialise(FlexibleType flexibleType) throws BadValueException {
+					deserialisations.incrementAndGet();
+					return super.deserialise(flexibleType);
+				}
+			})
+			.build();
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("name")
+		String name();
+
+		@ConfDefault.DefaultString("1:2")
+		NumericPair pair();
+
+		@ConfDefault.DefaultStrings({})
+		List<String> messages();
+
+		@SubSection
+		Section section();
+
+		@SubSection
+		Section otherSection();
+
+		interface Section {
+
+			@ConfDefault.DefaultString("3:4")
+			NumericPair pair();
+
+			@ConfDefault.DefaultInteger(0)
+			int number();
+
+		}
+	}
+
+	private static Map<String, Object> source() {
+		Map<String, Object> source = new HashMap<>();
+		source.put("name", "name");
+		source.put("pair", "5:6");
+		source.put("messages", List.of("one", "two"));
+		source.put("section", new HashMap<>(Map.of("pair", "7:8", "number", 1)));
+		source.put("otherSection", new HashMap<>(Map.of("pair", "9:10", "number", 2)));
+		return source;
+	}
+
+	private ConfigurationFactory<Config> factory(Map<String, Object> source) {
+		return new FixedLoaderFactory<>(Config.class, options, source);
+	}
+
+	private Config load(Map<String, Object> source) throws IOException, InvalidConfigException {
+		return factory(source).load(InputStream.nullInputStream());
+	}
+
+	private Config reload(Map<String, Object> source, Config auxiliary, Config previous)
+			throws IOException, InvalidConfigException {
+		return factory(source).reload(Channels.newChannel(InputStream.nullInputStream()), auxiliary, previous);
+	}
+
+	@Test
+	public void unchangedReturnsPrevious() throws IOException, InvalidConfigException {
+		Config previous = reload(source(), null, null);
+		assertEquals(3, deserialisations.get());
+
+		assertSame(previous, reload(source(), null, previous));
+		assertEquals(3, deserialisations.get(), "Nothing should be deserialised again");
+	}
+
+	@Test
+	public void reuseUnchangedEntries() throws IOException, InvalidConfigException {
+		Config previous = reload(source(), null, null);
+		Map<String, Object> changed = source();
+		changed.put("name", "changed");
+		@SuppressWarnings("unchecked")
+		Map<String, Object> section = (Map<String, Object>) changed.get("section");
+		section.put("number", 5);
+		deserialisations.set(0);
+
+		Config current = reload(changed, null, previous);
+		assertNotSame(previous, current);
+		assertEquals("changed", current.name());
+		assertEquals(5, current.section().number());
+		assertEquals(new NumericPair(7, 8), current.section().pair());
+		assertEquals(0, deserialisations.get(), "Unchanged pairs should not be deserialised again");
+
+		assertSame(previous.pair(), current.pair());
+		assertSame(previous.messages(), current.messages());
+		assertNotSame(previous.section(), current.section());
+		assertSame(previous.section().pair(), current.section().pair());
+		assertSame(previous.otherSection(), current.otherSection());
+	}
+
+	@Test
+	public void chainedReloads() throws IOException, InvalidConfigException {
+		Config first = reload(source(), null, null);
+		Map<String, Object> changed = source();
+		changed.put("pair", "11:12");
+		Config second = reload(changed, null, first);
+		Config third = reload(changed, null, second);
+		assertSame(second, third);
+		assertEquals(new NumericPair(11, 12), third.pair());
+		assertSame(first.section(), third.section());
+	}
+
+	@Test
+	public void invalidChangeStillValidated() throws IOException, InvalidConfigException {
+		Config previous = reload(source(), null, null);
+		Map<String, Object> changed = source();
+		changed.put("pair", "invalid");
+		assertThrows(BadValueException.class, () -> reload(changed, null, previous));
+	}
+
+	@Test
+	public void auxiliaryEntriesNotReused() throws IOException, InvalidConfigException {
+		Config defaults = factory(Map.of()).loadDefaults();
+		Map<String, Object> missingNumber = source();
+		missingNumber.put("section", new HashMap<>(Map.of("pair", "7:8")));
+		Config previous = reload(missingNumber, defaults, null);
+		assertInstanceOf(AuxiliaryKeys.class, previous);
+
+		// The file was updated with the missing key
+		Config current = reload(source(), defaults, previous);
+		assertFalse(current instanceof AuxiliaryKeys);
+		assertFalse(current.section() instanceof AuxiliaryKeys);
+		assertEquals(1, current.section().number());
+		assertSame(previous.section().pair(), current.section().pair());
+		assertSame(previous.otherSection(), current.otherSection());
+	}
+
+	@Test
+	public void reloadRetainsCopyOfSource() throws IOException, InvalidConfigException {
+		Map<String, Object> source = source();
+		List<String> messages = new ArrayList<>(List.of("one", "two"));
+		source.put("messages", messages);
+		Config previous = reload(source, null, null);
+		messages.add("three");
+
+		assertSame(previous, reload(source(), null, previous),
+				"Changes to the source after loading should not affect reloading");
+	}
+
+	@Test
+	public void loadRetainsNothing() throws IOException, InvalidConfigException {
+		Config previous = load(source());
+		deserialisations.set(0);
+
+		Config current = reload(source(), null, previous);
+		assertNotSame(previous, current);
+		assertEquals(3, deserialisations.get(), "Without source values, every entry is processed again");
+		assertEquals(previous.pair(), current.pair());
+		assertNotSame(previous.pair(), current.pair());
+		assertEquals(previous.messages(), current.messages());
+	}
+
+	@Test
+	public void previousFromDefaults() throws IOException, InvalidConfigException {
+		Config defaults = factory(Map.of()).loadDefaults();
+		Config current = reload(source(), null, defaults);
+		assertNotSame(defaults, current);
+		assertEquals(new NumericPair(5, 6), current.pair());
+	}
+
+}
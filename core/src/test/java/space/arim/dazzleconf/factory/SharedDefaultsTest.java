@@ -0,0 +1,174 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.factory;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.AuxiliaryKeys;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.NumericPair;
+import space.arim.dazzleconf.NumericPairSerialiser;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.InvalidConfigException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SharedDefaultsTest {
+
+	private final SerialisationFactory<Config> factory = new SerialisationFactory<>(Config.class, options(true));
+
+	private static ConfigurationOptions options(boolean shareDefaultValues) {
+		return new ConfigurationOptions.Builder()
+				.addSerialiser(new NumericPairSerialiser())
+				.setShareDefaultValues(shareDefaultValues)
+				.build();
+	}
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("name")
+		String name();
+
+		@ConfDefault.DefaultString("1:2")
+		NumericPair pair();
+
+		@ConfDefault.DefaultStrings({"one", "two"})
+		List<String> messages();
+
+		@SubSection
+		Section section();
+
+		@SubSection
+		Section otherSection();
+
+		default String describe() {
+			return name() + " " + section().number();
+		}
+
+		interface Section {
+
+			@ConfDefault.DefaultString("3:4")
+			NumericPair pair();
+
+			@ConfDefault.DefaultInteger(0)
+			int number();
+
+		}
+	}
+
+	private static Map<String, Object> source() {
+		Map<String, Object> source = new HashMap<>();
+		source.put("name", "name");
+		source.put("pair", "1:2");
+		source.put("messages", List.of("one", "two"));
+		source.put("section", new HashMap<>(Map.of("pair", "3:4", "number", 0)));
+		source.put("otherSection", new HashMap<>(Map.of("pair", "3:4", "number", 0)));
+		return source;
+	}
+
+	@Test
+	public void equalToDefaultsIsShared() throws InvalidConfigException {
+		Config first = factory.fromRawMap(source(), null);
+		Config second = factory.fromRawMap(source(), null);
+		assertSame(first, second);
+		assertEquals("name", first.name());
+		assertEquals(new NumericPair(1, 2), first.pair());
+		assertEquals(List.of("one", "two"), first.messages());
+		assertEquals(0, first.section().number());
+	}
+
+	@Test
+	public void overriddenValues() throws InvalidConfigException {
+		Map<String, Object> overridden = source();
+		overridden.put("name", "tenant");
+		@SuppressWarnings("unchecked")
+		Map<String, Object> section = (Map<String, Object>) overridden.get("section");
+		section.put("number", 5);
+
+		Config defaults = factory.fromRawMap(source(), null);
+		Config tenant = factory.fromRawMap(overridden, null);
+		assertNotSame(defaults, tenant);
+		assertEquals("tenant", tenant.name());
+		assertEquals("tenant 5", tenant.describe());
+		assertEquals(5, tenant.section().number());
+		assertSame(defaults.pair(), tenant.pair());
+		assertSame(defaults.messages(), tenant.messages());
+		assertSame(defaults.section().pair(), tenant.section().pair());
+		assertSame(defaults.otherSection(), tenant.otherSection());
+	}
+
+	@Test
+	public void notSharedByDefault() throws InvalidConfigException {
+		SerialisationFactory<Config> factory = new SerialisationFactory<>(Config.class, options(false));
+		Config first = factory.fromRawMap(source(), null);
+		Config second = factory.fromRawMap(source(), null);
+		assertNotSame(first, second);
+		assertNotSame(first.section(), second.section());
+	}
+
+	@Test
+	public void auxiliaryEntries() throws InvalidConfigException {
+		Map<String, Object> missingName = source();
+		missingName.remove("name");
+		Config config = factory.fromRawMap(missingName, factory.loadDefaults());
+		assertInstanceOf(AuxiliaryKeys.class, config);
+		assertEquals("name", config.name());
+		assertEquals(new NumericPair(3, 4), config.section().pair());
+	}
+
+	@Test
+	public void reloadUnchanged() throws InvalidConfigException {
+		Map<String, Object> overridden = source();
+		overridden.put("pair", "5:6");
+		Config previous = factory.fromRawMap(overridden, null, null, true);
+		assertSame(previous, factory.fromRawMap(overridden, null, previous, true));
+
+		overridden.put("name", "changed");
+		Config current = factory.fromRawMap(overridden, null, previous, true);
+		assertNotSame(previous, current);
+		assertEquals("changed 0", current.describe());
+		assertSame(previous.pair(), current.pair());
+	}
+
+	@Test
+	public void writeOverriddenValues() throws IOException, InvalidConfigException {
+		Map<String, Object> overridden = source();
+		overridden.put("pair", "5:6");
+		Config config = factory.fromRawMap(overridden, null);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		factory.write(config, output);
+		Config reloaded = factory.load(new ByteArrayInputStream(output.toByteArray()));
+		assertEquals(new NumericPair(5, 6), reloaded.pair());
+		assertEquals("name", reloaded.name());
+		assertSame(config.section(), reloaded.section());
+	}
+
+}
@@ -0,0 +1,280 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.factory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.InvalidConfigException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotConfigurationFactoryTest {
+
+	@TempDir
+	public Path tempDir;
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("default")
+		String name();
+
+		@ConfDefault.DefaultLong(0L)
+		long identifier();
+
+		@ConfDefault.DefaultStrings({})
+		List<String> messages();
+
+		@SubSection
+		Section section();
+
+		interface Section {
+
+			@ConfDefault.DefaultInteger(1)
+			int level();
+
+		}
+	}
+
+	public interface OtherConfig {
+
+		@ConfDefault.DefaultString("default")
+		String name();
+
+		@ConfDefault.DefaultInteger(0)
+		int identifier();
+
+		@ConfDefault.DefaultStrings({})
+		List<String> messages();
+
+		@SubSection
+		Config.Section section();
+
+	}
+
+	private static final class CountingFactory<C> extends SerialisationFactory<C> {
+
+		final AtomicInteger loads = new AtomicInteger();
+		private final String formatKey;
+
+		CountingFactory(Class<C> configClass) {
+			this(configClass, "");
+		}
+
+		CountingFactory(Class<C> configClass, String formatKey) {
+			super(configClass, ConfigurationOptions.defaults());
+			this.formatKey = formatKey;
+		}
+
+		@Override
+		protected String snapshotFormatKey() {
+			return formatKey;
+		}
+
+		@Override
+		public Map<String, Object> loadMap(InputStream inputStream) throws IOException {
+			loads.incrementAndGet();
+			return super.loadMap(inputStream);
+		}
+	}
+
+	private Path writeSource(Map<String, Object> map) throws IOException {
+		Path path = tempDir.resolve("config.ser");
+		try (OutputStream output = Files.newOutputStream(path)) {
+			new SerialisationFactory<>(Config.class, ConfigurationOptions.defaults()).writeMap(map, output);
+		}
+		return path;
+	}
+
+	private static Map<String, Object> sourceMap(String name) {
+		return new LinkedHashMap<>(Map.of(
+				"name", name, "identifier", Long.MAX_VALUE,
+				"messages", new ArrayList<>(List.of("one", "two")),
+				"section", new LinkedHashMap<>(Map.of("level", 3))));
+	}
+
+	private static void assertConfig(String expectedName, Config config) {
+		assertEquals(expectedName, config.name());
+		assertEquals(Long.MAX_VALUE, config.identifier());
+		assertEquals(List.of("one", "two"), config.messages());
+		assertEquals(3, config.section().level());
+	}
+
+	@Test
+	public void reuseSnapshotAfterRestart() throws IOException, InvalidConfigException {
+		Path path = writeSource(sourceMap("value"));
+
+		CountingFactory<Config> firstFactory = new CountingFactory<>(Config.class);
+		assertConfig("value", firstFactory.withSnapshots().load(path));
+		assertEquals(1, firstFactory.loads.get());
+		assertTrue(Files.exists(SnapshotConfigurationFactory.snapshotPath(path)));
+
+		CountingFactory<Config> secondFactory = new CountingFactory<>(Config.class);
+		ConfigurationFactory<Config> snapshots = secondFactory.withSnapshots();
+		assertConfig("value", snapshots.load(path));
+		assertConfig("value", snapshots.load(path, snapshots.loadDefaults()));
+		assertEquals(0, secondFactory.loads.get(), "Source should not be parsed");
+	}
+
+	@Test
+	public void changedSource() throws IOException, InvalidConfigException {
+		Path path = writeSource(sourceMap("value"));
+		CountingFactory<Config> factory = new CountingFactory<>(Config.class);
+		ConfigurationFactory<Config> snapshots = factory.withSnapshots();
+		snapshots.load(path);
+
+		writeSource(sourceMap("changed"));
+		assertConfig("changed", snapshots.load(path));
+		assertEquals(2, factory.loads.get());
+		assertConfig("changed", snapshots.load(path));
+		assertEquals(2, factory.loads.get());
+	}
+
+	@Test
+	public void changedDefinition() throws IOException, InvalidConfigException {
+		Map<String, Object> source = sourceMap("value");
+		source.put("identifier", 5);
+		Path path = writeSource(source);
+		new CountingFactory<>(Config.class).withSnapshots().load(path);
+
+		CountingFactory<OtherConfig> otherFactory = new CountingFactory<>(OtherConfig.class);
+		assertEquals(5, otherFactory.withSnapshots().load(path).identifier());
+		assertEquals(1, otherFactory.loads.get());
+	}
+
+	@Test
+	public void changedFormatOptions() throws IOException, InvalidConfigException {
+		Path path = writeSource(sourceMap("value"));
+		new CountingFactory<>(Config.class, "options").withSnapshots().load(path);
+
+		CountingFactory<Config> otherFactory = new CountingFactory<>(Config.class, "other options");
+		assertConfig("value", otherFactory.withSnapshots().load(path));
+		assertEquals(1, otherFactory.loads.get(), "Snapshot of other format options should not be used");
+	}
+
+	@Test
+	public void unidentifiedFormatOptions() throws IOException, InvalidConfigException {
+		Path path = writeSource(sourceMap("value"));
+		CountingFactory<Config> factory = new CountingFactory<>(Config.class, null);
+		ConfigurationFactory<Config> snapshots = factory.withSnapshots();
+		assertConfig("value", snapshots.load(path));
+		assertConfig("value", snapshots.reload(path, null, null));
+		assertEquals(2, factory.loads.get());
+		assertFalse(Files.exists(SnapshotConfigurationFactory.snapshotPath(path)));
+	}
+
+	@Test
+	public void malformedInputReported() throws IOException {
+		Path path = tempDir.resolve("config.txt");
+		Files.write(path, new byte[] {'n', 'a', 'm', 'e', '=', (byte) 0xC3, (byte) 0x28});
+		KeyValueFactory<Config> factory = new KeyValueFactory<>(Config.class, StandardCharsets.UTF_8, BufferStrategy.none());
+		assertThrows(CharacterCodingException.class, () -> factory.load(path));
+		assertThrows(CharacterCodingException.class, () -> factory.withSnapshots().load(path));
+		assertFalse(Files.exists(SnapshotConfigurationFactory.snapshotPath(path)));
+	}
+
+	@Test
+	public void corruptSnapshot() throws IOException, InvalidConfigException {
+		Path path = writeSource(sourceMap("value"));
+		Path snapshotPath = SnapshotConfigurationFactory.snapshotPath(path);
+		CountingFactory<Config> factory = new CountingFactory<>(Config.class);
+		factory.withSnapshots().load(path);
+
+		byte[] snapshot = Files.readAllBytes(snapshotPath);
+		Files.write(snapshotPath, Arrays.copyOf(snapshot, snapshot.length - 3));
+		assertConfig("value", factory.withSnapshots().load(path));
+		assertEquals(2, factory.loads.get());
+		assertArrayEquals(snapshot, Files.readAllBytes(snapshotPath), "Snapshot should be rewritten");
+	}
+
+	@Test
+	public void invalidConfigWritesNoSnapshot() throws IOException {
+		Map<String, Object> source = sourceMap("value");
+		source.put("identifier", "not a number");
+		Path path = writeSource(source);
+		ConfigurationFactory<Config> snapshots = new CountingFactory<>(Config.class).withSnapshots();
+		assertThrows(InvalidConfigException.class, () -> snapshots.load(path));
+		assertFalse(Files.exists(SnapshotConfigurationFactory.snapshotPath(path)));
+	}
+
+	@Test
+	public void exactTypes() throws IOException {
+		Map<Object, Object> nested = new LinkedHashMap<>();
+		nested.put(1, "integer key");
+		nested.put("set", new LinkedHashSet<>(List.of("b", "a")));
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("null", null);
+		map.put("boolean", true);
+		map.put("string", "ünïcode \ud800 😀");
+		map.put("numbers", Arrays.asList(1, 2L, 3.5, 4.5f, (short) 6, (byte) 7,
+				new BigInteger("123456789012345678901234567890"), new BigDecimal("1.50")));
+		map.put("character", 'c');
+		map.put("nested", nested);
+
+		Path snapshotPath = tempDir.resolve("snapshot");
+		byte[] key = {1, 2, 3};
+		ConfigSnapshot.write(snapshotPath, key, map);
+		Map<String, Object> read = ConfigSnapshot.read(snapshotPath, key);
+		assertEquals(map, read);
+		assertEquals(map.toString(), read.toString());
+		List<?> numbers = (List<?>) read.get("numbers");
+		for (int n = 0; n < numbers.size(); n++) {
+			assertEquals(((List<?>) map.get("numbers")).get(n).getClass(), numbers.get(n).getClass());
+		}
+		assertEquals(LinkedHashSet.class, ((Map<?, ?>) read.get("nested")).get("set").getClass());
+		assertNull(ConfigSnapshot.read(snapshotPath, new byte[] {1, 2, 4}));
+	}
+
+	@Test
+	public void unsupportedType() throws IOException {
+		Path snapshotPath = tempDir.resolve("snapshot");
+		byte[] key = {1};
+		ConfigSnapshot.write(snapshotPath, key, Map.of("value", "string"));
+		ConfigSnapshot.write(snapshotPath, key, Map.of("value", new Object()));
+		assertFalse(Files.exists(snapshotPath));
+	}
+
+}
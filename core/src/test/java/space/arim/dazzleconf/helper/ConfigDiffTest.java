@@ -0,0 +1,183 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.helper;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfKey;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.FixedLoaderFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigDiffTest {
+
+	public interface Config {
+
+		String name();
+
+		@ConfKey("max-connections")
+		int maxConnections();
+
+		List<String> messages();
+
+		@SubSection
+		Database database();
+
+		Map<String, @SubSection Server> servers();
+
+		interface Database {
+
+			String host();
+
+			int port();
+
+		}
+
+		interface Server {
+
+			String address();
+
+		}
+	}
+
+	private static Map<String, Object> values() {
+		Map<String, Object> values = new HashMap<>();
+		values.put("name", "name");
+		values.put("max-connections", 10);
+		values.put("messages", List.of("one", "two"));
+		values.put("database", Map.of("host", "localhost", "port", 3306));
+		values.put("servers", Map.of("lobby", Map.of("address", "127.0.0.1")));
+		return values;
+	}
+
+	private static final ConfigurationFactory<Config> factory =
+			new FixedLoaderFactory<>(Config.class, ConfigurationOptions.defaults(), Map.of());
+
+	private static Config load(Map<String, Object> values) throws InvalidConfigException {
+		return FixedLoaderFactory.load(Config.class, values);
+	}
+
+	private static ConfigDiff<Config> diff(Map<String, Object> previousValues, Map<String, Object> currentValues)
+			throws InvalidConfigException {
+		return ConfigDiff.between(factory, load(previousValues), load(currentValues));
+	}
+
+	@Test
+	public void noChanges() throws InvalidConfigException {
+		ConfigDiff<Config> diff = diff(values(), values());
+		assertTrue(diff.isEmpty());
+		assertEquals(Set.of(), diff.changedPaths());
+	}
+
+	@Test
+	public void sameInstance() throws InvalidConfigException {
+		Config config = load(values());
+		ConfigDiff<Config> diff = ConfigDiff.between(factory, config, config);
+		assertTrue(diff.isEmpty());
+		assertSame(config, diff.previous());
+		assertSame(config, diff.current());
+	}
+
+	@Test
+	public void topLevelChanges() throws InvalidConfigException {
+		Map<String, Object> changed = values();
+		changed.put("max-connections", 20);
+		changed.put("messages", List.of("one"));
+		ConfigDiff<Config> diff = diff(values(), changed);
+		assertEquals(Set.of("max-connections", "messages"), diff.changedPaths());
+		assertTrue(diff.hasChanged("max-connections"));
+		assertFalse(diff.hasChanged("name"));
+		assertFalse(diff.hasChanged("database"));
+	}
+
+	@Test
+	public void subSectionChanges() throws InvalidConfigException {
+		Map<String, Object> changed = values();
+		changed.put("database", Map.of("host", "remote", "port", 3306));
+		ConfigDiff<Config> diff = diff(values(), changed);
+		assertEquals(Set.of("database.host"), diff.changedPaths());
+		assertTrue(diff.hasChanged("database"));
+		assertTrue(diff.hasChanged("database.host"));
+		assertFalse(diff.hasChanged("database.port"));
+		assertFalse(diff.hasChanged("data"));
+		assertTrue(diff.hasChangedAny(List.of("name", "database")));
+	}
+
+	@Test
+	public void subSectionMapChanges() throws InvalidConfigException {
+		Map<String, Object> changed = values();
+		changed.put("servers", Map.of("lobby", Map.of("address", "127.0.0.2")));
+		assertEquals(Set.of("servers"), diff(values(), changed).changedPaths());
+
+		changed.put("servers", Map.of("lobby", Map.of("address", "127.0.0.1"), "survival", Map.of("address", "::1")));
+		assertEquals(Set.of("servers"), diff(values(), changed).changedPaths());
+	}
+
+	@Test
+	public void subSectionMapUnchanged() throws InvalidConfigException {
+		// Sub-sections are distinct instances, but have equal values
+		assertFalse(diff(values(), values()).hasChanged("servers"));
+	}
+
+	@Test
+	public void filteredListener() throws InvalidConfigException, InterruptedException {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ConfigHolder<Config> holder = new ConfigHolder<>(load(values()), executor);
+			BlockingQueue<String> notifications = new LinkedBlockingQueue<>();
+			holder.addListener(ConfigDiff.listener(factory, List.of("database"), (diff) -> {
+				notifications.add("database " + diff.changedPaths());
+			}));
+			holder.addListener(ConfigDiff.listener(factory, List.of("name"), (diff) -> {
+				notifications.add("name " + diff.changedPaths());
+			}));
+
+			Map<String, Object> changed = values();
+			changed.put("database", Map.of("host", "localhost", "port", 3307));
+			holder.publish(load(changed));
+			assertEquals("database [database.port]", notifications.poll(30L, TimeUnit.SECONDS));
+
+			changed.put("name", "renamed");
+			holder.publish(load(changed));
+			assertEquals("name [name]", notifications.poll(30L, TimeUnit.SECONDS));
+			assertTrue(notifications.isEmpty());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
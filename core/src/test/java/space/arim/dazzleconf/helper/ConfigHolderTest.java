@@ -0,0 +1,200 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.helper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigHolderTest {
+
+	private final ExecutorService listenerExecutor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	public void shutdownExecutor() {
+		listenerExecutor.shutdown();
+	}
+
+	private record Notification(String previous, String current, long version, Thread thread) {}
+
+	private ConfigHolder<String> holder(BlockingQueue<Notification> notifications) {
+		ConfigHolder<String> holder = new ConfigHolder<>("initial", listenerExecutor);
+		holder.addListener((previous, current, version) -> {
+			notifications.add(new Notification(previous, current, version, Thread.currentThread()));
+		});
+		return holder;
+	}
+
+	@Test
+	public void publish() {
+		ConfigHolder<String> holder = new ConfigHolder<>("initial", listenerExecutor);
+		assertEquals("initial", holder.current());
+		assertEquals(1L, holder.version());
+
+		assertEquals(2L, holder.publish("second"));
+		assertEquals("second", holder.current());
+		assertEquals(2L, holder.version());
+		ConfigHolder.Published<String> published = holder.published();
+		assertEquals("second", published.configData());
+		assertEquals(2L, published.version());
+	}
+
+	@Test
+	public void publishSameInstance() {
+		String configData = "initial";
+		ConfigHolder<String> holder = new ConfigHolder<>(configData, listenerExecutor);
+		assertEquals(1L, holder.publish(configData));
+		assertTrue(holder.compareAndPublish(1L, configData));
+		assertEquals(1L, holder.version());
+	}
+
+	@Test
+	public void compareAndPublish() {
+		ConfigHolder<String> holder = new ConfigHolder<>("initial", listenerExecutor);
+		assertTrue(holder.compareAndPublish(1L, "second"));
+		assertFalse(holder.compareAndPublish(1L, "stale"));
+		assertEquals("second", holder.current());
+		assertEquals(2L, holder.version());
+	}
+
+	@Test
+	public void rejectNull() {
+		assertThrows(NullPointerException.class, () -> new ConfigHolder<String>(null, listenerExecutor));
+		ConfigHolder<String> holder = new ConfigHolder<>("initial", listenerExecutor);
+		assertThrows(NullPointerException.class, () -> holder.publish(null));
+	}
+
+	@Test
+	public void notifyListenersOffThread() throws InterruptedException {
+		BlockingQueue<Notification> notifications = new LinkedBlockingQueue<>();
+		ConfigHolder<String> holder = holder(notifications);
+		holder.publish("second");
+
+		Notification notification = notifications.poll(30L, TimeUnit.SECONDS);
+		assertNotNull(notification, "Timed out waiting for notification");
+		assertEquals(new Notification("initial", "second", 2L, notification.thread()), notification);
+		assertNotEquals(Thread.currentThread(), notification.thread());
+	}
+
+	@Test
+	public void removeListener() throws InterruptedException {
+		ConfigHolder<String> holder = new ConfigHolder<>("initial", listenerExecutor);
+		BlockingQueue<String> notifications = new LinkedBlockingQueue<>();
+		ConfigHolder.Listener<String> removed = (previous, current, version) -> notifications.add("removed");
+		holder.addListener(removed);
+		holder.addListener((previous, current, version) -> notifications.add("kept"));
+		assertTrue(holder.removeListener(removed));
+		assertFalse(holder.removeListener(removed));
+
+		holder.publish("second");
+		assertEquals("kept", notifications.poll(30L, TimeUnit.SECONDS));
+		assertTrue(notifications.isEmpty());
+	}
+
+	@Test
+	public void failingListener() throws InterruptedException {
+		BlockingQueue<Notification> notifications = new LinkedBlockingQueue<>();
+		ConfigHolder<String> holder = new ConfigHolder<>("initial", (command) -> {
+			listenerExecutor.execute(() -> {
+				// Keep the test output clean
+				Thread.currentThread().setUncaughtExceptionHandler((thread, ex) -> {});
+				command.run();
+			});
+		});
+		holder.addListener((previous, current, version) -> {
+			throw new IllegalStateException("Listener failure");
+		});
+		holder.addListener((previous, current, version) -> {
+			notifications.add(new Notification(previous, current, version, null));
+		});
+		holder.publish("second");
+		holder.publish("third");
+
+		List<Notification> received = new ArrayList<>();
+		while (received.isEmpty() || received.get(received.size() - 1).version() != 3L) {
+			Notification notification = notifications.poll(30L, TimeUnit.SECONDS);
+			assertNotNull(notification, "Timed out waiting for notification");
+			received.add(notification);
+		}
+		assertEquals("third", received.get(received.size() - 1).current());
+	}
+
+	@Test
+	public void concurrentPublications() throws InterruptedException {
+		BlockingQueue<Notification> notifications = new LinkedBlockingQueue<>();
+		ConfigHolder<String> holder = holder(notifications);
+		int threads = 8;
+		int publicationsPerThread = 500;
+		ExecutorService publishers = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				publishers.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException ex) {
+						throw new RuntimeException(ex);
+					}
+					for (int n = 0; n < publicationsPerThread; n++) {
+						holder.publish("thread-" + thread + "-" + n);
+					}
+				});
+			}
+			start.countDown();
+		} finally {
+			publishers.shutdown();
+			assertTrue(publishers.awaitTermination(30L, TimeUnit.SECONDS));
+		}
+		long finalVersion = 1L + threads * publicationsPerThread;
+		assertEquals(finalVersion, holder.version());
+
+		// Notifications are in order of version, chained one to the next, and end with the latest
+		String expectedPrevious = "initial";
+		long lastVersion = 1L;
+		while (lastVersion != finalVersion) {
+			Notification notification = notifications.poll(30L, TimeUnit.SECONDS);
+			assertNotNull(notification, "Timed out waiting for notification");
+			assertSame(expectedPrevious, notification.previous());
+			assertTrue(notification.version() > lastVersion);
+			expectedPrevious = notification.current();
+			lastVersion = notification.version();
+		}
+		assertSame(holder.current(), expectedPrevious);
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.helper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.factory.SerialisationFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigurationDirectoryTest {
+
+	@TempDir
+	public Path tempDir;
+
+	private final SerialisationFactory<Config> factory = new SerialisationFactory<>(Config.class, ConfigurationOptions.defaults());
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("default")
+		String value();
+
+	}
+
+	@AfterEach
+	public void shutdownExecutor() {
+		executor.shutdown();
+	}
+
+	private void writeValue(String fileName, String value) throws IOException {
+		try (OutputStream output = Files.newOutputStream(tempDir.resolve(fileName))) {
+			factory.writeMap(Map.of("value", value), output);
+		}
+	}
+
+	private ConfigurationDirectory<Config> directory() {
+		return new ConfigurationDirectory<>(tempDir, "*.ser", factory, executor);
+	}
+
+	@Test
+	public void loadAll() throws IOException {
+		for (int n = 0; n < 20; n++) {
+			writeValue("tenant-" + n + ".ser", "value-" + n);
+		}
+		writeValue("ignored.txt", "ignored");
+		Files.createDirectory(tempDir.resolve("directory.ser"));
+
+		ConfigurationDirectory.Result<Config> result = directory().loadAll();
+		assertTrue(result.isSuccessful(), result::toString);
+		assertEquals(20, result.configs().size());
+		for (int n = 0; n < 20; n++) {
+			assertEquals("value-" + n, result.configs().get("tenant-" + n + ".ser").value());
+		}
+	}
+
+	@Test
+	public void failuresDoNotAbortOthers() throws IOException {
+		writeValue("good.ser", "good");
+		Files.write(tempDir.resolve("bad.ser"), new byte[] {1, 2, 3});
+
+		ConfigurationDirectory.Result<Config> result = directory().loadAll();
+		assertFalse(result.isSuccessful());
+		assertEquals(List.of("good.ser"), List.copyOf(result.configs().keySet()));
+		assertEquals("good", result.configs().get("good.ser").value());
+		assertEquals(List.of("bad.ser"), List.copyOf(result.failures().keySet()));
+	}
+
+	@Test
+	public void refreshOnlyChanged() throws IOException {
+		writeValue("unchanged.ser", "unchanged");
+		writeValue("changed.ser", "before");
+		writeValue("removed.ser", "removed");
+		var directory = directory();
+		Map<String, Config> initial = directory.loadAll().configs();
+
+		writeValue("changed.ser", "after and longer");
+		Files.delete(tempDir.resolve("removed.ser"));
+		writeValue("added.ser", "added");
+		Map<String, Config> refreshed = directory.refresh().configs();
+
+		assertEquals(List.of("added.ser", "changed.ser", "unchanged.ser"), List.copyOf(refreshed.keySet()));
+		assertSame(initial.get("unchanged.ser"), refreshed.get("unchanged.ser"));
+		assertNotSame(initial.get("changed.ser"), refreshed.get("changed.ser"));
+		assertEquals("after and longer", refreshed.get("changed.ser").value());
+		assertEquals("added", refreshed.get("added.ser").value());
+
+		assertNotSame(refreshed.get("unchanged.ser"), directory.loadAll().configs().get("unchanged.ser"));
+	}
+
+}
@@ -19,7 +19,13 @@
 package space.arim.dazzleconf.helper;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +38,14 @@ import space.arim.dazzleconf.DummyConfigDefaults;
 import space.arim.dazzleconf.error.InvalidConfigException;
 import space.arim.dazzleconf.factory.SerialisationFactory;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class ConfigurationHelperTest {
 
 	@TempDir
@@ -77,4 +91,75 @@ public class ConfigurationHelperTest {
 		defaults.assertDefaultValues(reloadedData);
 	}
 
+	@Test
+	public void testReloadAsync() throws InterruptedException, ExecutionException {
+		defaults.assertDefaultValues(helper.reloadAsync().get());
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			defaults.assertDefaultValues(helper.reloadAsync(executor).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testReloadAsyncFailure() throws IOException {
+		Path notADirectory = Files.createFile(tempDir.resolve("file"));
+		var failingHelper = new ConfigurationHelper<>(notADirectory, "config.yml", helper.getFactory());
+		CompletableFuture<DummyConfig> future = failingHelper.reloadAsync(Runnable::run);
+		ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+		assertInstanceOf(IOException.class, thrown.getCause());
+	}
+
+	@Test
+	public void testReloadUnchanged() throws IOException, InvalidConfigException {
+		DummyConfig initialData = helper.reloadConfigData();
+		assertSame(initialData, helper.reloadConfigData());
+
+		DummyConfig forcedData = helper.reloadConfigData(true);
+		assertNotSame(initialData, forcedData);
+		defaults.assertDefaultValues(forcedData);
+		assertSame(forcedData, helper.reloadConfigData());
+	}
+
+	@Test
+	public void testReloadChanged() throws IOException, InvalidConfigException {
+		DummyConfig initialData = helper.reloadConfigData();
+		Path configPath = tempDir.resolve("config.yml");
+		Files.setLastModifiedTime(configPath, FileTime.fromMillis(0L));
+
+		DummyConfig reloadedData = helper.reloadConfigData();
+		assertNotSame(initialData, reloadedData);
+		defaults.assertDefaultValues(reloadedData);
+	}
+
+	@Test
+	public void testFingerprintContent() throws IOException {
+		Path file = tempDir.resolve("file");
+		Files.writeString(file, "content");
+		FileTime lastModified = Files.getLastModifiedTime(file);
+		FileFingerprint fingerprint = FileFingerprint.read(file);
+		assertTrue(fingerprint.isUnchanged(file));
+
+		Files.writeString(file, "changed");
+		Files.setLastModifiedTime(file, lastModified);
+		assertFalse(fingerprint.isUnchanged(file));
+	}
+
+	@Test
+	public void testFingerprintSizeAndTime() throws IOException {
+		Path file = tempDir.resolve("file");
+		Files.writeString(file, "content");
+		FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60_000L);
+		Files.setLastModifiedTime(file, lastModified);
+		FileFingerprint fingerprint = FileFingerprint.read(file);
+		assertTrue(fingerprint.isUnchanged(file));
+
+		Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1_000L));
+		assertFalse(fingerprint.isUnchanged(file));
+		Files.writeString(file, "longer content");
+		Files.setLastModifiedTime(file, lastModified);
+		assertFalse(fingerprint.isUnchanged(file));
+	}
+
 }
@@ -0,0 +1,147 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.helper;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfKey;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.FixedLoaderFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FrozenConfigTest {
+
+	public interface Config {
+
+		boolean enabled();
+
+		@ConfKey("max-connections")
+		int maxConnections();
+
+		List<String> messages();
+
+		@SubSection
+		Database database();
+
+		interface Database {
+
+			String host();
+
+			long timeout();
+
+		}
+	}
+
+	private static Map<String, Object> values() {
+		Map<String, Object> values = new HashMap<>();
+		values.put("enabled", true);
+		values.put("max-connections", 10);
+		values.put("messages", List.of("one"));
+		values.put("database", Map.of("host", "localhost", "timeout", 30L));
+		return values;
+	}
+
+	private static final ConfigurationFactory<Config> factory =
+			new FixedLoaderFactory<>(Config.class, ConfigurationOptions.defaults(), Map.of());
+
+	private static Config load(Map<String, Object> values) throws InvalidConfigException {
+		return FixedLoaderFactory.load(Config.class, values);
+	}
+
+	@Test
+	public void accessors() throws Throwable {
+		Config config = load(values());
+		FrozenConfig<Config> frozen = FrozenConfig.create(factory, config);
+		assertEquals(Set.of("enabled", "max-connections", "messages", "database", "database.host", "database.timeout"),
+				frozen.paths());
+		assertSame(config, frozen.current());
+
+		MethodHandle maxConnections = frozen.accessor("max-connections");
+		assertEquals(MethodType.methodType(int.class), maxConnections.type());
+		assertEquals(10, (int) maxConnections.invokeExact());
+		assertTrue((boolean) frozen.accessor("enabled").invokeExact());
+		assertEquals(30L, (long) frozen.accessor("database.timeout").invokeExact());
+		assertEquals("localhost", (String) frozen.accessor("database.host").invokeExact());
+		assertSame(config.database(), frozen.accessor("database").invoke());
+
+		assertThrows(IllegalArgumentException.class, () -> frozen.accessor("nonexistent"));
+	}
+
+	@Test
+	public void update() throws Throwable {
+		FrozenConfig<Config> frozen = FrozenConfig.create(factory, load(values()));
+		MethodHandle maxConnections = frozen.accessor("max-connections");
+		MethodHandle host = frozen.accessor("database.host");
+		// Warm up, so the handles may be compiled
+		for (int n = 0; n < 20_000; n++) {
+			assertEquals(10, (int) maxConnections.invokeExact());
+		}
+
+		Map<String, Object> changed = values();
+		changed.put("max-connections", 20);
+		changed.put("database", Map.of("host", "remote", "timeout", 30L));
+		Config updated = load(changed);
+		frozen.update(updated);
+		assertSame(updated, frozen.current());
+		assertEquals(20, (int) maxConnections.invokeExact());
+		assertEquals("remote", (String) host.invokeExact());
+		assertTrue((boolean) frozen.accessor("enabled").invokeExact());
+	}
+
+	@Test
+	public void holderListener() throws Throwable {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ConfigHolder<Config> holder = new ConfigHolder<>(load(values()), executor);
+			FrozenConfig<Config> frozen = FrozenConfig.create(factory, holder.current());
+			holder.addListener(frozen.listener());
+
+			Map<String, Object> changed = values();
+			changed.put("enabled", false);
+			Config updated = load(changed);
+			holder.publish(updated);
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(30L, TimeUnit.SECONDS));
+			assertSame(updated, frozen.current());
+			assertFalse((boolean) frozen.accessor("enabled").invokeExact());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
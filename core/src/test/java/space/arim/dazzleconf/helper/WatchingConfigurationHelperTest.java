@@ -0,0 +1,139 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.helper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.SerialisationFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class WatchingConfigurationHelperTest {
+
+	@TempDir
+	public Path tempDir;
+
+	private final SerialisationFactory<Config> factory = new SerialisationFactory<>(Config.class, ConfigurationOptions.defaults());
+	private final BlockingQueue<Exception> failures = new LinkedBlockingQueue<>();
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("initial")
+		String value();
+
+	}
+
+	private WatchingConfigurationHelper<Config> start() throws IOException, InvalidConfigException {
+		return WatchingConfigurationHelper.start(tempDir, "config.ser", factory, Duration.ofMillis(50), failures::add);
+	}
+
+	private void writeValue(String value) throws IOException {
+		try (OutputStream output = Files.newOutputStream(tempDir.resolve("config.ser"))) {
+			factory.writeMap(Map.of("value", value), output);
+		}
+	}
+
+	private static void awaitValue(WatchingConfigurationHelper<Config> helper, String value) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+		while (!value.equals(helper.current().value())) {
+			if (System.nanoTime() - deadline > 0) {
+				fail("Timed out waiting for " + value + ", current value is " + helper.current().value());
+			}
+			Thread.sleep(20L);
+		}
+	}
+
+	@Test
+	public void initialLoad() throws IOException, InvalidConfigException {
+		try (var helper = start()) {
+			assertEquals("initial", helper.current().value());
+		}
+	}
+
+	@Test
+	public void reloadOnChange() throws IOException, InvalidConfigException, InterruptedException {
+		try (var helper = start()) {
+			writeValue("changed");
+			awaitValue(helper, "changed");
+			writeValue("changed again");
+			awaitValue(helper, "changed again");
+		}
+	}
+
+	@Test
+	public void busySiblingFileDoesNotPostponeReload() throws IOException, InvalidConfigException, InterruptedException {
+		try (var helper = start()) {
+			writeValue("changed");
+			Path siblingFile = tempDir.resolve("latest.log");
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+			// Modify the sibling file more often than the debounce duration
+			while (!"changed".equals(helper.current().value())) {
+				if (System.nanoTime() - deadline > 0) {
+					fail("Reload postponed by changes to another file");
+				}
+				Files.writeString(siblingFile, "log line " + System.nanoTime());
+				Thread.sleep(10L);
+			}
+		}
+	}
+
+	@Test
+	public void notifyHolderListeners() throws IOException, InvalidConfigException, InterruptedException {
+		try (var helper = start()) {
+			assertEquals(1L, helper.holder().version());
+			BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+			helper.holder().addListener((previous, current, version) -> {
+				changes.add(previous.value() + " -> " + current.value());
+			});
+			writeValue("changed");
+			assertEquals("initial -> changed", changes.poll(30L, TimeUnit.SECONDS));
+			assertEquals("changed", helper.current().value());
+		}
+	}
+
+	@Test
+	public void failedReloadKeepsPrevious() throws IOException, InvalidConfigException, InterruptedException {
+		try (var helper = start()) {
+			Files.write(tempDir.resolve("config.ser"), new byte[] {1, 2, 3});
+			Exception failure = failures.poll(30L, TimeUnit.SECONDS);
+			assertNotNull(failure, "Timed out waiting for failure");
+			assertEquals("initial", helper.current().value());
+
+			writeValue("recovered");
+			awaitValue(helper, "recovered");
+		}
+	}
+
+}
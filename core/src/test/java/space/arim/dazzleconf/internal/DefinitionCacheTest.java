@@ -0,0 +1,91 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.factory.ConfigurationFormatFactory;
+import space.arim.dazzleconf.factory.FixedLoaderFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DefinitionCacheTest {
+
+	public interface Config {
+
+		String name();
+
+	}
+
+	private static ConfigurationFactory<Config> newFactory() {
+		return new FixedLoaderFactory<>(Config.class, ConfigurationOptions.defaults(), Map.of());
+	}
+
+	@Test
+	public void sameFactorySameDefinition() {
+		ConfigurationFactory<Config> factory = newFactory();
+		ConfigurationDefinition<Config> definition = DefinitionCache.definitionFor(factory);
+		assertEquals(Config.class, definition.getConfigClass());
+		assertSame(definition, DefinitionCache.definitionFor(factory));
+	}
+
+	@Test
+	public void reuseCompiledDefinition() {
+		ConfigurationFormatFactory<Config> factory = new FixedLoaderFactory<>(
+				Config.class, ConfigurationOptions.defaults(), Map.of());
+		assertSame(DefinitionCache.definitionFor(factory), DefinitionCache.definitionFor(factory.withSnapshots()));
+	}
+
+	@Test
+	public void cacheOtherFactories() {
+		@SuppressWarnings("unchecked")
+		ConfigurationFactory<Config> factory = (ConfigurationFactory<Config>) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] {ConfigurationFactory.class}, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getConfigClass":
+						return Config.class;
+					case "getOptions":
+						return ConfigurationOptions.defaults();
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						throw Assertions.<RuntimeException>fail("Not implemented");
+					}
+				});
+		ConfigurationDefinition<Config> definition = DefinitionCache.definitionFor(factory);
+		assertEquals(Config.class, definition.getConfigClass());
+		assertSame(definition, DefinitionCache.definitionFor(factory));
+	}
+
+	@Test
+	public void separateFactorySeparateDefinition() {
+		assertNotSame(DefinitionCache.definitionFor(newFactory()), DefinitionCache.definitionFor(newFactory()));
+	}
+
+}
@@ -0,0 +1,348 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.internal.deprocessor;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.NumericPair;
+import space.arim.dazzleconf.NumericPairSerialiser;
+import space.arim.dazzleconf.ValueEnum;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.IllDefinedConfigException;
+import space.arim.dazzleconf.internal.ConfEntry;
+import space.arim.dazzleconf.internal.DefinitionReader;
+import space.arim.dazzleconf.serialiser.Decomposer;
+import space.arim.dazzleconf.serialiser.FlexibleType;
+import space.arim.dazzleconf.serialiser.ValueSerialiser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WritePlanTest {
+
+	private static <C> Map<String, Object> deprocess(Class<C> configClass, C config, ValueSerialiser<?>...serialisers) {
+		ConfigurationOptions.Builder options = new ConfigurationOptions.Builder();
+		for (ValueSerialiser<?> serialiser : serialisers) {
+			options.addSerialiser(serialiser);
+		}
+		WritePlan<C> writePlan = WritePlan.compile(new DefinitionReader<>(configClass, options.build()).read());
+		return new SimpleDeprocessor<>(writePlan, config).deprocess();
+	}
+
+	public interface Section {
+
+		int number();
+
+		static Section of(int number) {
+			return () -> number;
+		}
+	}
+
+	public interface SingleValues {
+
+		String string();
+
+		int integer();
+
+		boolean flag();
+
+		char character();
+
+		Character boxedCharacter();
+
+		double decimal();
+
+		ValueEnum enumValue();
+
+		NumericPair pair();
+
+		@SubSection Section section();
+
+	}
+
+	private static SingleValues singleValues() {
+		return new SingleValues() {
+			@Override
+			public String string() { return "text"; }
+			@Override
+			public int integer() { return 3; }
+			@Override
+			public boolean flag() { return true; }
+			@Override
+			public char character() { return 'c'; }
+			@Override
+			public Character boxedCharacter() { return 'b'; }
+			@Override
+			public double decimal() { return 1.5; }
+			@Override
+			public ValueEnum enumValue() { return ValueEnum.ANOTHER; }
+			@Override
+			public NumericPair pair() { return new NumericPair(1, 2); }
+			@Override
+			public Section section() { return Section.of(4); }
+		};
+	}
+
+	@Test
+	public void encodeSingleValues() {
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("string", "text");
+		expected.put("integer", 3);
+		expected.put("flag", true);
+		expected.put("character", "c");
+		expected.put("boxedCharacter", "b");
+		expected.put("decimal", 1.5);
+		expected.put("enumValue", "ANOTHER");
+		expected.put("pair", "1:2");
+		expected.put("section", Map.of("number", 4));
+		assertEquals(expected, deprocess(SingleValues.class, singleValues(), new NumericPairSerialiser()));
+	}
+
+	public interface Collections {
+
+		List<String> strings();
+
+		Set<ValueEnum> enums();
+
+		List<NumericPair> pairs();
+
+		List<Character> characters();
+
+		List<@SubSection Section> sections();
+
+	}
+
+	@Test
+	public void encodeCollections() {
+		Collections config = new Collections() {
+			@Override
+			public List<String> strings() { return List.of("one", "two"); }
+			@Override
+			public Set<ValueEnum> enums() { return new LinkedHashSet<>(List.of(ValueEnum.THIRD, ValueEnum.FIRST_ENTRY)); }
+			@Override
+			public List<NumericPair> pairs() { return List.of(new NumericPair(1, 2), new NumericPair(3, 4)); }
+			@Override
+			public List<Character> characters() { return List.of('a', 'b'); }
+			@Override
+			public List<Section> sections() { return List.of(Section.of(1), Section.of(2)); }
+		};
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("strings", List.of("one", "two"));
+		expected.put("enums", List.of("THIRD", "FIRST_ENTRY"));
+		expected.put("pairs", List.of("1:2", "3:4"));
+		expected.put("characters", List.of("a", "b"));
+		expected.put("sections", List.of(Map.of("number", 1), Map.of("number", 2)));
+		Map<String, Object> deprocessed = deprocess(Collections.class, config, new NumericPairSerialiser());
+		assertEquals(expected, deprocessed);
+		// Encoded as lists, in iteration order
+		assertEquals(ArrayList.class, deprocessed.get("enums").getClass());
+	}
+
+	public interface Maps {
+
+		Map<String, Integer> numbers();
+
+		Map<ValueEnum, NumericPair> pairsByEnum();
+
+		Map<NumericPair, @SubSection Section> sectionsByPair();
+
+	}
+
+	@Test
+	public void encodeMaps() {
+		Map<ValueEnum, NumericPair> pairsByEnum = new LinkedHashMap<>();
+		pairsByEnum.put(ValueEnum.THIRD, new NumericPair(5, 6));
+		pairsByEnum.put(ValueEnum.ANOTHER, new NumericPair(7, 8));
+		Map<NumericPair, Section> sectionsByPair = new LinkedHashMap<>();
+		sectionsByPair.put(new NumericPair(1, 1), Section.of(1));
+		sectionsByPair.put(new NumericPair(2, 2), Section.of(2));
+		Maps config = new Maps() {
+			@Override
+			public Map<String, Integer> numbers() { return Map.of("one", 1); }
+			@Override
+			public Map<ValueEnum, NumericPair> pairsByEnum() { return pairsByEnum; }
+			@Override
+			public Map<NumericPair, Section> sectionsByPair() { return sectionsByPair; }
+		};
+		Map<String, Object> deprocessed = deprocess(Maps.class, config, new NumericPairSerialiser());
+		assertEquals(Map.of("one", 1), deprocessed.get("numbers"));
+		// Insertion order is kept
+		assertEquals(List.of("THIRD", "ANOTHER"), new ArrayList<>(((Map<?, ?>) deprocessed.get("pairsByEnum")).keySet()));
+		assertEquals(Map.of("THIRD", "5:6", "ANOTHER", "7:8"), deprocessed.get("pairsByEnum"));
+		assertEquals(List.of("1:1", "2:2"), new ArrayList<>(((Map<?, ?>) deprocessed.get("sectionsByPair")).keySet()));
+		assertEquals(
+				Map.of("1:1", Map.of("number", 1), "2:2", Map.of("number", 2)),
+				deprocessed.get("sectionsByPair"));
+	}
+
+	public interface SupertypeValues {
+
+		Comparable<?> comparable();
+
+		List<Comparable<?>> comparables();
+
+	}
+
+	@Test
+	public void encodeSupertypeValues() {
+		SupertypeValues config = new SupertypeValues() {
+			@Override
+			public Comparable<?> comparable() { return 'c'; }
+			@Override
+			public List<Comparable<?>> comparables() { return List.of("text", true, 2, 'd'); }
+		};
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("comparable", "c");
+		expected.put("comparables", List.of("text", true, 2, "d"));
+		assertEquals(expected, deprocess(SupertypeValues.class, config));
+	}
+
+	@Test
+	public void missingSerialiser() {
+		assertThrows(IllDefinedConfigException.class, () -> deprocess(SingleValues.class, singleValues()));
+	}
+
+	public interface NestedCollections {
+
+		List<List<String>> lists();
+
+	}
+
+	@Test
+	public void nestedCollectionsRejected() {
+		assertEquals(Map.of("lists", List.of()), deprocess(NestedCollections.class, List::of));
+		assertThrows(IllDefinedConfigException.class,
+				() -> deprocess(NestedCollections.class, () -> List.of(List.of("text"))));
+	}
+
+	/**
+	 * A value serialised through each method of the decomposer
+	 */
+	public static final class Bundle {}
+
+	public interface Bundled {
+
+		Bundle bundle();
+
+	}
+
+	@Test
+	public void serialiseThroughDecomposer() {
+		ValueSerialiser<Bundle> serialiser = new BundleSerialiser() {
+			@Override
+			public Object serialise(Bundle value, Decomposer decomposer) {
+				Map<String, Object> serialised = new LinkedHashMap<>();
+				serialised.put("character", decomposer.decompose(char.class, 'c'));
+				serialised.put("integer", decomposer.decompose(int.class, 1));
+				serialised.put("boxedCharacter", decomposer.decompose(Character.class, 'b'));
+				serialised.put("string", decomposer.decompose(String.class, "text"));
+				serialised.put("enum", decomposer.decompose(ValueEnum.class, ValueEnum.THIRD));
+				serialised.put("pair", decomposer.decompose(NumericPair.class, new NumericPair(1, 2)));
+				serialised.put("comparable", decomposer.decompose(Comparable.class, 'd'));
+				serialised.put("collection", decomposer.decomposeCollection(
+						NumericPair.class, List.of(new NumericPair(3, 4))));
+				serialised.put("map", decomposer.decomposeMap(
+						ValueEnum.class, NumericPair.class, Map.of(ValueEnum.ANOTHER, new NumericPair(5, 6))));
+				return serialised;
+			}
+		};
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("character", "c");
+		expected.put("integer", 1);
+		expected.put("boxedCharacter", "b");
+		expected.put("string", "text");
+		expected.put("enum", "THIRD");
+		expected.put("pair", "1:2");
+		expected.put("comparable", "d");
+		expected.put("collection", List.of("3:4"));
+		expected.put("map", Map.of("ANOTHER", "5:6"));
+		Map<String, Object> deprocessed = deprocess(
+				Bundled.class, Bundle::new, serialiser, new NumericPairSerialiser());
+		assertEquals(Map.of("bundle", expected), deprocessed);
+	}
+
+	@Test
+	public void decomposeRejectsCollections() {
+		ValueSerialiser<Bundle> serialiser = new BundleSerialiser() {
+			@Override
+			public Object serialise(Bundle value, Decomposer decomposer) {
+				return decomposer.decompose(List.class, List.of());
+			}
+		};
+		assertThrows(IllDefinedConfigException.class, () -> deprocess(Bundled.class, Bundle::new, serialiser));
+	}
+
+	@Test
+	public void decomposeWithoutSerialiser() {
+		ValueSerialiser<Bundle> serialiser = new BundleSerialiser() {
+			@Override
+			public Object serialise(Bundle value, Decomposer decomposer) {
+				return decomposer.decompose(NumericPair.class, new NumericPair(1, 2));
+			}
+		};
+		assertThrows(IllDefinedConfigException.class, () -> deprocess(Bundled.class, Bundle::new, serialiser));
+	}
+
+	@Test
+	public void serialiserReturnedNull() {
+		ValueSerialiser<Bundle> serialiser = new BundleSerialiser() {
+			@Override
+			public Object serialise(Bundle value, Decomposer decomposer) {
+				return null;
+			}
+		};
+		assertThrows(IllDefinedConfigException.class, () -> deprocess(Bundled.class, Bundle::new, serialiser));
+	}
+
+	@Test
+	public void compileEntriesInOrder() {
+		WritePlan<Collections> writePlan = WritePlan.compile(
+				new DefinitionReader<>(Collections.class, ConfigurationOptions.defaults()).read());
+		assertSame(Collections.class, writePlan.definition().getConfigClass());
+		List<ConfEntry> entries = new ArrayList<>();
+		for (WritePlan.PlannedEntry plannedEntry : writePlan.entries()) {
+			entries.add(plannedEntry.entry());
+		}
+		assertEquals(new ArrayList<>(writePlan.definition().getEntries()), entries);
+	}
+
+	private static abstract class BundleSerialiser implements ValueSerialiser<Bundle> {
+
+		@Override
+		public Class<Bundle> getTargetClass() {
+			return Bundle.class;
+		}
+
+		@Override
+		public Bundle deserialise(FlexibleType flexibleType) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharBufferReaderTest {
+
+	private static String readAll(CharBufferReader reader) {
+		StringBuilder builder = new StringBuilder();
+		char[] chunk = new char[3];
+		int read;
+		while ((read = reader.read(chunk, 0, chunk.length)) != -1) {
+			builder.append(chunk, 0, read);
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void readContent() {
+		CharBufferReader reader = new CharBufferReader(CharBuffer.wrap("content"));
+		assertEquals('c', reader.read());
+		assertEquals("ontent", readAll(reader));
+		assertEquals(-1, reader.read());
+	}
+
+	@Test
+	public void markAndReset() throws IOException {
+		CharBufferReader reader = new CharBufferReader(CharBuffer.wrap("content"));
+		assertTrue(reader.markSupported());
+		assertEquals('c', reader.read());
+		reader.mark(1);
+		// Reading past the limit does not invalidate the mark
+		assertEquals("ontent", readAll(reader));
+		reader.reset();
+		assertEquals("ontent", readAll(reader));
+	}
+
+	@Test
+	public void resetWithoutMark() {
+		CharBufferReader reader = new CharBufferReader(CharBuffer.wrap("content"));
+		assertThrows(IOException.class, reader::reset);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DecodingReaderTest {
+
+	private static final String TEXT = "plain ascii, café, 中文, and emoji 😀😁 which are surrogate pairs";
+
+	private static String readAll(Reader reader) throws IOException {
+		StringWriter output = new StringWriter();
+		try (reader) {
+			reader.transferTo(output);
+		}
+		return output.toString();
+	}
+
+	@Test
+	public void readWithSmallBuffers() throws IOException {
+		byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+		for (int charBufferSize = 2; charBufferSize < 12; charBufferSize++) {
+			for (int byteBufferSize = 4; byteBufferSize < 8; byteBufferSize++) {
+				Reader fromChannel = DecodingReader.fromChannel(
+						Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8.newDecoder(),
+						ByteBuffer.allocate(byteBufferSize), CharBuffer.allocate(charBufferSize));
+				assertEquals(TEXT, readAll(fromChannel), "Buffer size " + charBufferSize);
+				Reader fromStream = DecodingReader.fromStream(
+						new ByteArrayInputStream(bytes), StandardCharsets.UTF_8.newDecoder(),
+						ByteBuffer.allocate(byteBufferSize), CharBuffer.allocate(charBufferSize));
+				assertEquals(TEXT, readAll(fromStream), "Buffer size " + charBufferSize);
+			}
+		}
+	}
+
+	@Test
+	public void readSingleChars() throws IOException {
+		try (Reader reader = DecodingReader.fromStream(
+				new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8.newDecoder(),
+				ByteBuffer.allocate(4), CharBuffer.allocate(2))) {
+			StringBuilder builder = new StringBuilder();
+			int c;
+			while ((c = reader.read()) != -1) {
+				builder.append((char) c);
+			}
+			assertEquals(TEXT, builder.toString());
+			assertEquals(-1, reader.read());
+		}
+	}
+
+	@Test
+	public void malformedInputReported() {
+		byte[] bytes = {'a', (byte) 0xC3, 'b'};
+		Reader reader = DecodingReader.fromStream(
+				new ByteArrayInputStream(bytes), StandardCharsets.UTF_8.newDecoder(),
+				ByteBuffer.allocate(8), CharBuffer.allocate(8));
+		assertThrows(CharacterCodingException.class, () -> readAll(reader));
+	}
+
+	@Test
+	public void malformedInputReplaced() throws IOException {
+		byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xC3};
+		Reader reader = DecodingReader.fromStream(
+				new ByteArrayInputStream(bytes),
+				StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE),
+				ByteBuffer.allocate(8), CharBuffer.allocate(8));
+		assertEquals("a�b�", readAll(reader));
+	}
+
+}
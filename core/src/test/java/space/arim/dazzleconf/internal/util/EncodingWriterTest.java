@@ -0,0 +1,255 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnmappableCharacterException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EncodingWriterTest {
+
+	private static final String TEXT = "plain ascii, café, 中文, and emoji 😀😁 which are surrogate pairs";
+
+	private static Writer newWriter(ByteArrayOutputStream output, int charBufferSize, int byteBufferSize) {
+		return new EncodingWriter(Channels.newChannel(output), StandardCharsets.UTF_8.newEncoder(),
+				CharBuffer.allocate(charBufferSize), ByteBuffer.allocate(byteBufferSize));
+	}
+
+	@Test
+	public void writeWithSmallBuffers() throws IOException {
+		for (int charBufferSize = 2; charBufferSize < 12; charBufferSize++) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			try (Writer writer = newWriter(output, charBufferSize, 4)) {
+				writer.write(TEXT);
+				for (char c : TEXT.toCharArray()) {
+					writer.write(c);
+				}
+				writer.write(TEXT.toCharArray(), 3, TEXT.length() - 3);
+				writer.append(TEXT, 1, 20);
+			}
+			String expected = TEXT + TEXT + TEXT.substring(3) + TEXT.substring(1, 20);
+			assertEquals(expected, output.toString(StandardCharsets.UTF_8), "Buffer size " + charBufferSize);
+		}
+	}
+
+	@Test
+	public void malformedInput() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		assertThrows(CharacterCodingException.class, () -> {
+			try (Writer writer = newWriter(output, 8, 8)) {
+				writer.write("unpaired \uD83D surrogate");
+			}
+		});
+	}
+
+	@Test
+	public void rejectTinyCharBuffer() {
+		assertThrows(IllegalArgumentException.class, () -> newWriter(new ByteArrayOutputStream(), 1, 8));
+	}
+
+	@Test
+	public void writeToStreamWithOffsetBuffers() throws IOException {
+		// Slices whose backing arrays are offset, and whose capacity forces many overflows
+		CharBuffer chars = CharBuffer.allocate(13).position(5).slice();
+		ByteBuffer bytes = ByteBuffer.allocate(7).position(3).slice();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (Writer writer = new EncodingWriter(output, StandardCharsets.UTF_8.newEncoder(), chars, bytes)) {
+			writer.write(TEXT);
+			writer.write("short");
+			writer.append(TEXT);
+			writer.write(TEXT.toCharArray(), 0, 4);
+		}
+		assertEquals(TEXT + "short" + TEXT + TEXT.substring(0, 4), output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void writeToPartialChannel() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		// Accepts one byte per write
+		WritableByteChannel channel = new WritableByteChannel() {
+
+			private final WritableByteChannel delegate = Channels.newChannel(output);
+
+			@Override
+			public int write(ByteBuffer src) throws IOException {
+				ByteBuffer single = src.slice();
+				single.limit(Math.min(1, single.limit()));
+				int written = delegate.write(single);
+				src.position(src.position() + written);
+				return written;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return delegate.isOpen();
+			}
+
+			@Override
+			public void close() throws IOException {
+				delegate.close();
+			}
+		};
+		try (Writer writer = new EncodingWriter(channel, StandardCharsets.UTF_8.newEncoder(),
+				CharBuffer.allocate(16), ByteBuffer.allocate(8))) {
+			writer.write(TEXT);
+		}
+		assertEquals(TEXT, output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void flushWritesPendingCharacters() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		AtomicInteger flushes = new AtomicInteger();
+		OutputStream stream = new FilterOutputStream(output) {
+			@Override
+			public void flush() throws IOException {
+				flushes.incrementAndGet();
+				super.flush();
+			}
+		};
+		try (Writer writer = new EncodingWriter(stream, StandardCharsets.UTF_8.newEncoder(),
+				CharBuffer.allocate(64), ByteBuffer.allocate(64))) {
+			writer.write("café");
+			assertEquals(0, output.size());
+			writer.flush();
+			assertEquals("café", output.toString(StandardCharsets.UTF_8));
+			assertEquals(1, flushes.get());
+		}
+	}
+
+	@Test
+	public void flushChannel() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (Writer writer = newWriter(output, 64, 64)) {
+			writer.write("café");
+			writer.flush();
+			assertEquals("café", output.toString(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void flushEncoderState() throws IOException {
+		// A stateful charset, whose encoder writes an escape sequence when flushed
+		Charset charset = Charset.forName("ISO-2022-JP");
+		String text = "日本語 text 日本語";
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (Writer writer = new EncodingWriter(Channels.newChannel(output), charset.newEncoder(),
+				CharBuffer.allocate(4), ByteBuffer.allocate(8))) {
+			writer.write(text);
+		}
+		assertArrayEquals(text.getBytes(charset), output.toByteArray());
+	}
+
+	@Test
+	public void closeOnce() throws IOException {
+		AtomicInteger closes = new AtomicInteger();
+		OutputStream stream = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				closes.incrementAndGet();
+			}
+		};
+		Writer writer = new EncodingWriter(stream, StandardCharsets.UTF_8.newEncoder(),
+				CharBuffer.allocate(8), ByteBuffer.allocate(8));
+		writer.write("text");
+		writer.close();
+		writer.close();
+		assertEquals(1, closes.get());
+		assertThrows(IOException.class, () -> writer.write('c'));
+		assertThrows(IOException.class, () -> writer.write("text"));
+		assertThrows(IOException.class, () -> writer.write(new char[] {'c'}));
+		assertThrows(IOException.class, writer::flush);
+	}
+
+	@Test
+	public void closeOnError() {
+		AtomicInteger closes = new AtomicInteger();
+		OutputStream stream = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				closes.incrementAndGet();
+			}
+		};
+		Writer writer = new EncodingWriter(stream, StandardCharsets.UTF_8.newEncoder(),
+				CharBuffer.allocate(8), ByteBuffer.allocate(8));
+		assertThrows(CharacterCodingException.class, () -> {
+			writer.write("unpaired \uD83D");
+			writer.close();
+		});
+		assertEquals(1, closes.get());
+		assertThrows(IOException.class, () -> writer.write('c'));
+	}
+
+	@Test
+	public void reportUnmappableCharacters() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		assertThrows(UnmappableCharacterException.class, () -> {
+			try (Writer writer = new EncodingWriter(Channels.newChannel(output), StandardCharsets.US_ASCII.newEncoder(),
+					CharBuffer.allocate(8), ByteBuffer.allocate(8))) {
+				writer.write("café");
+			}
+		});
+	}
+
+	@Test
+	public void replaceUnmappableCharacters() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		CharsetEncoder encoder = StandardCharsets.US_ASCII.newEncoder()
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		try (Writer writer = new EncodingWriter(output, encoder, CharBuffer.allocate(8), ByteBuffer.allocate(8))) {
+			writer.write("café");
+		}
+		assertEquals("caf?", output.toString(StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void readCharBuffer() throws IOException {
+		StringWriter output = new StringWriter();
+		try (Reader reader = new CharBufferReader(CharBuffer.wrap(TEXT))) {
+			assertEquals('p', reader.read());
+			assertEquals(5, reader.skip(5));
+			reader.transferTo(output);
+			assertEquals(-1, reader.read());
+		}
+		assertEquals(TEXT.substring(6), output.toString());
+	}
+
+}
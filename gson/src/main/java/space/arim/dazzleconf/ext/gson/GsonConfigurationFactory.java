@@ -27,11 +27,9 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.TypeAdapter;
-import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.MalformedJsonException;
 
@@ -40,6 +38,7 @@ import space.arim.dazzleconf.ConfigurationOptions;
 import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
 import space.arim.dazzleconf.error.IllDefinedConfigException;
 import space.arim.dazzleconf.factory.AbstractConfigurationFactory;
+import space.arim.dazzleconf.factory.BufferStrategy;
 
 /**
  * A {@link ConfigurationFactory} implementation using Gson to load a json configuration. <br>
@@ -127,12 +126,20 @@ public class GsonConfigurationFactory<C> extends AbstractConfigurationFactory<C>
 		return gsonOptions.charset();
 	}
 
+	@Override
+	protected BufferStrategy bufferStrategy() {
+		return gsonOptions.bufferStrategy();
+	}
+
 	@Override
 	protected Map<String, Object> loadMapFromReader(Reader reader) throws IOException, ConfigFormatSyntaxException {
-		Gson gson = gsonOptions.gson();
-		TypeAdapter<Map<String, Object>> adapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {});
-		JsonReader jsonReader = gson.newJsonReader(reader);
+		TypeAdapter<Map<String, Object>> adapter = gsonOptions.mapAdapter();
+		JsonReader jsonReader = gsonOptions.gson().newJsonReader(reader);
 		try {
+			if (gsonOptions.defaultGson()) {
+				// The default Gson's number policy is known, so the document can be read without its adapters
+				return JsonStreamLoader.load(jsonReader, adapter);
+			}
 			return adapter.read(jsonReader);
 		} catch (JsonIOException ex) {
 			Throwable cause = ex.getCause();
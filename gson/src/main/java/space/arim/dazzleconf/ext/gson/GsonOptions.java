@@ -20,11 +20,15 @@ package space.arim.dazzleconf.ext.gson;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Objects;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.ToNumberPolicy;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import space.arim.dazzleconf.factory.BufferStrategy;
 
 /**
  * Options for GSON configurations
@@ -37,11 +41,18 @@ public final class GsonOptions {
 	private final Gson gson;
 	private final String pseudoCommentsSuffix;
 	private final Charset charset;
+	private final BufferStrategy bufferStrategy;
+	private final boolean defaultGson;
+	private final TypeAdapter<Map<String, Object>> mapAdapter;
 	
-	GsonOptions(Gson gson, String pseudoCommentsSuffix, Charset charset) {
+	GsonOptions(Gson gson, String pseudoCommentsSuffix, Charset charset, BufferStrategy bufferStrategy,
+				boolean defaultGson) {
 		this.gson = gson;
 		this.pseudoCommentsSuffix = pseudoCommentsSuffix;
 		this.charset = charset;
+		this.bufferStrategy = bufferStrategy;
+		this.defaultGson = defaultGson;
+		mapAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {});
 	}
 	
 	/**
@@ -85,10 +96,38 @@ public final class GsonOptions {
 		return charset;
 	}
 
+	/**
+	 * Gets the buffer strategy used
+	 *
+	 * @return the buffer strategy
+	 */
+	public BufferStrategy bufferStrategy() {
+		return bufferStrategy;
+	}
+
+	/**
+	 * Whether the gson instance is the default one created by the builder, in which case its
+	 * number policy and leniency are known
+	 *
+	 * @return true if the default gson is used
+	 */
+	boolean defaultGson() {
+		return defaultGson;
+	}
+
+	/**
+	 * Gets the adapter for reading the document root, looked up once
+	 *
+	 * @return the map adapter
+	 */
+	TypeAdapter<Map<String, Object>> mapAdapter() {
+		return mapAdapter;
+	}
+
 	@Override
 	public String toString() {
 		return "GsonOptions [gson=" + gson + ", pseudoCommentsSuffix=" + pseudoCommentsSuffix
-				+ ", charset=" + charset + "]";
+				+ ", charset=" + charset + ", bufferStrategy=" + bufferStrategy + "]";
 	}
 
 	/**
@@ -105,6 +144,7 @@ public final class GsonOptions {
 		private Gson gson;
 		private String pseudoCommentsSuffix = "";
 		private Charset charset = StandardCharsets.UTF_8;
+		private BufferStrategy bufferStrategy = BufferStrategy.threadLocal();
 		
 		public Builder() {
 			
@@ -175,6 +215,18 @@ public final class GsonOptions {
 			return this;
 		}
 
+		/**
+		 * Sets the strategy for reusing buffers and charset codecs across loads and writes.
+		 * Default is {@link BufferStrategy#threadLocal()}
+		 *
+		 * @param bufferStrategy the buffer strategy
+		 * @return this builder
+		 */
+		public Builder bufferStrategy(BufferStrategy bufferStrategy) {
+			this.bufferStrategy = Objects.requireNonNull(bufferStrategy, "bufferStrategy");
+			return this;
+		}
+
 		/**
 		 * Builds the options. May be used repeatedly without side effects
 		 * 
@@ -182,7 +234,8 @@ public final class GsonOptions {
 		 */
 		public GsonOptions build() {
 			Gson gson = this.gson;
-			if (gson == null) {
+			boolean defaultGson = gson == null;
+			if (defaultGson) {
 				// Default Gson
 				gson = new GsonBuilder()
 						.setPrettyPrinting().setLenient()
@@ -192,13 +245,13 @@ public final class GsonOptions {
 						.setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
 						.create();
 			}
-			return new GsonOptions(gson, pseudoCommentsSuffix, charset);
+			return new GsonOptions(gson, pseudoCommentsSuffix, charset, bufferStrategy, defaultGson);
 		}
 
 		@Override
 		public String toString() {
 			return "GsonOptions.Builder [gson=" + gson + ", pseudoCommentsSuffix=" + pseudoCommentsSuffix
-					+ ", charset=" + charset + "]";
+					+ ", charset=" + charset + ", bufferStrategy=" + bufferStrategy + "]";
 		}
 
 	}
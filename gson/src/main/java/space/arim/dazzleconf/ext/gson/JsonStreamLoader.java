@@ -0,0 +1,143 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.gson;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a document straight from a {@link JsonReader} into plain maps and lists, for use with the
+ * default Gson. <br>
+ * <br>
+ * The result is the same as reading through Gson's map adapter with {@link ToNumberPolicy#LONG_OR_DOUBLE}:
+ * integral numbers become {@code Long} rather than passing through {@code Double}, duplicate keys are
+ * rejected only at the root, and nested containers are read iteratively.
+ *
+ */
+final class JsonStreamLoader {
+
+	private JsonStreamLoader() {}
+
+	static Map<String, Object> load(JsonReader reader, TypeAdapter<Map<String, Object>> mapAdapter)
+			throws IOException {
+		if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+			// Gson's map adapter gives meaning to a null or array root; leave those to it
+			return mapAdapter.read(reader);
+		}
+		reader.beginObject();
+		Map<String, Object> root = new LinkedHashMap<>();
+		while (reader.hasNext()) {
+			String key = reader.nextName();
+			Object replaced = root.put(key, readValue(reader));
+			if (replaced != null) {
+				throw new JsonSyntaxException("duplicate key: " + key);
+			}
+		}
+		reader.endObject();
+		return root;
+	}
+
+	private static Object readValue(JsonReader reader) throws IOException {
+		JsonToken token = reader.peek();
+		Object current = beginContainer(reader, token);
+		if (current == null) {
+			return readTerminal(reader, token);
+		}
+		Deque<Object> stack = new ArrayDeque<>();
+		while (true) {
+			while (reader.hasNext()) {
+				String name = null;
+				if (current instanceof Map) {
+					name = reader.nextName();
+				}
+				token = reader.peek();
+				Object value = beginContainer(reader, token);
+				boolean nested = value != null;
+				if (!nested) {
+					value = readTerminal(reader, token);
+				}
+				if (current instanceof List) {
+					@SuppressWarnings("unchecked")
+					List<Object> list = (List<Object>) current;
+					list.add(value);
+				} else {
+					@SuppressWarnings("unchecked")
+					Map<String, Object> map = (Map<String, Object>) current;
+					map.put(name, value);
+				}
+				if (nested) {
+					stack.addLast(current);
+					current = value;
+				}
+			}
+			if (current instanceof List) {
+				reader.endArray();
+			} else {
+				reader.endObject();
+			}
+			if (stack.isEmpty()) {
+				return current;
+			}
+			current = stack.removeLast();
+		}
+	}
+
+	private static Object beginContainer(JsonReader reader, JsonToken token) throws IOException {
+		switch (token) {
+		case BEGIN_ARRAY:
+			reader.beginArray();
+			return new ArrayList<>();
+		case BEGIN_OBJECT:
+			reader.beginObject();
+			return new LinkedHashMap<>();
+		default:
+			return null;
+		}
+	}
+
+	private static Object readTerminal(JsonReader reader, JsonToken token) throws IOException {
+		switch (token) {
+		case STRING:
+			return reader.nextString();
+		case NUMBER:
+			return ToNumberPolicy.LONG_OR_DOUBLE.readNumber(reader);
+		case BOOLEAN:
+			return reader.nextBoolean();
+		case NULL:
+			reader.nextNull();
+			return null;
+		default:
+			throw new IllegalStateException("Unexpected token: " + token);
+		}
+	}
+
+}
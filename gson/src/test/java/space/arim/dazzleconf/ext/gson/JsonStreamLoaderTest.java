@@ -0,0 +1,118 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.gson;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonStreamLoaderTest {
+
+	private final GsonOptions gsonOptions = new GsonOptions.Builder().build();
+
+	private JsonReader readerFor(String json) {
+		return gsonOptions.gson().newJsonReader(new StringReader(json));
+	}
+
+	private Map<String, Object> loadStreaming(String json) throws IOException {
+		return JsonStreamLoader.load(readerFor(json), gsonOptions.mapAdapter());
+	}
+
+	private Map<String, Object> loadWithAdapter(String json) throws IOException {
+		return gsonOptions.mapAdapter().read(readerFor(json));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"{}",
+			"{\"a\": \"b\", \"c\": 1, \"d\": 1.5, \"e\": true, \"f\": null}",
+			"{\"big\": 9223372036854775807, \"bigger\": 9223372036854775808, \"exp\": 1e3, \"neg\": -0}",
+			"{\"nested\": {\"list\": [1, \"two\", [3.0, {\"four\": 4}], null], \"empty\": {}}, \"after\": []}",
+			"{\"nested\": {\"dup\": 1, \"dup\": 2}}",
+			"{unquoted: value, 'single': 'quotes', trailing: [1, 2,]}",
+			"{\"a\": [[[[[[[[[[1]]]]]]]]]]}",
+			"[[\"key\", \"value\"]]",
+			"null"})
+	public void sameAsMapAdapter(String json) throws IOException {
+		Map<String, Object> expected = loadWithAdapter(json);
+		Map<String, Object> actual = loadStreaming(json);
+		assertEquals(expected, actual);
+		if (expected != null) {
+			assertSameTypes(expected, actual);
+		}
+	}
+
+	private static void assertSameTypes(Object expected, Object actual) {
+		if (expected instanceof Map) {
+			Map<?, ?> expectedMap = (Map<?, ?>) expected;
+			Map<?, ?> actualMap = (Map<?, ?>) actual;
+			assertEquals(List.copyOf(expectedMap.keySet()), List.copyOf(actualMap.keySet()), "Key order");
+			expectedMap.forEach((key, value) -> assertSameTypes(value, actualMap.get(key)));
+		} else if (expected instanceof List) {
+			List<?> expectedList = (List<?>) expected;
+			List<?> actualList = (List<?>) actual;
+			for (int n = 0; n < expectedList.size(); n++) {
+				assertSameTypes(expectedList.get(n), actualList.get(n));
+			}
+		} else if (expected != null) {
+			assertEquals(expected.getClass(), actual.getClass());
+		}
+	}
+
+	@Test
+	public void integralNumbersAreLong() throws IOException {
+		assertEquals(Map.of("value", 12L), loadStreaming("{\"value\": 12}"));
+	}
+
+	@Test
+	public void duplicateRootKey() {
+		assertThrows(JsonSyntaxException.class, () -> loadWithAdapter("{\"a\": 1, \"a\": 2}"));
+		assertThrows(JsonSyntaxException.class, () -> loadStreaming("{\"a\": 1, \"a\": 2}"));
+	}
+
+	@Test
+	public void emptyDocument() {
+		assertThrows(EOFException.class, () -> loadStreaming(""));
+	}
+
+	@Test
+	public void deepNesting() throws IOException {
+		int depth = 10_000;
+		String json = "{\"a\": " + "[".repeat(depth) + "]".repeat(depth) + "}";
+		Object current = loadStreaming(json).get("a");
+		for (int n = 1; n < depth; n++) {
+			current = ((List<?>) current).get(0);
+		}
+		assertEquals(List.of(), current);
+	}
+
+}
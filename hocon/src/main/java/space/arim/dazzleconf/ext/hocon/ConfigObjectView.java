@@ -0,0 +1,108 @@
+package space.arim.dazzleconf.ext.hocon;
+
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Read-only map view over a parsed {@link ConfigObject}. <br>
+ * <br>
+ * Unlike {@link ConfigObject#unwrapped()}, nothing is copied up front. Objects and lists are wrapped in
+ * further views as they are reached, and only leaf values are unwrapped. Sections which are never read
+ * are never converted.
+ */
+final class ConfigObjectView extends AbstractMap<String, Object> {
+
+  private final ConfigObject configObject;
+
+  ConfigObjectView(ConfigObject configObject) {
+    this.configObject = configObject;
+  }
+
+  static Object viewOf(ConfigValue value) {
+    switch (value.valueType()) {
+      case OBJECT:
+        return new ConfigObjectView((ConfigObject) value);
+      case LIST:
+        return new ConfigListView((ConfigList) value);
+      default:
+        return value.unwrapped();
+    }
+  }
+
+  @Override
+  public Object get(Object key) {
+    ConfigValue value = configObject.get(key);
+    return (value == null) ? null : viewOf(value);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return configObject.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return configObject.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return configObject.isEmpty();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        Iterator<Entry<String, ConfigValue>> iterator = configObject.entrySet().iterator();
+        return new Iterator<Entry<String, Object>>() {
+
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+            Entry<String, ConfigValue> entry = iterator.next();
+            return new SimpleImmutableEntry<>(entry.getKey(), viewOf(entry.getValue()));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return configObject.size();
+      }
+    };
+  }
+
+  private static final class ConfigListView extends AbstractList<Object> implements RandomAccess {
+
+    private final ConfigList configList;
+
+    ConfigListView(ConfigList configList) {
+      this.configList = configList;
+    }
+
+    @Override
+    public Object get(int index) {
+      return viewOf(configList.get(index));
+    }
+
+    @Override
+    public int size() {
+      return configList.size();
+    }
+  }
+}
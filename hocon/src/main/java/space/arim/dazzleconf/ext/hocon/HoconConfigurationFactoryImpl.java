@@ -1,8 +1,10 @@
 package space.arim.dazzleconf.ext.hocon;
 
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigException;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigRenderOptions;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 import java.io.IOException;
@@ -18,6 +20,7 @@ import space.arim.dazzleconf.error.BadValueException;
 import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
 import space.arim.dazzleconf.error.InvalidConfigException;
 import space.arim.dazzleconf.error.MissingValueException;
+import space.arim.dazzleconf.factory.BufferStrategy;
 import space.arim.dazzleconf.factory.CommentedWrapper;
 import space.arim.dazzleconf.factory.HumanReadableConfigurationFactory;
 
@@ -36,10 +39,27 @@ final class HoconConfigurationFactoryImpl<C> extends HumanReadableConfigurationF
     return hoconOptions.charset();
   }
 
+  @Override
+  public BufferStrategy bufferStrategy() {
+    return hoconOptions.bufferStrategy();
+  }
+
+  @Override
+  protected String snapshotFormatKey() {
+    // Documents may include other files, and the parse options cannot be identified
+    return null;
+  }
+
   @Override
   public Map<String, Object> loadMap(Reader reader) throws IOException, InvalidConfigException {
     try {
-      return ConfigFactory.parseReader(reader, hoconOptions.configParseOptions()).root().unwrapped();
+      Config config = ConfigFactory.parseReader(reader, hoconOptions.configParseOptions());
+      if (!config.isResolved()) {
+        // Unwrapping reports the unresolved substitution here, rather than midway through processing
+        return config.root().unwrapped();
+      }
+      // Values are converted as the processor reads them, rather than copying the whole tree
+      return new ConfigObjectView(config.root());
 
     } catch (ConfigException.BadValue | ConfigException.Null e) {
       throw new BadValueException.Builder().cause(e).build();
@@ -62,6 +82,12 @@ final class HoconConfigurationFactoryImpl<C> extends HumanReadableConfigurationF
 
   @Override
   public void writeMap(Map<String, Object> config, Writer writer) throws IOException {
+    // Typesafe rendering never emits the comments of the root object, so the header is not needed here
+    String rendered = renderDirectly(config);
+    if (rendered != null) {
+      writer.write(rendered);
+      return;
+    }
     ConfigObject hoconConfig = convertMapToHocon(config);
     List<String> commentHeader = getHeader();
     if (!commentHeader.isEmpty()) {
@@ -71,6 +97,31 @@ final class HoconConfigurationFactoryImpl<C> extends HumanReadableConfigurationF
     writer.write(hoconConfig.render(hoconOptions.configRenderOptions()));
   }
 
+  @Override
+  public boolean supportsAppendingMap() {
+    // Json rendering encloses the root object in braces, after which nothing may follow
+    return !hoconOptions.configRenderOptions().getJson();
+  }
+
+  @Override
+  public void appendMap(Map<String, Object> config, Writer writer) throws IOException {
+    // The existing document might not end with a line break
+    writer.write('\n');
+    String rendered = renderDirectly(config);
+    if (rendered == null) {
+      rendered = convertMapToHocon(config).render(hoconOptions.configRenderOptions());
+    }
+    writer.write(rendered);
+  }
+
+  private String renderDirectly(Map<String, Object> config) {
+    ConfigRenderOptions renderOptions = hoconOptions.configRenderOptions();
+    if (!HoconRenderer.supports(renderOptions)) {
+      return null;
+    }
+    return HoconRenderer.render(config, renderOptions.getComments());
+  }
+
   private ConfigObject convertMapToHocon(Map<String, Object> config) {
     Map<String, Object> hoconConfigMap = new LinkedHashMap<>();
     for (Map.Entry<String, Object> entry : config.entrySet()) {
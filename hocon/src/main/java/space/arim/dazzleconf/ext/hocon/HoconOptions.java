@@ -2,6 +2,7 @@ package space.arim.dazzleconf.ext.hocon;
 
 import com.typesafe.config.ConfigParseOptions;
 import com.typesafe.config.ConfigRenderOptions;
+import space.arim.dazzleconf.factory.BufferStrategy;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -11,11 +12,13 @@ public final class HoconOptions {
   private final ConfigParseOptions configParseOptions;
   private final ConfigRenderOptions configRenderOptions;
   private final Charset charset;
+  private final BufferStrategy bufferStrategy;
 
   HoconOptions(Builder builder) {
     this.configParseOptions = builder.configParseOptions;
     this.configRenderOptions = builder.configRenderOptions;
     this.charset = builder.charset;
+    this.bufferStrategy = builder.bufferStrategy;
   }
 
   /**
@@ -45,12 +48,22 @@ public final class HoconOptions {
     return charset;
   }
 
+  /**
+   * Gets used buffer strategy
+   *
+   * @return used buffer strategy
+   */
+  public BufferStrategy bufferStrategy() {
+    return bufferStrategy;
+  }
+
   @Override
   public String toString() {
     return "HoconOptions{" +
            "configParseOptions=" + configParseOptions +
            ", configRenderOptions=" + configRenderOptions +
            ", charset=" + charset +
+           ", bufferStrategy=" + bufferStrategy +
            '}';
   }
 
@@ -66,6 +79,7 @@ public final class HoconOptions {
         .setJson(false);
 
     Charset charset = StandardCharsets.UTF_8;
+    BufferStrategy bufferStrategy = BufferStrategy.threadLocal();
 
     /**
      * Sets parse options. Reading config uses them.
@@ -100,6 +114,18 @@ public final class HoconOptions {
       return this;
     }
 
+    /**
+     * Sets the strategy for reusing buffers and charset codecs across loads and writes.
+     * Default is {@link BufferStrategy#threadLocal()}
+     *
+     * @param bufferStrategy the buffer strategy
+     * @return this builder
+     */
+    public Builder bufferStrategy(BufferStrategy bufferStrategy) {
+      this.bufferStrategy = Objects.requireNonNull(bufferStrategy);
+      return this;
+    }
+
     /**
      * Builds the options. May be used repeatedly without side effects
      *
@@ -115,6 +141,7 @@ public final class HoconOptions {
              "configParseOptions=" + configParseOptions +
              ", configRenderOptions=" + configRenderOptions +
              ", charset=" + charset +
+             ", bufferStrategy=" + bufferStrategy +
              '}';
     }
   }
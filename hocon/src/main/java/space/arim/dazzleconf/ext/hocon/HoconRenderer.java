@@ -0,0 +1,288 @@
+package space.arim.dazzleconf.ext.hocon;
+
+import com.typesafe.config.ConfigRenderOptions;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import space.arim.dazzleconf.factory.CommentedWrapper;
+
+/**
+ * Renders deprocessed data as HOCON directly, without converting it to {@code ConfigValue}s first. <br>
+ * <br>
+ * The output is identical to Typesafe's rendering of the same data with formatting enabled and without
+ * json or origin comments. Keys are sorted, strings are quoted only where needed, and comments are written
+ * above their entries. Values not recognised here make {@link #render(Map, boolean)} return null, in which
+ * case Typesafe rendering should be used instead.
+ */
+final class HoconRenderer {
+
+  private static final Comparator<String> KEY_ORDER = HoconRenderer::compareKeys;
+
+  private final boolean comments;
+  private final StringBuilder output = new StringBuilder();
+
+  private HoconRenderer(boolean comments) {
+    this.comments = comments;
+  }
+
+  /**
+   * Whether the renderer matches Typesafe rendering with the given options
+   *
+   * @param options the render options
+   * @return true if supported
+   */
+  static boolean supports(ConfigRenderOptions options) {
+    return options.getFormatted() && !options.getJson() && !options.getOriginComments();
+  }
+
+  /**
+   * Renders a root object
+   *
+   * @param config the deprocessed data
+   * @param comments whether to render comments
+   * @return the rendered document, or null if it contains values which cannot be rendered here
+   */
+  static String render(Map<String, Object> config, boolean comments) {
+    HoconRenderer renderer = new HoconRenderer(comments);
+    try {
+      renderer.renderObject(config, 0, true, true);
+    } catch (Unsupported ex) {
+      return null;
+    }
+    return renderer.output.toString();
+  }
+
+  /*
+   * Typesafe conversion recognises comments only on entries reachable through objects, not through lists
+   */
+
+  private void renderObject(Map<?, Object> map, int indent, boolean atRoot, boolean commentable) {
+    if (map.isEmpty()) {
+      output.append("{}");
+    } else {
+      int innerIndent = (atRoot) ? indent : indent + 1;
+      if (!atRoot) {
+        output.append("{\n");
+      }
+      for (String key : sortedKeys(map)) {
+        Object value = map.get(key);
+        if (value instanceof CommentedWrapper) {
+          CommentedWrapper commentedWrapper = (CommentedWrapper) value;
+          value = commentedWrapper.getValue();
+          if (!commentable || value instanceof CommentedWrapper) {
+            throw Unsupported.INSTANCE;
+          }
+          if (comments) {
+            renderComments(commentedWrapper.getComments(), innerIndent);
+          }
+        }
+        indent(innerIndent);
+        renderString(key);
+        // The separator may be omitted before an object
+        output.append((value instanceof Map) ? ' ' : '=');
+        renderValue(value, innerIndent, commentable);
+        output.append('\n');
+      }
+      // Chop the last line break
+      output.setLength(output.length() - 1);
+      if (!atRoot) {
+        output.append('\n');
+        indent(indent);
+        output.append('}');
+      }
+    }
+    if (atRoot) {
+      output.append('\n');
+    }
+  }
+
+  private String[] sortedKeys(Map<?, Object> map) {
+    String[] keys = new String[map.size()];
+    int index = 0;
+    for (Object key : map.keySet()) {
+      if (!(key instanceof String)) {
+        throw Unsupported.INSTANCE;
+      }
+      keys[index++] = (String) key;
+    }
+    Arrays.sort(keys, KEY_ORDER);
+    return keys;
+  }
+
+  private void renderComments(List<String> commentLines, int indent) {
+    for (String comment : commentLines) {
+      indent(indent);
+      output.append('#');
+      if (!comment.startsWith(" ")) {
+        output.append(' ');
+      }
+      output.append(comment).append('\n');
+    }
+  }
+
+  private void renderList(Iterable<?> list, int indent) {
+    Iterator<?> iterator = list.iterator();
+    if (!iterator.hasNext()) {
+      output.append("[]");
+      return;
+    }
+    output.append("[\n");
+    while (iterator.hasNext()) {
+      indent(indent + 1);
+      renderValue(iterator.next(), indent + 1, false);
+      output.append(",\n");
+    }
+    // Chop the last comma and line break
+    output.setLength(output.length() - 2);
+    output.append('\n');
+    indent(indent);
+    output.append(']');
+  }
+
+  private void renderValue(Object value, int indent, boolean commentable) {
+    if (value == null) {
+      output.append("null");
+    } else if (value instanceof String) {
+      renderString((String) value);
+    } else if (value instanceof Boolean) {
+      output.append(((Boolean) value).booleanValue());
+    } else if (value instanceof Number) {
+      renderNumber((Number) value);
+    } else if (value instanceof Map) {
+      @SuppressWarnings("unchecked")
+      Map<?, Object> map = (Map<?, Object>) value;
+      renderObject(map, indent, false, commentable);
+    } else if (value instanceof Iterable) {
+      renderList((Iterable<?>) value, indent);
+    } else {
+      throw Unsupported.INSTANCE;
+    }
+  }
+
+  private void renderNumber(Number number) {
+    if (number instanceof Integer || number instanceof Long || number instanceof Double) {
+      output.append(number);
+      return;
+    }
+    // Typesafe converts other number types through their double value
+    double value = number.doubleValue();
+    long asLong = (long) value;
+    if (asLong == value) {
+      output.append(asLong);
+    } else {
+      output.append(value);
+    }
+  }
+
+  private void renderString(String value) {
+    if (canRenderUnquoted(value)) {
+      output.append(value);
+      return;
+    }
+    output.append('"');
+    for (int n = 0; n < value.length(); n++) {
+      char c = value.charAt(n);
+      switch (c) {
+        case '"':
+          output.append("\\\"");
+          break;
+        case '\\':
+          output.append("\\\\");
+          break;
+        case '\n':
+          output.append("\\n");
+          break;
+        case '\b':
+          output.append("\\b");
+          break;
+        case '\f':
+          output.append("\\f");
+          break;
+        case '\r':
+          output.append("\\r");
+          break;
+        case '\t':
+          output.append("\\t");
+          break;
+        default:
+          if (c <= 0x1F) {
+            output.append(String.format("\\u%04x", (int) c));
+          } else {
+            output.append(c);
+          }
+      }
+    }
+    output.append('"');
+  }
+
+  private static boolean canRenderUnquoted(String value) {
+    if (value.isEmpty()) {
+      return false;
+    }
+    // Leading digits or hyphens would be read back as a number
+    int first = value.codePointAt(0);
+    if (Character.isDigit(first) || first == '-') {
+      return false;
+    }
+    if (value.startsWith("include") || value.startsWith("true") || value.startsWith("false")
+        || value.startsWith("null") || value.contains("//")) {
+      return false;
+    }
+    for (int n = 0; n < value.length(); n++) {
+      char c = value.charAt(n);
+      if (!(Character.isLetter(c) || Character.isDigit(c) || c == '-')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void indent(int indent) {
+    for (int n = 0; n < indent; n++) {
+      output.append("    ");
+    }
+  }
+
+  /*
+   * Numeric keys come first in numeric order, followed by the remaining keys in natural order
+   */
+
+  private static int compareKeys(String key1, String key2) {
+    boolean digits1 = isAllDigits(key1);
+    boolean digits2 = isAllDigits(key2);
+    if (digits1 && digits2) {
+      return new BigInteger(key1).compareTo(new BigInteger(key2));
+    }
+    if (digits1) {
+      return -1;
+    }
+    if (digits2) {
+      return 1;
+    }
+    return key1.compareTo(key2);
+  }
+
+  private static boolean isAllDigits(String key) {
+    if (key.isEmpty()) {
+      return false;
+    }
+    for (int n = 0; n < key.length(); n++) {
+      if (!Character.isDigit(key.charAt(n))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class Unsupported extends RuntimeException {
+
+    static final Unsupported INSTANCE = new Unsupported();
+
+    private Unsupported() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.hocon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.AuxiliaryKeys;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.helper.ConfigurationHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppendMissingKeysTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private ConfigurationHelper<Config> helper() {
+        return new ConfigurationHelper<>(tempDir, "config.conf",
+                HoconConfigurationFactory.create(Config.class, ConfigurationOptions.defaults()));
+    }
+
+    @Test
+    public void appendMissingSection() throws IOException, InvalidConfigException {
+        String existing = "// Written by hand\nsome-option : \"custom\"";
+        Path configFile = tempDir.resolve("config.conf");
+        Files.writeString(configFile, existing, StandardCharsets.UTF_8);
+        var helper = helper();
+
+        Config loaded = helper.reloadConfigData();
+        assertEquals("custom", loaded.someOption());
+        assertFalse(loaded.sectionOne().someFlag());
+
+        String content = Files.readString(configFile, StandardCharsets.UTF_8);
+        assertTrue(content.startsWith(existing), content);
+        assertTrue(content.contains("# Section header"), content);
+
+        Config reloaded = helper.reloadConfigData();
+        assertFalse(reloaded instanceof AuxiliaryKeys);
+        assertEquals("custom", reloaded.someOption());
+        assertFalse(reloaded.sectionOne().someFlag());
+        assertEquals(content, Files.readString(configFile, StandardCharsets.UTF_8));
+    }
+
+    private void assertRewritten(String existing) throws IOException, InvalidConfigException {
+        Path configFile = tempDir.resolve("config.conf");
+        Files.writeString(configFile, existing, StandardCharsets.UTF_8);
+        var helper = helper();
+
+        Config loaded = helper.reloadConfigData();
+        assertEquals("custom", loaded.someOption());
+
+        String content = Files.readString(configFile, StandardCharsets.UTF_8);
+        assertFalse(content.startsWith(existing), content);
+
+        Config reloaded = helper.reloadConfigData();
+        assertFalse(reloaded instanceof AuxiliaryKeys);
+        assertEquals("custom", reloaded.someOption());
+        assertFalse(reloaded.sectionOne().someFlag());
+    }
+
+    @Test
+    public void rewriteBraceRootedDocument() throws IOException, InvalidConfigException {
+        assertRewritten("{ some-option = \"custom\" }");
+    }
+
+    @Test
+    public void rewriteJsonDocument() throws IOException, InvalidConfigException {
+        assertRewritten("{\n  \"some-option\": \"custom\"\n}\n");
+    }
+
+}
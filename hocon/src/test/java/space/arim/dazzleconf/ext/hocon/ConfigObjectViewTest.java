@@ -0,0 +1,78 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.hocon;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigObjectViewTest {
+
+    private static final String DOCUMENT = String.join("\n",
+            "string = value",
+            "number = 5",
+            "decimal = 2.5",
+            "flag = true",
+            "nothing = null",
+            "section {",
+            "  nested-list = [1, two, { three = 3 }, [4]]",
+            "  inner { deep = yes }",
+            "}");
+
+    private final ConfigObject root = ConfigFactory.parseString(DOCUMENT).root();
+
+    @Test
+    public void sameAsUnwrapped() {
+        Map<String, Object> view = new ConfigObjectView(root);
+        assertEquals(root.unwrapped(), view);
+        assertEquals(view, root.unwrapped());
+        assertEquals(root.unwrapped().hashCode(), view.hashCode());
+    }
+
+    @Test
+    public void containersAreViews() {
+        Map<String, Object> view = new ConfigObjectView(root);
+        Map<?, ?> section = assertInstanceOf(Map.class, view.get("section"));
+        List<?> list = assertInstanceOf(List.class, section.get("nested-list"));
+        assertEquals(4, list.size());
+        assertEquals(Map.of("three", 3), list.get(2));
+        assertEquals(List.of(4), list.get(3));
+    }
+
+    @Test
+    public void nullAndAbsentValues() {
+        Map<String, Object> view = new ConfigObjectView(root);
+        assertNull(view.get("nothing"));
+        assertTrue(view.containsKey("nothing"));
+        assertNull(view.get("absent"));
+        assertFalse(view.containsKey("absent"));
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.hocon;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.arim.dazzleconf.factory.CommentedWrapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HoconRendererTest {
+
+    private static final ConfigRenderOptions DEFAULT_OPTIONS = new HoconOptions.Builder().build().configRenderOptions();
+
+    /*
+    Mirrors the conversion used for Typesafe rendering
+     */
+
+    private static ConfigObject toHocon(Map<String, Object> config) {
+        Map<String, Object> hoconConfigMap = new LinkedHashMap<>();
+        config.forEach((key, value) -> hoconConfigMap.put(key, valueToHocon(value)));
+        return ConfigValueFactory.fromMap(hoconConfigMap);
+    }
+
+    private static ConfigValue valueToHocon(Object value) {
+        if (value instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) value;
+            return toHocon(map);
+        }
+        if (value instanceof CommentedWrapper) {
+            CommentedWrapper commentedWrapper = (CommentedWrapper) value;
+            ConfigValue hoconValue = valueToHocon(commentedWrapper.getValue());
+            return hoconValue.withOrigin(hoconValue.origin().withComments(commentedWrapper.getComments()));
+        }
+        return ConfigValueFactory.fromAnyRef(value);
+    }
+
+    private static void assertSameAsTypesafe(Map<String, Object> config, boolean comments) {
+        String expected = toHocon(config).render(DEFAULT_OPTIONS.setComments(comments));
+        assertEquals(expected, HoconRenderer.render(config, comments));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void sameAsTypesafe(boolean comments) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("flag", true);
+        section.put("nothing", null);
+        section.put("empty-section", Map.of());
+        section.put("empty-list", List.of());
+        section.put("list", List.of("a", 1, 2.5, List.of("nested"), Map.of("in-list", "value", "x", 3)));
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("zeta", "unquoted");
+        config.put("alpha", new CommentedWrapper(List.of("Comment", " Leading space", ""), "quoted value"));
+        config.put("10", "ten");
+        config.put("2", "two");
+        config.put("dotted.key", "true-ish");
+        config.put("", "empty key");
+        config.put("section", new CommentedWrapper(List.of("Section comment"), section));
+        config.put("escapes", "quote\" backslash\\ newline\n tab\t control\u0001 url//");
+        config.put("numbers", Arrays.asList(
+                1, -1L, Long.MAX_VALUE, 0.1, 1e20, 0.1f, 3f, (short) 4, (byte) -5,
+                new BigInteger("123456789012345678901234567890"), new BigDecimal("1.25"), Double.NaN));
+        config.put("keywords", List.of("include me", "true", "false", "null", "-dash", "9lives", "ünïcode"));
+        assertSameAsTypesafe(config, comments);
+    }
+
+    @Test
+    public void emptyRoot() {
+        assertSameAsTypesafe(Map.of(), true);
+    }
+
+    @Test
+    public void randomDocuments() {
+        Random random = new Random(4242);
+        for (int n = 0; n < 200; n++) {
+            assertSameAsTypesafe(randomMap(random, 0, true), random.nextBoolean());
+        }
+    }
+
+    private static Map<String, Object> randomMap(Random random, int depth, boolean commentable) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        int size = random.nextInt(5);
+        for (int n = 0; n < size; n++) {
+            Object value = randomValue(random, depth, commentable);
+            if (commentable && random.nextInt(4) == 0) {
+                value = new CommentedWrapper(List.of(randomString(random)), value);
+            }
+            map.put(randomString(random), value);
+        }
+        return map;
+    }
+
+    private static Object randomValue(Random random, int depth, boolean commentable) {
+        switch (random.nextInt((depth < 3) ? 7 : 5)) {
+        case 0:
+            return randomString(random);
+        case 1:
+            return random.nextInt();
+        case 2:
+            return random.nextDouble() * 1000;
+        case 3:
+            return random.nextBoolean();
+        case 4:
+            return random.nextLong();
+        case 5:
+            return randomMap(random, depth + 1, commentable);
+        default:
+            List<Object> list = new ArrayList<>();
+            int size = random.nextInt(4);
+            for (int n = 0; n < size; n++) {
+                list.add(randomValue(random, depth + 1, false));
+            }
+            return list;
+        }
+    }
+
+    private static String randomString(Random random) {
+        String alphabet = "ab-1 .\"\\/#é";
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(6);
+        for (int n = 0; n < length; n++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void rendersBackToSameValues() {
+        Map<String, Object> config = Map.of("key", "value", "section", Map.of("list", List.of(1, "two")));
+        String rendered = HoconRenderer.render(config, true);
+        assertEquals(config, ConfigFactory.parseString(rendered).root().unwrapped());
+    }
+
+    @Test
+    public void unsupportedValue() {
+        assertNull(HoconRenderer.render(Map.of("key", 'c'), true));
+        assertNull(HoconRenderer.render(Map.of("key", List.of(new Object())), true));
+        assertNull(HoconRenderer.render(
+                Map.of("key", List.of(Map.of("in-list", new CommentedWrapper(List.of("Comment"), 1)))), true));
+    }
+
+    @Test
+    public void supportedOptions() {
+        assertTrue(HoconRenderer.supports(DEFAULT_OPTIONS));
+        assertTrue(HoconRenderer.supports(DEFAULT_OPTIONS.setComments(false)));
+        assertFalse(HoconRenderer.supports(DEFAULT_OPTIONS.setJson(true)));
+        assertFalse(HoconRenderer.supports(DEFAULT_OPTIONS.setFormatted(false)));
+        assertFalse(HoconRenderer.supports(ConfigRenderOptions.defaults()));
+    }
+
+}
@@ -0,0 +1,5 @@
+module space.arim.dazzleconf.ext.json {
+	exports space.arim.dazzleconf.ext.json;
+
+	requires transitive space.arim.dazzleconf;
+}
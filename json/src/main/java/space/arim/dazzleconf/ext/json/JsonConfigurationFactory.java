@@ -0,0 +1,78 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.IllDefinedConfigException;
+
+/**
+ * Allows creating a {@link ConfigurationFactory} implementation for json, without any dependencies. <br>
+ * <br>
+ * Documents are parsed with a streaming tokenizer straight into the maps and lists which configuration
+ * processing reads, with no reflection involved. Parsing follows the JSON specification strictly, except
+ * that the {@code NaN}, {@code Infinity} and {@code -Infinity} literals are accepted. Integral numbers
+ * within the range of {@code long} are parsed exactly. <br>
+ * <br>
+ * Written json is the same as that written by the gson extension using its default options.
+ *
+ * @author A248
+ *
+ */
+public final class JsonConfigurationFactory {
+
+	private JsonConfigurationFactory() {}
+
+	/**
+	 * Creates from a config class, config options, and json options
+	 *
+	 * @param <C> the configuration type
+	 * @param configClass the config class
+	 * @param options configuration options
+	 * @param jsonOptions json options
+	 * @return the configuration factory
+	 * @throws NullPointerException if any parameter is null
+	 * @throws IllegalArgumentException if {@code configClass} is not an interface
+	 * @throws IllDefinedConfigException if a configuration entry in {@code configClass} is not defined properly
+	 */
+	public static <C> ConfigurationFactory<C> create(Class<C> configClass, ConfigurationOptions options,
+													 JsonOptions jsonOptions) {
+		return new JsonConfigurationFactoryImpl<>(configClass, options, jsonOptions);
+	}
+
+	/**
+	 * Creates from a config class and config options. <br>
+	 * <br>
+	 * Uses the default json options, which include pretty printing and UTF 8
+	 *
+	 * @param <C> the configuration type
+	 * @param configClass the config class
+	 * @param options configuration options
+	 * @return the configuration factory
+	 * @throws NullPointerException if either parameter is null
+	 * @throws IllegalArgumentException if {@code configClass} is not an interface
+	 * @throws IllDefinedConfigException if a configuration entry in {@code configClass} is not defined properly
+	 */
+	public static <C> ConfigurationFactory<C> create(Class<C> configClass, ConfigurationOptions options) {
+		return create(configClass, options, new JsonOptions.Builder().build());
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.BufferStrategy;
+import space.arim.dazzleconf.factory.HumanReadableConfigurationFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Objects;
+
+final class JsonConfigurationFactoryImpl<C> extends HumanReadableConfigurationFactory<C> {
+
+	private final JsonOptions jsonOptions;
+
+	JsonConfigurationFactoryImpl(Class<C> configClass, ConfigurationOptions options, JsonOptions jsonOptions) {
+		super(configClass, options);
+		this.jsonOptions = Objects.requireNonNull(jsonOptions, "jsonOptions");
+	}
+
+	@Override
+	public Charset charset() {
+		return jsonOptions.charset();
+	}
+
+	@Override
+	public BufferStrategy bufferStrategy() {
+		return jsonOptions.bufferStrategy();
+	}
+
+	@Override
+	protected String snapshotFormatKey() {
+		// The parser has no options besides the charset
+		return "charset=" + charset().name();
+	}
+
+	@Override
+	public Map<String, Object> loadMap(Reader reader) throws IOException, InvalidConfigException {
+		return new JsonParser(reader).parseDocument();
+	}
+
+	@Override
+	public void writeMap(Map<String, Object> config, Writer writer) throws IOException {
+		new JsonPrinter(writer, jsonOptions.prettyPrinting()).printDocument(config);
+	}
+
+	@Override
+	public String pseudoCommentsSuffix() {
+		return jsonOptions.pseudoCommentsSuffix();
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import space.arim.dazzleconf.factory.BufferStrategy;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Options for the dependency-free JSON factory
+ *
+ * @author A248
+ *
+ */
+public final class JsonOptions {
+
+	private final boolean prettyPrinting;
+	private final String pseudoCommentsSuffix;
+	private final Charset charset;
+	private final BufferStrategy bufferStrategy;
+
+	JsonOptions(Builder builder) {
+		this.prettyPrinting = builder.prettyPrinting;
+		this.pseudoCommentsSuffix = builder.pseudoCommentsSuffix;
+		this.charset = builder.charset;
+		this.bufferStrategy = builder.bufferStrategy;
+	}
+
+	/**
+	 * Gets whether written json is pretty printed
+	 *
+	 * @return true if pretty printing
+	 */
+	public boolean prettyPrinting() {
+		return prettyPrinting;
+	}
+
+	/**
+	 * Gets the pseudo comments suffix. See {@link Builder#pseudoCommentsSuffix(String)}
+	 * for a finer description of pseudo comments.
+	 *
+	 * @return the pseudo comment suffix if enabled, an empty string otherwise
+	 */
+	public String pseudoCommentsSuffix() {
+		return pseudoCommentsSuffix;
+	}
+
+	/**
+	 * Gets the charset used
+	 *
+	 * @return the charset
+	 */
+	public Charset charset() {
+		return charset;
+	}
+
+	/**
+	 * Gets the buffer strategy used
+	 *
+	 * @return the buffer strategy
+	 */
+	public BufferStrategy bufferStrategy() {
+		return bufferStrategy;
+	}
+
+	@Override
+	public String toString() {
+		return "JsonOptions{" +
+				"prettyPrinting=" + prettyPrinting +
+				", pseudoCommentsSuffix='" + pseudoCommentsSuffix + '\'' +
+				", charset=" + charset +
+				", bufferStrategy=" + bufferStrategy +
+				'}';
+	}
+
+	/**
+	 * Builder of {@code JsonOptions}
+	 *
+	 * @author A248
+	 *
+	 */
+	public static final class Builder {
+
+		boolean prettyPrinting = true;
+		String pseudoCommentsSuffix = "";
+		Charset charset = StandardCharsets.UTF_8;
+		BufferStrategy bufferStrategy = BufferStrategy.threadLocal();
+
+		/**
+		 * Creates the builder
+		 *
+		 */
+		public Builder() {}
+
+		/**
+		 * Sets whether to pretty print written json, with two space indents. True by default. <br>
+		 * <br>
+		 * Either way, the output is the same as that of the gson extension's default {@code Gson}.
+		 *
+		 * @param prettyPrinting true to pretty print
+		 * @return this builder
+		 */
+		public Builder prettyPrinting(boolean prettyPrinting) {
+			this.prettyPrinting = prettyPrinting;
+			return this;
+		}
+
+		/**
+		 * JSON does not support comments normally. This option controls whether to enable "pseudo comments"
+		 * to hack comments into generated json. False by default. <br>
+		 * <br>
+		 * If enabled, a "comment" is added as a string value before the configuration entry which is to be commented.
+		 * The key of the "comment" will be that of the key it is supposed to comment on, with the comments suffix
+		 * appended. For example, using "{@literal -comment}" as the suffix: <br>
+		 * <br>
+		 * <pre>
+		 *   retries-comment: "determines the amount of retries"
+		 *   retries: 3
+		 * </pre>
+		 *
+		 * @param pseudoCommentsSuffix the pseudo comments suffix, or an empty string to disable
+		 * @return this builder
+		 */
+		public Builder pseudoCommentsSuffix(String pseudoCommentsSuffix) {
+			this.pseudoCommentsSuffix = Objects.requireNonNull(pseudoCommentsSuffix, "pseudoCommentsSuffix");
+			return this;
+		}
+
+		/**
+		 * Sets the charset used by the factory. Default is UTF 8
+		 *
+		 * @param charset the charset
+		 * @return this builder
+		 */
+		public Builder charset(Charset charset) {
+			this.charset = Objects.requireNonNull(charset, "charset");
+			return this;
+		}
+
+		/**
+		 * Sets the strategy for reusing buffers and charset codecs across loads and writes.
+		 * Default is {@link BufferStrategy#threadLocal()}
+		 *
+		 * @param bufferStrategy the buffer strategy
+		 * @return this builder
+		 */
+		public Builder bufferStrategy(BufferStrategy bufferStrategy) {
+			this.bufferStrategy = Objects.requireNonNull(bufferStrategy, "bufferStrategy");
+			return this;
+		}
+
+		/**
+		 * Builds the options. May be used repeatedly without side effects
+		 *
+		 * @return the built options
+		 */
+		public JsonOptions build() {
+			return new JsonOptions(this);
+		}
+
+		@Override
+		public String toString() {
+			return "JsonOptions.Builder{" +
+					"prettyPrinting=" + prettyPrinting +
+					", pseudoCommentsSuffix='" + pseudoCommentsSuffix + '\'' +
+					", charset=" + charset +
+					", bufferStrategy=" + bufferStrategy +
+					'}';
+		}
+	}
+
+}
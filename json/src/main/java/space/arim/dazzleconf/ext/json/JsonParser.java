@@ -0,0 +1,426 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming json parser over a character buffer. Objects become {@code LinkedHashMap}s, arrays become
+ * {@code ArrayList}s, integral numbers in range become {@code Long} and other numbers {@code Double}. <br>
+ * <br>
+ * Strings without escapes are created directly from the buffer. Nothing is tokenized ahead of use.
+ *
+ */
+final class JsonParser {
+
+	/** Maximum nesting of objects and arrays, to bound recursion */
+	static final int MAX_DEPTH = 512;
+
+	private final Reader reader;
+	private final char[] buffer = new char[4096];
+	private int position;
+	private int limit;
+
+	// Location tracking for error messages
+	private long bufferStart;
+	private int line = 1;
+	private long lineStart;
+
+	private StringBuilder scratch;
+
+	JsonParser(Reader reader) {
+		this.reader = reader;
+	}
+
+	Map<String, Object> parseDocument() throws IOException, ConfigFormatSyntaxException {
+		int first = peekSignificant();
+		if (first == -1) {
+			// An empty document
+			return Collections.emptyMap();
+		}
+		if (first != '{') {
+			throw syntaxError("Expected an object at the document root");
+		}
+		Map<String, Object> root = readObject(0);
+		if (peekSignificant() != -1) {
+			throw syntaxError("Unexpected data after the document root");
+		}
+		return root;
+	}
+
+	/*
+	 * Buffer management
+	 */
+
+	private boolean fill() throws IOException {
+		bufferStart += limit;
+		position = 0;
+		limit = 0;
+		int read;
+		while ((read = reader.read(buffer, 0, buffer.length)) == 0) {
+			// Keep reading until data or end of input
+		}
+		if (read == -1) {
+			return false;
+		}
+		limit = read;
+		return true;
+	}
+
+	private int peek() throws IOException {
+		if (position == limit && !fill()) {
+			return -1;
+		}
+		return buffer[position];
+	}
+
+	private int peekSignificant() throws IOException {
+		while (true) {
+			if (position == limit && !fill()) {
+				return -1;
+			}
+			char c = buffer[position];
+			switch (c) {
+			case '\n':
+				line++;
+				lineStart = bufferStart + position + 1;
+				position++;
+				break;
+			case ' ':
+			case '\t':
+			case '\r':
+				position++;
+				break;
+			default:
+				return c;
+			}
+		}
+	}
+
+	private void expect(char expected) throws IOException, ConfigFormatSyntaxException {
+		if (peekSignificant() != expected) {
+			throw syntaxError("Expected '" + expected + "'");
+		}
+		position++;
+	}
+
+	private ConfigFormatSyntaxException syntaxError(String message) {
+		long column = bufferStart + position - lineStart + 1;
+		return new ConfigFormatSyntaxException(message + " at line " + line + " column " + column);
+	}
+
+	/*
+	 * Values
+	 */
+
+	private Object readValue(int depth) throws IOException, ConfigFormatSyntaxException {
+		int c = peekSignificant();
+		switch (c) {
+		case '{':
+			return readObject(depth + 1);
+		case '[':
+			return readArray(depth + 1);
+		case '"':
+			return readString();
+		case 't':
+			readLiteral("true");
+			return Boolean.TRUE;
+		case 'f':
+			readLiteral("false");
+			return Boolean.FALSE;
+		case 'n':
+			readLiteral("null");
+			return null;
+		case 'N':
+			readLiteral("NaN");
+			return Double.NaN;
+		case 'I':
+			readLiteral("Infinity");
+			return Double.POSITIVE_INFINITY;
+		case -1:
+			throw syntaxError("Unexpected end of input");
+		default:
+			if (c == '-' || (c >= '0' && c <= '9')) {
+				return readNumber();
+			}
+			throw syntaxError("Unexpected character '" + (char) c + "'");
+		}
+	}
+
+	private Map<String, Object> readObject(int depth) throws IOException, ConfigFormatSyntaxException {
+		checkDepth(depth);
+		position++; // '{'
+		Map<String, Object> map = new LinkedHashMap<>();
+		if (peekSignificant() == '}') {
+			position++;
+			return map;
+		}
+		while (true) {
+			if (peekSignificant() != '"') {
+				throw syntaxError("Expected a string key");
+			}
+			String key = readString();
+			expect(':');
+			Object value = readValue(depth);
+			if (map.containsKey(key)) {
+				throw syntaxError("Duplicate key '" + key + "'");
+			}
+			map.put(key, value);
+			int next = peekSignificant();
+			position++;
+			if (next == '}') {
+				return map;
+			}
+			if (next != ',') {
+				position--;
+				throw syntaxError("Expected ',' or '}'");
+			}
+		}
+	}
+
+	private List<Object> readArray(int depth) throws IOException, ConfigFormatSyntaxException {
+		checkDepth(depth);
+		position++; // '['
+		List<Object> list = new ArrayList<>();
+		if (peekSignificant() == ']') {
+			position++;
+			return list;
+		}
+		while (true) {
+			list.add(readValue(depth));
+			int next = peekSignificant();
+			position++;
+			if (next == ']') {
+				return list;
+			}
+			if (next != ',') {
+				position--;
+				throw syntaxError("Expected ',' or ']'");
+			}
+		}
+	}
+
+	private void checkDepth(int depth) throws ConfigFormatSyntaxException {
+		if (depth > MAX_DEPTH) {
+			throw syntaxError("Objects and arrays nested deeper than " + MAX_DEPTH);
+		}
+	}
+
+	private void readLiteral(String literal) throws IOException, ConfigFormatSyntaxException {
+		for (int n = 0; n < literal.length(); n++) {
+			if (peek() != literal.charAt(n)) {
+				throw syntaxError("Expected '" + literal + "'");
+			}
+			position++;
+		}
+	}
+
+	private StringBuilder scratch() {
+		StringBuilder scratch = this.scratch;
+		if (scratch == null) {
+			return this.scratch = new StringBuilder(64);
+		}
+		scratch.setLength(0);
+		return scratch;
+	}
+
+	/*
+	 * Strings
+	 */
+
+	private String readString() throws IOException, ConfigFormatSyntaxException {
+		position++; // opening quote
+		// Fast path: the whole string lies in the buffer and has no escapes
+		for (int n = position; n < limit; n++) {
+			char c = buffer[n];
+			if (c == '"') {
+				String value = new String(buffer, position, n - position);
+				position = n + 1;
+				return value;
+			}
+			if (c == '\\' || c < 0x20) {
+				break;
+			}
+		}
+		return readStringSlow();
+	}
+
+	private String readStringSlow() throws IOException, ConfigFormatSyntaxException {
+		StringBuilder builder = scratch();
+		while (true) {
+			if (position == limit && !fill()) {
+				throw syntaxError("Unterminated string");
+			}
+			char c = buffer[position];
+			if (c == '"') {
+				position++;
+				return builder.toString();
+			}
+			if (c < 0x20) {
+				throw syntaxError("Unescaped control character in string");
+			}
+			if (c != '\\') {
+				// Copy the run of plain characters at once
+				int start = position;
+				while (position < limit && (c = buffer[position]) != '"' && c != '\\' && c >= 0x20) {
+					position++;
+				}
+				builder.append(buffer, start, position - start);
+				continue;
+			}
+			position++;
+			int escaped = peek();
+			position++;
+			switch (escaped) {
+			case '"':
+			case '\\':
+			case '/':
+				builder.append((char) escaped);
+				break;
+			case 'b':
+				builder.append('\b');
+				break;
+			case 'f':
+				builder.append('\f');
+				break;
+			case 'n':
+				builder.append('\n');
+				break;
+			case 'r':
+				builder.append('\r');
+				break;
+			case 't':
+				builder.append('\t');
+				break;
+			case 'u':
+				builder.append(readUnicodeEscape());
+				break;
+			default:
+				position--;
+				throw syntaxError("Invalid escape sequence");
+			}
+		}
+	}
+
+	private char readUnicodeEscape() throws IOException, ConfigFormatSyntaxException {
+		int value = 0;
+		for (int n = 0; n < 4; n++) {
+			int c = peek();
+			int digit = Character.digit(c, 16);
+			if (c == -1 || digit == -1) {
+				throw syntaxError("Invalid unicode escape");
+			}
+			position++;
+			value = (value << 4) | digit;
+		}
+		return (char) value;
+	}
+
+	/*
+	 * Numbers
+	 */
+
+	private Object readNumber() throws IOException, ConfigFormatSyntaxException {
+		StringBuilder text = scratch();
+		boolean negative = false;
+		if (peek() == '-') {
+			position++;
+			text.append('-');
+			negative = true;
+			if (peek() == 'I') {
+				readLiteral("Infinity");
+				return Double.NEGATIVE_INFINITY;
+			}
+		}
+		// Integer part: a single zero or digits without a leading zero
+		int firstDigit = peek();
+		if (firstDigit < '0' || firstDigit > '9') {
+			throw syntaxError("Expected a digit");
+		}
+		long magnitude = 0;
+		boolean overflow = false;
+		if (firstDigit == '0') {
+			position++;
+			text.append('0');
+		} else {
+			int c;
+			while ((c = peek()) >= '0' && c <= '9') {
+				position++;
+				text.append((char) c);
+				int digit = c - '0';
+				// Accumulate negatively, since the negative range is larger
+				if (magnitude < (Long.MIN_VALUE + digit) / 10) {
+					overflow = true;
+				} else {
+					magnitude = magnitude * 10 - digit;
+				}
+			}
+		}
+		boolean integral = true;
+		if (peek() == '.') {
+			position++;
+			text.append('.');
+			integral = false;
+			appendDigits(text);
+		}
+		int exponent = peek();
+		if (exponent == 'e' || exponent == 'E') {
+			position++;
+			text.append('e');
+			integral = false;
+			int sign = peek();
+			if (sign == '+' || sign == '-') {
+				position++;
+				text.append((char) sign);
+			}
+			appendDigits(text);
+		}
+		if (integral && !overflow) {
+			if (negative) {
+				return magnitude;
+			}
+			if (magnitude != Long.MIN_VALUE) {
+				return -magnitude;
+			}
+		}
+		return Double.parseDouble(text.toString());
+	}
+
+	private void appendDigits(StringBuilder text) throws IOException, ConfigFormatSyntaxException {
+		int c = peek();
+		if (c < '0' || c > '9') {
+			throw syntaxError("Expected a digit");
+		}
+		do {
+			position++;
+			text.append((char) c);
+		} while ((c = peek()) >= '0' && c <= '9');
+	}
+
+}
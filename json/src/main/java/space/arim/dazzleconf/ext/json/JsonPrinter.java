@@ -0,0 +1,203 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes hierarchical maps as json, in the same layout as Gson's {@code JsonWriter}. Output is
+ * collected in a character buffer and handed to the writer in blocks. <br>
+ * <br>
+ * As with Gson's default settings, map entries with null values are omitted, html characters are not
+ * escaped, and special floating point values are written as literals.
+ *
+ */
+final class JsonPrinter {
+
+	private static final String INDENT = "  ";
+
+	private final Writer writer;
+	private final boolean pretty;
+	private final char[] buffer = new char[4096];
+	private int size;
+
+	JsonPrinter(Writer writer, boolean pretty) {
+		this.writer = writer;
+		this.pretty = pretty;
+	}
+
+	void printDocument(Map<?, ?> config) throws IOException {
+		printObject(config, 0);
+		flushBuffer();
+	}
+
+	private void printObject(Map<?, ?> map, int depth) throws IOException {
+		append('{');
+		boolean empty = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			Object value = entry.getValue();
+			if (value == null) {
+				continue;
+			}
+			if (!empty) {
+				append(',');
+			}
+			empty = false;
+			newline(depth + 1);
+			printString(String.valueOf(entry.getKey()));
+			append(':');
+			if (pretty) {
+				append(' ');
+			}
+			printValue(value, depth + 1);
+		}
+		if (!empty) {
+			newline(depth);
+		}
+		append('}');
+	}
+
+	private void printArray(Collection<?> collection, int depth) throws IOException {
+		append('[');
+		Iterator<?> iterator = collection.iterator();
+		if (!iterator.hasNext()) {
+			append(']');
+			return;
+		}
+		while (true) {
+			newline(depth + 1);
+			printValue(iterator.next(), depth + 1);
+			if (!iterator.hasNext()) {
+				break;
+			}
+			append(',');
+		}
+		newline(depth);
+		append(']');
+	}
+
+	private void printValue(Object value, int depth) throws IOException {
+		if (value == null) {
+			append("null");
+		} else if (value instanceof String) {
+			printString((String) value);
+		} else if (value instanceof Boolean || value instanceof Number) {
+			append(value.toString());
+		} else if (value instanceof Map) {
+			printObject((Map<?, ?>) value, depth);
+		} else if (value instanceof Collection) {
+			printArray((Collection<?>) value, depth);
+		} else {
+			throw new IllegalArgumentException("Cannot write value of " + value.getClass() + " as json");
+		}
+	}
+
+	private void newline(int depth) throws IOException {
+		if (pretty) {
+			append('\n');
+			for (int n = 0; n < depth; n++) {
+				append(INDENT);
+			}
+		}
+	}
+
+	private void printString(String value) throws IOException {
+		append('"');
+		int plainStart = 0;
+		int length = value.length();
+		for (int n = 0; n < length; n++) {
+			char c = value.charAt(n);
+			String replacement;
+			if (c < 0x20) {
+				replacement = controlReplacement(c);
+			} else if (c == '"') {
+				replacement = "\\\"";
+			} else if (c == '\\') {
+				replacement = "\\\\";
+			} else if (c == '\u2028') {
+				replacement = "\\u2028";
+			} else if (c == '\u2029') {
+				replacement = "\\u2029";
+			} else {
+				continue;
+			}
+			append(value, plainStart, n);
+			append(replacement);
+			plainStart = n + 1;
+		}
+		append(value, plainStart, length);
+		append('"');
+	}
+
+	private static String controlReplacement(char c) {
+		switch (c) {
+		case '\t':
+			return "\\t";
+		case '\b':
+			return "\\b";
+		case '\n':
+			return "\\n";
+		case '\r':
+			return "\\r";
+		case '\f':
+			return "\\f";
+		default:
+			return String.format("\\u%04x", (int) c);
+		}
+	}
+
+	/*
+	 * Buffering
+	 */
+
+	private void append(char c) throws IOException {
+		if (size == buffer.length) {
+			flushBuffer();
+		}
+		buffer[size++] = c;
+	}
+
+	private void append(String str) throws IOException {
+		append(str, 0, str.length());
+	}
+
+	private void append(String str, int start, int end) throws IOException {
+		while (start < end) {
+			if (size == buffer.length) {
+				flushBuffer();
+			}
+			int count = Math.min(end - start, buffer.length - size);
+			str.getChars(start, start + count, buffer, size);
+			size += count;
+			start += count;
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		writer.write(buffer, 0, size);
+		size = 0;
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import space.arim.dazzleconf.annote.ConfComments;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.sorter.AnnotationBasedSorter;
+
+import java.util.List;
+
+public interface Config {
+
+	@ConfComments("Comment on first option")
+	@AnnotationBasedSorter.Order(1)
+	@ConfDefault.DefaultString("one")
+	String optionOne();
+
+	@AnnotationBasedSorter.Order(2)
+	@ConfDefault.DefaultInteger(5)
+	int optionTwo();
+
+	@AnnotationBasedSorter.Order(3)
+	@ConfDefault.DefaultBoolean(false)
+	boolean optionThree();
+
+	@AnnotationBasedSorter.Order(4)
+	@ConfDefault.DefaultLong(Long.MIN_VALUE)
+	long optionFour();
+
+	@AnnotationBasedSorter.Order(5)
+	@ConfDefault.DefaultStrings({"a", "b"})
+	List<String> optionFive();
+
+	@AnnotationBasedSorter.Order(6)
+	@SubSection
+	Section section();
+
+	interface Section {
+
+		@ConfDefault.DefaultDouble(0.25)
+		double decimal();
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.error.MissingKeyException;
+import space.arim.dazzleconf.sorter.AnnotationBasedSorter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonConfigurationFactoryTest {
+
+	private static final ConfigurationOptions ORDERED = new ConfigurationOptions.Builder()
+			.sorter(new AnnotationBasedSorter()).build();
+
+	private <C> Stream<String> configToLines(ConfigurationFactory<C> factory, C config) throws IOException {
+		var byteArrayOutput = new ByteArrayOutputStream();
+		factory.write(config, byteArrayOutput);
+		return byteArrayOutput.toString(StandardCharsets.UTF_8).lines();
+	}
+
+	@Test
+	public void writeOrderedJson() throws IOException, InvalidConfigException {
+		ConfigurationFactory<Config> factory = JsonConfigurationFactory.create(Config.class, ORDERED);
+
+		Config defaults = factory.loadDefaults();
+
+		assertLinesMatch(Stream.of(
+				"{",
+				"  \"optionOne\": \"one\",",
+				"  \"optionTwo\": 5,",
+				"  \"optionThree\": false,",
+				"  \"optionFour\": -9223372036854775808,",
+				"  \"optionFive\": [",
+				"    \"a\",",
+				"    \"b\"",
+				"  ],",
+				"  \"section\": {",
+				"    \"decimal\": 0.25",
+				"  }",
+				"}"),
+				configToLines(factory, defaults));
+
+		var byteArrayOutput = new ByteArrayOutputStream();
+		factory.write(defaults, byteArrayOutput);
+		Config reloaded = factory.load(new ByteArrayInputStream(byteArrayOutput.toByteArray()));
+		assertEquals(defaults.optionOne(), reloaded.optionOne());
+		assertEquals(defaults.optionTwo(), reloaded.optionTwo());
+		assertEquals(defaults.optionThree(), reloaded.optionThree());
+		assertEquals(defaults.optionFour(), reloaded.optionFour());
+		assertEquals(defaults.optionFive(), reloaded.optionFive());
+		assertEquals(defaults.section().decimal(), reloaded.section().decimal());
+	}
+
+	@Test
+	public void writeCompactJson() throws IOException {
+		ConfigurationFactory<Config> factory = JsonConfigurationFactory.create(Config.class, ORDERED,
+				new JsonOptions.Builder().prettyPrinting(false).build());
+
+		assertLinesMatch(Stream.of(
+				"{\"optionOne\":\"one\",\"optionTwo\":5,\"optionThree\":false,\"optionFour\":-9223372036854775808," +
+						"\"optionFive\":[\"a\",\"b\"],\"section\":{\"decimal\":0.25}}"),
+				configToLines(factory, factory.loadDefaults()));
+	}
+
+	@Test
+	public void writePseudoComments() throws IOException {
+		ConfigurationFactory<Config> factory = JsonConfigurationFactory.create(Config.class, ORDERED,
+				new JsonOptions.Builder().pseudoCommentsSuffix("-comment").build());
+
+		assertLinesMatch(Stream.of(
+				"{",
+				"  \"optionOne-comment\": \"Comment on first option\",",
+				"  \"optionOne\": \"one\",",
+				">> remaining >>"),
+				configToLines(factory, factory.loadDefaults()));
+	}
+
+	private InputStream streamFor(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "    ", " \n "})
+	public void loadEmptyDocument(String emptyString) {
+		var factory = JsonConfigurationFactory.create(Config.class, ConfigurationOptions.defaults());
+		var stream = streamFor(emptyString);
+		assertThrows(MissingKeyException.class, () -> factory.load(stream));
+	}
+
+	@Test
+	public void loadMissingKeys() {
+		var factory = JsonConfigurationFactory.create(Config.class, ConfigurationOptions.defaults());
+		var stream = streamFor("{\"optionOne\": \"one\"}");
+		assertThrows(MissingKeyException.class, () -> factory.load(stream));
+	}
+
+	@Test
+	public void loadMalformed() {
+		var factory = JsonConfigurationFactory.create(Config.class, ConfigurationOptions.defaults());
+		var stream = streamFor("{\"optionOne\": }");
+		assertThrows(ConfigFormatSyntaxException.class, () -> factory.load(stream));
+	}
+
+}
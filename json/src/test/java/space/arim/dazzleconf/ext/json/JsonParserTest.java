@@ -0,0 +1,153 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonParserTest {
+
+	private static final Gson GSON = new GsonBuilder()
+			.setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE).create();
+
+	private static Map<String, Object> parse(String json) throws IOException, ConfigFormatSyntaxException {
+		return new JsonParser(new StringReader(json)).parseDocument();
+	}
+
+	private static Map<String, Object> parseWithGson(String json) {
+		return GSON.fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"{}",
+			" {\n\t\"a\" : \"b\" ,\r\n \"c\" : [ ] , \"d\" : { } } ",
+			"{\"numbers\": [0, -0, 1, -1, 9223372036854775807, -9223372036854775808, 9223372036854775808," +
+					" -9223372036854775809, 1.5, -0.0, 1e3, 1E-3, 2.5e+10, 12345678901234567890123]}",
+			"{\"literals\": [true, false, null], \"nested\": {\"deep\": [[{\"x\": [1]}]]}}",
+			"{\"escapes\": \"\\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u0041\\u00e9\\ud83d\\ude00\", \"plain\": \"ünïcode 😀\"}",
+			"{\"specials\": [NaN, Infinity, -Infinity]}"})
+	public void sameAsGson(String json) throws IOException, ConfigFormatSyntaxException {
+		Map<String, Object> expected = parseWithGson(json);
+		Map<String, Object> actual = parse(json);
+		if (!json.contains("NaN")) {
+			assertEquals(expected, actual);
+		}
+		assertEquals(expected.toString(), actual.toString(), "Number types and key order");
+	}
+
+	@Test
+	public void exactLongs() throws IOException, ConfigFormatSyntaxException {
+		Map<String, Object> parsed = parse("{\"max\": 9223372036854775807, \"min\": -9223372036854775808}");
+		assertEquals(Long.MAX_VALUE, parsed.get("max"));
+		assertEquals(Long.MIN_VALUE, parsed.get("min"));
+	}
+
+	@Test
+	public void valuesAcrossBufferBoundaries() throws IOException, ConfigFormatSyntaxException {
+		String longString = "x".repeat(10_000);
+		String escapedString = "\\n".repeat(3_000);
+		String digits = "1".repeat(18);
+		String json = "{\"pad\": \"" + "p".repeat(4090) + "\", \"long\": \"" + longString + "\", " +
+				"\"escaped\": \"" + escapedString + "\", \"number\": " + digits + ", \"decimal\": 0." + digits + "}";
+		Map<String, Object> parsed = new JsonParser(new OneCharAtATimeReader(json)).parseDocument();
+		assertEquals(longString, parsed.get("long"));
+		assertEquals("\n".repeat(3_000), parsed.get("escaped"));
+		assertEquals(Long.parseLong(digits), parsed.get("number"));
+		assertEquals(Double.parseDouble("0." + digits), parsed.get("decimal"));
+		assertEquals(parse(json), parsed);
+	}
+
+	/** Returns a single character per read, so every value crosses buffer refills */
+	private static final class OneCharAtATimeReader extends Reader {
+
+		private final String content;
+		private int position;
+
+		OneCharAtATimeReader(String content) {
+			this.content = content;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			if (position == content.length()) {
+				return -1;
+			}
+			cbuf[off] = content.charAt(position++);
+			return 1;
+		}
+
+		@Override
+		public void close() {}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"[]", "\"string\"", "{", "{\"a\"}", "{\"a\": }", "{\"a\": 1,}", "{\"a\": [1,]}", "{\"a\": 1} {}",
+			"{a: 1}", "{'a': 1}", "{\"a\": 01}", "{\"a\": 1.}", "{\"a\": .5}", "{\"a\": 1e}", "{\"a\": -}",
+			"{\"a\": tru}", "{\"a\": nul}", "{\"a\": \"unterminated}", "{\"a\": \"\\x\"}", "{\"a\": \"\\u12g4\"}",
+			"{\"a\": \"raw\nnewline\"}", "{\"a\": 1 \"b\": 2}", "{\"a\": 1, \"a\": 2}", "{\"a\": 1} // comment"})
+	public void malformed(String json) {
+		assertThrows(ConfigFormatSyntaxException.class, () -> parse(json));
+	}
+
+	@Test
+	public void errorLocation() {
+		ConfigFormatSyntaxException ex = assertThrows(ConfigFormatSyntaxException.class,
+				() -> parse("{\n  \"a\": 1,\n  \"b\": ?\n}"));
+		assertTrue(ex.getMessage().endsWith("at line 3 column 8"), ex.getMessage());
+	}
+
+	@Test
+	public void excessiveNesting() {
+		int depth = JsonParser.MAX_DEPTH + 1;
+		String json = "{\"a\": " + "[".repeat(depth) + "]".repeat(depth) + "}";
+		assertThrows(ConfigFormatSyntaxException.class, () -> parse(json));
+	}
+
+	@Test
+	public void allowedNesting() throws IOException, ConfigFormatSyntaxException {
+		int depth = JsonParser.MAX_DEPTH - 1;
+		String json = "{\"a\": " + "[".repeat(depth) + "]".repeat(depth) + "}";
+		Object current = parse(json).get("a");
+		for (int n = 1; n < depth; n++) {
+			current = ((List<?>) current).get(0);
+		}
+		assertEquals(List.of(), current);
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonPrinterTest {
+
+	/** The gson extension's default Gson, except that NaN and Infinity are written as the parser accepts them */
+	private static Gson gson(boolean pretty) {
+		GsonBuilder builder = new GsonBuilder().setLenient().disableHtmlEscaping().serializeSpecialFloatingPointValues();
+		if (pretty) {
+			builder.setPrettyPrinting();
+		}
+		return builder.create();
+	}
+
+	private static String print(Map<String, Object> map, boolean pretty) throws IOException {
+		StringWriter writer = new StringWriter();
+		new JsonPrinter(writer, pretty).printDocument(map);
+		return writer.toString();
+	}
+
+	private static Map<String, Object> sampleMap() {
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("omitted", null);
+		nested.put("only-null", Map.of());
+		nested.put("list", Arrays.asList(1, null, "two", List.of(), List.of(Map.of("deep", true)), Set.of()));
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("string", "value");
+		map.put("escapes", "\" \\ / \b \f \n \r \t \u0001 \u001f \u2028 \u2029 <html> & = '");
+		map.put("unicode", "ünïcode 😀");
+		map.put("int", -5);
+		map.put("long", Long.MIN_VALUE);
+		map.put("double", 1.0E-20);
+		map.put("float", 0.1f);
+		map.put("big-integer", new BigInteger("123456789012345678901234567890"));
+		map.put("big-decimal", new BigDecimal("1.50"));
+		map.put("specials", List.of(Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY));
+		map.put("nested", nested);
+		map.put("null", null);
+		map.put("empty", Map.of());
+		return map;
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	public void sameAsGson(boolean pretty) throws IOException {
+		Map<String, Object> map = sampleMap();
+		assertEquals(gson(pretty).toJson(map), print(map, pretty));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	public void randomSameAsGson(boolean pretty) throws IOException {
+		Random random = new Random(1234);
+		for (int n = 0; n < 200; n++) {
+			Map<String, Object> map = randomMap(random, 0);
+			assertEquals(gson(pretty).toJson(map), print(map, pretty));
+		}
+	}
+
+	private static Map<String, Object> randomMap(Random random, int depth) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		int size = random.nextInt(5);
+		for (int n = 0; n < size; n++) {
+			map.put(randomString(random), randomValue(random, depth));
+		}
+		return map;
+	}
+
+	private static Object randomValue(Random random, int depth) {
+		switch (random.nextInt((depth < 3) ? 8 : 6)) {
+		case 0:
+			return randomString(random);
+		case 1:
+			return random.nextInt();
+		case 2:
+			return random.nextDouble() * 1000;
+		case 3:
+			return random.nextBoolean();
+		case 4:
+			return random.nextLong();
+		case 5:
+			return null;
+		case 6:
+			return randomMap(random, depth + 1);
+		default:
+			Object[] elements = new Object[random.nextInt(4)];
+			for (int n = 0; n < elements.length; n++) {
+				elements[n] = randomValue(random, depth + 1);
+			}
+			return Arrays.asList(elements);
+		}
+	}
+
+	private static String randomString(Random random) {
+		String alphabet = "ab \"\\\n\t\u0000\u2028é😀";
+		StringBuilder builder = new StringBuilder();
+		int length = random.nextInt(6);
+		for (int n = 0; n < length; n++) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void largeOutput() throws IOException {
+		Map<String, Object> map = Map.of("long", "x".repeat(20_000), "list", List.of("y".repeat(5_000), 1, 2));
+		assertEquals(gson(true).toJson(map), print(map, true));
+	}
+
+	@Test
+	public void roundTrip() throws Exception {
+		Map<String, Object> map = Map.of("a", List.of(1L, "b", Map.of("c", 2.5)), "d", "\u2028\u0000");
+		assertEquals(map, new JsonParser(new java.io.StringReader(print(map, true))).parseDocument());
+	}
+
+	@Test
+	public void unsupportedValue() {
+		assertThrows(IllegalArgumentException.class, () -> print(Map.of("key", new Object()), true));
+	}
+
+}
@@ -0,0 +1,6 @@
+module space.arim.dazzleconf.ext.snakeyamlengine {
+	exports space.arim.dazzleconf.ext.snakeyamlengine;
+
+	requires transitive org.snakeyaml.engine.v2;
+	requires transitive space.arim.dazzleconf;
+}
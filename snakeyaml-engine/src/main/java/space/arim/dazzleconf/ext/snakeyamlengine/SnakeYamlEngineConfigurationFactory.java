@@ -0,0 +1,74 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.snakeyamlengine;
+
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.IllDefinedConfigException;
+
+/**
+ * Allows creating a {@link ConfigurationFactory} implementation using snakeyaml-engine, which implements
+ * YAML 1.2. <br>
+ * <br>
+ * The returned factory is thread safe. Its settings are immutable and shared across all loads and writes.
+ *
+ * @author A248
+ *
+ */
+public final class SnakeYamlEngineConfigurationFactory {
+
+	private SnakeYamlEngineConfigurationFactory() {}
+
+	/**
+	 * Creates from a config class, config options, and snakeyaml-engine options
+	 *
+	 * @param <C> the configuration type
+	 * @param configClass the config class
+	 * @param options configuration options
+	 * @param engineOptions snakeyaml-engine options
+	 * @return the configuration factory
+	 * @throws NullPointerException if any parameter is null
+	 * @throws IllegalArgumentException if {@code configClass} is not an interface
+	 * @throws IllDefinedConfigException if a configuration entry in {@code configClass} is not defined properly
+	 */
+	public static <C> ConfigurationFactory<C> create(Class<C> configClass, ConfigurationOptions options,
+													 SnakeYamlEngineOptions engineOptions) {
+		return new SnakeYamlEngineConfigurationFactoryImpl<>(configClass, options, engineOptions);
+	}
+
+	/**
+	 * Creates from a config class and config options. <br>
+	 * <br>
+	 * Uses the default snakeyaml-engine options
+	 *
+	 * @param <C> the configuration type
+	 * @param configClass the config class
+	 * @param options configuration options
+	 * @return the configuration factory
+	 * @throws NullPointerException if either parameter is null
+	 * @throws IllegalArgumentException if {@code configClass} is not an interface
+	 * @throws IllDefinedConfigException if a configuration entry in {@code configClass} is not defined properly
+	 */
+	public static <C> ConfigurationFactory<C> create(Class<C> configClass, ConfigurationOptions options) {
+		return create(configClass, options, new SnakeYamlEngineOptions.Builder().build());
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.snakeyamlengine;
+
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.comments.CommentLine;
+import org.snakeyaml.engine.v2.comments.CommentType;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+import org.snakeyaml.engine.v2.nodes.MappingNode;
+import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.NodeTuple;
+import org.snakeyaml.engine.v2.nodes.Tag;
+import org.snakeyaml.engine.v2.representer.StandardRepresenter;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.BufferStrategy;
+import space.arim.dazzleconf.factory.CommentedWrapper;
+import space.arim.dazzleconf.factory.HumanReadableConfigurationFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+final class SnakeYamlEngineConfigurationFactoryImpl<C> extends HumanReadableConfigurationFactory<C> {
+
+	private final SnakeYamlEngineOptions engineOptions;
+
+	SnakeYamlEngineConfigurationFactoryImpl(Class<C> configClass, ConfigurationOptions options,
+											SnakeYamlEngineOptions engineOptions) {
+		super(configClass, options);
+		this.engineOptions = Objects.requireNonNull(engineOptions, "engineOptions");
+	}
+
+	@Override
+	public Charset charset() {
+		return engineOptions.charset();
+	}
+
+	@Override
+	public BufferStrategy bufferStrategy() {
+		return engineOptions.bufferStrategy();
+	}
+
+	@Override
+	protected String snapshotFormatKey() {
+		// The load settings, which may include custom constructors, cannot be identified
+		return null;
+	}
+
+	@Override
+	public Map<String, Object> loadMap(Reader reader) throws IOException, InvalidConfigException {
+		Object document;
+		try {
+			// Load keeps per-document state, but it is cheap to create from the shared settings
+			document = new Load(engineOptions.loadSettings()).loadFromReader(reader);
+		} catch (YamlEngineException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new ConfigFormatSyntaxException(ex);
+		}
+		if (document == null) {
+			// An empty document
+			return Collections.emptyMap();
+		}
+		if (!(document instanceof Map)) {
+			throw new ConfigFormatSyntaxException(
+					"Expected a mapping at the document root, but found " + document.getClass().getName());
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, Object> map = (Map<String, Object>) document;
+		return map;
+	}
+
+	@Override
+	public void writeMap(Map<String, Object> config, Writer writer) throws IOException {
+		DumpSettings dumpSettings = engineOptions.dumpSettings();
+		StandardRepresenter representer = new StandardRepresenter(dumpSettings);
+		StreamWriter streamWriter = new StreamWriter(writer);
+		try {
+			Node mapNode = mapToNode(representer, config);
+			List<String> commentHeader = getHeader();
+			if (!commentHeader.isEmpty()) {
+				mapNode.setBlockComments(convertComments(commentHeader));
+			}
+			new Dump(dumpSettings, representer).dumpNode(mapNode, streamWriter);
+		} catch (YamlEngineException ex) {
+			streamWriter.rethrowFailure();
+			throw new IOException(ex);
+		}
+		streamWriter.rethrowFailure();
+	}
+
+	private Node mapToNode(StandardRepresenter representer, Map<?, Object> configMap) {
+		List<NodeTuple> keyValuePairs = new ArrayList<>(configMap.size());
+		configMap.forEach((key, value) -> {
+			Node keyNode = representer.represent(key);
+			if (value instanceof CommentedWrapper) {
+				CommentedWrapper commentWrapper = (CommentedWrapper) value;
+
+				keyNode.setBlockComments(convertComments(commentWrapper.getComments()));
+				value = commentWrapper.getValue();
+			}
+			Node valueNode = valueToNode(representer, value);
+			keyValuePairs.add(new NodeTuple(keyNode, valueNode));
+		});
+		return new MappingNode(Tag.MAP, keyValuePairs, engineOptions.dumpSettings().getDefaultFlowStyle());
+	}
+
+	private Node valueToNode(StandardRepresenter representer, Object value) {
+		if (value instanceof Map) {
+			@SuppressWarnings("unchecked")
+			Map<?, Object> map = (Map<?, Object>) value;
+			return mapToNode(representer, map);
+		}
+		return representer.represent(value);
+	}
+
+	private static List<CommentLine> convertComments(List<String> comments) {
+		List<CommentLine> commentLines = new ArrayList<>(comments.size());
+		for (String comment : comments) {
+			commentLines.add(new CommentLine(Optional.empty(), Optional.empty(), " " + comment, CommentType.BLOCK));
+		}
+		return commentLines;
+	}
+
+	@Override
+	public boolean supportsCommentsThroughWrapper() {
+		return engineOptions.dumpSettings().getDumpComments();
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.snakeyamlengine;
+
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import space.arim.dazzleconf.factory.BufferStrategy;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Options for the snakeyaml-engine factory. <br>
+ * <br>
+ * Both {@link LoadSettings} and {@link DumpSettings} are immutable, so a single instance of these options
+ * is shared by every load and write, from any thread.
+ *
+ * @author A248
+ *
+ */
+public final class SnakeYamlEngineOptions {
+
+	private final LoadSettings loadSettings;
+	private final DumpSettings dumpSettings;
+	private final Charset charset;
+	private final BufferStrategy bufferStrategy;
+
+	SnakeYamlEngineOptions(Builder builder) {
+		this.loadSettings = builder.loadSettings;
+		this.dumpSettings = builder.dumpSettings;
+		this.charset = builder.charset;
+		this.bufferStrategy = builder.bufferStrategy;
+	}
+
+	/**
+	 * Gets the settings used for loading
+	 *
+	 * @return the load settings
+	 */
+	public LoadSettings loadSettings() {
+		return loadSettings;
+	}
+
+	/**
+	 * Gets the settings used for writing
+	 *
+	 * @return the dump settings
+	 */
+	public DumpSettings dumpSettings() {
+		return dumpSettings;
+	}
+
+	/**
+	 * Gets the charset used
+	 *
+	 * @return the charset
+	 */
+	public Charset charset() {
+		return charset;
+	}
+
+	/**
+	 * Gets the buffer strategy used
+	 *
+	 * @return the buffer strategy
+	 */
+	public BufferStrategy bufferStrategy() {
+		return bufferStrategy;
+	}
+
+	@Override
+	public String toString() {
+		return "SnakeYamlEngineOptions{" +
+				"loadSettings=" + loadSettings +
+				", dumpSettings=" + dumpSettings +
+				", charset=" + charset +
+				", bufferStrategy=" + bufferStrategy +
+				'}';
+	}
+
+	/**
+	 * Builder of {@code SnakeYamlEngineOptions}
+	 *
+	 * @author A248
+	 *
+	 */
+	public static final class Builder {
+
+		LoadSettings loadSettings = LoadSettings.builder().build();
+		DumpSettings dumpSettings = DumpSettings.builder()
+				.setDefaultFlowStyle(FlowStyle.BLOCK)
+				.setDumpComments(true)
+				.build();
+		Charset charset = StandardCharsets.UTF_8;
+		BufferStrategy bufferStrategy = BufferStrategy.threadLocal();
+
+		/**
+		 * Creates the builder
+		 *
+		 */
+		public Builder() {}
+
+		/**
+		 * Sets the settings used for loading. Default are the snakeyaml-engine defaults
+		 *
+		 * @param loadSettings the load settings
+		 * @return this builder
+		 */
+		public Builder loadSettings(LoadSettings loadSettings) {
+			this.loadSettings = Objects.requireNonNull(loadSettings, "loadSettings");
+			return this;
+		}
+
+		/**
+		 * Sets the settings used for writing. Default are the snakeyaml-engine defaults, except for
+		 * block flow style and comment dumping being enabled. <br>
+		 * <br>
+		 * Comments are written only if {@link DumpSettings#getDumpComments()} is enabled.
+		 *
+		 * @param dumpSettings the dump settings
+		 * @return this builder
+		 */
+		public Builder dumpSettings(DumpSettings dumpSettings) {
+			this.dumpSettings = Objects.requireNonNull(dumpSettings, "dumpSettings");
+			return this;
+		}
+
+		/**
+		 * Sets the charset used by the factory. Default is UTF 8
+		 *
+		 * @param charset the charset
+		 * @return this builder
+		 */
+		public Builder charset(Charset charset) {
+			this.charset = Objects.requireNonNull(charset, "charset");
+			return this;
+		}
+
+		/**
+		 * Sets the strategy for reusing buffers and charset codecs across loads and writes.
+		 * Default is {@link BufferStrategy#threadLocal()}
+		 *
+		 * @param bufferStrategy the buffer strategy
+		 * @return this builder
+		 */
+		public Builder bufferStrategy(BufferStrategy bufferStrategy) {
+			this.bufferStrategy = Objects.requireNonNull(bufferStrategy, "bufferStrategy");
+			return this;
+		}
+
+		/**
+		 * Builds the options. May be used repeatedly without side effects
+		 *
+		 * @return the built options
+		 */
+		public SnakeYamlEngineOptions build() {
+			return new SnakeYamlEngineOptions(this);
+		}
+
+		@Override
+		public String toString() {
+			return "SnakeYamlEngineOptions.Builder{" +
+					"loadSettings=" + loadSettings +
+					", dumpSettings=" + dumpSettings +
+					", charset=" + charset +
+					", bufferStrategy=" + bufferStrategy +
+					'}';
+		}
+	}
+
+}
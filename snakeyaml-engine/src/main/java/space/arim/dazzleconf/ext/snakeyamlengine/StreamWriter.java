@@ -0,0 +1,77 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.snakeyamlengine;
+
+import org.snakeyaml.engine.v2.api.StreamDataWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Adapts a {@link Writer} to the emitter's output, which cannot throw checked exceptions. The first
+ * failure is remembered and later writes are ignored, so it can be rethrown once emitting finishes.
+ *
+ */
+final class StreamWriter implements StreamDataWriter {
+
+	private final Writer writer;
+	private IOException failure;
+
+	StreamWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	@Override
+	public void write(String str) {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int off, int len) {
+		if (failure != null) {
+			return;
+		}
+		try {
+			writer.write(str, off, len);
+		} catch (IOException ex) {
+			failure = ex;
+		}
+	}
+
+	@Override
+	public void flush() {
+		if (failure != null) {
+			return;
+		}
+		try {
+			writer.flush();
+		} catch (IOException ex) {
+			failure = ex;
+		}
+	}
+
+	void rethrowFailure() throws IOException {
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.snakeyamlengine;
+
+import space.arim.dazzleconf.annote.ConfComments;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultBoolean;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultInteger;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultString;
+import space.arim.dazzleconf.annote.ConfDefault.DefaultStrings;
+import space.arim.dazzleconf.annote.ConfHeader;
+import space.arim.dazzleconf.annote.ConfKey;
+import space.arim.dazzleconf.annote.SubSection;
+
+import java.util.List;
+
+@ConfHeader("Header using snakeyaml-engine")
+public interface Config {
+
+	@ConfKey("some-option")
+	@DefaultString("option-value")
+	@ConfComments({"Comment using snakeyaml-engine", "Another line of comments"})
+	String someOption();
+
+	@ConfKey("some-number")
+	@DefaultInteger(3)
+	int someNumber();
+
+	@ConfKey("some-list")
+	@DefaultStrings({"first", "second"})
+	List<String> someList();
+
+	@ConfKey("section-one")
+	@ConfComments("Section comment")
+	@SubSection
+	ConfigSection sectionOne();
+
+	interface ConfigSection {
+
+		@ConfKey("some-flag")
+		@DefaultBoolean(false)
+		@ConfComments("Nested comment")
+		boolean someFlag();
+
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+
+package space.arim.dazzleconf.ext.snakeyamlengine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.error.MissingKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnakeYamlEngineConfigurationFactoryTest {
+
+	private ConfigurationFactory<Config> factory;
+	private Config defaults;
+	private ByteArrayOutputStream defaultsOutput;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		factory = SnakeYamlEngineConfigurationFactory.create(Config.class, ConfigurationOptions.defaults());
+		defaults = factory.loadDefaults();
+		defaultsOutput = new ByteArrayOutputStream();
+		factory.write(defaults, defaultsOutput);
+	}
+
+	@Test
+	public void writeConfig() {
+		String content = defaultsOutput.toString(StandardCharsets.UTF_8);
+		assertEquals(String.join("\n",
+				"# Header using snakeyaml-engine",
+				"# Comment using snakeyaml-engine",
+				"# Another line of comments",
+				"some-option: option-value",
+				"some-number: 3",
+				"some-list:",
+				"- first",
+				"- second",
+				"# Section comment",
+				"section-one:",
+				"  # Nested comment",
+				"  some-flag: false",
+				""), content);
+	}
+
+	@Test
+	public void reloadConfig() {
+		Config reloaded = assertDoesNotThrow(() -> factory.load(streamFor(defaultsOutput.toString(StandardCharsets.UTF_8))));
+		assertEquals(defaults.someOption(), reloaded.someOption());
+		assertEquals(defaults.someNumber(), reloaded.someNumber());
+		assertEquals(defaults.someList(), reloaded.someList());
+		assertEquals(defaults.sectionOne().someFlag(), reloaded.sectionOne().someFlag());
+	}
+
+	@Test
+	public void loadYaml12Scalars() throws IOException, InvalidConfigException {
+		// YAML 1.2 treats 'yes' as a string and '010' as a decimal integer
+		Config config = factory.load(streamFor(
+				"some-option: yes\n" +
+				"some-number: 010\n" +
+				"some-list: [a, b]\n" +
+				"section-one:\n" +
+				"  some-flag: true\n"));
+		assertEquals("yes", config.someOption());
+		assertEquals(10, config.someNumber());
+		assertEquals(List.of("a", "b"), config.someList());
+		assertEquals(true, config.sectionOne().someFlag());
+	}
+
+	private static InputStream streamFor(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "    ", " \n "})
+	public void loadEmptyDocument(String emptyString) {
+		var stream = streamFor(emptyString);
+		assertThrows(MissingKeyException.class, () -> factory.load(stream));
+	}
+
+	@Test
+	public void loadMissingKeys() {
+		var stream = streamFor("some-option: 'some-value'");
+		assertThrows(MissingKeyException.class, () -> factory.load(stream));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"some-option: [unclosed", "- a list\n- at the root", "a scalar"})
+	public void loadMalformedDocument(String malformed) {
+		var stream = streamFor(malformed);
+		assertThrows(ConfigFormatSyntaxException.class, () -> factory.load(stream));
+	}
+
+	@Test
+	public void concurrentLoadsShareFactory() throws Exception {
+		byte[] content = defaultsOutput.toByteArray();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<Config>> tasks = new ArrayList<>();
+			for (int n = 0; n < 32; n++) {
+				tasks.add(() -> factory.load(new ByteArrayInputStream(content)));
+			}
+			for (Future<Config> future : executor.invokeAll(tasks)) {
+				assertEquals(defaults.someOption(), future.get().someOption());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml.it.snakeyaml_1_15;
+
+import org.junit.jupiter.api.Test;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.ext.snakeyaml.SnakeYamlConfigurationFactory;
+import space.arim.dazzleconf.ext.snakeyaml.SnakeYamlOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EventLoadingTest {
+
+	private final ConfigurationFactory<Config> factory = SnakeYamlConfigurationFactory.create(
+			Config.class, ConfigurationOptions.defaults(),
+			new SnakeYamlOptions.Builder().eventLoading(true).build());
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("value")
+		String option();
+
+		@ConfDefault.DefaultInteger(1)
+		int number();
+
+		@ConfDefault.DefaultStrings({})
+		List<String> list();
+
+	}
+
+	private Config load(String document) throws IOException, InvalidConfigException {
+		return factory.load(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void loadFromEvents() throws IOException, InvalidConfigException {
+		Config config = load("# Comment\noption: 'custom' # Trailing comment\nnumber: 5\nlist:\n- one\n- two\n");
+		assertEquals("custom", config.option());
+		assertEquals(5, config.number());
+		assertEquals(List.of("one", "two"), config.list());
+	}
+
+	@Test
+	public void fallbackForUnsupportedFeatures() throws IOException, InvalidConfigException {
+		Config config = load("option: &anchor 'custom'\nnumber: 0x10\nlist: [*anchor]\n");
+		assertEquals("custom", config.option());
+		assertEquals(16, config.number());
+		assertEquals(List.of("custom"), config.list());
+	}
+
+}
@@ -21,6 +21,7 @@ package space.arim.dazzleconf.ext.snakeyaml;
 
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.error.YAMLException;
+import space.arim.dazzleconf.factory.InstancePool;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -30,12 +31,12 @@ import java.util.Map;
 final class BasicWriter implements YamlWriter {
 
 	private final Writer writer;
-	private final Yaml yaml;
+	private final InstancePool<Yaml> yamlPool;
 	private final CommentedWriter commentWriter;
 
-	BasicWriter(Writer writer, Yaml yaml, CommentedWriter commentWriter) {
+	BasicWriter(Writer writer, InstancePool<Yaml> yamlPool, CommentedWriter commentWriter) {
 		this.writer = writer;
-		this.yaml = yaml;
+		this.yamlPool = yamlPool;
 		this.commentWriter = commentWriter;
 	}
 
@@ -49,8 +50,8 @@ final class BasicWriter implements YamlWriter {
 		public YamlWriter newWriter(SnakeYamlOptions yamlOptions, Writer writer) {
 			return new BasicWriter(
 					writer,
-					yamlOptions.yamlSupplier().get(),
-					new CommentedWriter(writer, CommentMode.DEFAULT_COMMENT_FORMAT));
+					yamlOptions.yamlPool(),
+					CommentedWriter.Factory.DEFAULT.newWriter(yamlOptions, writer));
 		}
 
 		@Override
@@ -58,15 +59,23 @@ final class BasicWriter implements YamlWriter {
 			return false;
 		}
 
+		@Override
+		public boolean supportsAppending() {
+			return false;
+		}
+
 	}
 
 	@Override
 	public void writeData(Map<String, Object> configMap, List<String> headerComments) throws IOException {
 		commentWriter.writeComments(headerComments);
+		Yaml yaml = yamlPool.acquire();
 		try {
 			yaml.dump(configMap, writer);
 		} catch (YAMLException ex) {
 			throw yamlToIoException(ex);
+		} finally {
+			yamlPool.release(yaml);
 		}
 	}
 
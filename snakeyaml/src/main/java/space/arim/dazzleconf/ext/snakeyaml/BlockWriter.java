@@ -0,0 +1,478 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+import space.arim.dazzleconf.factory.CommentedWrapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Writes block style YAML directly, producing the same output as {@link FullWriter} does
+ * with the default {@code Yaml} instance, but without building a node graph. <br>
+ * <br>
+ * Only plain and single quoted scalars are written. If the document contains anything else,
+ * such as multi-line strings or values which snakeyaml would represent with tags or anchors,
+ * the whole document is written using the fallback writer.
+ *
+ */
+final class BlockWriter implements YamlWriter {
+
+	private final Writer writer;
+	private final Supplier<YamlWriter> fallback;
+
+	private int column;
+	private boolean whitespace = true;
+	private boolean indention = true;
+
+	/** The line width after which long scalars are split, as in the default dumper options */
+	private static final int BEST_WIDTH = 80;
+	/** The maximum length of a key which snakeyaml writes without a '?' indicator */
+	private static final int MAX_SIMPLE_KEY_LENGTH = 122;
+	private static final Resolver RESOLVER = new Resolver();
+	private static final String SPACES = "                                                                ";
+
+	BlockWriter(Writer writer, Supplier<YamlWriter> fallback) {
+		this.writer = writer;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public void writeData(Map<String, Object> configMap, List<String> headerComments) throws IOException {
+		if (configMap.isEmpty() || !new Scan().isSupported(configMap, headerComments)) {
+			fallback.get().writeData(configMap, headerComments);
+			return;
+		}
+		writeComments(headerComments, 0);
+		writeMapping(configMap, 0, true);
+		writeIndent(0);
+	}
+
+	/*
+	 * Emission, following the snakeyaml emitter
+	 */
+
+	private void writeMapping(Map<?, ?> map, int indent, boolean commentsAllowed) throws IOException {
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			Object value = entry.getValue();
+			if (commentsAllowed && value instanceof CommentedWrapper) {
+				CommentedWrapper commentWrapper = (CommentedWrapper) value;
+				writeComments(commentWrapper.getComments(), indent);
+				value = commentWrapper.getValue();
+			}
+			writeIndent(indent);
+			writeScalar(entry.getKey(), indent, true);
+			writeIndicator(":", false, false);
+			writeValue(value, indent, true, commentsAllowed);
+		}
+	}
+
+	private void writeSequence(List<?> list, int indent) throws IOException {
+		for (Object element : list) {
+			writeIndent(indent);
+			writeIndicator("-", true, false);
+			indention = true;
+			writeValue(element, indent, false, false);
+		}
+	}
+
+	private void writeValue(Object value, int indent, boolean mappingContext, boolean commentsAllowed) throws IOException {
+		if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			if (map.isEmpty()) {
+				writeIndicator("{", true, true);
+				writeIndicator("}", false, false);
+			} else {
+				writeMapping(map, indent + 2, commentsAllowed);
+			}
+		} else if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			if (list.isEmpty()) {
+				writeIndicator("[", true, true);
+				writeIndicator("]", false, false);
+			} else {
+				// Sequences in mappings are not indented, unless they begin a line
+				writeSequence(list, (mappingContext && !indention) ? indent : indent + 2);
+			}
+		} else {
+			writeScalar(value, indent + 2, false);
+		}
+	}
+
+	private void writeComments(List<String> comments, int indent) throws IOException {
+		if (comments.isEmpty()) {
+			return;
+		}
+		writeIndent(indent);
+		for (String comment : comments) {
+			if (column < indent) {
+				writeSpaces(indent - column);
+			}
+			writer.write("# ");
+			writer.write(comment);
+			writeLineBreak();
+		}
+	}
+
+	private void writeScalar(Object value, int indent, boolean simpleKey) throws IOException {
+		String text = scalarText(value);
+		if (!(value instanceof String || value instanceof Character)) {
+			// Non-strings always resolve to their own tag, as verified by the scan
+			writePlain(text, indent, false);
+			return;
+		}
+		boolean plain = allowsBlockPlain(text)
+				&& Tag.STR.equals(RESOLVER.resolve(NodeId.scalar, text, true));
+		if (plain) {
+			writePlain(text, indent, !simpleKey);
+		} else {
+			writeSingleQuoted(text, indent, !simpleKey);
+		}
+	}
+
+	private void writePlain(String text, int indent, boolean split) throws IOException {
+		if (!whitespace) {
+			writer.write(' ');
+			column++;
+		}
+		whitespace = false;
+		indention = false;
+		int length = text.length();
+		if (!split || column + length <= BEST_WIDTH) {
+			writer.write(text);
+			column += length;
+			return;
+		}
+		boolean spaces = false;
+		int start = 0;
+		for (int end = 0; end <= length; end++) {
+			char ch = (end < length) ? text.charAt(end) : 0;
+			if (spaces) {
+				if (ch != ' ') {
+					if (start + 1 == end && column > BEST_WIDTH) {
+						writeIndent(indent);
+						whitespace = false;
+						indention = false;
+					} else {
+						writeSegment(text, start, end);
+					}
+					start = end;
+				}
+			} else if (ch == 0 || ch == ' ') {
+				writeSegment(text, start, end);
+				start = end;
+			}
+			spaces = ch == ' ';
+		}
+	}
+
+	private void writeSingleQuoted(String text, int indent, boolean split) throws IOException {
+		writeIndicator("'", true, false);
+		int length = text.length();
+		boolean spaces = false;
+		int start = 0;
+		for (int end = 0; end <= length; end++) {
+			char ch = (end < length) ? text.charAt(end) : 0;
+			if (spaces) {
+				if (ch != ' ') {
+					if (start + 1 == end && column > BEST_WIDTH && split && start != 0 && end != length) {
+						writeIndent(indent);
+					} else {
+						writeSegment(text, start, end);
+					}
+					start = end;
+				}
+			} else if (ch == 0 || ch == ' ' || ch == '\'') {
+				if (start < end) {
+					writeSegment(text, start, end);
+					start = end;
+				}
+			}
+			if (ch == '\'') {
+				writer.write("''");
+				column += 2;
+				start = end + 1;
+			}
+			spaces = ch == ' ';
+		}
+		writeIndicator("'", false, false);
+	}
+
+	private void writeSegment(String text, int start, int end) throws IOException {
+		writer.write(text, start, end - start);
+		column += end - start;
+	}
+
+	private void writeIndicator(String indicator, boolean needWhitespace, boolean whitespace) throws IOException {
+		if (!this.whitespace && needWhitespace) {
+			writer.write(' ');
+			column++;
+		}
+		this.whitespace = whitespace;
+		indention = false;
+		writer.write(indicator);
+		column += indicator.length();
+	}
+
+	private void writeIndent(int indent) throws IOException {
+		if (!indention || column > indent || (column == indent && !whitespace)) {
+			writeLineBreak();
+		}
+		if (column < indent) {
+			whitespace = true;
+			writeSpaces(indent - column);
+		}
+	}
+
+	private void writeSpaces(int count) throws IOException {
+		column += count;
+		while (count > SPACES.length()) {
+			writer.write(SPACES);
+			count -= SPACES.length();
+		}
+		writer.write(SPACES, 0, count);
+	}
+
+	private void writeLineBreak() throws IOException {
+		whitespace = true;
+		indention = true;
+		column = 0;
+		writer.write('\n');
+	}
+
+	/*
+	 * Scalar analysis
+	 */
+
+	/**
+	 * Gets the text of a scalar as snakeyaml would represent it
+	 *
+	 * @param value the scalar, which must be of a supported type
+	 * @return the scalar text
+	 */
+	private static String scalarText(Object value) {
+		if (value instanceof Double || value instanceof Float) {
+			double number = ((Number) value).doubleValue();
+			if (Double.isNaN(number)) {
+				return ".NaN";
+			}
+			if (Double.isInfinite(number)) {
+				return (number > 0) ? ".inf" : "-.inf";
+			}
+		}
+		return value.toString();
+	}
+
+	/**
+	 * Gets the tag a supported scalar is represented with
+	 *
+	 * @param value the scalar
+	 * @return the tag, or null if the scalar is not supported
+	 */
+	private static Tag scalarTag(Object value) {
+		if (value instanceof String || value instanceof Character) {
+			return Tag.STR;
+		}
+		if (value instanceof Boolean) {
+			return Tag.BOOL;
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short
+				|| value instanceof Byte || value instanceof BigInteger) {
+			return Tag.INT;
+		}
+		if (value instanceof Double || value instanceof Float) {
+			return Tag.FLOAT;
+		}
+		return null;
+	}
+
+	/**
+	 * Whether a character may be written in a plain or single quoted scalar. Excludes
+	 * line breaks, tabs, and anything else snakeyaml would escape
+	 *
+	 * @param ch the character
+	 * @return true if the character is supported
+	 */
+	private static boolean isSupportedChar(char ch) {
+		return (ch >= ' ' && ch <= '~')
+				|| (ch >= '\u00A0' && ch <= '\uD7FF' && ch != '\u2028' && ch != '\u2029')
+				|| (ch >= '\uE000' && ch <= '\uFFFD' && ch != '\uFEFF');
+	}
+
+	/**
+	 * Whether a single line string may be written as a plain scalar in block context,
+	 * disregarding the implicit tag resolution of its text
+	 *
+	 * @param text the string, consisting only of supported characters
+	 * @return true if the text may be plain
+	 */
+	private static boolean allowsBlockPlain(String text) {
+		int length = text.length();
+		if (length == 0) {
+			return true;
+		}
+		if (text.startsWith("---") || text.startsWith("...")
+				|| text.charAt(0) == ' ' || text.charAt(length - 1) == ' ') {
+			return false;
+		}
+		boolean precededByWhitespace = true;
+		for (int index = 0; index < length; index++) {
+			char ch = text.charAt(index);
+			boolean followedByWhitespace = index + 1 == length || text.charAt(index + 1) == ' ';
+			if (index == 0) {
+				if ("#,[]{}&*!|>'\"%@`".indexOf(ch) != -1) {
+					return false;
+				}
+				if ((ch == '?' || ch == ':' || ch == '-') && followedByWhitespace) {
+					return false;
+				}
+			} else {
+				if (ch == ':' && followedByWhitespace) {
+					return false;
+				}
+				if (ch == '#' && precededByWhitespace) {
+					return false;
+				}
+			}
+			precededByWhitespace = ch == ' ';
+		}
+		return true;
+	}
+
+	/**
+	 * Determines whether a document may be written directly
+	 *
+	 */
+	private static final class Scan {
+
+		/**
+		 * Collections within a sequence. Snakeyaml would write repeated instances using anchors
+		 */
+		private Set<Object> sequenceCollections;
+
+		boolean isSupported(Map<?, ?> configMap, List<String> headerComments) {
+			return areCommentsSupported(headerComments) && isMappingSupported(configMap, true);
+		}
+
+		private boolean isMappingSupported(Map<?, ?> map, boolean commentsAllowed) {
+			if (!commentsAllowed && !isNewSequenceCollection(map)) {
+				return false;
+			}
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				Object key = entry.getKey();
+				if (!isScalarSupported(key)) {
+					return false;
+				}
+				int keyLength = scalarText(key).length();
+				if (keyLength == 0 || keyLength > MAX_SIMPLE_KEY_LENGTH) {
+					return false;
+				}
+				Object value = entry.getValue();
+				if (value instanceof CommentedWrapper) {
+					if (!commentsAllowed) {
+						return false;
+					}
+					CommentedWrapper commentWrapper = (CommentedWrapper) value;
+					if (!areCommentsSupported(commentWrapper.getComments())) {
+						return false;
+					}
+					value = commentWrapper.getValue();
+					if (value instanceof CommentedWrapper) {
+						return false;
+					}
+				}
+				if (!isValueSupported(value, commentsAllowed)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean isValueSupported(Object value, boolean commentsAllowed) {
+			if (value instanceof Map) {
+				return isMappingSupported((Map<?, ?>) value, commentsAllowed);
+			}
+			if (value instanceof List) {
+				if (commentsAllowed) {
+					// Each sequence outside of a sequence is represented separately
+					sequenceCollections = null;
+				}
+				List<?> list = (List<?>) value;
+				if (!isNewSequenceCollection(list)) {
+					return false;
+				}
+				for (Object element : list) {
+					if (!isValueSupported(element, false)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return isScalarSupported(value);
+		}
+
+		private boolean isNewSequenceCollection(Object collection) {
+			if (sequenceCollections == null) {
+				sequenceCollections = Collections.newSetFromMap(new IdentityHashMap<>());
+			}
+			return sequenceCollections.add(collection);
+		}
+
+		private static boolean isScalarSupported(Object value) {
+			Tag tag = scalarTag(value);
+			if (tag == null) {
+				return false;
+			}
+			String text = scalarText(value);
+			if (tag == Tag.STR) {
+				for (int n = 0; n < text.length(); n++) {
+					if (!isSupportedChar(text.charAt(n))) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return tag.equals(RESOLVER.resolve(NodeId.scalar, text, true));
+		}
+
+		private static boolean areCommentsSupported(List<String> comments) {
+			for (String comment : comments) {
+				for (int n = 0; n < comment.length(); n++) {
+					char ch = comment.charAt(n);
+					if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029') {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+
+}
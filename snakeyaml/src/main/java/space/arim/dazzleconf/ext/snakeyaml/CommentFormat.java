@@ -0,0 +1,89 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+/**
+ * A comment format, parsed once. Formats which consist of a single {@code %s} surrounded
+ * by literal text are applied by concatenation; anything else uses {@code String.format}.
+ *
+ */
+final class CommentFormat {
+
+	private final String format;
+	/** Null if String.format is required */
+	private final String prefix;
+	private final String suffix;
+
+	private CommentFormat(String format, String prefix, String suffix) {
+		this.format = format;
+		this.prefix = prefix;
+		this.suffix = suffix;
+	}
+
+	/**
+	 * Parses a comment format. The format should have already been validated
+	 *
+	 * @param format the {@code String.format} compatible comment format
+	 * @return the parsed comment format
+	 */
+	static CommentFormat parse(String format) {
+		int specifierIndex = format.indexOf("%s");
+		if (specifierIndex != -1) {
+			String prefix = format.substring(0, specifierIndex);
+			String suffix = format.substring(specifierIndex + 2);
+			if (prefix.indexOf('%') == -1 && suffix.indexOf('%') == -1) {
+				return new CommentFormat(format, prefix, suffix);
+			}
+		}
+		return new CommentFormat(format, null, null);
+	}
+
+	/**
+	 * Formats a single comment line
+	 *
+	 * @param comment the comment
+	 * @return the formatted comment
+	 */
+	String format(String comment) {
+		if (prefix == null) {
+			return String.format(format, comment);
+		}
+		return prefix.concat(comment).concat(suffix);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CommentFormat that = (CommentFormat) o;
+		return format.equals(that.format);
+	}
+
+	@Override
+	public int hashCode() {
+		return format.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return format;
+	}
+
+}
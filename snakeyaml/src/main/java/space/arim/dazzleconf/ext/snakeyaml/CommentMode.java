@@ -115,7 +115,7 @@ public final class CommentMode {
 	public static CommentMode alternativeWriter(String commentFormat) {
 		Objects.requireNonNull(commentFormat, "commentFormat");
 		String.format(commentFormat, "dummy comment");
-		return new CommentMode(new CommentedWriter.Factory(commentFormat));
+		return new CommentMode(new CommentedWriter.Factory(CommentFormat.parse(commentFormat)));
 	}
 
 	/**
@@ -24,13 +24,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import space.arim.dazzleconf.factory.CommentedWrapper;
 
 final class CommentedWriter implements YamlWriter {
 
 	private final Writer writer;
-	private final String commentFormat;
+	private final Factory factory;
 	
 	private int depth;
 	/**
@@ -40,23 +42,58 @@ final class CommentedWriter implements YamlWriter {
 	 * has also already been written before the key.
 	 */
 	private boolean firstMapEntryIsPartOfList;
+
+	/** Indentation shared by all writers. Deeper levels are written in several parts */
+	private static final String INDENT = "                                                                ";
 	
-	CommentedWriter(Writer writer, String commentFormat) {
+	CommentedWriter(Writer writer, Factory factory) {
 		this.writer = writer;
-		this.commentFormat = commentFormat;
+		this.factory = factory;
 	}
 
 	static final class Factory implements YamlWriter.Factory {
 
-		private final String commentFormat;
+		static final Factory DEFAULT = new Factory(CommentFormat.parse(CommentMode.DEFAULT_COMMENT_FORMAT));
+
+		private final CommentFormat commentFormat;
+		/**
+		 * Rendered comment lines, keyed by the comments. Comments normally come from
+		 * the configuration definition, hence there are not many of them
+		 */
+		private final ConcurrentMap<List<String>, String[]> renderedComments = new ConcurrentHashMap<>();
 
-		Factory(String commentFormat) {
+		private static final int MAX_RENDERED_COMMENTS = 4096;
+
+		Factory(CommentFormat commentFormat) {
 			this.commentFormat = commentFormat;
 		}
 
 		@Override
 		public CommentedWriter newWriter(SnakeYamlOptions yamlOptions, Writer writer) {
-			return new CommentedWriter(writer, commentFormat);
+			return new CommentedWriter(writer, this);
+		}
+
+		/**
+		 * Renders comments into lines, each with the comment format applied and
+		 * a terminating line break
+		 *
+		 * @param comments the comments
+		 * @return the rendered lines, which must not be modified
+		 */
+		String[] renderComments(List<String> comments) {
+			String[] rendered = renderedComments.get(comments);
+			if (rendered != null) {
+				return rendered;
+			}
+			rendered = new String[comments.size()];
+			int index = 0;
+			for (String comment : comments) {
+				rendered[index++] = commentFormat.format(comment).concat("\n");
+			}
+			if (renderedComments.size() < MAX_RENDERED_COMMENTS) {
+				renderedComments.putIfAbsent(comments, rendered);
+			}
+			return rendered;
 		}
 
 		@Override
@@ -64,6 +101,11 @@ final class CommentedWriter implements YamlWriter {
 			return true;
 		}
 
+		@Override
+		public boolean supportsAppending() {
+			return true;
+		}
+
 		@Override
 		public boolean equals(Object o) {
 			if (this == o) return true;
@@ -76,6 +118,13 @@ final class CommentedWriter implements YamlWriter {
 		public int hashCode() {
 			return commentFormat.hashCode();
 		}
+
+		@Override
+		public String toString() {
+			return "CommentedWriter.Factory{" +
+					"commentFormat=" + commentFormat +
+					'}';
+		}
 	}
 
 	@Override
@@ -121,9 +170,12 @@ final class CommentedWriter implements YamlWriter {
 	 * @throws IOException if an I/O error occurs
 	 */
 	void writeComments(List<String> comments) throws IOException {
-		CharSequence depthPrefix = depthPrefix();
-		for (String comment : comments) {
-			writer.append(depthPrefix).append(String.format(commentFormat, comment)).append('\n');
+		if (comments.isEmpty()) {
+			return;
+		}
+		for (String renderedComment : factory.renderComments(comments)) {
+			writeIndent();
+			writer.write(renderedComment);
 		}
 	}
 
@@ -135,16 +187,13 @@ final class CommentedWriter implements YamlWriter {
 	 * Depth control
 	 */
 	
-	private CharSequence depthPrefix() {
-		if (depth == 0) {
-			return "";
-		}
-		StringBuilder builder = new StringBuilder();
+	private void writeIndent() throws IOException {
 		int spaces = 2 * depth;
-		for (int n = 0; n < spaces; n++) {
-			builder.append(' ');
+		while (spaces > INDENT.length()) {
+			writer.write(INDENT);
+			spaces -= INDENT.length();
 		}
-		return builder;
+		writer.write(INDENT, 0, spaces);
 	}
 	
 	@FunctionalInterface
@@ -166,9 +215,10 @@ final class CommentedWriter implements YamlWriter {
 		if (firstMapEntryIsPartOfList) {
 			firstMapEntryIsPartOfList = false;
 		} else {
-			writer.append(depthPrefix());
+			writeIndent();
 		}
-		writer.append(key.toString()).append(':');
+		writer.write(key.toString());
+		writer.write(':');
 	}
 	
 	/*
@@ -193,17 +243,18 @@ final class CommentedWriter implements YamlWriter {
 			} else {
 				writer.append('\n');
 				descendAndDo(() -> {
-					CharSequence depthPrefix = depthPrefix();
 					for (Object element : list) {
 						if (element instanceof Map) {
 							Map<?, ?> map = (Map<?, ?>) element;
 							if (map.isEmpty()) {
-								writer.append(depthPrefix).append("- {}");
+								writeIndent();
+								writer.write("- {}");
 							} else {
 								writeMapWhichIsListElement(map);
 							}
 						} else {
-							writer.append(depthPrefix).append('-');
+							writeIndent();
+							writer.write('-');
 							writeSingleValue(element);
 						}
 						writer.append('\n');
@@ -234,7 +285,8 @@ final class CommentedWriter implements YamlWriter {
 				= new IteratorWithElementPrepended<>(firstEntry, entryIterator);
 
 		// Actually write the values
-		writer.append(depthPrefix()).append("- ");
+		writeIndent();
+		writer.write("- ");
 		firstMapEntryIsPartOfList = true;
 		descendAndDo(() -> writeRemainingMapEntries(newIterator));
 	}
@@ -242,9 +294,7 @@ final class CommentedWriter implements YamlWriter {
 	private void writeSingleValue(Object value) throws IOException {
 		writer.append(' ');
 		if (value instanceof String || value instanceof Character) {
-			writer.append('\'');
-			writer.append(value.toString().replace("'", "''"));
-			writer.append('\'');
+			writeQuoted(value.toString());
 			return;
 		}
 		if (value instanceof Number || value instanceof Boolean) {
@@ -253,5 +303,25 @@ final class CommentedWriter implements YamlWriter {
 		}
 		throw new IllegalArgumentException("Unknown single value type " + value.getClass());
 	}
-	
+
+	/**
+	 * Writes a single quoted string, escaping single quotes by doubling them
+	 *
+	 * @param value the string
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeQuoted(String value) throws IOException {
+		writer.write('\'');
+		int start = 0;
+		int quoteIndex;
+		while ((quoteIndex = value.indexOf('\'', start)) != -1) {
+			// Write up to and including the quote, then the quote once more
+			writer.write(value, start, quoteIndex + 1 - start);
+			writer.write('\'');
+			start = quoteIndex + 1;
+		}
+		writer.write(value, start, value.length() - start);
+		writer.write('\'');
+	}
+
 }
@@ -0,0 +1,298 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Loads a document using the default {@code Yaml} by consuming its event stream directly, skipping
+ * the node graph built by the composer and the constructor's dispatch on each node. <br>
+ * <br>
+ * The result is the same as that of {@code Yaml.load}: the same resolver decides the type of each
+ * plain scalar, and scalars are converted to the same objects. Documents using features outside
+ * the common subset (anchors and aliases, explicit tags, merge keys, timestamps, non decimal or
+ * sexagesimal numbers, complex keys, or deep nesting) are loaded by {@code Yaml.load} instead.
+ *
+ */
+final class EventLoader {
+
+	private static final Resolver RESOLVER = new Resolver();
+	/** Comment events exist since SnakeYAML 1.28. Null if unavailable */
+	private static final Event.ID COMMENT = commentEventId();
+	/** Matches the composer's default nesting depth limit */
+	private static final int NESTING_DEPTH_LIMIT = 50;
+
+	private final Iterator<Event> events;
+	private int depth;
+
+	private EventLoader(Iterator<Event> events) {
+		this.events = events;
+	}
+
+	/**
+	 * Loads a document
+	 *
+	 * @param yaml the default yaml instance
+	 * @param reader the reader
+	 * @return the same as {@code yaml.load(reader)}
+	 * @throws IOException if an I/O error occurs reading
+	 */
+	static <T> T load(Yaml yaml, Reader reader) throws IOException {
+		Object result;
+		if (reader.markSupported()) {
+			// The fallback parses from the start. Readers over decoded content, as used for files, support this cheaply
+			reader.mark(Integer.MAX_VALUE);
+			try {
+				result = new EventLoader(yaml.parse(reader).iterator()).loadStream();
+			} catch (Unsupported ex) {
+				reader.reset();
+				return yaml.load(reader);
+			}
+		} else {
+			result = loadCopy(yaml, reader);
+		}
+		@SuppressWarnings("unchecked")
+		T cast = (T) result;
+		return cast;
+	}
+
+	private static Object loadCopy(Yaml yaml, Reader reader) throws IOException {
+		// Kept for the fallback, which parses from the start. Read into an array, which both parses share
+		char[] document = new char[4096];
+		int length = 0;
+		int read;
+		while ((read = reader.read(document, length, document.length - length)) != -1) {
+			length += read;
+			if (length == document.length) {
+				document = Arrays.copyOf(document, length * 2);
+			}
+		}
+		try {
+			return new EventLoader(yaml.parse(new CharArrayReader(document, 0, length)).iterator()).loadStream();
+		} catch (Unsupported ex) {
+			return yaml.load(new CharArrayReader(document, 0, length));
+		}
+	}
+
+	private static Event.ID commentEventId() {
+		// Looked up by name, since referencing the constant fails to link with earlier versions
+		for (Event.ID id : Event.ID.values()) {
+			if (id.name().equals("Comment")) {
+				return id;
+			}
+		}
+		return null;
+	}
+
+	private Object loadStream() {
+		expect(Event.ID.StreamStart);
+		Event event = events.next();
+		if (event.is(Event.ID.StreamEnd)) {
+			// Empty document
+			return null;
+		}
+		if (!event.is(Event.ID.DocumentStart)) {
+			throw new Unsupported();
+		}
+		Object root = loadNode(nextNodeEvent());
+		// Only a single mapping is loaded here; otherwise, let SnakeYAML decide
+		if (!(root instanceof Map)) {
+			throw new Unsupported();
+		}
+		expect(Event.ID.DocumentEnd);
+		expect(Event.ID.StreamEnd);
+		return root;
+	}
+
+	private void expect(Event.ID id) {
+		if (!nextEvent().is(id)) {
+			throw new Unsupported();
+		}
+	}
+
+	private Event nextEvent() {
+		Event event;
+		do {
+			event = events.next();
+		} while (COMMENT != null && event.is(COMMENT));
+		return event;
+	}
+
+	private NodeEvent nextNodeEvent() {
+		Event event = nextEvent();
+		if (!(event instanceof NodeEvent) || event.is(Event.ID.Alias)) {
+			throw new Unsupported();
+		}
+		NodeEvent nodeEvent = (NodeEvent) event;
+		if (nodeEvent.getAnchor() != null) {
+			throw new Unsupported();
+		}
+		return nodeEvent;
+	}
+
+	private Object loadNode(NodeEvent event) {
+		if (event instanceof ScalarEvent) {
+			return loadScalar((ScalarEvent) event);
+		}
+		if (((CollectionStartEvent) event).getTag() != null || ++depth > NESTING_DEPTH_LIMIT) {
+			throw new Unsupported();
+		}
+		Object collection = event.is(Event.ID.MappingStart) ? loadMapping() : loadSequence();
+		depth--;
+		return collection;
+	}
+
+	private Map<Object, Object> loadMapping() {
+		Map<Object, Object> mapping = new LinkedHashMap<>();
+		Event event;
+		while (!(event = nextEvent()).is(Event.ID.MappingEnd)) {
+			if (!(event instanceof ScalarEvent) || ((ScalarEvent) event).getAnchor() != null) {
+				throw new Unsupported();
+			}
+			Object key = loadScalar((ScalarEvent) event);
+			mapping.put(key, loadNode(nextNodeEvent()));
+		}
+		return mapping;
+	}
+
+	private List<Object> loadSequence() {
+		List<Object> sequence = new ArrayList<>();
+		Event event;
+		while (!(event = nextEvent()).is(Event.ID.SequenceEnd)) {
+			if (!(event instanceof NodeEvent) || event.is(Event.ID.Alias) || ((NodeEvent) event).getAnchor() != null) {
+				throw new Unsupported();
+			}
+			sequence.add(loadNode((NodeEvent) event));
+		}
+		return sequence;
+	}
+
+	private static Object loadScalar(ScalarEvent event) {
+		if (event.getTag() != null) {
+			throw new Unsupported();
+		}
+		String value = event.getValue();
+		Tag tag = RESOLVER.resolve(NodeId.scalar, value, event.getImplicit().canOmitTagInPlainScalar());
+		if (tag == Tag.STR) {
+			return value;
+		}
+		if (tag == Tag.NULL) {
+			return null;
+		}
+		if (tag == Tag.BOOL) {
+			return loadBoolean(value);
+		}
+		if (tag == Tag.INT) {
+			return loadInteger(value);
+		}
+		if (tag == Tag.FLOAT) {
+			return loadFloat(value);
+		}
+		throw new Unsupported();
+	}
+
+	private static Boolean loadBoolean(String value) {
+		switch (value.toLowerCase(Locale.ROOT)) {
+		case "yes":
+		case "true":
+		case "on":
+			return Boolean.TRUE;
+		case "no":
+		case "false":
+		case "off":
+			return Boolean.FALSE;
+		default:
+			throw new Unsupported();
+		}
+	}
+
+	/*
+	 * Integers and floats are converted as SafeConstructor does for plain decimal notation.
+	 * Integers become the narrowest of Integer, Long and BigInteger which holds them
+	 */
+
+	private static Number loadInteger(String value) {
+		int start = (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+		int digits = value.length() - start;
+		if (digits == 0) {
+			throw new Unsupported();
+		}
+		for (int n = start; n < value.length(); n++) {
+			char c = value.charAt(n);
+			if (c < '0' || c > '9') {
+				throw new Unsupported();
+			}
+		}
+		if (digits > 1 && value.charAt(start) == '0') {
+			// Octal
+			throw new Unsupported();
+		}
+		String signed = (value.charAt(0) == '+') ? value.substring(1) : value;
+		if (digits <= 18) {
+			long parsed = Long.parseLong(signed);
+			return (parsed == (int) parsed) ? (Number) (int) parsed : (Number) parsed;
+		}
+		BigInteger parsed = new BigInteger(signed);
+		return (parsed.bitLength() < Long.SIZE) ? (Number) parsed.longValue() : parsed;
+	}
+
+	private static Double loadFloat(String value) {
+		for (int n = 0; n < value.length(); n++) {
+			char c = value.charAt(n);
+			if (c == '_' || c == ':' || c == 'i' || c == 'I' || c == 'n' || c == 'N') {
+				// Underscores, sexagesimal, infinity or NaN
+				throw new Unsupported();
+			}
+		}
+		return Double.valueOf(value);
+	}
+
+	/**
+	 * Signals that the document must be loaded by {@code Yaml.load}
+	 */
+	private static final class Unsupported extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		Unsupported() {
+			super(null, null, false, false);
+		}
+	}
+
+}
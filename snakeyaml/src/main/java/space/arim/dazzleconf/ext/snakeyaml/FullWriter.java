@@ -29,6 +29,7 @@ import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.Tag;
 import space.arim.dazzleconf.factory.CommentedWrapper;
+import space.arim.dazzleconf.factory.InstancePool;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -39,11 +40,11 @@ import java.util.Map;
 final class FullWriter implements YamlWriter {
 
 	private final Writer writer;
-	private final Yaml yaml;
+	private final InstancePool<Yaml> yamlPool;
 
-	FullWriter(Writer writer, Yaml yaml) {
+	FullWriter(Writer writer, InstancePool<Yaml> yamlPool) {
 		this.writer = writer;
-		this.yaml = yaml;
+		this.yamlPool = yamlPool;
 	}
 
 	static final class Factory implements YamlWriter.Factory {
@@ -54,7 +55,12 @@ final class FullWriter implements YamlWriter {
 
 		@Override
 		public YamlWriter newWriter(SnakeYamlOptions yamlOptions, Writer writer) {
-			return new FullWriter(writer, yamlOptions.yamlSupplier().get());
+			InstancePool<Yaml> yamlPool = yamlOptions.yamlPool();
+			if (yamlOptions.yamlSupplier() == DefaultYaml.SUPPLIER) {
+				// The output of the default Yaml is known, so it can be written directly
+				return new BlockWriter(writer, () -> new FullWriter(writer, yamlPool));
+			}
+			return new FullWriter(writer, yamlPool);
 		}
 
 		@Override
@@ -62,22 +68,30 @@ final class FullWriter implements YamlWriter {
 			return true;
 		}
 
+		@Override
+		public boolean supportsAppending() {
+			return false;
+		}
+
 	}
 
 	@Override
 	public void writeData(Map<String, Object> configMap, List<String> commentHeader) throws IOException {
-		Node mapNode = mapToNode(configMap);
-		if (!commentHeader.isEmpty()) {
-			mapNode.setBlockComments(convertComments(commentHeader));
-		}
+		Yaml yaml = yamlPool.acquire();
 		try {
+			Node mapNode = mapToNode(yaml, configMap);
+			if (!commentHeader.isEmpty()) {
+				mapNode.setBlockComments(convertComments(commentHeader));
+			}
 			yaml.serialize(mapNode, writer);
 		} catch (YAMLException ex) {
 			throw yamlToIoException(ex);
+		} finally {
+			yamlPool.release(yaml);
 		}
 	}
 
-	private Node mapToNode(Map<?, Object> configMap) {
+	private Node mapToNode(Yaml yaml, Map<?, Object> configMap) {
 		List<NodeTuple> keyValuePairs = new ArrayList<>(configMap.size());
 		configMap.forEach((key, value) -> {
 			Node keyNode = yaml.represent(key);
@@ -87,17 +101,17 @@ final class FullWriter implements YamlWriter {
 				keyNode.setBlockComments(convertComments(commentWrapper.getComments()));
 				value = commentWrapper.getValue();
 			}
-			Node valueNode = valueToNode(value);
+			Node valueNode = valueToNode(yaml, value);
 			keyValuePairs.add(new NodeTuple(keyNode, valueNode));
 		});
 		return new MappingNode(Tag.MAP, keyValuePairs, FlowStyle.AUTO);
 	}
 
-	private Node valueToNode(Object value) {
+	private Node valueToNode(Yaml yaml, Object value) {
 		if (value instanceof Map) {
 			@SuppressWarnings("unchecked")
 			Map<?, Object> map = (Map<?, Object>) value;
-			return mapToNode(map);
+			return mapToNode(yaml, map);
 		}
 		return yaml.represent(value);
 	}
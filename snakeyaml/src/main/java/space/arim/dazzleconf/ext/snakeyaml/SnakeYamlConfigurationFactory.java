@@ -34,6 +34,8 @@ import space.arim.dazzleconf.ConfigurationOptions;
 import space.arim.dazzleconf.error.ConfigFormatSyntaxException;
 import space.arim.dazzleconf.error.IllDefinedConfigException;
 import space.arim.dazzleconf.factory.AbstractConfigurationFactory;
+import space.arim.dazzleconf.factory.BufferStrategy;
+import space.arim.dazzleconf.factory.InstancePool;
 
 /**
  * A {@link ConfigurationFactory} implementation using SnakeYAML to load a yaml configuration. <br>
@@ -126,18 +128,30 @@ public class SnakeYamlConfigurationFactory<C> extends AbstractConfigurationFacto
 		return yamlOptions.charset();
 	}
 	
+	@Override
+	protected BufferStrategy bufferStrategy() {
+		return yamlOptions.bufferStrategy();
+	}
+	
 	@Override
 	protected Map<String, Object> loadMapFromReader(Reader reader) throws IOException, ConfigFormatSyntaxException {
-		Yaml yaml = yamlOptions.yamlSupplier().get();
+		InstancePool<Yaml> yamlPool = yamlOptions.yamlPool();
+		Yaml yaml = yamlPool.acquire();
 		Map<String, Object> map;
 		try {
-			map = yaml.load(reader);
+			if (yamlOptions.eventLoading() && yamlOptions.yamlSupplier() == DefaultYaml.SUPPLIER) {
+				map = EventLoader.load(yaml, reader);
+			} else {
+				map = yaml.load(reader);
+			}
 		} catch (YAMLException ex) {
 			Throwable cause = ex.getCause();
 			if (cause instanceof IOException) {
 				throw (IOException) cause;
 			}
 			throw new ConfigFormatSyntaxException(ex);
+		} finally {
+			yamlPool.release(yaml);
 		}
 		// SnakeYAML returns a null object for an empty document
 		return (map == null) ? Collections.emptyMap() : map;
@@ -148,4 +162,16 @@ public class SnakeYamlConfigurationFactory<C> extends AbstractConfigurationFacto
 		yamlOptions.commentMode().writerFactory().newWriter(yamlOptions, writer).writeData(rawMap, getHeader());
 	}
 
+	@Override
+	protected boolean supportsAppendingMap() {
+		return yamlOptions.commentMode().writerFactory().supportsAppending();
+	}
+
+	@Override
+	protected void appendMapToWriter(Map<String, Object> rawMap, Writer writer) throws IOException {
+		// The existing document might not end with a line break
+		writer.write('\n');
+		yamlOptions.commentMode().writerFactory().newWriter(yamlOptions, writer).writeData(rawMap);
+	}
+
 }
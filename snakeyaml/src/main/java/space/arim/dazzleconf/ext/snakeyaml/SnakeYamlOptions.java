@@ -20,6 +20,8 @@
 package space.arim.dazzleconf.ext.snakeyaml;
 
 import org.yaml.snakeyaml.Yaml;
+import space.arim.dazzleconf.factory.BufferStrategy;
+import space.arim.dazzleconf.factory.InstancePool;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -38,13 +40,21 @@ public final class SnakeYamlOptions {
 	private final CommentMode commentMode;
 	private final boolean useCommentingWriter;
 	private final Charset charset;
+	private final BufferStrategy bufferStrategy;
+	private final YamlPooling yamlPooling;
+	private final InstancePool<Yaml> yamlPool;
+	private final boolean eventLoading;
 	
 	SnakeYamlOptions(Supplier<Yaml> yamlSupplier, CommentMode commentMode, boolean useCommentingWriter,
-					 Charset charset) {
+					 Charset charset, BufferStrategy bufferStrategy, YamlPooling yamlPooling, boolean eventLoading) {
 		this.yamlSupplier = yamlSupplier;
 		this.commentMode = commentMode;
 		this.useCommentingWriter = useCommentingWriter;
 		this.charset = charset;
+		this.bufferStrategy = bufferStrategy;
+		this.yamlPooling = yamlPooling;
+		yamlPool = yamlPooling.newPool(yamlSupplier);
+		this.eventLoading = eventLoading;
 	}
 
 	/**
@@ -88,6 +98,37 @@ public final class SnakeYamlOptions {
 		return charset;
 	}
 
+	/**
+	 * Gets the buffer strategy used
+	 *
+	 * @return the buffer strategy
+	 */
+	public BufferStrategy bufferStrategy() {
+		return bufferStrategy;
+	}
+
+	/**
+	 * Gets the yaml pooling used
+	 *
+	 * @return the yaml pooling
+	 */
+	public YamlPooling yamlPooling() {
+		return yamlPooling;
+	}
+
+	InstancePool<Yaml> yamlPool() {
+		return yamlPool;
+	}
+
+	/**
+	 * Whether documents are loaded from the event stream directly. See {@link Builder#eventLoading(boolean)}
+	 *
+	 * @return whether event loading is enabled
+	 */
+	public boolean eventLoading() {
+		return eventLoading;
+	}
+
 	@Override
 	public String toString() {
 		return "SnakeYamlOptions{" +
@@ -95,6 +136,9 @@ public final class SnakeYamlOptions {
 				", commentMode=" + commentMode +
 				", useCommentingWriter=" + useCommentingWriter +
 				", charset=" + charset +
+				", bufferStrategy=" + bufferStrategy +
+				", yamlPooling=" + yamlPooling +
+				", eventLoading=" + eventLoading +
 				'}';
 	}
 
@@ -110,6 +154,9 @@ public final class SnakeYamlOptions {
 		private CommentMode commentMode = CommentMode.headerOnly();
 		private boolean useCommentingWriter;
 		private Charset charset = StandardCharsets.UTF_8;
+		private BufferStrategy bufferStrategy = BufferStrategy.threadLocal();
+		private YamlPooling yamlPooling = YamlPooling.threadLocal();
+		private boolean eventLoading;
 		
 		public Builder() {
 			
@@ -118,7 +165,9 @@ public final class SnakeYamlOptions {
 		/**
 		 * Sets the {@code Yaml} supplier for this builder to the specified one. The default is a
 		 * supplier which returns a {@code Yaml} instance with block flow style, and comments enabled
-		 * if comments are supported.
+		 * if comments are supported. <br>
+		 * <br>
+		 * Instances from the supplier are reused according to the {@link #yamlPooling(YamlPooling)}.
 		 * 
 		 * @param yamlSupplier the yaml supplier
 		 * @return this builder
@@ -169,6 +218,46 @@ public final class SnakeYamlOptions {
 			return this;
 		}
 
+		/**
+		 * Sets the strategy for reusing buffers and charset codecs across loads and writes.
+		 * Default is {@link BufferStrategy#threadLocal()}
+		 *
+		 * @param bufferStrategy the buffer strategy
+		 * @return this builder
+		 */
+		public Builder bufferStrategy(BufferStrategy bufferStrategy) {
+			this.bufferStrategy = Objects.requireNonNull(bufferStrategy, "bufferStrategy");
+			return this;
+		}
+
+		/**
+		 * Sets how {@code Yaml} instances from the yaml supplier are reused across loads and writes.
+		 * Default is {@link YamlPooling#threadLocal()}
+		 *
+		 * @param yamlPooling the yaml pooling
+		 * @return this builder
+		 */
+		public Builder yamlPooling(YamlPooling yamlPooling) {
+			this.yamlPooling = Objects.requireNonNull(yamlPooling, "yamlPooling");
+			return this;
+		}
+
+		/**
+		 * Enables loading documents from SnakeYAML's event stream directly, rather than composing a node
+		 * graph and constructing it. This reduces the time and garbage of loading. False by default. <br>
+		 * <br>
+		 * The loaded data is the same either way. Documents using less common features, such as anchors,
+		 * explicit tags or merge keys, are loaded normally. Only applies when the default yaml supplier
+		 * is used, since the result of a custom {@code Yaml} cannot be predicted.
+		 *
+		 * @param eventLoading true to enable event loading
+		 * @return this builder
+		 */
+		public Builder eventLoading(boolean eventLoading) {
+			this.eventLoading = eventLoading;
+			return this;
+		}
+
 		/**
 		 * Builds the options. May be used repeatedly without side effects
 		 * 
@@ -179,7 +268,7 @@ public final class SnakeYamlOptions {
 			if (yamlSupplier == null) {
 				yamlSupplier = DefaultYaml.SUPPLIER;
 			}
-			return new SnakeYamlOptions(yamlSupplier, commentMode, useCommentingWriter, charset);
+			return new SnakeYamlOptions(yamlSupplier, commentMode, useCommentingWriter, charset, bufferStrategy, yamlPooling, eventLoading);
 		}
 
 		@Override
@@ -189,6 +278,9 @@ public final class SnakeYamlOptions {
 					", commentMode=" + commentMode +
 					", useCommentingWriter=" + useCommentingWriter +
 					", charset=" + charset +
+					", bufferStrategy=" + bufferStrategy +
+					", yamlPooling=" + yamlPooling +
+					", eventLoading=" + eventLoading +
 					'}';
 		}
 	}
@@ -0,0 +1,136 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.yaml.snakeyaml.Yaml;
+import space.arim.dazzleconf.factory.InstancePool;
+
+import java.util.function.Supplier;
+
+/**
+ * Determines how {@code Yaml} instances obtained from the yaml supplier are reused across
+ * loads and writes. Constructing a {@code Yaml} is expensive, but a {@code Yaml} instance
+ * may only be used by one thread at a time. <br>
+ * <br>
+ * By default, each thread keeps its own {@code Yaml} instance. Where configurations are loaded
+ * and written from many short-lived or virtual threads, a bounded pool shares a fixed number of
+ * instances instead. Reuse can also be disabled entirely, in which case the yaml supplier is called
+ * for every load and write. <br>
+ * <br>
+ * Reuse requires that the yaml supplier return instances which are not used elsewhere.
+ *
+ */
+public final class YamlPooling {
+
+	private final Kind kind;
+	private final int capacity;
+
+	private static final YamlPooling THREAD_LOCAL = new YamlPooling(Kind.THREAD_LOCAL, 0);
+	private static final YamlPooling NONE = new YamlPooling(Kind.NONE, 0);
+
+	private YamlPooling(Kind kind, int capacity) {
+		this.kind = kind;
+		this.capacity = capacity;
+	}
+
+	private enum Kind {
+		THREAD_LOCAL,
+		BOUNDED_POOL,
+		NONE
+	}
+
+	/**
+	 * Gets the pooling which keeps a {@code Yaml} instance per thread. This is the default. <br>
+	 * <br>
+	 * On virtual threads, instances are instead shared through a bounded pool. See
+	 * {@link InstancePool#threadLocal(Supplier)}
+	 *
+	 * @return the thread local yaml pooling
+	 */
+	public static YamlPooling threadLocal() {
+		return THREAD_LOCAL;
+	}
+
+	/**
+	 * Gets the pooling which shares up to the given number of {@code Yaml} instances between all threads.
+	 * Suitable for use with virtual threads.
+	 *
+	 * @param capacity the maximum number of idle instances to retain
+	 * @return a bounded pool yaml pooling
+	 * @throws IllegalArgumentException if {@code capacity} is not positive
+	 */
+	public static YamlPooling boundedPool(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		return new YamlPooling(Kind.BOUNDED_POOL, capacity);
+	}
+
+	/**
+	 * Gets the pooling which never reuses {@code Yaml} instances
+	 *
+	 * @return the yaml pooling which does not reuse
+	 */
+	public static YamlPooling none() {
+		return NONE;
+	}
+
+	/**
+	 * Creates a pool of instances from the given supplier
+	 *
+	 * @param yamlSupplier the yaml supplier
+	 * @return the pool
+	 */
+	InstancePool<Yaml> newPool(Supplier<Yaml> yamlSupplier) {
+		switch (kind) {
+		case THREAD_LOCAL:
+			return InstancePool.threadLocal(yamlSupplier);
+		case BOUNDED_POOL:
+			return InstancePool.boundedPool(yamlSupplier, capacity);
+		case NONE:
+			return InstancePool.none(yamlSupplier);
+		default:
+			throw new IllegalStateException("Unknown kind " + kind);
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof YamlPooling)) {
+			return false;
+		}
+		YamlPooling other = (YamlPooling) object;
+		return kind == other.kind && capacity == other.capacity;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * kind.hashCode() + capacity;
+	}
+
+	@Override
+	public String toString() {
+		return (kind == Kind.BOUNDED_POOL) ? "YamlPooling{boundedPool(" + capacity + ")}" : "YamlPooling{" + kind + '}';
+	}
+
+}
@@ -57,6 +57,14 @@ interface YamlWriter {
 
 		boolean supportsComments();
 
+		/**
+		 * Whether written data may be appended to an existing document, in which case
+		 * the document must be written in block style
+		 *
+		 * @return true if writing can append to an existing document
+		 */
+		boolean supportsAppending();
+
 	}
 
 }
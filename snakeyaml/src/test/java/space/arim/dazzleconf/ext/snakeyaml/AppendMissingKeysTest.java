@@ -0,0 +1,201 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.AuxiliaryKeys;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfComments;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.annote.SubSection;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.helper.ConfigurationHelper;
+import space.arim.dazzleconf.sorter.AnnotationBasedSorter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppendMissingKeysTest {
+
+	@TempDir
+	public Path tempDir;
+
+	private ConfigurationHelper<Config> helper(CommentMode commentMode) {
+		return new ConfigurationHelper<>(tempDir, "config.yml", SnakeYamlConfigurationFactory.create(
+				Config.class,
+				new ConfigurationOptions.Builder().sorter(new AnnotationBasedSorter()).build(),
+				new SnakeYamlOptions.Builder().commentMode(commentMode).build()));
+	}
+
+	private Path writeConfig(String content) throws IOException {
+		Path configFile = tempDir.resolve("config.yml");
+		Files.writeString(configFile, content, StandardCharsets.UTF_8);
+		return configFile;
+	}
+
+	@Test
+	public void appendMissingTopLevelKeys() throws IOException, InvalidConfigException {
+		String existing = "# A comment written by hand\noptionOne:    'custom'";
+		Path configFile = writeConfig(existing);
+		var helper = helper(CommentMode.alternativeWriter());
+
+		Config loaded = helper.reloadConfigData();
+		assertEquals("custom", loaded.optionOne());
+		assertEquals(2, loaded.optionTwo());
+		assertEquals("nested", loaded.section().nestedOption());
+
+		String content = Files.readString(configFile, StandardCharsets.UTF_8);
+		assertTrue(content.startsWith(existing), content);
+		assertTrue(content.contains(" # Comment on option two"), content);
+
+		Config reloaded = helper.reloadConfigData();
+		assertFalse(reloaded instanceof AuxiliaryKeys);
+		assertEquals("custom", reloaded.optionOne());
+		assertEquals(2, reloaded.optionTwo());
+		assertEquals("nested", reloaded.section().nestedOption());
+		assertEquals(content, Files.readString(configFile, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void rewriteMissingNestedKeys() throws IOException, InvalidConfigException {
+		String existing = "optionOne:    'custom'\noptionTwo: 3\nsection: {}\n";
+		Path configFile = writeConfig(existing);
+
+		Config loaded = helper(CommentMode.alternativeWriter()).reloadConfigData();
+		assertEquals("custom", loaded.optionOne());
+		assertEquals(3, loaded.optionTwo());
+		assertEquals("nested", loaded.section().nestedOption());
+
+		String content = Files.readString(configFile, StandardCharsets.UTF_8);
+		assertFalse(content.contains("optionOne:    'custom'"), content);
+		assertTrue(content.contains("nestedOption: 'nested'"), content);
+	}
+
+	@Test
+	public void rewriteWithoutAppendingSupport() throws IOException, InvalidConfigException {
+		String existing = "optionOne:    'custom'\n";
+		Path configFile = writeConfig(existing);
+
+		Config loaded = helper(CommentMode.headerOnly()).reloadConfigData();
+		assertEquals("custom", loaded.optionOne());
+		assertEquals(2, loaded.optionTwo());
+
+		String content = Files.readString(configFile, StandardCharsets.UTF_8);
+		assertFalse(content.startsWith(existing), content);
+		assertTrue(content.contains("optionTwo: 2"), content);
+	}
+
+	private void assertRewritten(String existing) throws IOException, InvalidConfigException {
+		Path configFile = writeConfig(existing);
+		var helper = helper(CommentMode.alternativeWriter());
+
+		Config loaded = helper.reloadConfigData();
+		assertEquals("custom", loaded.optionOne());
+		assertEquals(2, loaded.optionTwo());
+
+		String content = Files.readString(configFile, StandardCharsets.UTF_8);
+		assertFalse(content.startsWith(existing), content);
+
+		Config reloaded = helper.reloadConfigData();
+		assertFalse(reloaded instanceof AuxiliaryKeys);
+		assertEquals("custom", reloaded.optionOne());
+		assertEquals(2, reloaded.optionTwo());
+		assertEquals("nested", reloaded.section().nestedOption());
+	}
+
+	@Test
+	public void rewriteFlowStyleRoot() throws IOException, InvalidConfigException {
+		assertRewritten("{optionOne: 'custom'}");
+	}
+
+	@Test
+	public void rewriteAfterDocumentEndMarker() throws IOException, InvalidConfigException {
+		assertRewritten("optionOne: 'custom'\n...\n");
+	}
+
+	@Test
+	public void rewriteIndentedRoot() throws IOException, InvalidConfigException {
+		assertRewritten("  optionOne: 'custom'\n");
+	}
+
+	@Test
+	public void appendAfterDocumentStartMarker() throws IOException, InvalidConfigException {
+		assertAppended("---\noptionOne: 'custom'\n");
+		assertAppended("%YAML 1.1\n---\noptionOne: 'custom'");
+	}
+
+	private void assertAppended(String existing) throws IOException, InvalidConfigException {
+		Path configFile = writeConfig(existing);
+		var helper = helper(CommentMode.alternativeWriter());
+		helper.reloadConfigData();
+
+		String content = Files.readString(configFile, StandardCharsets.UTF_8);
+		assertTrue(content.startsWith(existing), content);
+		Config reloaded = helper.reloadConfigData();
+		assertFalse(reloaded instanceof AuxiliaryKeys);
+		assertEquals(2, reloaded.optionTwo());
+	}
+
+	@Test
+	public void noAppendToChangedFile() throws IOException, InvalidConfigException {
+		Path configFile = writeConfig("optionOne: 'custom'\n");
+		var factory = SnakeYamlConfigurationFactory.create(
+				Config.class, ConfigurationOptions.defaults(),
+				new SnakeYamlOptions.Builder().commentMode(CommentMode.alternativeWriter()).build());
+		Config loaded = factory.load(configFile, factory.loadDefaults());
+
+		// Changed after loading, so the loaded data no longer describes the file
+		String changed = "optionOne: 'custom'\nextra: 'by hand'\n";
+		Files.writeString(configFile, changed, StandardCharsets.UTF_8);
+		assertFalse(factory.appendAuxiliaryEntries(loaded, configFile));
+		assertEquals(changed, Files.readString(configFile, StandardCharsets.UTF_8));
+	}
+
+	public interface Config {
+
+		@AnnotationBasedSorter.Order(1)
+		@ConfDefault.DefaultString("one")
+		String optionOne();
+
+		@AnnotationBasedSorter.Order(2)
+		@ConfDefault.DefaultInteger(2)
+		@ConfComments("Comment on option two")
+		int optionTwo();
+
+		@AnnotationBasedSorter.Order(3)
+		@SubSection
+		Section section();
+
+		interface Section {
+
+			@ConfDefault.DefaultString("nested")
+			String nestedOption();
+
+		}
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.arim.dazzleconf.factory.CommentedWrapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockWriterTest {
+
+	private static final String[] WORDS = {
+			"", "a", "word", "yes", "No", "on", "null", "~", "true", "1", "-3", "1.5", "0x1F", "1_000", "1:20",
+			"2001-12-14", "<<", "=", ".inf", "---", "...", "-", "?", ":", "#", "a:b", "a: b", "a #b", "a#b",
+			"- x", "? x", "'", "''", "\"", "[x]", "{x}", "x,y", "&x", "*x", "!x", "|", ">", "%", "@", "`",
+			"café", "中文", " ", "o'clock", "it's 'quoted'"
+	};
+
+	private String writeDirectly(Map<String, Object> configMap, List<String> header, boolean expectFallback)
+			throws IOException {
+		StringWriter stringWriter = new StringWriter();
+		boolean[] fellBack = new boolean[1];
+		new BlockWriter(stringWriter, () -> {
+			fellBack[0] = true;
+			return new FullWriter(stringWriter, YamlPooling.none().newPool(DefaultYaml.SUPPLIER));
+		}).writeData(configMap, header);
+		assertEquals(expectFallback, fellBack[0], "Fallback writer used: " + fellBack[0]);
+		return stringWriter.toString();
+	}
+
+	private String writeUsingSnakeYaml(Map<String, Object> configMap, List<String> header) throws IOException {
+		StringWriter stringWriter = new StringWriter();
+		new FullWriter(stringWriter, YamlPooling.none().newPool(DefaultYaml.SUPPLIER)).writeData(configMap, header);
+		return stringWriter.toString();
+	}
+
+	private void assertSameOutput(Map<String, Object> configMap, List<String> header, boolean expectFallback)
+			throws IOException {
+		assertEquals(writeUsingSnakeYaml(configMap, header), writeDirectly(configMap, header, expectFallback));
+	}
+
+	@Test
+	public void factoryUsesBlockWriter() {
+		YamlWriter writer = CommentMode.fullComments().writerFactory()
+				.newWriter(new SnakeYamlOptions.Builder().build(), new StringWriter());
+		assertTrue(writer instanceof BlockWriter);
+	}
+
+	@Test
+	public void tricky() throws IOException {
+		Map<String, Object> configMap = new LinkedHashMap<>();
+		for (String word : WORDS) {
+			if (!word.isEmpty()) {
+				configMap.put(word, new CommentedWrapper(List.of("Comment on " + word), word));
+			}
+		}
+		configMap.put("list", List.of(WORDS));
+		configMap.put("map-list", List.of(Map.of("key", "value"), List.of(List.of(1, 2), Map.of()), List.of()));
+		configMap.put("numbers", List.of(1, -2L, (short) 3, (byte) 4, new BigInteger("123456789012345678901234567890"),
+				1.5, -2.5f, 1e20, 1e-7, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY));
+		configMap.put("characters", List.of('a', ' ', '\'', '#', '-'));
+		configMap.put("booleans", List.of(true, false));
+		Map<Object, Object> nonStringKeys = new LinkedHashMap<>();
+		nonStringKeys.put(1, "one");
+		nonStringKeys.put(true, "yes");
+		nonStringKeys.put('c', 2.0);
+		configMap.put("non-string-keys", nonStringKeys);
+		configMap.put("empty", new CommentedWrapper(List.of(), Map.of()));
+		assertSameOutput(configMap, List.of("Header", "", "  indented"), false);
+	}
+
+	@Test
+	public void longLines() throws IOException {
+		String sentence = "This is a long sentence which will need to be split across several lines by snakeyaml "
+				+ "when it is written, because it is far too long  to fit on one line, with some double spaces";
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("plain", sentence);
+		nested.put("quoted", "'" + sentence + "'");
+		nested.put("list", List.of(sentence, "'" + sentence, Map.of("deeper", sentence)));
+		Map<String, Object> configMap = new LinkedHashMap<>();
+		configMap.put("plain", sentence);
+		configMap.put("quoted", sentence + ":");
+		configMap.put("nested", nested);
+		configMap.put("x".repeat(100), "y ".repeat(60));
+		assertSameOutput(configMap, List.of(), false);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"multi\nline", "tab\tcharacter", "carriage\rreturn", "bom﻿", "\u0085", " "})
+	public void fallbackForExoticStrings(String value) throws IOException {
+		assertSameOutput(Map.of("key", value), List.of(), true);
+		assertSameOutput(Map.of("key", List.of(value)), List.of(), true);
+	}
+
+	@Test
+	public void fallbackForLongKey() throws IOException {
+		assertSameOutput(Map.of("k".repeat(123), "value"), List.of(), true);
+		assertSameOutput(Map.of("k".repeat(122), "value"), List.of(), false);
+		assertSameOutput(Map.of("", "value"), List.of(), true);
+	}
+
+	@Test
+	public void fallbackForRepeatedCollection() throws IOException {
+		List<Object> repeated = new ArrayList<>(List.of(1, 2));
+		assertSameOutput(Map.of("list", List.of(repeated, repeated)), List.of(), true);
+		// Separately represented sequences do not use anchors
+		Map<String, Object> configMap = new LinkedHashMap<>();
+		configMap.put("first", repeated);
+		configMap.put("second", repeated);
+		assertSameOutput(configMap, List.of(), false);
+	}
+
+	@Test
+	public void fallbackForMultiLineComment() throws IOException {
+		assertSameOutput(Map.of("key", new CommentedWrapper(List.of("line\nbreak"), "value")), List.of(), true);
+		assertSameOutput(Map.of("key", "value"), List.of("line\nbreak"), true);
+	}
+
+	@Test
+	public void fallbackForUnknownTypes() throws IOException {
+		assertSameOutput(Map.of("key", new java.math.BigDecimal("1.5")), List.of(), true);
+		assertSameOutput(Map.of("key", java.util.Set.of("element")), List.of(), true);
+		assertSameOutput(Map.of(), List.of("Header"), true);
+	}
+
+	@Test
+	public void randomDocuments() throws IOException {
+		Random random = new Random(248L);
+		for (int n = 0; n < 300; n++) {
+			Map<Object, Object> randomMap;
+			do {
+				randomMap = randomMap(random, 0, true);
+			} while (randomMap.isEmpty());
+			@SuppressWarnings("unchecked")
+			Map<String, Object> configMap = (Map<String, Object>) (Map<?, ?>) randomMap;
+			String expected = writeUsingSnakeYaml(configMap, List.of("Random document " + n));
+			String actual = writeDirectly(configMap, List.of("Random document " + n), false);
+			assertEquals(expected, actual);
+		}
+	}
+
+	private Map<Object, Object> randomMap(Random random, int depth, boolean comments) {
+		Map<Object, Object> map = new LinkedHashMap<>();
+		int size = random.nextInt(6);
+		for (int n = 0; n < size; n++) {
+			Object value = randomValue(random, depth, comments);
+			if (comments && random.nextInt(3) == 0) {
+				value = new CommentedWrapper(List.of(randomString(random), randomString(random)), value);
+			}
+			map.put((random.nextInt(8) == 0) ? random.nextInt(100) : randomKey(random), value);
+		}
+		return map;
+	}
+
+	private Object randomValue(Random random, int depth, boolean comments) {
+		int choice = random.nextInt((depth < 4) ? 7 : 5);
+		switch (choice) {
+		case 0:
+			return random.nextInt();
+		case 1:
+			return random.nextBoolean();
+		case 2:
+			return random.nextDouble() * 1000;
+		case 3:
+		case 4:
+			return randomString(random);
+		case 5:
+			return randomMap(random, depth + 1, comments);
+		default:
+			List<Object> list = new ArrayList<>();
+			int size = random.nextInt(4);
+			for (int n = 0; n < size; n++) {
+				list.add(randomValue(random, depth + 1, false));
+			}
+			return list;
+		}
+	}
+
+	private String randomKey(Random random) {
+		String key;
+		do {
+			key = randomString(random);
+		} while (key.isEmpty() || key.length() > 122);
+		return key;
+	}
+
+	private String randomString(Random random) {
+		StringBuilder builder = new StringBuilder();
+		int words = random.nextInt(25);
+		for (int n = 0; n < words; n++) {
+			if (n != 0) {
+				builder.append(random.nextInt(6) == 0 ? "  " : " ");
+			}
+			builder.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CommentFormatTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {" # %s", "# %s", "#%s", "%s", "# %s #", "# %n%s", "#%% %s", "# %1$s", "# %-10s|"})
+	public void matchesStringFormat(String format) {
+		CommentFormat commentFormat = CommentFormat.parse(format);
+		for (String comment : new String[] {"", "Comment", "100%", "%s"}) {
+			assertEquals(String.format(format, comment), commentFormat.format(comment), format);
+		}
+	}
+
+	@Test
+	public void equality() {
+		assertEquals(CommentFormat.parse(" # %s"), CommentFormat.parse(CommentMode.DEFAULT_COMMENT_FORMAT));
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.InvalidConfigException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EventLoaderTest {
+
+	private final Yaml yaml = DefaultYaml.SUPPLIER.get();
+
+	private void assertSameResult(String document) throws IOException {
+		Object expected;
+		try {
+			expected = yaml.load(document);
+		} catch (YAMLException ex) {
+			YAMLException thrown = assertThrows(YAMLException.class,
+					() -> EventLoader.load(yaml, new StringReader(document)), document);
+			assertEquals(ex.getClass(), thrown.getClass(), document);
+			return;
+		}
+		Object actual = EventLoader.load(yaml, new StringReader(document));
+		assertEquals(expected, actual, document);
+		assertSameTypes(expected, actual, document);
+		// Readers which cannot be reset are copied for the fallback
+		Object copiedActual = EventLoader.load(yaml, new InputStreamReader(
+				new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8));
+		assertEquals(expected, copiedActual, document);
+	}
+
+	private static void assertSameTypes(Object expected, Object actual, String document) {
+		if (expected == null) {
+			return;
+		}
+		assertEquals(expected.getClass(), actual.getClass(), document);
+		if (expected instanceof Map) {
+			List<Object> expectedKeys = new ArrayList<>(((Map<?, ?>) expected).keySet());
+			List<Object> actualKeys = new ArrayList<>(((Map<?, ?>) actual).keySet());
+			for (int n = 0; n < expectedKeys.size(); n++) {
+				assertSameTypes(expectedKeys.get(n), actualKeys.get(n), document);
+				assertSameTypes(((Map<?, ?>) expected).get(expectedKeys.get(n)),
+						((Map<?, ?>) actual).get(actualKeys.get(n)), document);
+			}
+		} else if (expected instanceof List) {
+			for (int n = 0; n < ((List<?>) expected).size(); n++) {
+				assertSameTypes(((List<?>) expected).get(n), ((List<?>) actual).get(n), document);
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"a: 1", "a: 999999999", "a: 1000000000", "a: 999999999999999999", "a: 1000000000000000000",
+			"a: 123456789012345678901", "a: -5", "a: +5", "a: -0", "a: 0", "a: 012", "a: 0x1F", "a: 0b101",
+			"a: 1_000", "a: 1:30", "a: 1.5", "a: -1.5e3", "a: +1.5", "a: 1.", "a: .5", "a: 1_0.5", "a: 1:30.5",
+			"a: .inf", "a: -.Inf", "a: .NaN", "a: yes", "a: Off", "a: TRUE", "a: ~", "a: null", "a:", "a: ''",
+			"a: 'quoted 1'", "a: \"2\"", "a: 2001-12-14", "a: !!str 5", "a: !!int '5'", "a: &x 1\nb: *x",
+			"<<: {a: 1}\nb: 2", "a: =", "1: one\n2.5: x\ntrue: y\n~: z", "[1, 2]", "scalar", "", "# only a comment",
+			"a: 1\n---\nb: 2", "---\na: 1\n...\n", "a: {b: [1, {c: d}], e: []}", "? [a]\n: b", "? {a: b}\n: c",
+			"a: 1\na: 2", "a: |\n  literal\n  block\nb: >\n  folded\n  block\n", "a: [", "a: b: c", "a:\n- 1\n-",
+			"!!map {a: 1}", "a: !!seq [1]", "a: !custom x", "a: &anchor\n  b: c", "a: 'x'\n# trailing comment"
+	})
+	public void sameResult(String document) throws IOException {
+		assertSameResult(document);
+	}
+
+	@Test
+	public void deepNesting() throws IOException {
+		for (int depth : new int[] {10, 49, 50, 51, 52, 60}) {
+			assertSameResult("a: ".repeat(depth) + "x");
+			assertSameResult("a:\n" + "- ".repeat(depth) + "x");
+		}
+	}
+
+	@Test
+	public void randomDocuments() throws IOException {
+		Random random = new Random(248L);
+		for (int n = 0; n < 300; n++) {
+			assertSameResult(yaml.dump(randomMap(random, 0)));
+		}
+	}
+
+	private Map<Object, Object> randomMap(Random random, int depth) {
+		Map<Object, Object> map = new LinkedHashMap<>();
+		int size = random.nextInt(6);
+		for (int n = 0; n < size; n++) {
+			map.put(randomScalar(random), randomValue(random, depth));
+		}
+		return map;
+	}
+
+	private Object randomValue(Random random, int depth) {
+		int kind = random.nextInt((depth < 4) ? 8 : 6);
+		if (kind == 6) {
+			return randomMap(random, depth + 1);
+		}
+		if (kind == 7) {
+			List<Object> list = new ArrayList<>();
+			int size = random.nextInt(4);
+			for (int n = 0; n < size; n++) {
+				list.add(randomValue(random, depth + 1));
+			}
+			return list;
+		}
+		return randomScalar(random);
+	}
+
+	private Object randomScalar(Random random) {
+		switch (random.nextInt(8)) {
+		case 0:
+			return random.nextInt();
+		case 1:
+			return random.nextLong();
+		case 2:
+			return new BigInteger(80, random);
+		case 3:
+			return random.nextDouble() * 1000 - 500;
+		case 4:
+			return random.nextBoolean();
+		case 5:
+			return null;
+		default:
+			String[] words = {"word", "yes", "1", "1.5", "0x1F", "~", "", "a: b", "2001-12-14", "<<", "café"};
+			return words[random.nextInt(words.length)];
+		}
+	}
+
+	public interface Config {
+
+		@ConfDefault.DefaultInteger(1)
+		int number();
+
+		@ConfDefault.DefaultStrings({"a", "b"})
+		List<String> strings();
+
+	}
+
+	@Test
+	public void factoryLoad() throws IOException, InvalidConfigException {
+		ConfigurationFactory<Config> factory = SnakeYamlConfigurationFactory.create(Config.class,
+				ConfigurationOptions.defaults(), new SnakeYamlOptions.Builder().eventLoading(true).build());
+		Config config = factory.load(new ByteArrayInputStream(
+				"number: 5\nstrings:\n- x\n- 'y'\n".getBytes(StandardCharsets.UTF_8)));
+		assertEquals(5, config.number());
+		assertEquals(List.of("x", "y"), config.strings());
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.InvalidConfigException;
+
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PathLoadWriteTest {
+
+	@TempDir
+	public Path tempDir;
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("café")
+		String message();
+
+		@ConfDefault.DefaultStrings({})
+		List<String> lines();
+
+	}
+
+	private ConfigurationFactory<Config> factory(CommentMode commentMode) {
+		return SnakeYamlConfigurationFactory.create(Config.class, ConfigurationOptions.defaults(),
+				new SnakeYamlOptions.Builder().commentMode(commentMode).build());
+	}
+
+	@Test
+	public void writeThenLoad() throws IOException, InvalidConfigException {
+		for (CommentMode commentMode : List.of(
+				CommentMode.headerOnly(), CommentMode.alternativeWriter(), CommentMode.fullComments())) {
+			var factory = factory(commentMode);
+			Path configFile = tempDir.resolve("config.yml");
+			Files.writeString(configFile, "x".repeat(100_000));
+			factory.write(factory.loadDefaults(), configFile);
+			assertEquals("café", factory.load(configFile).message());
+			assertEquals("café", factory.load(configFile, factory.loadDefaults()).message());
+		}
+	}
+
+	@Test
+	public void writeThenLoadAsync() throws InterruptedException, ExecutionException {
+		var factory = factory(CommentMode.fullComments());
+		Path configFile = tempDir.resolve("config.yml");
+		factory.writeAsync(factory.loadDefaults(), configFile).get();
+		assertEquals("café", factory.loadAsync(configFile).get().message());
+		assertEquals("café", factory.loadAsync(configFile, factory.loadDefaults(), Runnable::run).get().message());
+	}
+
+	@Test
+	public void loadLargeFile() throws IOException, InvalidConfigException {
+		// Large enough to be memory mapped
+		List<String> lines = java.util.Collections.nCopies(100_000, "line with ünïcödé");
+		StringBuilder content = new StringBuilder("message: 'large'\nlines:\n");
+		for (String line : lines) {
+			content.append("- ").append(line).append('\n');
+		}
+		Path configFile = tempDir.resolve("large.yml");
+		Files.writeString(configFile, content, StandardCharsets.UTF_8);
+
+		Config config = factory(CommentMode.headerOnly()).load(configFile);
+		assertEquals("large", config.message());
+		assertEquals(lines, config.lines());
+	}
+
+	@Test
+	public void loadMalformedFile() throws IOException {
+		Path configFile = tempDir.resolve("malformed.yml");
+		Files.write(configFile, new byte[] {'a', ':', ' ', (byte) 0xC3, (byte) 0x28});
+		assertThrows(MalformedInputException.class, () -> factory(CommentMode.headerOnly()).load(configFile));
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * DazzleConf
+ * Copyright © 2025 Anand Beh
+ *
+ * DazzleConf is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * DazzleConf is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with DazzleConf. If not, see <https://www.gnu.org/licenses/>
+ * and navigate to version 3 of the GNU Lesser General Public License.
+ */
+
+package space.arim.dazzleconf.ext.snakeyaml;
+
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import space.arim.dazzleconf.ConfigurationFactory;
+import space.arim.dazzleconf.ConfigurationOptions;
+import space.arim.dazzleconf.annote.ConfDefault;
+import space.arim.dazzleconf.error.InvalidConfigException;
+import space.arim.dazzleconf.factory.InstancePool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class YamlPoolingTest {
+
+	private final AtomicInteger yamlsCreated = new AtomicInteger();
+
+	public interface Config {
+
+		@ConfDefault.DefaultString("value")
+		String option();
+
+	}
+
+	private Yaml newYaml() {
+		yamlsCreated.incrementAndGet();
+		DumperOptions dumperOptions = new DumperOptions();
+		dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+		return new Yaml(dumperOptions);
+	}
+
+	private void loadAndWriteRepeatedly(YamlPooling yamlPooling) throws IOException, InvalidConfigException {
+		for (CommentMode commentMode : List.of(
+				CommentMode.headerOnly(), CommentMode.alternativeWriter(), CommentMode.fullComments())) {
+			ConfigurationFactory<Config> factory = SnakeYamlConfigurationFactory.create(
+					Config.class, ConfigurationOptions.defaults(),
+					new SnakeYamlOptions.Builder()
+							.yamlSupplier(this::newYaml).commentMode(commentMode).yamlPooling(yamlPooling).build());
+			for (int n = 0; n < 3; n++) {
+				ByteArrayOutputStream output = new ByteArrayOutputStream();
+				factory.write(factory.loadDefaults(), output);
+				Config config = factory.load(new ByteArrayInputStream(output.toByteArray()));
+				assertEquals("value", config.option());
+			}
+		}
+	}
+
+	@Test
+	public void threadLocalReuses() throws IOException, InvalidConfigException {
+		loadAndWriteRepeatedly(YamlPooling.threadLocal());
+		// One per factory, except the alternative writer does not use Yaml to write
+		assertEquals(3, yamlsCreated.get());
+	}
+
+	@Test
+	public void boundedPoolReuses() throws IOException, InvalidConfigException {
+		loadAndWriteRepeatedly(YamlPooling.boundedPool(2));
+		assertEquals(3, yamlsCreated.get());
+	}
+
+	@Test
+	public void noneNeverReuses() throws IOException, InvalidConfigException {
+		loadAndWriteRepeatedly(YamlPooling.none());
+		// Loads use Yaml for all three modes, writes for two of them
+		assertEquals(15, yamlsCreated.get());
+	}
+
+	@Test
+	public void threadLocalReentrant() {
+		InstancePool<Yaml> pool = YamlPooling.threadLocal().newPool(this::newYaml);
+		Yaml outer = pool.acquire();
+		Yaml inner = pool.acquire();
+		assertNotSame(outer, inner);
+		pool.release(inner);
+		pool.release(outer);
+		assertSame(inner, pool.acquire());
+	}
+
+	@Test
+	public void equality() {
+		assertEquals(YamlPooling.boundedPool(4), YamlPooling.boundedPool(4));
+		assertNotEquals(YamlPooling.boundedPool(4), YamlPooling.boundedPool(5));
+		assertNotEquals(YamlPooling.threadLocal(), YamlPooling.none());
+		assertThrows(IllegalArgumentException.class, () -> YamlPooling.boundedPool(0));
+	}
+
+}
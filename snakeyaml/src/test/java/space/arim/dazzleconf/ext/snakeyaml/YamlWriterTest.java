@@ -205,6 +205,22 @@ public class YamlWriterTest {
 				resultString.lines());
 	}
 	
+	@ParameterizedTest
+	@ArgumentsSource(YamlWriterFactoryProvider.class)
+	public void writeQuotes(YamlWriter.Factory writerFactory) throws IOException {
+		setup(writerFactory);
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("quotes", "it's 'quoted''");
+		map.put("quote-only", "'");
+		map.put("deeply", Map.of("nested", Map.of("list", List.of("o'clock", 'c'))));
+
+		writer.writeData(map);
+		Map<String, Object> expected = new LinkedHashMap<>(map);
+		expected.put("deeply", Map.of("nested", Map.of("list", List.of("o'clock", "c"))));
+		assertEquals(expected, new Yaml().load(new StringReader(stringWriter.toString())));
+	}
+	
 	private static void assertConfigMapsEqual(Map<String, Object> map1, Map<String, Object> map2) {
 		map2 = new HashMap<>(map2);
 		for (Map.Entry<String, Object> entry : map1.entrySet()) {